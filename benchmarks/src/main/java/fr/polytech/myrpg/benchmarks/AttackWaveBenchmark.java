@@ -0,0 +1,248 @@
+package fr.polytech.myrpg.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import fr.polytech.myrpg.characters.Character;
+import fr.polytech.myrpg.characters.CharacterTable;
+import fr.polytech.myrpg.random.SplittableRandomSource;
+
+/**
+ * This class benchmarks one attack of every unit of an army, looping over {@link Character#attack(Character)} against the batch passes of {@link CharacterTable}.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AttackWaveBenchmark
+{
+	/**
+	 * This class represents two armies facing each other, restored before each wave.
+	 *
+	 * @author DELORME Loïc
+	 * @since 1.0.0
+	 */
+	@State(Scope.Thread)
+	public static class ArmyState
+	{
+		/**
+		 * The number of units in each army.
+		 */
+		@Param({ "256", "4096", "65536" })
+		public int armySize;
+
+		/**
+		 * The attackers.
+		 */
+		private Character[] attackers;
+
+		/**
+		 * The opponents.
+		 */
+		private Character[] opponents;
+
+		/**
+		 * The initial states of the attackers.
+		 */
+		private SavedCharacter[] initialAttackers;
+
+		/**
+		 * The initial states of the opponents.
+		 */
+		private SavedCharacter[] initialOpponents;
+
+		/**
+		 * The table holding both armies.
+		 */
+		private CharacterTable characterTable;
+
+		/**
+		 * The rows of the attackers.
+		 */
+		private int[] attackerRows;
+
+		/**
+		 * The rows of the opponents.
+		 */
+		private int[] opponentRows;
+
+		/**
+		 * Create the armies.
+		 * 
+		 * @throws Exception
+		 *             If the characters can't be created.
+		 */
+		@Setup(Level.Trial)
+		public void setUpArmies() throws Exception
+		{
+			final SplittableRandomSource randomSource = new SplittableRandomSource(42);
+			this.attackers = new Character[this.armySize];
+			this.opponents = new Character[this.armySize];
+			this.initialAttackers = new SavedCharacter[this.armySize];
+			this.initialOpponents = new SavedCharacter[this.armySize];
+			this.attackerRows = new int[this.armySize];
+			this.opponentRows = new int[this.armySize];
+
+			for (int i = 0; i < this.armySize; i++)
+			{
+				this.attackers[i] = BenchmarkFixtures.createCharacter(i, randomSource);
+				this.opponents[i] = BenchmarkFixtures.createCharacter(i + 1, randomSource);
+				this.initialAttackers[i] = new SavedCharacter(this.attackers[i]);
+				this.initialOpponents[i] = new SavedCharacter(this.opponents[i]);
+			}
+		}
+
+		/**
+		 * Restore the armies before each wave.
+		 */
+		@Setup(Level.Invocation)
+		public void restoreArmies()
+		{
+			this.characterTable = new CharacterTable(this.armySize * 2, new SplittableRandomSource(7));
+			for (int i = 0; i < this.armySize; i++)
+			{
+				this.initialAttackers[i].restore(this.attackers[i]);
+				this.initialOpponents[i].restore(this.opponents[i]);
+				this.attackerRows[i] = this.characterTable.addCharacter(this.attackers[i]);
+				this.opponentRows[i] = this.characterTable.addCharacter(this.opponents[i]);
+			}
+		}
+	}
+
+	/**
+	 * This class represents the precomputed inputs of the damage pass.
+	 *
+	 * @author DELORME Loïc
+	 * @since 1.0.0
+	 */
+	@State(Scope.Thread)
+	public static class DamageState
+	{
+		/**
+		 * The number of fights.
+		 */
+		@Param({ "256", "4096", "65536" })
+		public int armySize;
+
+		/**
+		 * The attacker strengths.
+		 */
+		private int[] attackerStrengths;
+
+		/**
+		 * The opponent defenses.
+		 */
+		private int[] opponentDefenses;
+
+		/**
+		 * The special move masks.
+		 */
+		private int[] specialMoveMasks;
+
+		/**
+		 * The computed damages.
+		 */
+		private int[] damages;
+
+		/**
+		 * Create the inputs.
+		 */
+		@Setup(Level.Trial)
+		public void setUpInputs()
+		{
+			final SplittableRandomSource randomSource = new SplittableRandomSource(42);
+			this.attackerStrengths = new int[this.armySize];
+			this.opponentDefenses = new int[this.armySize];
+			this.specialMoveMasks = new int[this.armySize];
+			this.damages = new int[this.armySize];
+
+			for (int i = 0; i < this.armySize; i++)
+			{
+				this.attackerStrengths[i] = randomSource.nextInt(100);
+				this.opponentDefenses[i] = randomSource.nextInt(100);
+				this.specialMoveMasks[i] = randomSource.nextInt((CharacterTable.PARRY_MASK | CharacterTable.RUN_AWAY_MASK) + 1);
+			}
+		}
+	}
+
+	/**
+	 * Benchmark a wave made by looping over the characters.
+	 * 
+	 * @param armyState
+	 *            The armies.
+	 * @return The health of the last opponent.
+	 */
+	@Benchmark
+	public int characterAttackLoop(ArmyState armyState)
+	{
+		final Character[] attackers = armyState.attackers;
+		final Character[] opponents = armyState.opponents;
+		for (int i = 0; i < attackers.length; i++)
+		{
+			if (!attackers[i].isDead() && !opponents[i].isDead())
+			{
+				attackers[i].attack(opponents[i]);
+			}
+		}
+
+		return opponents[opponents.length - 1].getHealth();
+	}
+
+	/**
+	 * Benchmark a wave made by the sequential attacks of the table.
+	 * 
+	 * @param armyState
+	 *            The armies.
+	 * @return The health of the last opponent.
+	 */
+	@Benchmark
+	public int tableAttackLoop(ArmyState armyState)
+	{
+		armyState.characterTable.attack(armyState.attackerRows, armyState.opponentRows, armyState.armySize);
+		return armyState.characterTable.getHealth(armyState.opponentRows[armyState.armySize - 1]);
+	}
+
+	/**
+	 * Benchmark a wave made by the batch pass of the table.
+	 * 
+	 * @param armyState
+	 *            The armies.
+	 * @return The health of the last opponent.
+	 */
+	@Benchmark
+	public int tableAttackWave(ArmyState armyState)
+	{
+		armyState.characterTable.attackWave(armyState.attackerRows, armyState.opponentRows, armyState.armySize);
+		return armyState.characterTable.getHealth(armyState.opponentRows[armyState.armySize - 1]);
+	}
+
+	/**
+	 * Benchmark the damage pass alone, with pre-rolled special moves.
+	 * 
+	 * @param damageState
+	 *            The inputs.
+	 * @return The computed damages.
+	 */
+	@Benchmark
+	public int[] computeDamages(DamageState damageState)
+	{
+		CharacterTable.computeDamages(damageState.attackerStrengths, damageState.opponentDefenses, damageState.specialMoveMasks, damageState.damages, damageState.armySize);
+		return damageState.damages;
+	}
+}
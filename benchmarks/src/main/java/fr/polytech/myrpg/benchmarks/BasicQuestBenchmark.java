@@ -0,0 +1,133 @@
+package fr.polytech.myrpg.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import fr.polytech.myrpg.characters.Character;
+import fr.polytech.myrpg.characters.items.edible.EdibleItem;
+import fr.polytech.myrpg.characters.items.equipable.Armor;
+import fr.polytech.myrpg.characters.items.equipable.Weapon;
+import fr.polytech.myrpg.game.observers.BotGameObserver;
+import fr.polytech.myrpg.game.observers.BotPolicy;
+import fr.polytech.myrpg.game.players.Team;
+import fr.polytech.myrpg.game.quests.BasicQuest;
+import fr.polytech.myrpg.random.SplittableRandomSource;
+
+/**
+ * This class benchmarks the item drops of a basic quest, by playing it one round at a time: in each round, the player tries to pick up an item, then attacks.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BasicQuestBenchmark
+{
+	/**
+	 * The number of edible and equipable items in the quest.
+	 */
+	@Param({ "8", "64", "512" })
+	public int lootSize;
+
+	/**
+	 * The quest.
+	 */
+	private BasicQuest quest;
+
+	/**
+	 * The edible items of the quest.
+	 */
+	private List<EdibleItem> edibleItems;
+
+	/**
+	 * The teams of the quest.
+	 */
+	private Team[] teams;
+
+	/**
+	 * The characters of the players, one per team.
+	 */
+	private Character[] characters;
+
+	/**
+	 * The initial states of the characters.
+	 */
+	private SavedCharacter[] initialCharacters;
+
+	/**
+	 * The bot game observer.
+	 */
+	private BotGameObserver gameObserver;
+
+	/**
+	 * Create the quest. The players already carry all the armors and weapons they can, so equipable drops always fail and never empty the quest.
+	 * 
+	 * @throws Exception
+	 *             If the characters can't be created.
+	 */
+	@Setup
+	public void setUp() throws Exception
+	{
+		final SplittableRandomSource randomSource = new SplittableRandomSource(42);
+		this.teams = new Team[] { BenchmarkFixtures.createTeam("First", 1, randomSource), BenchmarkFixtures.createTeam("Second", 1, randomSource) };
+		this.characters = new Character[this.teams.length];
+		this.initialCharacters = new SavedCharacter[this.teams.length];
+		for (int i = 0; i < this.teams.length; i++)
+		{
+			this.characters[i] = this.teams[i].getPlayer(0).getCharacter();
+			this.characters[i].equipWith(new Weapon("Dagger", 1, 1));
+			this.characters[i].equipWith(new Armor("Shield", 1, 1));
+			this.characters[i].equipWith(new Armor("Helmet", 1, 1));
+			this.teams[i].hasBeenUpdated();
+			this.initialCharacters[i] = new SavedCharacter(this.characters[i]);
+		}
+
+		this.edibleItems = BenchmarkFixtures.createEdibleItems(this.lootSize);
+		this.quest = new BasicQuest("", "", this.teams[0], this.teams[1], this.edibleItems, BenchmarkFixtures.createEquipableItems(this.lootSize), randomSource);
+		this.gameObserver = new BotGameObserver(BotPolicy.RANDOM, randomSource);
+	}
+
+	/**
+	 * Benchmark playing one more round of the quest, then put back the picked up item in the quest and restore the characters, so that nobody dies.
+	 * 
+	 * @return The number of edible items left in the quest.
+	 */
+	@Benchmark
+	public int playRound()
+	{
+		this.quest.setMaxNbRounds(this.quest.getNbRounds() + 1);
+		this.quest.startQuest(this.gameObserver);
+
+		for (int i = 0; i < this.characters.length; i++)
+		{
+			final Character character = this.characters[i];
+			if (!character.getInventory().isEmpty())
+			{
+				final EdibleItem pickedUpItem = character.getInventory().getItem(0);
+				character.dropItem(pickedUpItem);
+				this.edibleItems.add(pickedUpItem);
+			}
+
+			this.initialCharacters[i].restore(character);
+			this.teams[i].hasBeenUpdated();
+		}
+
+		return this.edibleItems.size();
+	}
+}
@@ -0,0 +1,140 @@
+package fr.polytech.myrpg.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import fr.polytech.myrpg.characters.Archer;
+import fr.polytech.myrpg.characters.Athlete;
+import fr.polytech.myrpg.characters.Character;
+import fr.polytech.myrpg.characters.Characteristic;
+import fr.polytech.myrpg.characters.Magician;
+import fr.polytech.myrpg.characters.Warrior;
+import fr.polytech.myrpg.characters.exceptions.InvalidConstraintsException;
+import fr.polytech.myrpg.characters.exceptions.TooFewSpecialMovesException;
+import fr.polytech.myrpg.characters.exceptions.TooHighCharacteristicsValueException;
+import fr.polytech.myrpg.characters.items.edible.EdibleItem;
+import fr.polytech.myrpg.characters.items.edible.Effect;
+import fr.polytech.myrpg.characters.items.edible.Food;
+import fr.polytech.myrpg.characters.items.edible.Potion;
+import fr.polytech.myrpg.characters.items.edible.Spell;
+import fr.polytech.myrpg.characters.items.equipable.Armor;
+import fr.polytech.myrpg.characters.items.equipable.EquipableItem;
+import fr.polytech.myrpg.characters.items.equipable.Weapon;
+import fr.polytech.myrpg.game.players.Player;
+import fr.polytech.myrpg.game.players.Team;
+import fr.polytech.myrpg.random.IRandomSource;
+
+/**
+ * This class builds the teams and items used by the benchmarks.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public class BenchmarkFixtures
+{
+	/**
+	 * Create a character, cycling over all character classes.
+	 * 
+	 * @param offset
+	 *            The offset of the character.
+	 * @param randomSource
+	 *            The random source of the character.
+	 * @return The character.
+	 * @throws TooHighCharacteristicsValueException
+	 *             If the characteristics value is too high.
+	 * @throws TooFewSpecialMovesException
+	 *             If there is too few special moves.
+	 * @throws InvalidConstraintsException
+	 *             If constraints are invalid.
+	 */
+	public static Character createCharacter(int offset, IRandomSource randomSource) throws TooHighCharacteristicsValueException, TooFewSpecialMovesException, InvalidConstraintsException
+	{
+		final String name = "Character" + offset;
+		switch (offset % 4)
+		{
+			case 0:
+				return new Warrior(name, randomSource);
+			case 1:
+				return new Archer(name, randomSource);
+			case 2:
+				return new Magician(name, randomSource);
+			default:
+				return new Athlete(name, randomSource);
+		}
+	}
+
+	/**
+	 * Create a team.
+	 * 
+	 * @param name
+	 *            The name of the team.
+	 * @param teamSize
+	 *            The number of players.
+	 * @param randomSource
+	 *            The random source of the characters.
+	 * @return The team.
+	 * @throws TooHighCharacteristicsValueException
+	 *             If the characteristics value is too high.
+	 * @throws TooFewSpecialMovesException
+	 *             If there is too few special moves.
+	 * @throws InvalidConstraintsException
+	 *             If constraints are invalid.
+	 */
+	public static Team createTeam(String name, int teamSize, IRandomSource randomSource) throws TooHighCharacteristicsValueException, TooFewSpecialMovesException, InvalidConstraintsException
+	{
+		final Team team = new Team(name);
+		for (int i = 0; i < teamSize; i++)
+		{
+			team.addPlayer(new Player(name + "Player" + i, createCharacter(i, randomSource)));
+		}
+
+		return team;
+	}
+
+	/**
+	 * Create edible items, cycling over foods, potions and spells.
+	 * 
+	 * @param nbItems
+	 *            The number of items.
+	 * @return The edible items.
+	 */
+	public static List<EdibleItem> createEdibleItems(int nbItems)
+	{
+		final List<EdibleItem> edibleItems = new ArrayList<EdibleItem>(nbItems);
+		for (int i = 0; i < nbItems; i++)
+		{
+			switch (i % 3)
+			{
+				case 0:
+					edibleItems.add(new Food("Bread" + i, 1, 4));
+					break;
+				case 1:
+					edibleItems.add(new Potion("Potion" + i, 1, 35));
+					break;
+				default:
+					edibleItems.add(new Spell("Spell" + i, 3, new Effect(Characteristic.STRENGTH, 45)));
+					break;
+			}
+		}
+
+		return edibleItems;
+	}
+
+	/**
+	 * Create equipable items, alternating armors and weapons.
+	 * 
+	 * @param nbItems
+	 *            The number of items.
+	 * @return The equipable items.
+	 */
+	public static List<EquipableItem> createEquipableItems(int nbItems)
+	{
+		final List<EquipableItem> equipableItems = new ArrayList<EquipableItem>(nbItems);
+		for (int i = 0; i < nbItems; i++)
+		{
+			equipableItems.add((i % 2 == 0) ? new Armor("Armor" + i, 20, 14) : new Weapon("Sword" + i, 8, 10));
+		}
+
+		return equipableItems;
+	}
+}
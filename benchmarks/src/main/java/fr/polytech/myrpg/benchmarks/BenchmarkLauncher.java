@@ -0,0 +1,34 @@
+package fr.polytech.myrpg.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * The launcher of the benchmarks, which always enables the GC profiler so that the allocation rate is reported alongside the throughput.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public class BenchmarkLauncher
+{
+	/**
+	 * The entry of the benchmarks.
+	 * 
+	 * @param args
+	 *            The JMH command line options.
+	 * @throws CommandLineOptionException
+	 *             If the command line options are invalid.
+	 * @throws RunnerException
+	 *             If the benchmarks fail.
+	 */
+	public static void main(String[] args) throws CommandLineOptionException, RunnerException
+	{
+		final Options options = new OptionsBuilder().parent(new CommandLineOptions(args)).addProfiler(GCProfiler.class).build();
+		new Runner(options).run();
+	}
+}
@@ -0,0 +1,157 @@
+package fr.polytech.myrpg.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import fr.polytech.myrpg.characters.Character;
+import fr.polytech.myrpg.characters.FightOutcomeCache;
+import fr.polytech.myrpg.characters.Warrior;
+import fr.polytech.myrpg.characters.exceptions.TooHeavyCharacterException;
+import fr.polytech.myrpg.characters.exceptions.TooManyArmorsException;
+import fr.polytech.myrpg.characters.exceptions.TooManyWeaponsException;
+import fr.polytech.myrpg.characters.items.edible.EdibleItem;
+import fr.polytech.myrpg.characters.items.edible.Potion;
+import fr.polytech.myrpg.characters.items.equipable.Weapon;
+import fr.polytech.myrpg.random.SplittableRandomSource;
+
+/**
+ * This class benchmarks the combat and item hot paths of a character.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CharacterBenchmark
+{
+	/**
+	 * The number of items in the inventory.
+	 */
+	@Param({ "1", "10", "100" })
+	public int inventorySize;
+
+	/**
+	 * The attacker.
+	 */
+	private Character attacker;
+
+	/**
+	 * The opponent.
+	 */
+	private Character opponent;
+
+	/**
+	 * The item consumed and picked up again.
+	 */
+	private EdibleItem consumedItem;
+
+	/**
+	 * The weapon equipped and unequipped.
+	 */
+	private Weapon weapon;
+
+	/**
+	 * The fight outcome cache.
+	 */
+	private FightOutcomeCache fightOutcomeCache;
+
+	/**
+	 * Create the characters and fill the inventory. It runs on each iteration because consuming items keeps increasing the characteristics.
+	 * 
+	 * @throws Exception
+	 *             If the characters can't be created.
+	 */
+	@Setup(Level.Iteration)
+	public void setUp() throws Exception
+	{
+		final SplittableRandomSource randomSource = new SplittableRandomSource(42);
+		this.attacker = new Warrior("Attacker", randomSource);
+		this.opponent = new Warrior("Opponent", randomSource);
+
+		// Weightless items so that any inventory size fits, the consumed one is the last so that it is the slowest to find.
+		for (int i = 0; i < this.inventorySize; i++)
+		{
+			this.consumedItem = new Potion("Potion" + i, 0, 1);
+			this.attacker.pickUp(this.consumedItem);
+		}
+
+		this.weapon = new Weapon("Sword", 8, 10);
+		this.fightOutcomeCache = new FightOutcomeCache();
+	}
+
+	/**
+	 * Benchmark an attack.
+	 * 
+	 * @return The health of the opponent.
+	 */
+	@Benchmark
+	public int attack()
+	{
+		this.attacker.attack(this.opponent);
+		return this.opponent.getHealth();
+	}
+
+	/**
+	 * Benchmark an attack using the fight outcome cache.
+	 * 
+	 * @return The health of the opponent.
+	 */
+	@Benchmark
+	public int attackWithFightOutcomeCache()
+	{
+		this.attacker.attack(this.opponent, this.fightOutcomeCache);
+		return this.opponent.getHealth();
+	}
+
+	/**
+	 * Benchmark consuming an item and picking it up again.
+	 * 
+	 * @return The health of the attacker.
+	 * @throws TooHeavyCharacterException
+	 *             If the attacker is too heavy.
+	 */
+	@Benchmark
+	public int consumeItem() throws TooHeavyCharacterException
+	{
+		this.attacker.consumeItem(this.consumedItem);
+		this.attacker.pickUp(this.consumedItem);
+		return this.attacker.getHealth();
+	}
+
+	/**
+	 * Benchmark equipping and unequipping a weapon.
+	 * 
+	 * @return The strength of the attacker while equipped.
+	 * @throws TooHeavyCharacterException
+	 *             If the attacker is too heavy.
+	 * @throws TooManyArmorsException
+	 *             If the attacker can't carry more armor.
+	 * @throws TooManyWeaponsException
+	 *             If the attacker can't carry more weapon.
+	 */
+	@Benchmark
+	public int equipWith() throws TooHeavyCharacterException, TooManyArmorsException, TooManyWeaponsException
+	{
+		this.attacker.equipWith(this.weapon);
+		final int strength = this.attacker.computeStrengthValue();
+		this.attacker.unequipWith(this.weapon);
+
+		return strength;
+	}
+}
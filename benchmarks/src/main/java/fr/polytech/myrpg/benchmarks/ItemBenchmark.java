@@ -0,0 +1,336 @@
+package fr.polytech.myrpg.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import fr.polytech.myrpg.characters.Characteristic;
+import fr.polytech.myrpg.characters.items.Item;
+import fr.polytech.myrpg.characters.items.edible.Effect;
+import fr.polytech.myrpg.characters.items.edible.Food;
+import fr.polytech.myrpg.characters.items.edible.Potion;
+import fr.polytech.myrpg.characters.items.edible.Spell;
+import fr.polytech.myrpg.characters.items.equipable.Armor;
+import fr.polytech.myrpg.characters.items.equipable.Weapon;
+
+/**
+ * This class benchmarks reading the characteristic values of a mix of the five kinds of items, with the precomputed modifiers of {@link Item} against a copy of the
+ * previous per-class lookups, whose call site sees five receiver types.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ItemBenchmark
+{
+	/**
+	 * The characteristics.
+	 */
+	private static final Characteristic[] CHARACTERISTICS = Characteristic.values();
+
+	/**
+	 * The number of items.
+	 */
+	@Param({ "16", "1024" })
+	public int nbItems;
+
+	/**
+	 * The items.
+	 */
+	private Item[] items;
+
+	/**
+	 * The same items, with the per-class lookups.
+	 */
+	private LegacyItem[] legacyItems;
+
+	/**
+	 * Create the items, cycling over the five kinds.
+	 */
+	@Setup
+	public void setUp()
+	{
+		this.items = new Item[this.nbItems];
+		this.legacyItems = new LegacyItem[this.nbItems];
+		for (int i = 0; i < this.nbItems; i++)
+		{
+			switch (i % 5)
+			{
+				case 0:
+					this.items[i] = new Food("Bread" + i, 1, 4);
+					this.legacyItems[i] = new LegacyFood(4);
+					break;
+				case 1:
+					this.items[i] = new Potion("Potion" + i, 1, 35);
+					this.legacyItems[i] = new LegacyPotion(35);
+					break;
+				case 2:
+					this.items[i] = new Spell("Spell" + i, 4, new Effect(Characteristic.DEFENSE, 150), new Effect(Characteristic.STRENGTH, 45));
+					this.legacyItems[i] = new LegacySpell(new Effect(Characteristic.DEFENSE, 150), new Effect(Characteristic.STRENGTH, 45));
+					break;
+				case 3:
+					this.items[i] = new Armor("Armor" + i, 20, 14);
+					this.legacyItems[i] = new LegacyArmor(14);
+					break;
+				default:
+					this.items[i] = new Weapon("Sword" + i, 8, 10);
+					this.legacyItems[i] = new LegacyWeapon(10);
+					break;
+			}
+		}
+	}
+
+	/**
+	 * Benchmark the precomputed modifiers.
+	 * 
+	 * @return The sum of all values.
+	 */
+	@Benchmark
+	public int precomputedModifiers()
+	{
+		int sum = 0;
+		for (Item currentItem : this.items)
+		{
+			for (Characteristic currentCharacteristic : CHARACTERISTICS)
+			{
+				sum += currentItem.getValueByCharacteristic(currentCharacteristic);
+			}
+		}
+
+		return sum;
+	}
+
+	/**
+	 * Benchmark the per-class lookups.
+	 * 
+	 * @return The sum of all values.
+	 */
+	@Benchmark
+	public int perClassLookups()
+	{
+		int sum = 0;
+		for (LegacyItem currentItem : this.legacyItems)
+		{
+			for (Characteristic currentCharacteristic : CHARACTERISTICS)
+			{
+				sum += currentItem.getValueByCharacteristic(currentCharacteristic);
+			}
+		}
+
+		return sum;
+	}
+
+	/**
+	 * This class represents an item looking up its values the way each kind of item used to.
+	 *
+	 * @author DELORME Loïc
+	 * @since 1.0.0
+	 */
+	private static abstract class LegacyItem
+	{
+		/**
+		 * Get the value for a specific characteristic.
+		 * 
+		 * @param characteristic
+		 *            The specific characteristic.
+		 * @return The corresponding value.
+		 */
+		public abstract int getValueByCharacteristic(Characteristic characteristic);
+	}
+
+	/**
+	 * This class represents a food.
+	 *
+	 * @author DELORME Loïc
+	 * @since 1.0.0
+	 */
+	private static class LegacyFood extends LegacyItem
+	{
+		/**
+		 * The additional dexterity.
+		 */
+		private final int additionalDexterity;
+
+		/**
+		 * Create a food.
+		 * 
+		 * @param additionalDexterity
+		 *            The additional dexterity.
+		 */
+		public LegacyFood(int additionalDexterity)
+		{
+			this.additionalDexterity = additionalDexterity;
+		}
+
+		/**
+		 * @see fr.polytech.myrpg.benchmarks.ItemBenchmark.LegacyItem#getValueByCharacteristic(fr.polytech.myrpg.characters.Characteristic)
+		 */
+		@Override
+		public int getValueByCharacteristic(Characteristic characteristic)
+		{
+			return (characteristic == Characteristic.DEXTERITY ? this.additionalDexterity : 0);
+		}
+	}
+
+	/**
+	 * This class represents a potion.
+	 *
+	 * @author DELORME Loïc
+	 * @since 1.0.0
+	 */
+	private static class LegacyPotion extends LegacyItem
+	{
+		/**
+		 * The additional health.
+		 */
+		private final int additionalHealth;
+
+		/**
+		 * Create a potion.
+		 * 
+		 * @param additionalHealth
+		 *            The additional health.
+		 */
+		public LegacyPotion(int additionalHealth)
+		{
+			this.additionalHealth = additionalHealth;
+		}
+
+		/**
+		 * @see fr.polytech.myrpg.benchmarks.ItemBenchmark.LegacyItem#getValueByCharacteristic(fr.polytech.myrpg.characters.Characteristic)
+		 */
+		@Override
+		public int getValueByCharacteristic(Characteristic characteristic)
+		{
+			return (characteristic == Characteristic.HEALTH ? this.additionalHealth : 0);
+		}
+	}
+
+	/**
+	 * This class represents a spell.
+	 *
+	 * @author DELORME Loïc
+	 * @since 1.0.0
+	 */
+	private static class LegacySpell extends LegacyItem
+	{
+		/**
+		 * The list of available effects.
+		 */
+		private final List<Effect> effects;
+
+		/**
+		 * Create a spell.
+		 * 
+		 * @param effects
+		 *            The effects.
+		 */
+		public LegacySpell(Effect... effects)
+		{
+			this.effects = new ArrayList<Effect>(Arrays.asList(effects));
+		}
+
+		/**
+		 * @see fr.polytech.myrpg.benchmarks.ItemBenchmark.LegacyItem#getValueByCharacteristic(fr.polytech.myrpg.characters.Characteristic)
+		 */
+		@Override
+		public int getValueByCharacteristic(Characteristic characteristic)
+		{
+			for (Effect currentEffect : this.effects)
+			{
+				if (characteristic == currentEffect.getCharacteristic())
+				{
+					return currentEffect.getValue();
+				}
+			}
+
+			return 0;
+		}
+	}
+
+	/**
+	 * This class represents an armor.
+	 *
+	 * @author DELORME Loïc
+	 * @since 1.0.0
+	 */
+	private static class LegacyArmor extends LegacyItem
+	{
+		/**
+		 * The additional defense.
+		 */
+		private final int additionalDefense;
+
+		/**
+		 * Create an armor.
+		 * 
+		 * @param additionalDefense
+		 *            The additional defense.
+		 */
+		public LegacyArmor(int additionalDefense)
+		{
+			this.additionalDefense = additionalDefense;
+		}
+
+		/**
+		 * @see fr.polytech.myrpg.benchmarks.ItemBenchmark.LegacyItem#getValueByCharacteristic(fr.polytech.myrpg.characters.Characteristic)
+		 */
+		@Override
+		public int getValueByCharacteristic(Characteristic characteristic)
+		{
+			return (characteristic == Characteristic.DEFENSE ? this.additionalDefense : 0);
+		}
+	}
+
+	/**
+	 * This class represents a weapon.
+	 *
+	 * @author DELORME Loïc
+	 * @since 1.0.0
+	 */
+	private static class LegacyWeapon extends LegacyItem
+	{
+		/**
+		 * The additional strength.
+		 */
+		private final int additionalStrength;
+
+		/**
+		 * Create a weapon.
+		 * 
+		 * @param additionalStrength
+		 *            The additional strength.
+		 */
+		public LegacyWeapon(int additionalStrength)
+		{
+			this.additionalStrength = additionalStrength;
+		}
+
+		/**
+		 * @see fr.polytech.myrpg.benchmarks.ItemBenchmark.LegacyItem#getValueByCharacteristic(fr.polytech.myrpg.characters.Characteristic)
+		 */
+		@Override
+		public int getValueByCharacteristic(Characteristic characteristic)
+		{
+			return (characteristic == Characteristic.STRENGTH ? this.additionalStrength : 0);
+		}
+	}
+}
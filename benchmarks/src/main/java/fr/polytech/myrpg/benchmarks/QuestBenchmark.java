@@ -0,0 +1,90 @@
+package fr.polytech.myrpg.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import fr.polytech.myrpg.game.observers.BotGameObserver;
+import fr.polytech.myrpg.game.observers.BotPolicy;
+import fr.polytech.myrpg.game.quests.BasicQuest;
+import fr.polytech.myrpg.random.IRandomSource;
+import fr.polytech.myrpg.random.SplittableRandomSource;
+
+/**
+ * This class benchmarks whole quests played by bots.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QuestBenchmark
+{
+	/**
+	 * The maximal number of rounds of a quest, so that a quest in which nobody can deal damage still ends.
+	 */
+	private static final int MAX_NB_ROUNDS = 100000;
+
+	/**
+	 * The number of players in each team.
+	 */
+	@Param({ "2", "16", "128" })
+	public int teamSize;
+
+	/**
+	 * The number of edible and equipable items in the quest.
+	 */
+	@Param({ "0", "16" })
+	public int lootSize;
+
+	/**
+	 * The random source.
+	 */
+	private IRandomSource randomSource;
+
+	/**
+	 * The bot game observer.
+	 */
+	private BotGameObserver gameObserver;
+
+	/**
+	 * Create the random source and the bot.
+	 */
+	@Setup
+	public void setUp()
+	{
+		this.randomSource = new SplittableRandomSource(42);
+		this.gameObserver = new BotGameObserver(BotPolicy.FOCUS_LOWEST_HEALTH, this.randomSource);
+	}
+
+	/**
+	 * Benchmark building and playing a whole quest.
+	 * 
+	 * @return The number of rounds played.
+	 * @throws Exception
+	 *             If the characters can't be created.
+	 */
+	@Benchmark
+	public int playQuest() throws Exception
+	{
+		final BasicQuest quest = new BasicQuest("", "", BenchmarkFixtures.createTeam("First", this.teamSize, this.randomSource), BenchmarkFixtures.createTeam("Second", this.teamSize, this.randomSource), BenchmarkFixtures.createEdibleItems(this.lootSize), BenchmarkFixtures.createEquipableItems(this.lootSize), this.randomSource);
+		quest.setMaxNbRounds(MAX_NB_ROUNDS);
+		quest.startQuest(this.gameObserver);
+
+		return quest.getNbRounds();
+	}
+}
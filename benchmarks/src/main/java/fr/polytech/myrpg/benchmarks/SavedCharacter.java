@@ -0,0 +1,73 @@
+package fr.polytech.myrpg.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import fr.polytech.myrpg.characters.Character;
+import fr.polytech.myrpg.characters.Characteristic;
+import fr.polytech.myrpg.characters.items.equipable.EquipableItem;
+
+/**
+ * This class represents the state of a character saved before a benchmark, restored through {@link Character#restoreState(int[], int, int, int, List)}.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public class SavedCharacter
+{
+	/**
+	 * The characteristics, indexed by characteristic ordinal.
+	 */
+	private final int[] characteristics;
+
+	/**
+	 * The max health.
+	 */
+	private final int maxHealth;
+
+	/**
+	 * The experience level.
+	 */
+	private final int experienceLevel;
+
+	/**
+	 * The current experience.
+	 */
+	private final int experience;
+
+	/**
+	 * The equipped items.
+	 */
+	private final List<EquipableItem> equippedItems;
+
+	/**
+	 * Save the state of a character.
+	 * 
+	 * @param character
+	 *            The character.
+	 */
+	public SavedCharacter(Character character)
+	{
+		final Characteristic[] allCharacteristics = Characteristic.values();
+		this.characteristics = new int[allCharacteristics.length];
+		for (int i = 0; i < allCharacteristics.length; i++)
+		{
+			this.characteristics[i] = character.getCharacteristic(allCharacteristics[i]);
+		}
+		this.maxHealth = character.getMaxHealth();
+		this.experienceLevel = character.getExperienceLevel();
+		this.experience = character.getCurrentExperience();
+		this.equippedItems = new ArrayList<EquipableItem>(character.getEquippedItems());
+	}
+
+	/**
+	 * Restore the saved state into a character.
+	 * 
+	 * @param character
+	 *            The character.
+	 */
+	public void restore(Character character)
+	{
+		character.restoreState(this.characteristics, this.maxHealth, this.experienceLevel, this.experience, this.equippedItems);
+	}
+}
@@ -0,0 +1,91 @@
+package fr.polytech.myrpg.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import fr.polytech.myrpg.game.players.Player;
+import fr.polytech.myrpg.game.players.Team;
+import fr.polytech.myrpg.random.SplittableRandomSource;
+
+/**
+ * This class benchmarks the rotation and the target queries of a team.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TeamBenchmark
+{
+	/**
+	 * The number of players in the team.
+	 */
+	@Param({ "2", "16", "1024" })
+	public int teamSize;
+
+	/**
+	 * The team.
+	 */
+	private Team team;
+
+	/**
+	 * Create the team.
+	 * 
+	 * @throws Exception
+	 *             If the characters can't be created.
+	 */
+	@Setup
+	public void setUp() throws Exception
+	{
+		this.team = BenchmarkFixtures.createTeam("Team", this.teamSize, new SplittableRandomSource(42));
+	}
+
+	/**
+	 * Benchmark getting the current player.
+	 * 
+	 * @return The current player.
+	 */
+	@Benchmark
+	public Player getCurrentPlayer()
+	{
+		return this.team.getCurrentPlayer();
+	}
+
+	/**
+	 * Benchmark getting the living player with the lowest health.
+	 * 
+	 * @return The weakest player.
+	 */
+	@Benchmark
+	public Player getWeakestPlayer()
+	{
+		return this.team.getWeakestPlayer();
+	}
+
+	/**
+	 * Benchmark getting the living players with the lowest health.
+	 * 
+	 * @return The weakest players.
+	 */
+	@Benchmark
+	public List<Player> getWeakestPlayers()
+	{
+		return this.team.getWeakestPlayers(8);
+	}
+}
@@ -1,27 +1,142 @@
-package fr.polytech.myrpg;
-
-import fr.polytech.myrpg.game.GameBuilder;
-import fr.polytech.myrpg.game.IGame;
-
-/**
- * The launcher of the application.
- * 
- * @author DELORME Loïc
- */
-public class Launcher
-{
-	/**
-	 * The entry of the application.
-	 * 
-	 * @param args
-	 *            Some arguments.
-	 */
-	public static void main(String[] args)
-	{
-		final IGame buildGame = new GameBuilder().buildGame();
-		if (buildGame != null)
-		{
-			buildGame.startGame();
-		}
-	}
-}
+package fr.polytech.myrpg;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+
+import javax.management.JMException;
+
+import fr.polytech.myrpg.game.GameBuilder;
+import fr.polytech.myrpg.game.IGame;
+import fr.polytech.myrpg.game.IGameBuilder;
+import fr.polytech.myrpg.game.content.ContentGameBuilder;
+import fr.polytech.myrpg.game.journal.GameJournal;
+import fr.polytech.myrpg.game.journal.exceptions.InvalidJournalException;
+import fr.polytech.myrpg.game.observers.ConsoleVerbosity;
+import fr.polytech.myrpg.game.snapshot.GameSnapshotFile;
+import fr.polytech.myrpg.game.snapshot.exceptions.InvalidSnapshotException;
+import fr.polytech.myrpg.metrics.MetricsRegistry;
+import me.grea.antoine.utils.Log;
+
+/**
+ * The launcher of the application.
+ * 
+ * @author DELORME Loïc
+ */
+public class Launcher
+{
+	/**
+	 * The option giving the snapshot file used to resume the game.
+	 */
+	private static final String SNAPSHOT_OPTION = "--snapshot=";
+
+	/**
+	 * The option giving the journal file recording the events of the game.
+	 */
+	private static final String JOURNAL_OPTION = "--journal=";
+
+	/**
+	 * The option giving the verbosity of the console.
+	 */
+	private static final String VERBOSITY_OPTION = "--verbosity=";
+
+	/**
+	 * The option giving the period, in seconds, of the dump of the metrics.
+	 */
+	private static final String METRICS_OPTION = "--metrics=";
+
+	/**
+	 * The entry of the application.
+	 * 
+	 * @param args
+	 *            Some arguments: an optional content file to play instead of the built-in quests, an optional "--snapshot=file" to save the game before each round
+	 *            and resume it from this file, an optional "--journal=file" to append the events of the game to this file, and an optional
+	 *            "--verbosity=full|summary|silent" to choose what the console displays, and an optional "--metrics=seconds" to record the metrics of the game, expose
+	 *            them through JMX and dump them with this period.
+	 */
+	public static void main(String[] args)
+	{
+		String contentFile = null;
+		String snapshotFile = null;
+		String journalFile = null;
+		ConsoleVerbosity consoleVerbosity = ConsoleVerbosity.FULL;
+		long metricsPeriod = 0;
+		for (String currentArg : args)
+		{
+			if (currentArg.startsWith(SNAPSHOT_OPTION))
+			{
+				snapshotFile = currentArg.substring(SNAPSHOT_OPTION.length());
+			}
+			else if (currentArg.startsWith(JOURNAL_OPTION))
+			{
+				journalFile = currentArg.substring(JOURNAL_OPTION.length());
+			}
+			else if (currentArg.startsWith(VERBOSITY_OPTION))
+			{
+				try
+				{
+					consoleVerbosity = ConsoleVerbosity.valueOf(currentArg.substring(VERBOSITY_OPTION.length()).toUpperCase());
+				}
+				catch (IllegalArgumentException e)
+				{
+					Log.w("Unknown verbosity " + currentArg.substring(VERBOSITY_OPTION.length()) + ", everything is displayed");
+				}
+			}
+			else if (currentArg.startsWith(METRICS_OPTION))
+			{
+				try
+				{
+					metricsPeriod = Long.parseLong(currentArg.substring(METRICS_OPTION.length()));
+				}
+				catch (NumberFormatException e)
+				{
+					Log.w("Invalid metrics period " + currentArg.substring(METRICS_OPTION.length()) + ", the metrics are not recorded");
+				}
+			}
+			else
+			{
+				contentFile = currentArg;
+			}
+		}
+
+		final IGameBuilder gameBuilder = (contentFile != null ? new ContentGameBuilder(Paths.get(contentFile)) : new GameBuilder());
+		gameBuilder.setConsoleVerbosity(consoleVerbosity);
+		final IGame buildGame = gameBuilder.buildGame();
+		if (buildGame == null)
+		{
+			return;
+		}
+
+		try (final GameJournal gameJournal = (journalFile != null ? GameJournal.open(Paths.get(journalFile)) : null);
+				final MetricsRegistry metricsRegistry = (metricsPeriod > 0 ? new MetricsRegistry() : null))
+		{
+			if (metricsRegistry != null)
+			{
+				metricsRegistry.registerMBean();
+				metricsRegistry.startPeriodicDump(metricsPeriod);
+			}
+
+			buildGame.setGameJournal(gameJournal);
+			buildGame.setMetricsRegistry(metricsRegistry);
+			if (snapshotFile == null)
+			{
+				buildGame.startGame();
+			}
+			else
+			{
+				try (final GameSnapshotFile gameSnapshotFile = new GameSnapshotFile(Paths.get(snapshotFile)))
+				{
+					buildGame.resumeGame(gameSnapshotFile);
+				}
+			}
+
+			if (metricsRegistry != null)
+			{
+				Log.i(metricsRegistry.getTextDump());
+			}
+		}
+		catch (IOException | InvalidSnapshotException | InvalidJournalException | JMException e)
+		{
+			Log.e(e);
+		}
+	}
+}
@@ -1,631 +1,982 @@
-package fr.polytech.myrpg.characters;
-
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-
-import fr.polytech.myrpg.characters.exceptions.InvalidConstraintsException;
-import fr.polytech.myrpg.characters.exceptions.TooHeavyCharacterException;
-import fr.polytech.myrpg.characters.exceptions.TooHighCharacteristicsValueException;
-import fr.polytech.myrpg.characters.exceptions.TooFewSpecialMovesException;
-import fr.polytech.myrpg.characters.exceptions.TooManyArmorsException;
-import fr.polytech.myrpg.characters.exceptions.TooManyWeaponsException;
-import fr.polytech.myrpg.characters.items.Item;
-import fr.polytech.myrpg.characters.items.edible.EdibleItem;
-import fr.polytech.myrpg.characters.items.equipable.EquipableItem;
-import fr.polytech.myrpg.characters.items.equipable.EquipableItemType;
-import fr.polytech.myrpg.characters.specialmove.ISpecialMove;
-import fr.polytech.myrpg.characters.specialmove.SpecialMoveType;
-
-/**
- * This class represents a character.
- *
- * @author DELORME Loïc
- * @since 1.0.0
- */
-public abstract class Character
-{
-	/**
-	 * The number of special moves required.
-	 */
-	public static final int NB_SPECIAL_MOVES_REQUIRED = 2;
-
-	/**
-	 * The maximal characteristics value.
-	 */
-	public static final int MAXIMAL_CHARACTERISTICS_VALUE = 70;
-
-	/**
-	 * The default maximal weight that a character can carry.
-	 */
-	public static final int DEFAULT_MAXIMAL_WEIGHT = 75;
-
-	/**
-	 * The characteristic value to add on level up.
-	 */
-	public static final int CHARACTERIC_VALUE_TO_ADD_ON_LEVEL_UP = 5;
-
-	/**
-	 * The multiplier coefficient for calculating the next level.
-	 */
-	public static final int MULTIPLIER_COEFFICIENT_NEXT_LEVEL = 1000;
-
-	/**
-	 * The default maximal number of armor.
-	 */
-	public static final int DEFAULT_MAXIMAL_NB_ARMOR = 2;
-
-	/**
-	 * The default maximal number of weapon.
-	 */
-	public static final int DEFAULT_MAXIMAL_NB_WEAPON = 1;
-
-	/**
-	 * The name of the character.
-	 */
-	private final String name;
-
-	/**
-	 * The characteristics of the character.
-	 */
-	protected final Map<Characteristic, Integer> characteristics;
-
-	/**
-	 * The max health of the character.
-	 */
-	private int maxHealth;
-
-	/**
-	 * The experience level of the character.
-	 */
-	private int experienceLevel;
-
-	/**
-	 * The current experience of the character.
-	 */
-	private int currentExperience;
-
-	/**
-	 * The max weight of the character.
-	 */
-	private final int maxWeight;
-
-	/**
-	 * The current weight of the character.
-	 */
-	private int currentWeight;
-
-	/**
-	 * The inventory of the character.
-	 */
-	private final List<EdibleItem> inventory;
-
-	/**
-	 * The special moves of the character.
-	 */
-	protected final List<ISpecialMove> specialMoves;
-
-	/**
-	 * The equipped items of the character.
-	 */
-	private final List<EquipableItem> equippedItems;
-
-	/**
-	 * The maximal number of weapon.
-	 */
-	private final int maxNbWeapon;
-
-	/**
-	 * The current number of weapon.
-	 */
-	private int currentNbWeapon;
-
-	/**
-	 * The maximal number of armor.
-	 */
-	private final int maxNbArmor;
-
-	/**
-	 * The current number of armor.
-	 */
-	private int currentNbArmor;
-
-	/**
-	 * Create a character.
-	 * 
-	 * @param name
-	 *            The name of the character.
-	 * @throws TooHighCharacteristicsValueException
-	 *             If the characteristics value is higher than expected : {@value #MAXIMAL_CHARACTERISTICS_VALUE}.
-	 * @throws TooFewSpecialMovesException
-	 *             If there is less than {@value #NB_SPECIAL_MOVES_REQUIRED} special moves.
-	 * @throws InvalidConstraintsException
-	 *             If constraints are invalid.
-	 */
-	public Character(String name) throws TooHighCharacteristicsValueException, TooFewSpecialMovesException, InvalidConstraintsException
-	{
-		this.name = name;
-
-		this.characteristics = new HashMap<Characteristic, Integer>();
-		initializeCharacteristics();
-		checkCharacteristics();
-
-		this.specialMoves = new ArrayList<ISpecialMove>();
-		initializeSpecialMoves();
-		checkSpecialMoves();
-
-		this.maxHealth = computeMaxHealthValue();
-		this.characteristics.put(Characteristic.HEALTH, this.maxHealth);
-
-		this.experienceLevel = 1;
-		this.currentExperience = 0;
-
-		this.maxWeight = computeMaxWeightValue();
-		this.currentWeight = 0;
-
-		this.inventory = new ArrayList<EdibleItem>();
-
-		this.equippedItems = new ArrayList<EquipableItem>();
-		this.maxNbWeapon = DEFAULT_MAXIMAL_NB_WEAPON;
-		this.currentNbWeapon = 0;
-		this.maxNbArmor = DEFAULT_MAXIMAL_NB_ARMOR;
-		this.currentNbArmor = 0;
-
-		checkConstraints();
-	}
-
-	/**
-	 * Compute the max health value.
-	 * 
-	 * @return The max health value.
-	 */
-	private int computeMaxHealthValue()
-	{
-		return (computeCharacteristicsValue() + (this.currentExperience * 3));
-	}
-
-	/**
-	 * Compute the maximal weight value.
-	 * 
-	 * @return The maximal weight value.
-	 */
-	private int computeMaxWeightValue()
-	{
-		return DEFAULT_MAXIMAL_WEIGHT;
-	}
-
-	/**
-	 * Compute the characteristics value.
-	 * 
-	 * @return The characteristics value.
-	 */
-	private int computeCharacteristicsValue()
-	{
-		int characteristicsValue = 0;
-		for (Map.Entry<Characteristic, Integer> entry : this.characteristics.entrySet())
-		{
-			if (entry.getKey() != Characteristic.HEALTH)
-			{
-				characteristicsValue += entry.getValue();
-			}
-		}
-
-		return characteristicsValue;
-	}
-
-	/**
-	 * Initialize the characteristics.
-	 */
-	public abstract void initializeCharacteristics();
-
-	/**
-	 * Initialize the special moves.
-	 */
-	public abstract void initializeSpecialMoves();
-
-	/**
-	 * Check the characteristics.
-	 * 
-	 * @throws TooHighCharacteristicsValueException
-	 *             If the characteristics value is higher than expected : {@value #MAXIMAL_CHARACTERISTICS_VALUE}.
-	 */
-	private void checkCharacteristics() throws TooHighCharacteristicsValueException
-	{
-		final int characteristicsValue = computeCharacteristicsValue();
-		if (characteristicsValue > MAXIMAL_CHARACTERISTICS_VALUE)
-		{
-			throw new TooHighCharacteristicsValueException(String.format("The characteristics value is %d and it is higher than expected : %d", characteristicsValue, MAXIMAL_CHARACTERISTICS_VALUE));
-		}
-	}
-
-	/**
-	 * Check the special moves.
-	 * 
-	 * @throws TooFewSpecialMovesException
-	 *             If there is less than {@value #NB_SPECIAL_MOVES_REQUIRED} special moves.
-	 */
-	private void checkSpecialMoves() throws TooFewSpecialMovesException
-	{
-		final int specialMovesSize = this.specialMoves.size();
-		if (specialMovesSize < NB_SPECIAL_MOVES_REQUIRED)
-		{
-			throw new TooFewSpecialMovesException(String.format("There is only %d special moves on your character and %d are required", specialMovesSize, NB_SPECIAL_MOVES_REQUIRED));
-		}
-	}
-
-	/**
-	 * Check the constraints.
-	 * 
-	 * @throws InvalidConstraintsException
-	 *             If constraints are invalid.
-	 */
-	public abstract void checkConstraints() throws InvalidConstraintsException;
-
-	/**
-	 * Get the health.
-	 * 
-	 * @return The health.
-	 */
-	public int getHealth()
-	{
-		return this.characteristics.get(Characteristic.HEALTH);
-	}
-
-	/**
-	 * Check if the character is dead.
-	 * 
-	 * @return True if he is dead, else False.
-	 */
-	public boolean isDead()
-	{
-		return (getHealth() <= 0);
-	}
-
-	/**
-	 * Get the name.
-	 * 
-	 * @return The name.
-	 */
-	public String getName()
-	{
-		return this.name;
-	}
-
-	/**
-	 * Attack an another character.
-	 * 
-	 * @param opponent
-	 *            The character which is attacked.
-	 */
-	public void attack(Character opponent)
-	{
-		// Store in a list of special move that the opponent can use.
-		final List<ISpecialMove> potentialSpecialMoves = new ArrayList<ISpecialMove>();
-		for (ISpecialMove currentSpecialMove : opponent.specialMoves)
-		{
-			if (currentSpecialMove.canSpecialMoveBeUsed())
-			{
-				potentialSpecialMoves.add(currentSpecialMove);
-			}
-		}
-
-		// Set up all effects on the opponent before the fight.
-		boolean hasOpponentParry = false;
-		boolean hasOpponentRunAway = false;
-		for (ISpecialMove currentSpecialMoveUsed : potentialSpecialMoves)
-		{
-			if (currentSpecialMoveUsed.getSpecialMoveType() == SpecialMoveType.PARRY)
-			{
-				hasOpponentParry = true;
-				continue;
-			}
-			else if (currentSpecialMoveUsed.getSpecialMoveType() == SpecialMoveType.RUN_AWAY)
-			{
-				hasOpponentRunAway = true;
-				continue;
-			}
-			else if (currentSpecialMoveUsed.getSpecialMoveType() == SpecialMoveType.HEAL)
-			{
-				opponent.updateCharacteristic(currentSpecialMoveUsed.getEffect().getCharacteristic(), currentSpecialMoveUsed.getEffect().getValue());
-				continue;
-			}
-		}
-
-		processFight(opponent, hasOpponentParry, hasOpponentRunAway);
-	}
-
-	/**
-	 * Process the fight between two opponents.
-	 * 
-	 * @param opponent
-	 *            The opponent.
-	 * @param hasOpponentParry
-	 *            If the opponent has parry.
-	 * @param hasOpponentRunAway
-	 *            If the opponent has run away.
-	 */
-	private void processFight(Character opponent, boolean hasOpponentParry, boolean hasOpponentRunAway)
-	{
-		if (hasOpponentRunAway)
-		{
-			return;
-		}
-
-		final int attackerStrenght = this.computeStrengthValue();
-		final int opponentDefense = opponent.computeDefenseValue();
-		final int damage = (hasOpponentParry ? (attackerStrenght - opponentDefense) / 2 : attackerStrenght - opponentDefense);
-
-		if (damage > 0)
-		{
-			opponent.updateCharacteristic(Characteristic.HEALTH, damage * -1);
-			increaseExperience(damage * 3);
-		}
-	}
-
-	/**
-	 * Compute the character strength value.
-	 * 
-	 * @return The computed character strength.
-	 */
-	private int computeStrengthValue()
-	{
-		return computeStrengthOrDefenseValue(Characteristic.STRENGTH, EquipableItemType.WEAPON);
-	}
-
-	/**
-	 * Compute the character defense value.
-	 * 
-	 * @return The computed character defense.
-	 */
-	private int computeDefenseValue()
-	{
-		return computeStrengthOrDefenseValue(Characteristic.DEFENSE, EquipableItemType.ARMOR);
-	}
-
-	/**
-	 * Compute the strength or the defense value.
-	 * 
-	 * @param characteristic
-	 *            The characteristic.
-	 * @param equipableItemType
-	 *            The equipable item type.
-	 * @return The computed value.
-	 */
-	private int computeStrengthOrDefenseValue(Characteristic characteristic, EquipableItemType equipableItemType)
-	{
-		int computedValue = this.characteristics.get(characteristic);
-
-		for (EquipableItem currentEquippedItem : this.equippedItems)
-		{
-			if (currentEquippedItem.getEquipableItemType() == equipableItemType)
-			{
-				computedValue += currentEquippedItem.getValueByCharacteristic(characteristic);
-			}
-		}
-
-		return computedValue;
-	}
-
-	/**
-	 * Pick up an item.
-	 * 
-	 * @param item
-	 *            The item to pick up.
-	 * @throws TooHeavyCharacterException
-	 *             If the character is too heavy.
-	 */
-	public void pickUp(EdibleItem item) throws TooHeavyCharacterException
-	{
-		if (this.currentWeight + item.getWeight() > this.maxWeight)
-		{
-			throw new TooHeavyCharacterException("The character can't pick up the item because he will be too heavy");
-		}
-
-		this.inventory.add(item);
-		this.currentWeight += item.getWeight();
-	}
-
-	/**
-	 * Consume an item.
-	 * 
-	 * @param itemToConsume
-	 *            The item to consume.
-	 */
-	public void consumeItem(EdibleItem itemToConsume)
-	{
-		this.inventory.remove(itemToConsume);
-		this.currentWeight -= itemToConsume.getWeight();
-
-		for (Map.Entry<Characteristic, Integer> entry : this.characteristics.entrySet())
-		{
-			updateCharacteristic(entry.getKey(), entry.getValue() + itemToConsume.getValueByCharacteristic(entry.getKey()));
-		}
-	}
-
-	/**
-	 * Drop an item.
-	 * 
-	 * @param item
-	 *            The item to drop.
-	 */
-	public void dropItem(Item item)
-	{
-		this.inventory.remove(item);
-		this.currentWeight -= item.getWeight();
-	}
-
-	/**
-	 * Get the inventory.
-	 * 
-	 * @return The inventory.
-	 */
-	public List<EdibleItem> getInventory()
-	{
-		return this.inventory;
-	}
-
-	/**
-	 * Equip the character with an equipable item.
-	 * 
-	 * @param equipableItem
-	 *            The equipable item to equip.
-	 * @throws TooHeavyCharacterException
-	 *             If the character is too heavy.
-	 * @throws TooManyArmorsException
-	 *             If the character can't carry more armor.
-	 * @throws TooManyWeaponsException
-	 *             If the character can't carry more weapon.
-	 */
-	public void equipWith(EquipableItem equipableItem) throws TooHeavyCharacterException, TooManyArmorsException, TooManyWeaponsException
-	{
-		if (this.currentWeight + equipableItem.getWeight() > this.maxWeight)
-		{
-			throw new TooHeavyCharacterException("The character can't be equipped with the item because he will be too heavy");
-		}
-
-		final EquipableItemType equipableItemType = equipableItem.getEquipableItemType();
-
-		if (equipableItemType == EquipableItemType.ARMOR)
-		{
-			if (this.currentNbArmor == this.maxNbArmor)
-			{
-				throw new TooManyArmorsException(String.format("The character can't carry more than %d armors", this.maxNbArmor));
-			}
-
-			this.currentNbArmor++;
-		}
-		else if (equipableItemType == EquipableItemType.WEAPON)
-		{
-			if (this.currentNbWeapon == this.maxNbWeapon)
-			{
-				throw new TooManyWeaponsException(String.format("The character can't carry more than %d weapons", this.maxNbWeapon));
-			}
-
-			this.currentNbWeapon++;
-		}
-
-		this.equippedItems.add(equipableItem);
-		this.currentWeight += equipableItem.getWeight();
-	}
-
-	/**
-	 * Unequip the character with an equipable item.
-	 * 
-	 * @param equipableItem
-	 *            The equipable item to unequip.
-	 */
-	public void unequipWith(EquipableItem equipableItem)
-	{
-		final EquipableItemType equipableItemType = equipableItem.getEquipableItemType();
-
-		if (equipableItemType == EquipableItemType.ARMOR)
-		{
-			this.currentNbArmor--;
-		}
-		else if (equipableItemType == EquipableItemType.WEAPON)
-		{
-			this.currentNbWeapon--;
-		}
-
-		this.equippedItems.remove(equipableItem);
-		this.currentWeight -= equipableItem.getWeight();
-	}
-
-	/**
-	 * Check if the character can level up.
-	 * 
-	 * @return True if the character can level up, else False.
-	 */
-	public boolean canLevelUp()
-	{
-		return (this.currentExperience > (this.experienceLevel * MULTIPLIER_COEFFICIENT_NEXT_LEVEL));
-	}
-
-	/**
-	 * Increase the experience.
-	 * 
-	 * @param experienceToAdd
-	 *            The experience to add.
-	 */
-	private void increaseExperience(int experienceToAdd)
-	{
-		this.currentExperience += experienceToAdd;
-	}
-
-	/**
-	 * Upgrade a characteristic.
-	 * 
-	 * @param characteristic
-	 *            The characteristic to upgrade.
-	 */
-	public void upgradeCharacteristic(Characteristic characteristic)
-	{
-		if (canLevelUp())
-		{
-			this.experienceLevel++;
-			this.currentExperience -= this.experienceLevel * MULTIPLIER_COEFFICIENT_NEXT_LEVEL;
-			updateCharacteristic(characteristic, CHARACTERIC_VALUE_TO_ADD_ON_LEVEL_UP);
-			this.maxHealth = computeMaxHealthValue();
-		}
-	}
-
-	/**
-	 * Update a characteristic.
-	 * 
-	 * @param characteristic
-	 *            The characteristic to update.
-	 * @param value
-	 *            The value to add or remove.
-	 */
-	private void updateCharacteristic(Characteristic characteristic, int value)
-	{
-		if (characteristic == Characteristic.HEALTH)
-		{
-			final int newHealthValue = this.characteristics.get(characteristic) + value;
-			this.characteristics.put(characteristic, (newHealthValue > this.maxHealth ? this.maxHealth : newHealthValue));
-		}
-		else
-		{
-			this.characteristics.put(characteristic, this.characteristics.get(characteristic) + value);
-		}
-	}
-
-	/**
-	 * @see java.lang.Object#toString()
-	 */
-	@Override
-	public String toString()
-	{
-		final StringBuilder stringRepresentation = new StringBuilder();
-		stringRepresentation.append("Character [name=");
-		stringRepresentation.append(this.name);
-		stringRepresentation.append(", characteristics=");
-		stringRepresentation.append(this.characteristics);
-		stringRepresentation.append(", currentHealth=");
-		stringRepresentation.append(this.characteristics.get(Characteristic.HEALTH));
-		stringRepresentation.append(", maxHealth=");
-		stringRepresentation.append(this.maxHealth);
-		stringRepresentation.append(", experienceLevel=");
-		stringRepresentation.append(this.experienceLevel);
-		stringRepresentation.append(", currentExperience=");
-		stringRepresentation.append(this.currentExperience);
-		stringRepresentation.append(", maxWeight=");
-		stringRepresentation.append(this.maxWeight);
-		stringRepresentation.append(", currentWeight=");
-		stringRepresentation.append(this.currentWeight);
-		stringRepresentation.append(", inventory=");
-		stringRepresentation.append(this.inventory);
-		stringRepresentation.append(", specialMoves=");
-		stringRepresentation.append(this.specialMoves);
-		stringRepresentation.append(", equippedItems=");
-		stringRepresentation.append(this.equippedItems);
-		stringRepresentation.append(", currentNbWeapon=");
-		stringRepresentation.append(this.currentNbWeapon);
-		stringRepresentation.append(", currentNbArmor=");
-		stringRepresentation.append(this.currentNbArmor);
-		stringRepresentation.append("]");
-
-		return stringRepresentation.toString();
-	}
-}
+package fr.polytech.myrpg.characters;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import fr.polytech.myrpg.characters.exceptions.InvalidConstraintsException;
+import fr.polytech.myrpg.characters.exceptions.TooHeavyCharacterException;
+import fr.polytech.myrpg.characters.exceptions.TooHighCharacteristicsValueException;
+import fr.polytech.myrpg.characters.exceptions.TooFewSpecialMovesException;
+import fr.polytech.myrpg.characters.exceptions.TooManyArmorsException;
+import fr.polytech.myrpg.characters.exceptions.TooManyWeaponsException;
+import fr.polytech.myrpg.characters.items.Item;
+import fr.polytech.myrpg.characters.items.edible.EdibleItem;
+import fr.polytech.myrpg.characters.items.edible.Effect;
+import fr.polytech.myrpg.characters.items.edible.Inventory;
+import fr.polytech.myrpg.characters.items.equipable.EquipableItem;
+import fr.polytech.myrpg.characters.items.equipable.EquipableItemType;
+import fr.polytech.myrpg.characters.specialmove.ISpecialMove;
+import fr.polytech.myrpg.characters.specialmove.SpecialMoveType;
+import fr.polytech.myrpg.jfr.AttackEvent;
+import fr.polytech.myrpg.jfr.LevelUpEvent;
+import fr.polytech.myrpg.random.IRandomSource;
+import fr.polytech.myrpg.random.SecureRandomSource;
+
+/**
+ * This class represents a character.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public abstract class Character
+{
+	/**
+	 * The number of special moves required.
+	 */
+	public static final int NB_SPECIAL_MOVES_REQUIRED = 2;
+
+	/**
+	 * The maximal characteristics value.
+	 */
+	public static final int MAXIMAL_CHARACTERISTICS_VALUE = 70;
+
+	/**
+	 * The default maximal weight that a character can carry.
+	 */
+	public static final int DEFAULT_MAXIMAL_WEIGHT = 75;
+
+	/**
+	 * The characteristic value to add on level up.
+	 */
+	public static final int CHARACTERIC_VALUE_TO_ADD_ON_LEVEL_UP = 5;
+
+	/**
+	 * The multiplier coefficient for calculating the next level.
+	 */
+	public static final int MULTIPLIER_COEFFICIENT_NEXT_LEVEL = 1000;
+
+	/**
+	 * The default maximal number of armor.
+	 */
+	public static final int DEFAULT_MAXIMAL_NB_ARMOR = 2;
+
+	/**
+	 * The default maximal number of weapon.
+	 */
+	public static final int DEFAULT_MAXIMAL_NB_WEAPON = 1;
+
+	/**
+	 * All available characteristics, indexed by ordinal.
+	 */
+	private static final Characteristic[] CHARACTERISTICS = Characteristic.values();
+
+	/**
+	 * The random source shared by characters created without one.
+	 */
+	private static final IRandomSource DEFAULT_RANDOM_SOURCE = new SecureRandomSource();
+
+	/**
+	 * The name of the character.
+	 */
+	private final String name;
+
+	/**
+	 * The random source used by the special moves of the character.
+	 */
+	private final IRandomSource randomSource;
+
+	/**
+	 * The characteristics of the character, indexed by characteristic ordinal.
+	 */
+	private final int[] characteristics;
+
+	/**
+	 * The characteristics value, kept up to date on every characteristic update.
+	 */
+	private int characteristicsValue;
+
+	/**
+	 * The max health of the character.
+	 */
+	private int maxHealth;
+
+	/**
+	 * The experience level of the character.
+	 */
+	private int experienceLevel;
+
+	/**
+	 * The current experience of the character.
+	 */
+	private int currentExperience;
+
+	/**
+	 * The max weight of the character.
+	 */
+	private final int maxWeight;
+
+	/**
+	 * The current weight of the character.
+	 */
+	private int currentWeight;
+
+	/**
+	 * The inventory of the character.
+	 */
+	private final Inventory inventory;
+
+	/**
+	 * The special moves of the character.
+	 */
+	protected final List<ISpecialMove> specialMoves;
+
+	/**
+	 * The equipped items of the character.
+	 */
+	private final List<EquipableItem> equippedItems;
+
+	/**
+	 * The maximal number of weapon.
+	 */
+	private final int maxNbWeapon;
+
+	/**
+	 * The current number of weapon.
+	 */
+	private int currentNbWeapon;
+
+	/**
+	 * The maximal number of armor.
+	 */
+	private final int maxNbArmor;
+
+	/**
+	 * The current number of armor.
+	 */
+	private int currentNbArmor;
+
+	/**
+	 * The strength given by the equipped weapons, kept up to date on every equip and unequip.
+	 */
+	private int equippedStrength;
+
+	/**
+	 * The defense given by the equipped armors, kept up to date on every equip and unequip.
+	 */
+	private int equippedDefense;
+
+	/**
+	 * Create a character.
+	 * 
+	 * @param name
+	 *            The name of the character.
+	 * @throws TooHighCharacteristicsValueException
+	 *             If the characteristics value is higher than expected : {@value #MAXIMAL_CHARACTERISTICS_VALUE}.
+	 * @throws TooFewSpecialMovesException
+	 *             If there is less than {@value #NB_SPECIAL_MOVES_REQUIRED} special moves.
+	 * @throws InvalidConstraintsException
+	 *             If constraints are invalid.
+	 */
+	public Character(String name) throws TooHighCharacteristicsValueException, TooFewSpecialMovesException, InvalidConstraintsException
+	{
+		this(name, DEFAULT_RANDOM_SOURCE);
+	}
+
+	/**
+	 * Create a character.
+	 * 
+	 * @param name
+	 *            The name of the character.
+	 * @param randomSource
+	 *            The random source used by the special moves of the character.
+	 * @throws TooHighCharacteristicsValueException
+	 *             If the characteristics value is higher than expected : {@value #MAXIMAL_CHARACTERISTICS_VALUE}.
+	 * @throws TooFewSpecialMovesException
+	 *             If there is less than {@value #NB_SPECIAL_MOVES_REQUIRED} special moves.
+	 * @throws InvalidConstraintsException
+	 *             If constraints are invalid.
+	 */
+	public Character(String name, IRandomSource randomSource) throws TooHighCharacteristicsValueException, TooFewSpecialMovesException, InvalidConstraintsException
+	{
+		this.name = name;
+		this.randomSource = randomSource;
+
+		this.characteristics = new int[CHARACTERISTICS.length];
+		initializeCharacteristics();
+		checkCharacteristics();
+		this.characteristicsValue = computeCharacteristicsValue();
+
+		this.specialMoves = new ArrayList<ISpecialMove>();
+		initializeSpecialMoves();
+		checkSpecialMoves();
+
+		this.maxHealth = computeMaxHealthValue();
+		this.characteristics[Characteristic.HEALTH.ordinal()] = this.maxHealth;
+
+		this.experienceLevel = 1;
+		this.currentExperience = 0;
+
+		this.maxWeight = computeMaxWeightValue();
+		this.currentWeight = 0;
+
+		this.inventory = new Inventory();
+
+		this.equippedItems = new ArrayList<EquipableItem>();
+		this.maxNbWeapon = DEFAULT_MAXIMAL_NB_WEAPON;
+		this.currentNbWeapon = 0;
+		this.maxNbArmor = DEFAULT_MAXIMAL_NB_ARMOR;
+		this.currentNbArmor = 0;
+		this.equippedStrength = 0;
+		this.equippedDefense = 0;
+
+		checkConstraints();
+	}
+
+	/**
+	 * Compute the max health value.
+	 * 
+	 * @return The max health value.
+	 */
+	private int computeMaxHealthValue()
+	{
+		return (this.characteristicsValue + (this.currentExperience * 3));
+	}
+
+	/**
+	 * Compute the maximal weight value.
+	 * 
+	 * @return The maximal weight value.
+	 */
+	private int computeMaxWeightValue()
+	{
+		return DEFAULT_MAXIMAL_WEIGHT;
+	}
+
+	/**
+	 * Compute the characteristics value.
+	 * 
+	 * @return The characteristics value.
+	 */
+	private int computeCharacteristicsValue()
+	{
+		int characteristicsValue = 0;
+		for (int i = 0; i < this.characteristics.length; i++)
+		{
+			characteristicsValue += this.characteristics[i];
+		}
+
+		return characteristicsValue - this.characteristics[Characteristic.HEALTH.ordinal()];
+	}
+
+	/**
+	 * Initialize the characteristics.
+	 */
+	public abstract void initializeCharacteristics();
+
+	/**
+	 * Initialize a characteristic.
+	 * 
+	 * @param characteristic
+	 *            The characteristic to initialize.
+	 * @param value
+	 *            The initial value.
+	 */
+	protected final void initializeCharacteristic(Characteristic characteristic, int value)
+	{
+		this.characteristics[characteristic.ordinal()] = value;
+	}
+
+	/**
+	 * Get the random source used by the special moves of the character.
+	 * 
+	 * @return The random source.
+	 */
+	protected final IRandomSource getRandomSource()
+	{
+		return this.randomSource;
+	}
+
+	/**
+	 * Get a characteristic value.
+	 * 
+	 * @param characteristic
+	 *            The characteristic.
+	 * @return The characteristic value.
+	 */
+	public int getCharacteristic(Characteristic characteristic)
+	{
+		return this.characteristics[characteristic.ordinal()];
+	}
+
+	/**
+	 * Initialize the special moves.
+	 */
+	public abstract void initializeSpecialMoves();
+
+	/**
+	 * Get the type of a special move.
+	 * 
+	 * @param offset
+	 *            The offset of the special move, as in the masks returned by the attacks.
+	 * @return The type of the special move.
+	 */
+	public SpecialMoveType getSpecialMoveType(int offset)
+	{
+		return this.specialMoves.get(offset).getSpecialMoveType();
+	}
+
+	/**
+	 * Check the characteristics.
+	 * 
+	 * @throws TooHighCharacteristicsValueException
+	 *             If the characteristics value is higher than expected : {@value #MAXIMAL_CHARACTERISTICS_VALUE}.
+	 */
+	private void checkCharacteristics() throws TooHighCharacteristicsValueException
+	{
+		final int characteristicsValue = computeCharacteristicsValue();
+		if (characteristicsValue > MAXIMAL_CHARACTERISTICS_VALUE)
+		{
+			throw new TooHighCharacteristicsValueException(String.format("The characteristics value is %d and it is higher than expected : %d", characteristicsValue, MAXIMAL_CHARACTERISTICS_VALUE));
+		}
+	}
+
+	/**
+	 * Check the special moves.
+	 * 
+	 * @throws TooFewSpecialMovesException
+	 *             If there is less than {@value #NB_SPECIAL_MOVES_REQUIRED} special moves.
+	 */
+	private void checkSpecialMoves() throws TooFewSpecialMovesException
+	{
+		final int specialMovesSize = this.specialMoves.size();
+		if (specialMovesSize < NB_SPECIAL_MOVES_REQUIRED)
+		{
+			throw new TooFewSpecialMovesException(String.format("There is only %d special moves on your character and %d are required", specialMovesSize, NB_SPECIAL_MOVES_REQUIRED));
+		}
+	}
+
+	/**
+	 * Check the constraints.
+	 * 
+	 * @throws InvalidConstraintsException
+	 *             If constraints are invalid.
+	 */
+	public abstract void checkConstraints() throws InvalidConstraintsException;
+
+	/**
+	 * Get the health.
+	 * 
+	 * @return The health.
+	 */
+	public int getHealth()
+	{
+		return this.characteristics[Characteristic.HEALTH.ordinal()];
+	}
+
+	/**
+	 * Get the max health.
+	 * 
+	 * @return The max health.
+	 */
+	public int getMaxHealth()
+	{
+		return this.maxHealth;
+	}
+
+	/**
+	 * Get the experience level.
+	 * 
+	 * @return The experience level.
+	 */
+	public int getExperienceLevel()
+	{
+		return this.experienceLevel;
+	}
+
+	/**
+	 * Get the current experience.
+	 * 
+	 * @return The current experience.
+	 */
+	public int getCurrentExperience()
+	{
+		return this.currentExperience;
+	}
+
+	/**
+	 * Restore the combat state of the character, as computed outside of the object model.
+	 * 
+	 * @param computedCharacteristics
+	 *            The characteristics values, indexed by characteristic ordinal.
+	 * @param computedExperience
+	 *            The current experience.
+	 */
+	void restoreCombatState(int[] computedCharacteristics, int computedExperience)
+	{
+		System.arraycopy(computedCharacteristics, 0, this.characteristics, 0, this.characteristics.length);
+		this.characteristicsValue = computeCharacteristicsValue();
+		this.currentExperience = computedExperience;
+	}
+
+	/**
+	 * Restore the whole state of the character, as saved in a snapshot. The inventory must already be restored, the cached values are recomputed.
+	 * 
+	 * @param savedCharacteristics
+	 *            The characteristics values, indexed by characteristic ordinal.
+	 * @param savedMaxHealth
+	 *            The max health.
+	 * @param savedExperienceLevel
+	 *            The experience level.
+	 * @param savedExperience
+	 *            The current experience.
+	 * @param savedEquippedItems
+	 *            The equipped items, in equipment order.
+	 */
+	public void restoreState(int[] savedCharacteristics, int savedMaxHealth, int savedExperienceLevel, int savedExperience, List<EquipableItem> savedEquippedItems)
+	{
+		System.arraycopy(savedCharacteristics, 0, this.characteristics, 0, this.characteristics.length);
+		this.characteristicsValue = computeCharacteristicsValue();
+		this.maxHealth = savedMaxHealth;
+		this.experienceLevel = savedExperienceLevel;
+		this.currentExperience = savedExperience;
+
+		this.equippedItems.clear();
+		this.equippedItems.addAll(savedEquippedItems);
+		this.currentNbWeapon = 0;
+		this.currentNbArmor = 0;
+		this.equippedStrength = 0;
+		this.equippedDefense = 0;
+		this.currentWeight = this.inventory.getWeight();
+		for (EquipableItem currentEquippedItem : this.equippedItems)
+		{
+			if (currentEquippedItem.getEquipableItemType() == EquipableItemType.WEAPON)
+			{
+				this.currentNbWeapon++;
+				this.equippedStrength += currentEquippedItem.getValueByCharacteristic(Characteristic.STRENGTH);
+			}
+			else if (currentEquippedItem.getEquipableItemType() == EquipableItemType.ARMOR)
+			{
+				this.currentNbArmor++;
+				this.equippedDefense += currentEquippedItem.getValueByCharacteristic(Characteristic.DEFENSE);
+			}
+			this.currentWeight += currentEquippedItem.getWeight();
+		}
+
+		assert hasConsistentCachedValues() : "Cached values are inconsistent after restoreState()";
+	}
+
+	/**
+	 * Check if the character is dead.
+	 * 
+	 * @return True if he is dead, else False.
+	 */
+	public boolean isDead()
+	{
+		return (getHealth() <= 0);
+	}
+
+	/**
+	 * Get the name.
+	 * 
+	 * @return The name.
+	 */
+	public String getName()
+	{
+		return this.name;
+	}
+
+	/**
+	 * Attack an another character.
+	 * 
+	 * @param opponent
+	 *            The character which is attacked.
+	 * @return The mask of the special moves of the opponent which have succeeded, where the bit i is set when the special move i has succeeded.
+	 */
+	public int attack(Character opponent)
+	{
+		final AttackEvent attackEvent = new AttackEvent();
+		attackEvent.begin();
+
+		// Roll every special move of the opponent and set up its effects before the fight.
+		boolean hasOpponentParry = false;
+		boolean hasOpponentRunAway = false;
+		boolean hasOpponentHealed = false;
+		int succeededSpecialMoves = 0;
+		final List<ISpecialMove> opponentSpecialMoves = opponent.specialMoves;
+		for (int i = 0; i < opponentSpecialMoves.size(); i++)
+		{
+			final ISpecialMove currentSpecialMove = opponentSpecialMoves.get(i);
+			if (!currentSpecialMove.canSpecialMoveBeUsed())
+			{
+				continue;
+			}
+
+			succeededSpecialMoves |= 1 << i;
+			final SpecialMoveType specialMoveType = currentSpecialMove.getSpecialMoveType();
+			if (specialMoveType == SpecialMoveType.PARRY)
+			{
+				hasOpponentParry = true;
+			}
+			else if (specialMoveType == SpecialMoveType.RUN_AWAY)
+			{
+				hasOpponentRunAway = true;
+			}
+			else if (specialMoveType == SpecialMoveType.HEAL)
+			{
+				opponent.updateCharacteristic(currentSpecialMove.getEffect().getCharacteristic(), currentSpecialMove.getEffect().getValue());
+				hasOpponentHealed = true;
+			}
+		}
+
+		final int damage = processFight(opponent, hasOpponentParry, hasOpponentRunAway);
+
+		if (attackEvent.shouldCommit())
+		{
+			attackEvent.setOutcome(this.name, opponent.name, damage, succeededSpecialMoves, hasOpponentParry, hasOpponentRunAway, hasOpponentHealed, false);
+			attackEvent.commit();
+		}
+
+		return succeededSpecialMoves;
+	}
+
+	/**
+	 * Attack an opponent using precomputed fight outcomes. The special moves of the opponent are drawn at once from the outcome distribution.
+	 * 
+	 * @param opponent
+	 *            The opponent to attack.
+	 * @param fightOutcomeCache
+	 *            The fight outcome cache.
+	 * @return The mask of the special moves of the opponent which have succeeded, where the bit i is set when the special move i has succeeded.
+	 */
+	public int attack(Character opponent, FightOutcomeCache fightOutcomeCache)
+	{
+		final AttackEvent attackEvent = new AttackEvent();
+		attackEvent.begin();
+
+		final FightOutcome fightOutcome = fightOutcomeCache.getFightOutcome(this.computeStrengthValue(), opponent.computeDefenseValue(), opponent.specialMoves);
+		final int outcome = fightOutcome.drawOutcome(opponent.randomSource);
+
+		int healMask = fightOutcome.getHealMask(outcome);
+		while (healMask != 0)
+		{
+			final Effect effect = fightOutcome.getEffect(Integer.numberOfTrailingZeros(healMask));
+			opponent.updateCharacteristic(effect.getCharacteristic(), effect.getValue());
+			healMask &= healMask - 1;
+		}
+
+		final int damage = fightOutcome.getDamage(outcome);
+		if (damage > 0)
+		{
+			opponent.updateCharacteristic(Characteristic.HEALTH, damage * -1);
+			increaseExperience(damage * 3);
+		}
+
+		if (attackEvent.shouldCommit())
+		{
+			final boolean hasOpponentParry = opponent.hasSucceededSpecialMove(outcome, SpecialMoveType.PARRY);
+			final boolean hasOpponentRunAway = opponent.hasSucceededSpecialMove(outcome, SpecialMoveType.RUN_AWAY);
+			final boolean hasOpponentHealed = opponent.hasSucceededSpecialMove(outcome, SpecialMoveType.HEAL);
+			attackEvent.setOutcome(this.name, opponent.name, Math.max(damage, 0), outcome, hasOpponentParry, hasOpponentRunAway, hasOpponentHealed, true);
+			attackEvent.commit();
+		}
+
+		return outcome;
+	}
+
+	/**
+	 * Check if a special move of a given type has succeeded.
+	 * 
+	 * @param succeededSpecialMoves
+	 *            The mask of the succeeded special moves, as returned by the attacks.
+	 * @param specialMoveType
+	 *            The type of special move.
+	 * @return True if a special move of this type has succeeded, else False.
+	 */
+	private boolean hasSucceededSpecialMove(int succeededSpecialMoves, SpecialMoveType specialMoveType)
+	{
+		int remainingSpecialMoves = succeededSpecialMoves;
+		while (remainingSpecialMoves != 0)
+		{
+			if (getSpecialMoveType(Integer.numberOfTrailingZeros(remainingSpecialMoves)) == specialMoveType)
+			{
+				return true;
+			}
+			remainingSpecialMoves &= remainingSpecialMoves - 1;
+		}
+
+		return false;
+	}
+
+	/**
+	 * Process the fight between two opponents.
+	 * 
+	 * @param opponent
+	 *            The opponent.
+	 * @param hasOpponentParry
+	 *            If the opponent has parry.
+	 * @param hasOpponentRunAway
+	 *            If the opponent has run away.
+	 * @return The damage dealt to the opponent.
+	 */
+	private int processFight(Character opponent, boolean hasOpponentParry, boolean hasOpponentRunAway)
+	{
+		if (hasOpponentRunAway)
+		{
+			return 0;
+		}
+
+		final int attackerStrenght = this.computeStrengthValue();
+		final int opponentDefense = opponent.computeDefenseValue();
+		final int damage = (hasOpponentParry ? (attackerStrenght - opponentDefense) / 2 : attackerStrenght - opponentDefense);
+
+		if (damage > 0)
+		{
+			opponent.updateCharacteristic(Characteristic.HEALTH, damage * -1);
+			increaseExperience(damage * 3);
+			return damage;
+		}
+
+		return 0;
+	}
+
+	/**
+	 * Compute the character strength value.
+	 * 
+	 * @return The computed character strength.
+	 */
+	public int computeStrengthValue()
+	{
+		return this.characteristics[Characteristic.STRENGTH.ordinal()] + this.equippedStrength;
+	}
+
+	/**
+	 * Compute the character defense value.
+	 * 
+	 * @return The computed character defense.
+	 */
+	public int computeDefenseValue()
+	{
+		return this.characteristics[Characteristic.DEFENSE.ordinal()] + this.equippedDefense;
+	}
+
+	/**
+	 * Compute the strength or the defense value by scanning all equipped items.
+	 * 
+	 * @param characteristic
+	 *            The characteristic.
+	 * @param equipableItemType
+	 *            The equipable item type.
+	 * @return The computed value.
+	 */
+	private int computeStrengthOrDefenseValue(Characteristic characteristic, EquipableItemType equipableItemType)
+	{
+		final int offset = characteristic.ordinal();
+		int computedValue = this.characteristics[offset];
+
+		for (EquipableItem currentEquippedItem : this.equippedItems)
+		{
+			if (currentEquippedItem.getEquipableItemType() == equipableItemType)
+			{
+				computedValue += currentEquippedItem.getModifier(offset);
+			}
+		}
+
+		return computedValue;
+	}
+
+	/**
+	 * Pick up an item.
+	 * 
+	 * @param item
+	 *            The item to pick up.
+	 * @throws TooHeavyCharacterException
+	 *             If the character is too heavy.
+	 */
+	public void pickUp(EdibleItem item) throws TooHeavyCharacterException
+	{
+		if (this.currentWeight + item.getWeight() > this.maxWeight)
+		{
+			throw new TooHeavyCharacterException("The character can't pick up the item because he will be too heavy");
+		}
+
+		this.inventory.add(item);
+		this.currentWeight += item.getWeight();
+	}
+
+	/**
+	 * Consume an item.
+	 * 
+	 * @param itemToConsume
+	 *            The item to consume.
+	 */
+	public void consumeItem(EdibleItem itemToConsume)
+	{
+		if (this.inventory.remove(itemToConsume))
+		{
+			this.currentWeight -= itemToConsume.getWeight();
+		}
+
+		for (int i = 0; i < CHARACTERISTICS.length; i++)
+		{
+			updateCharacteristic(CHARACTERISTICS[i], this.characteristics[i] + itemToConsume.getModifier(i));
+		}
+		assert hasConsistentCachedValues() : "Cached values are inconsistent after consumeItem()";
+	}
+
+	/**
+	 * Drop an item.
+	 * 
+	 * @param item
+	 *            The item to drop.
+	 */
+	public void dropItem(Item item)
+	{
+		if ((item instanceof EdibleItem) && this.inventory.remove((EdibleItem) item))
+		{
+			this.currentWeight -= item.getWeight();
+		}
+	}
+
+	/**
+	 * Get the inventory.
+	 * 
+	 * @return The inventory.
+	 */
+	public Inventory getInventory()
+	{
+		return this.inventory;
+	}
+
+	/**
+	 * Get the equipped items.
+	 * 
+	 * @return The equipped items, in equipment order.
+	 */
+	public List<EquipableItem> getEquippedItems()
+	{
+		return Collections.unmodifiableList(this.equippedItems);
+	}
+
+	/**
+	 * Equip the character with an equipable item.
+	 * 
+	 * @param equipableItem
+	 *            The equipable item to equip.
+	 * @throws TooHeavyCharacterException
+	 *             If the character is too heavy.
+	 * @throws TooManyArmorsException
+	 *             If the character can't carry more armor.
+	 * @throws TooManyWeaponsException
+	 *             If the character can't carry more weapon.
+	 */
+	public void equipWith(EquipableItem equipableItem) throws TooHeavyCharacterException, TooManyArmorsException, TooManyWeaponsException
+	{
+		if (this.currentWeight + equipableItem.getWeight() > this.maxWeight)
+		{
+			throw new TooHeavyCharacterException("The character can't be equipped with the item because he will be too heavy");
+		}
+
+		final EquipableItemType equipableItemType = equipableItem.getEquipableItemType();
+
+		if (equipableItemType == EquipableItemType.ARMOR)
+		{
+			if (this.currentNbArmor == this.maxNbArmor)
+			{
+				throw new TooManyArmorsException(String.format("The character can't carry more than %d armors", this.maxNbArmor));
+			}
+
+			this.currentNbArmor++;
+			this.equippedDefense += equipableItem.getValueByCharacteristic(Characteristic.DEFENSE);
+		}
+		else if (equipableItemType == EquipableItemType.WEAPON)
+		{
+			if (this.currentNbWeapon == this.maxNbWeapon)
+			{
+				throw new TooManyWeaponsException(String.format("The character can't carry more than %d weapons", this.maxNbWeapon));
+			}
+
+			this.currentNbWeapon++;
+			this.equippedStrength += equipableItem.getValueByCharacteristic(Characteristic.STRENGTH);
+		}
+
+		this.equippedItems.add(equipableItem);
+		this.currentWeight += equipableItem.getWeight();
+
+		assert hasConsistentCachedValues() : "Cached values are inconsistent after equipWith()";
+	}
+
+	/**
+	 * Unequip the character with an equipable item.
+	 * 
+	 * @param equipableItem
+	 *            The equipable item to unequip.
+	 */
+	public void unequipWith(EquipableItem equipableItem)
+	{
+		if (!this.equippedItems.remove(equipableItem))
+		{
+			return;
+		}
+
+		final EquipableItemType equipableItemType = equipableItem.getEquipableItemType();
+
+		if (equipableItemType == EquipableItemType.ARMOR)
+		{
+			this.currentNbArmor--;
+			this.equippedDefense -= equipableItem.getValueByCharacteristic(Characteristic.DEFENSE);
+		}
+		else if (equipableItemType == EquipableItemType.WEAPON)
+		{
+			this.currentNbWeapon--;
+			this.equippedStrength -= equipableItem.getValueByCharacteristic(Characteristic.STRENGTH);
+		}
+
+		this.currentWeight -= equipableItem.getWeight();
+
+		assert hasConsistentCachedValues() : "Cached values are inconsistent after unequipWith()";
+	}
+
+	/**
+	 * Check if the character can level up.
+	 * 
+	 * @return True if the character can level up, else False.
+	 */
+	public boolean canLevelUp()
+	{
+		return (this.currentExperience > (this.experienceLevel * MULTIPLIER_COEFFICIENT_NEXT_LEVEL));
+	}
+
+	/**
+	 * Increase the experience.
+	 * 
+	 * @param experienceToAdd
+	 *            The experience to add.
+	 */
+	private void increaseExperience(int experienceToAdd)
+	{
+		this.currentExperience += experienceToAdd;
+	}
+
+	/**
+	 * Upgrade a characteristic.
+	 * 
+	 * @param characteristic
+	 *            The characteristic to upgrade.
+	 */
+	public void upgradeCharacteristic(Characteristic characteristic)
+	{
+		if (canLevelUp())
+		{
+			final LevelUpEvent levelUpEvent = new LevelUpEvent();
+			levelUpEvent.begin();
+
+			this.experienceLevel++;
+			this.currentExperience -= this.experienceLevel * MULTIPLIER_COEFFICIENT_NEXT_LEVEL;
+			updateCharacteristic(characteristic, CHARACTERIC_VALUE_TO_ADD_ON_LEVEL_UP);
+			this.maxHealth = computeMaxHealthValue();
+
+			if (levelUpEvent.shouldCommit())
+			{
+				levelUpEvent.setOutcome(this.name, characteristic.name(), this.experienceLevel);
+				levelUpEvent.commit();
+			}
+		}
+
+		assert hasConsistentCachedValues() : "Cached values are inconsistent after upgradeCharacteristic()";
+	}
+
+	/**
+	 * Update a characteristic.
+	 * 
+	 * @param characteristic
+	 *            The characteristic to update.
+	 * @param value
+	 *            The value to add or remove.
+	 */
+	private void updateCharacteristic(Characteristic characteristic, int value)
+	{
+		final int offset = characteristic.ordinal();
+		if (characteristic == Characteristic.HEALTH)
+		{
+			final int newHealthValue = this.characteristics[offset] + value;
+			this.characteristics[offset] = (newHealthValue > this.maxHealth ? this.maxHealth : newHealthValue);
+		}
+		else
+		{
+			this.characteristics[offset] += value;
+			this.characteristicsValue += value;
+		}
+	}
+
+	/**
+	 * Check that the cached values match a full recomputation. It is only called when assertions are enabled.
+	 * 
+	 * @return True if the cached values are consistent, else False.
+	 */
+	private boolean hasConsistentCachedValues()
+	{
+		int nbWeapon = 0;
+		int nbArmor = 0;
+		for (EquipableItem currentEquippedItem : this.equippedItems)
+		{
+			if (currentEquippedItem.getEquipableItemType() == EquipableItemType.WEAPON)
+			{
+				nbWeapon++;
+			}
+			else if (currentEquippedItem.getEquipableItemType() == EquipableItemType.ARMOR)
+			{
+				nbArmor++;
+			}
+		}
+
+		return (this.characteristicsValue == computeCharacteristicsValue()) && (computeStrengthValue() == computeStrengthOrDefenseValue(Characteristic.STRENGTH, EquipableItemType.WEAPON)) && (computeDefenseValue() == computeStrengthOrDefenseValue(Characteristic.DEFENSE, EquipableItemType.ARMOR)) && (this.currentNbWeapon == nbWeapon) && (this.currentNbArmor == nbArmor);
+	}
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString()
+	{
+		final StringBuilder stringRepresentation = new StringBuilder();
+		stringRepresentation.append("Character [name=");
+		stringRepresentation.append(this.name);
+		stringRepresentation.append(", characteristics={");
+		for (Characteristic currentCharacteristic : CHARACTERISTICS)
+		{
+			if (currentCharacteristic.ordinal() > 0)
+			{
+				stringRepresentation.append(", ");
+			}
+			stringRepresentation.append(currentCharacteristic);
+			stringRepresentation.append("=");
+			stringRepresentation.append(this.characteristics[currentCharacteristic.ordinal()]);
+		}
+		stringRepresentation.append("}, currentHealth=");
+		stringRepresentation.append(getHealth());
+		stringRepresentation.append(", maxHealth=");
+		stringRepresentation.append(this.maxHealth);
+		stringRepresentation.append(", experienceLevel=");
+		stringRepresentation.append(this.experienceLevel);
+		stringRepresentation.append(", currentExperience=");
+		stringRepresentation.append(this.currentExperience);
+		stringRepresentation.append(", maxWeight=");
+		stringRepresentation.append(this.maxWeight);
+		stringRepresentation.append(", currentWeight=");
+		stringRepresentation.append(this.currentWeight);
+		stringRepresentation.append(", inventory=");
+		stringRepresentation.append(this.inventory);
+		stringRepresentation.append(", specialMoves=");
+		stringRepresentation.append(this.specialMoves);
+		stringRepresentation.append(", equippedItems=");
+		stringRepresentation.append(this.equippedItems);
+		stringRepresentation.append(", currentNbWeapon=");
+		stringRepresentation.append(this.currentNbWeapon);
+		stringRepresentation.append(", currentNbArmor=");
+		stringRepresentation.append(this.currentNbArmor);
+		stringRepresentation.append("]");
+
+		return stringRepresentation.toString();
+	}
+}
@@ -0,0 +1,575 @@
+package fr.polytech.myrpg.characters;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import fr.polytech.myrpg.characters.items.edible.Effect;
+import fr.polytech.myrpg.characters.specialmove.ISpecialMove;
+import fr.polytech.myrpg.characters.specialmove.SpecialMoveType;
+import fr.polytech.myrpg.random.IRandomSource;
+
+/**
+ * This class represents a columnar table of characters.
+ *
+ * Each character is a row and each combat value is stored in its own primitive column, so that large battles can be resolved in tight loops without walking the object model. The table applies the same rules as {@link Character#attack(Character)} and can write its results back to the characters it was built from.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public class CharacterTable
+{
+	/**
+	 * The default capacity of the table.
+	 */
+	public static final int DEFAULT_CAPACITY = 16;
+
+	/**
+	 * The bit set in a special move mask when the opponent has parry.
+	 */
+	public static final int PARRY_MASK = 1;
+
+	/**
+	 * The bit set in a special move mask when the opponent has run away.
+	 */
+	public static final int RUN_AWAY_MASK = 2;
+
+	/**
+	 * The value used when a special move has no effect.
+	 */
+	private static final byte NO_EFFECT = -1;
+
+	/**
+	 * All available characteristics, indexed by ordinal.
+	 */
+	private static final Characteristic[] CHARACTERISTICS = Characteristic.values();
+
+	/**
+	 * The random source used to roll special moves.
+	 */
+	private final IRandomSource randomSource;
+
+	/**
+	 * The characters of the table, indexed by row.
+	 */
+	private final List<Character> characters;
+
+	/**
+	 * The characteristics columns, indexed by characteristic ordinal then by row.
+	 */
+	private final int[][] characteristics;
+
+	/**
+	 * The max health column.
+	 */
+	private int[] maxHealth;
+
+	/**
+	 * The current experience column.
+	 */
+	private int[] experience;
+
+	/**
+	 * The strength bonus given by equipped weapons column.
+	 */
+	private int[] weaponBonus;
+
+	/**
+	 * The defense bonus given by equipped armors column.
+	 */
+	private int[] armorBonus;
+
+	/**
+	 * The offset of the first special move of each row.
+	 */
+	private int[] specialMoveOffsets;
+
+	/**
+	 * The number of special moves of each row.
+	 */
+	private int[] specialMoveCounts;
+
+	/**
+	 * The probability of success of each special move.
+	 */
+	private double[] specialMoveProbabilities;
+
+	/**
+	 * The type ordinal of each special move.
+	 */
+	private byte[] specialMoveTypes;
+
+	/**
+	 * The characteristic ordinal affected by each special move, or {@value #NO_EFFECT}.
+	 */
+	private byte[] specialMoveEffectCharacteristics;
+
+	/**
+	 * The effect value of each special move.
+	 */
+	private int[] specialMoveEffectValues;
+
+	/**
+	 * The number of rows.
+	 */
+	private int size;
+
+	/**
+	 * The number of special moves.
+	 */
+	private int nbSpecialMoves;
+
+	/**
+	 * The attacker strengths of the current attack wave.
+	 */
+	private int[] waveStrengths;
+
+	/**
+	 * The opponent defenses of the current attack wave.
+	 */
+	private int[] waveDefenses;
+
+	/**
+	 * The special move masks of the current attack wave.
+	 */
+	private int[] waveSpecialMoveMasks;
+
+	/**
+	 * The damages of the current attack wave.
+	 */
+	private int[] waveDamages;
+
+	/**
+	 * Create a character table.
+	 * 
+	 * @param randomSource
+	 *            The random source used to roll special moves.
+	 */
+	public CharacterTable(IRandomSource randomSource)
+	{
+		this(DEFAULT_CAPACITY, randomSource);
+	}
+
+	/**
+	 * Create a character table.
+	 * 
+	 * @param capacity
+	 *            The initial number of rows.
+	 * @param randomSource
+	 *            The random source used to roll special moves.
+	 */
+	public CharacterTable(int capacity, IRandomSource randomSource)
+	{
+		final int initialCapacity = Math.max(capacity, 1);
+
+		this.randomSource = randomSource;
+		this.characters = new ArrayList<Character>(initialCapacity);
+		this.characteristics = new int[CHARACTERISTICS.length][initialCapacity];
+		this.maxHealth = new int[initialCapacity];
+		this.experience = new int[initialCapacity];
+		this.weaponBonus = new int[initialCapacity];
+		this.armorBonus = new int[initialCapacity];
+		this.specialMoveOffsets = new int[initialCapacity];
+		this.specialMoveCounts = new int[initialCapacity];
+		this.specialMoveProbabilities = new double[initialCapacity * Character.NB_SPECIAL_MOVES_REQUIRED];
+		this.specialMoveTypes = new byte[initialCapacity * Character.NB_SPECIAL_MOVES_REQUIRED];
+		this.specialMoveEffectCharacteristics = new byte[initialCapacity * Character.NB_SPECIAL_MOVES_REQUIRED];
+		this.specialMoveEffectValues = new int[initialCapacity * Character.NB_SPECIAL_MOVES_REQUIRED];
+		this.size = 0;
+		this.nbSpecialMoves = 0;
+		this.waveStrengths = new int[0];
+		this.waveDefenses = new int[0];
+		this.waveSpecialMoveMasks = new int[0];
+		this.waveDamages = new int[0];
+	}
+
+	/**
+	 * Add a character to the table.
+	 * 
+	 * @param character
+	 *            The character to add.
+	 * @return The row of the character.
+	 */
+	public int addCharacter(Character character)
+	{
+		ensureRowCapacity(this.size + 1);
+		ensureSpecialMoveCapacity(this.nbSpecialMoves + character.specialMoves.size());
+
+		final int row = this.size++;
+		this.characters.add(character);
+
+		for (Characteristic currentCharacteristic : CHARACTERISTICS)
+		{
+			this.characteristics[currentCharacteristic.ordinal()][row] = character.getCharacteristic(currentCharacteristic);
+		}
+
+		this.maxHealth[row] = character.getMaxHealth();
+		this.experience[row] = character.getCurrentExperience();
+		this.weaponBonus[row] = character.computeStrengthValue() - character.getCharacteristic(Characteristic.STRENGTH);
+		this.armorBonus[row] = character.computeDefenseValue() - character.getCharacteristic(Characteristic.DEFENSE);
+
+		this.specialMoveOffsets[row] = this.nbSpecialMoves;
+		this.specialMoveCounts[row] = character.specialMoves.size();
+		for (ISpecialMove currentSpecialMove : character.specialMoves)
+		{
+			final int specialMoveOffset = this.nbSpecialMoves++;
+			final Effect effect = currentSpecialMove.getEffect();
+
+			this.specialMoveProbabilities[specialMoveOffset] = currentSpecialMove.getProbabilityOfSuccess();
+			this.specialMoveTypes[specialMoveOffset] = (byte) currentSpecialMove.getSpecialMoveType().ordinal();
+			this.specialMoveEffectCharacteristics[specialMoveOffset] = (effect == null ? NO_EFFECT : (byte) effect.getCharacteristic().ordinal());
+			this.specialMoveEffectValues[specialMoveOffset] = (effect == null ? 0 : effect.getValue());
+		}
+
+		return row;
+	}
+
+	/**
+	 * Get the number of rows.
+	 * 
+	 * @return The number of rows.
+	 */
+	public int size()
+	{
+		return this.size;
+	}
+
+	/**
+	 * Get the character of a row.
+	 * 
+	 * @param row
+	 *            The row.
+	 * @return The corresponding character.
+	 */
+	public Character getCharacter(int row)
+	{
+		return this.characters.get(row);
+	}
+
+	/**
+	 * Get the health of a row.
+	 * 
+	 * @param row
+	 *            The row.
+	 * @return The health.
+	 */
+	public int getHealth(int row)
+	{
+		return this.characteristics[Characteristic.HEALTH.ordinal()][row];
+	}
+
+	/**
+	 * Get the current experience of a row.
+	 * 
+	 * @param row
+	 *            The row.
+	 * @return The current experience.
+	 */
+	public int getExperience(int row)
+	{
+		return this.experience[row];
+	}
+
+	/**
+	 * Check if the character of a row is dead.
+	 * 
+	 * @param row
+	 *            The row.
+	 * @return True if he is dead, else False.
+	 */
+	public boolean isDead(int row)
+	{
+		return (getHealth(row) <= 0);
+	}
+
+	/**
+	 * Attack an another row, with the same rules as {@link Character#attack(Character)}.
+	 * 
+	 * @param attackerRow
+	 *            The row which attacks.
+	 * @param opponentRow
+	 *            The row which is attacked.
+	 */
+	public void attack(int attackerRow, int opponentRow)
+	{
+		final int specialMoveMask = rollSpecialMoves(opponentRow);
+
+		processFight(attackerRow, opponentRow, (specialMoveMask & PARRY_MASK) != 0, (specialMoveMask & RUN_AWAY_MASK) != 0);
+	}
+
+	/**
+	 * Roll every special move of a row and apply its heals.
+	 * 
+	 * @param opponentRow
+	 *            The row which is attacked.
+	 * @return The special move mask, made of {@link #PARRY_MASK} and {@link #RUN_AWAY_MASK}.
+	 */
+	public int rollSpecialMoves(int opponentRow)
+	{
+		int specialMoveMask = 0;
+
+		final int lastSpecialMoveOffset = this.specialMoveOffsets[opponentRow] + this.specialMoveCounts[opponentRow];
+		for (int specialMoveOffset = this.specialMoveOffsets[opponentRow]; specialMoveOffset < lastSpecialMoveOffset; specialMoveOffset++)
+		{
+			if (this.randomSource.nextDouble() < this.specialMoveProbabilities[specialMoveOffset])
+			{
+				final int specialMoveType = this.specialMoveTypes[specialMoveOffset];
+				if (specialMoveType == SpecialMoveType.PARRY.ordinal())
+				{
+					specialMoveMask |= PARRY_MASK;
+				}
+				else if (specialMoveType == SpecialMoveType.RUN_AWAY.ordinal())
+				{
+					specialMoveMask |= RUN_AWAY_MASK;
+				}
+				else if ((specialMoveType == SpecialMoveType.HEAL.ordinal()) && (this.specialMoveEffectCharacteristics[specialMoveOffset] != NO_EFFECT))
+				{
+					updateCharacteristic(opponentRow, this.specialMoveEffectCharacteristics[specialMoveOffset], this.specialMoveEffectValues[specialMoveOffset]);
+				}
+			}
+		}
+
+		return specialMoveMask;
+	}
+
+	/**
+	 * Make every attacker attack its opponent, in order.
+	 * 
+	 * @param attackerRows
+	 *            The rows which attack.
+	 * @param opponentRows
+	 *            The rows which are attacked, one per attacker.
+	 * @param length
+	 *            The number of attacks.
+	 */
+	public void attack(int[] attackerRows, int[] opponentRows, int length)
+	{
+		for (int i = 0; i < length; i++)
+		{
+			if (!isDead(attackerRows[i]) && !isDead(opponentRows[i]))
+			{
+				attack(attackerRows[i], opponentRows[i]);
+			}
+		}
+	}
+
+	/**
+	 * Make every attacker attack its opponent at once, as a single wave.
+	 * 
+	 * Unlike {@link #attack(int[], int[], int)}, every row alive when the wave starts attacks, even if it is killed by an earlier attack of the same wave. The special
+	 * moves are rolled first, then the damages are computed by {@link #computeDamages(int[], int[], int[], int[], int)} and the health and experience are updated in
+	 * one pass.
+	 * 
+	 * @param attackerRows
+	 *            The rows which attack.
+	 * @param opponentRows
+	 *            The rows which are attacked, one per attacker.
+	 * @param length
+	 *            The number of attacks.
+	 */
+	public void attackWave(int[] attackerRows, int[] opponentRows, int length)
+	{
+		ensureWaveCapacity(length);
+
+		final int[] strengths = this.waveStrengths;
+		final int[] defenses = this.waveDefenses;
+		final int[] specialMoveMasks = this.waveSpecialMoveMasks;
+		final int[] damages = this.waveDamages;
+
+		for (int i = 0; i < length; i++)
+		{
+			// A dead attacker or opponent is handled as a run away, which deals no damage.
+			specialMoveMasks[i] = (isDead(attackerRows[i]) || isDead(opponentRows[i]) ? RUN_AWAY_MASK : rollSpecialMoves(opponentRows[i]));
+		}
+
+		final int[] strengthColumn = this.characteristics[Characteristic.STRENGTH.ordinal()];
+		final int[] defenseColumn = this.characteristics[Characteristic.DEFENSE.ordinal()];
+		for (int i = 0; i < length; i++)
+		{
+			strengths[i] = strengthColumn[attackerRows[i]] + this.weaponBonus[attackerRows[i]];
+			defenses[i] = defenseColumn[opponentRows[i]] + this.armorBonus[opponentRows[i]];
+		}
+
+		computeDamages(strengths, defenses, specialMoveMasks, damages, length);
+
+		final int[] healthColumn = this.characteristics[Characteristic.HEALTH.ordinal()];
+		for (int i = 0; i < length; i++)
+		{
+			healthColumn[opponentRows[i]] -= damages[i];
+			this.experience[attackerRows[i]] += damages[i] * 3;
+		}
+	}
+
+	/**
+	 * Compute the damages of many fights, with the same rules as {@link #processFight(int, int, boolean, boolean)}.
+	 * 
+	 * The loop only uses bitwise selections instead of branches, divisions or multiplications, and only reads and writes int arrays at the same index, so that the JIT
+	 * compiler can vectorize it.
+	 * 
+	 * @param attackerStrengths
+	 *            The strength of each attacker.
+	 * @param opponentDefenses
+	 *            The defense of each opponent.
+	 * @param specialMoveMasks
+	 *            The special move mask of each opponent, made of {@link #PARRY_MASK} and {@link #RUN_AWAY_MASK}.
+	 * @param damages
+	 *            The computed damages, 0 when no damage is dealt.
+	 * @param length
+	 *            The number of fights.
+	 */
+	public static void computeDamages(int[] attackerStrengths, int[] opponentDefenses, int[] specialMoveMasks, int[] damages, int length)
+	{
+		for (int i = 0; i < length; i++)
+		{
+			final int difference = attackerStrengths[i] - opponentDefenses[i];
+
+			// All bits set when the opponent has parry, and all bits set when it hasn't run away.
+			final int parryBits = -(specialMoveMasks[i] & PARRY_MASK);
+			final int notRunAwayBits = ((specialMoveMasks[i] & RUN_AWAY_MASK) >> 1) - 1;
+
+			// A parry halves the difference, rounded toward zero as the integer division does.
+			final int halfDifference = (difference + (difference >>> 31)) >> 1;
+			final int damage = ((halfDifference & parryBits) | (difference & ~parryBits)) & notRunAwayBits;
+
+			// Clamp the negative damages to 0.
+			damages[i] = damage & ~(damage >> 31);
+		}
+	}
+
+	/**
+	 * Process the fight between two rows, with the same rules as {@link Character#attack(Character)}.
+	 * 
+	 * @param attackerRow
+	 *            The attacker row.
+	 * @param opponentRow
+	 *            The opponent row.
+	 * @param hasOpponentParry
+	 *            If the opponent has parry.
+	 * @param hasOpponentRunAway
+	 *            If the opponent has run away.
+	 */
+	public void processFight(int attackerRow, int opponentRow, boolean hasOpponentParry, boolean hasOpponentRunAway)
+	{
+		if (hasOpponentRunAway)
+		{
+			return;
+		}
+
+		final int attackerStrength = this.characteristics[Characteristic.STRENGTH.ordinal()][attackerRow] + this.weaponBonus[attackerRow];
+		final int opponentDefense = this.characteristics[Characteristic.DEFENSE.ordinal()][opponentRow] + this.armorBonus[opponentRow];
+		final int damage = (hasOpponentParry ? (attackerStrength - opponentDefense) / 2 : attackerStrength - opponentDefense);
+
+		if (damage > 0)
+		{
+			this.characteristics[Characteristic.HEALTH.ordinal()][opponentRow] -= damage;
+			this.experience[attackerRow] += damage * 3;
+		}
+	}
+
+	/**
+	 * Write the state of every row back to its character. The characters are not attached to their players, so the teams holding them must then be told, else their
+	 * aggregates and target indexes are outdated.
+	 */
+	public void writeBack()
+	{
+		final int[] computedCharacteristics = new int[CHARACTERISTICS.length];
+		for (int row = 0; row < this.size; row++)
+		{
+			for (int i = 0; i < CHARACTERISTICS.length; i++)
+			{
+				computedCharacteristics[i] = this.characteristics[i][row];
+			}
+
+			this.characters.get(row).restoreCombatState(computedCharacteristics, this.experience[row]);
+		}
+	}
+
+	/**
+	 * Update a characteristic of a row.
+	 * 
+	 * @param row
+	 *            The row.
+	 * @param characteristicOrdinal
+	 *            The ordinal of the characteristic to update.
+	 * @param value
+	 *            The value to add or remove.
+	 */
+	private void updateCharacteristic(int row, int characteristicOrdinal, int value)
+	{
+		final int[] column = this.characteristics[characteristicOrdinal];
+		if (characteristicOrdinal == Characteristic.HEALTH.ordinal())
+		{
+			final int newHealthValue = column[row] + value;
+			column[row] = (newHealthValue > this.maxHealth[row] ? this.maxHealth[row] : newHealthValue);
+		}
+		else
+		{
+			column[row] += value;
+		}
+	}
+
+	/**
+	 * Ensure that the row columns can hold the given number of rows.
+	 * 
+	 * @param capacity
+	 *            The required number of rows.
+	 */
+	private void ensureRowCapacity(int capacity)
+	{
+		if (capacity <= this.maxHealth.length)
+		{
+			return;
+		}
+
+		final int newCapacity = Math.max(capacity, this.maxHealth.length * 2);
+		for (int i = 0; i < this.characteristics.length; i++)
+		{
+			this.characteristics[i] = Arrays.copyOf(this.characteristics[i], newCapacity);
+		}
+		this.maxHealth = Arrays.copyOf(this.maxHealth, newCapacity);
+		this.experience = Arrays.copyOf(this.experience, newCapacity);
+		this.weaponBonus = Arrays.copyOf(this.weaponBonus, newCapacity);
+		this.armorBonus = Arrays.copyOf(this.armorBonus, newCapacity);
+		this.specialMoveOffsets = Arrays.copyOf(this.specialMoveOffsets, newCapacity);
+		this.specialMoveCounts = Arrays.copyOf(this.specialMoveCounts, newCapacity);
+	}
+
+	/**
+	 * Ensure that the attack wave arrays can hold the given number of attacks.
+	 * 
+	 * @param capacity
+	 *            The required number of attacks.
+	 */
+	private void ensureWaveCapacity(int capacity)
+	{
+		if (capacity <= this.waveDamages.length)
+		{
+			return;
+		}
+
+		this.waveStrengths = new int[capacity];
+		this.waveDefenses = new int[capacity];
+		this.waveSpecialMoveMasks = new int[capacity];
+		this.waveDamages = new int[capacity];
+	}
+
+	/**
+	 * Ensure that the special move columns can hold the given number of special moves.
+	 * 
+	 * @param capacity
+	 *            The required number of special moves.
+	 */
+	private void ensureSpecialMoveCapacity(int capacity)
+	{
+		if (capacity <= this.specialMoveProbabilities.length)
+		{
+			return;
+		}
+
+		final int newCapacity = Math.max(capacity, this.specialMoveProbabilities.length * 2);
+		this.specialMoveProbabilities = Arrays.copyOf(this.specialMoveProbabilities, newCapacity);
+		this.specialMoveTypes = Arrays.copyOf(this.specialMoveTypes, newCapacity);
+		this.specialMoveEffectCharacteristics = Arrays.copyOf(this.specialMoveEffectCharacteristics, newCapacity);
+		this.specialMoveEffectValues = Arrays.copyOf(this.specialMoveEffectValues, newCapacity);
+	}
+}
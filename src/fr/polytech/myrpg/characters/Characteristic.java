@@ -1,30 +1,30 @@
-package fr.polytech.myrpg.characters;
-
-/**
- * This enumeration represents all available characteristics.
- *
- * @author DELORME Loïc
- * @since 1.0.0
- */
-public enum Characteristic
-{
-    /**
-     * The strength of the character.
-     */
-	STRENGTH,
-
-	/**
-	 * The dexterity of the character.
-	 */
-	DEXTERITY,
-
-	/**
-	 * The defense of the character.
-	 */
-	DEFENSE,
-
-	/**
-	 * The health of the character.
-	 */
-	HEALTH;
-}
+package fr.polytech.myrpg.characters;
+
+/**
+ * This enumeration represents all available characteristics.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public enum Characteristic
+{
+    /**
+     * The strength of the character.
+     */
+	STRENGTH,
+
+	/**
+	 * The dexterity of the character.
+	 */
+	DEXTERITY,
+
+	/**
+	 * The defense of the character.
+	 */
+	DEFENSE,
+
+	/**
+	 * The health of the character.
+	 */
+	HEALTH;
+}
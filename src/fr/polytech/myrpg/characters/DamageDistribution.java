@@ -0,0 +1,158 @@
+package fr.polytech.myrpg.characters;
+
+import java.util.Arrays;
+
+/**
+ * This class represents the exact damage distribution of one attack.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public class DamageDistribution
+{
+	/**
+	 * The possible damage values, in ascending order.
+	 */
+	private final int[] damageValues;
+
+	/**
+	 * The probability of each damage value.
+	 */
+	private final double[] probabilities;
+
+	/**
+	 * The expected damage.
+	 */
+	private final double expectedDamage;
+
+	/**
+	 * The probability to kill the opponent.
+	 */
+	private final double killProbability;
+
+	/**
+	 * Create a damage distribution.
+	 * 
+	 * @param damageValues
+	 *            The possible damage values, in ascending order.
+	 * @param probabilities
+	 *            The probability of each damage value.
+	 * @param killProbability
+	 *            The probability to kill the opponent.
+	 */
+	public DamageDistribution(int[] damageValues, double[] probabilities, double killProbability)
+	{
+		if (damageValues.length != probabilities.length)
+		{
+			throw new IllegalArgumentException("The damage values and the probabilities must have the same length!");
+		}
+
+		double expectedDamage = 0;
+		for (int i = 0; i < damageValues.length; i++)
+		{
+			expectedDamage += damageValues[i] * probabilities[i];
+		}
+
+		this.damageValues = damageValues;
+		this.probabilities = probabilities;
+		this.expectedDamage = expectedDamage;
+		this.killProbability = killProbability;
+	}
+
+	/**
+	 * Get the number of possible damage values.
+	 * 
+	 * @return The number of possible damage values.
+	 */
+	public int getNbDamageValues()
+	{
+		return this.damageValues.length;
+	}
+
+	/**
+	 * Get a possible damage value.
+	 * 
+	 * @param offset
+	 *            The offset, the values are in ascending order.
+	 * @return The damage value.
+	 */
+	public int getDamageValue(int offset)
+	{
+		return this.damageValues[offset];
+	}
+
+	/**
+	 * Get the probability of a possible damage value.
+	 * 
+	 * @param offset
+	 *            The offset, the values are in ascending order.
+	 * @return The probability.
+	 */
+	public double getProbability(int offset)
+	{
+		return this.probabilities[offset];
+	}
+
+	/**
+	 * Get the probability to deal exactly a damage.
+	 * 
+	 * @param damage
+	 *            The damage.
+	 * @return The probability, 0 if this damage can't be dealt.
+	 */
+	public double getProbabilityOfDamage(int damage)
+	{
+		final int offset = Arrays.binarySearch(this.damageValues, damage);
+		return (offset >= 0 ? this.probabilities[offset] : 0);
+	}
+
+	/**
+	 * Get the expected damage.
+	 * 
+	 * @return The expected damage.
+	 */
+	public double getExpectedDamage()
+	{
+		return this.expectedDamage;
+	}
+
+	/**
+	 * Get the expected experience gained by the attacker.
+	 * 
+	 * @return The expected experience.
+	 */
+	public double getExpectedExperience()
+	{
+		return this.expectedDamage * 3;
+	}
+
+	/**
+	 * Get the probability to kill the opponent.
+	 * 
+	 * @return The kill probability.
+	 */
+	public double getKillProbability()
+	{
+		return this.killProbability;
+	}
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString()
+	{
+		final StringBuilder stringRepresentation = new StringBuilder();
+		stringRepresentation.append("DamageDistribution [damageValues=");
+		stringRepresentation.append(Arrays.toString(this.damageValues));
+		stringRepresentation.append(", probabilities=");
+		stringRepresentation.append(Arrays.toString(this.probabilities));
+		stringRepresentation.append(", expectedDamage=");
+		stringRepresentation.append(this.expectedDamage);
+		stringRepresentation.append(", killProbability=");
+		stringRepresentation.append(this.killProbability);
+		stringRepresentation.append("]");
+
+		return stringRepresentation.toString();
+	}
+}
@@ -0,0 +1,160 @@
+package fr.polytech.myrpg.characters;
+
+import java.util.Arrays;
+
+import fr.polytech.myrpg.characters.items.edible.Effect;
+
+/**
+ * This class represents a calculator of the exact outcome of an attack.
+ *
+ * The special moves of the opponent are independent Bernoulli trials, so the damage distribution of an attack is computed exactly by enumerating every combination of
+ * succeeded special moves, without rolling any dice.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public class FightCalculator
+{
+	/**
+	 * The fight outcome cache, or null to compute the fight outcomes each time.
+	 */
+	private final FightOutcomeCache fightOutcomeCache;
+
+	/**
+	 * Create a fight calculator which computes the fight outcomes each time.
+	 */
+	public FightCalculator()
+	{
+		this(null);
+	}
+
+	/**
+	 * Create a fight calculator.
+	 * 
+	 * @param fightOutcomeCache
+	 *            The fight outcome cache, or null to compute the fight outcomes each time.
+	 */
+	public FightCalculator(FightOutcomeCache fightOutcomeCache)
+	{
+		this.fightOutcomeCache = fightOutcomeCache;
+	}
+
+	/**
+	 * Compute the exact damage distribution of an attack.
+	 * 
+	 * @param attacker
+	 *            The attacker.
+	 * @param opponent
+	 *            The opponent.
+	 * @return The damage distribution.
+	 */
+	public DamageDistribution computeDamageDistribution(Character attacker, Character opponent)
+	{
+		final int attackerStrength = attacker.computeStrengthValue();
+		final int opponentDefense = opponent.computeDefenseValue();
+		final FightOutcome fightOutcome = (this.fightOutcomeCache == null ? new FightOutcome(attackerStrength, opponentDefense, opponent.specialMoves)
+				: this.fightOutcomeCache.getFightOutcome(attackerStrength, opponentDefense, opponent.specialMoves));
+
+		final int nbOutcomes = fightOutcome.getNbOutcomes();
+		final int[] damageValues = new int[nbOutcomes];
+		final double[] probabilities = new double[nbOutcomes];
+		int nbDamageValues = 0;
+		double killProbability = 0;
+
+		for (int outcome = 0; outcome < nbOutcomes; outcome++)
+		{
+			final double probability = fightOutcome.getProbability(outcome);
+			if (probability <= 0)
+			{
+				continue;
+			}
+
+			final int damage = fightOutcome.getDamage(outcome);
+			if (computeHealthAfterHeals(fightOutcome, outcome, opponent) - damage <= 0)
+			{
+				killProbability += probability;
+			}
+
+			// Insertion into the sorted damage values, there are only a few of them.
+			int offset = nbDamageValues - 1;
+			while ((offset >= 0) && (damageValues[offset] > damage))
+			{
+				offset--;
+			}
+
+			if ((offset >= 0) && (damageValues[offset] == damage))
+			{
+				probabilities[offset] += probability;
+			}
+			else
+			{
+				System.arraycopy(damageValues, offset + 1, damageValues, offset + 2, nbDamageValues - offset - 1);
+				System.arraycopy(probabilities, offset + 1, probabilities, offset + 2, nbDamageValues - offset - 1);
+				damageValues[offset + 1] = damage;
+				probabilities[offset + 1] = probability;
+				nbDamageValues++;
+			}
+		}
+
+		return new DamageDistribution(Arrays.copyOf(damageValues, nbDamageValues), Arrays.copyOf(probabilities, nbDamageValues), killProbability);
+	}
+
+	/**
+	 * Compute the expected damage of an attack.
+	 * 
+	 * @param attacker
+	 *            The attacker.
+	 * @param opponent
+	 *            The opponent.
+	 * @return The expected damage.
+	 */
+	public double computeExpectedDamage(Character attacker, Character opponent)
+	{
+		return computeDamageDistribution(attacker, opponent).getExpectedDamage();
+	}
+
+	/**
+	 * Compute the probability to kill the opponent in one attack.
+	 * 
+	 * @param attacker
+	 *            The attacker.
+	 * @param opponent
+	 *            The opponent.
+	 * @return The kill probability.
+	 */
+	public double computeKillProbability(Character attacker, Character opponent)
+	{
+		return computeDamageDistribution(attacker, opponent).getKillProbability();
+	}
+
+	/**
+	 * Compute the health of the opponent once the heals of an outcome are applied, the same way as the attack does.
+	 * 
+	 * @param fightOutcome
+	 *            The fight outcome.
+	 * @param outcome
+	 *            The outcome.
+	 * @param opponent
+	 *            The opponent.
+	 * @return The health of the opponent before the damage.
+	 */
+	private static int computeHealthAfterHeals(FightOutcome fightOutcome, int outcome, Character opponent)
+	{
+		final int maxHealth = opponent.getMaxHealth();
+		int health = opponent.getHealth();
+
+		int healMask = fightOutcome.getHealMask(outcome);
+		while (healMask != 0)
+		{
+			final Effect effect = fightOutcome.getEffect(Integer.numberOfTrailingZeros(healMask));
+			if (effect.getCharacteristic() == Characteristic.HEALTH)
+			{
+				health = Math.min(health + effect.getValue(), maxHealth);
+			}
+
+			healMask &= healMask - 1;
+		}
+
+		return health;
+	}
+}
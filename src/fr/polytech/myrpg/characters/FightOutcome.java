@@ -0,0 +1,277 @@
+package fr.polytech.myrpg.characters;
+
+import java.util.List;
+
+import fr.polytech.myrpg.characters.items.edible.Effect;
+import fr.polytech.myrpg.characters.specialmove.ISpecialMove;
+import fr.polytech.myrpg.characters.specialmove.SpecialMoveType;
+import fr.polytech.myrpg.random.IRandomSource;
+
+/**
+ * This class represents the precomputed outcome of a fight between an attacker strength and an opponent defense and special moves.
+ *
+ * Each combination of succeeded special moves is an outcome, stored as a bit mask where the bit i is set when the special move i has succeeded. The damage and the
+ * cumulative probability of each outcome are computed once, so that an attack only needs one random draw instead of one per special move.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public class FightOutcome
+{
+	/**
+	 * The attacker strength.
+	 */
+	private final int attackerStrength;
+
+	/**
+	 * The opponent defense.
+	 */
+	private final int opponentDefense;
+
+	/**
+	 * The probability of success of each special move.
+	 */
+	private final double[] probabilitiesOfSuccess;
+
+	/**
+	 * The type of each special move.
+	 */
+	private final SpecialMoveType[] specialMoveTypes;
+
+	/**
+	 * The effect of each special move.
+	 */
+	private final Effect[] effects;
+
+	/**
+	 * The cumulative probability of each outcome.
+	 */
+	private final double[] cumulativeProbabilities;
+
+	/**
+	 * The damage dealt to the opponent for each outcome.
+	 */
+	private final int[] damages;
+
+	/**
+	 * The mask of the succeeded heal special moves for each outcome.
+	 */
+	private final int[] healMasks;
+
+	/**
+	 * Create a fight outcome.
+	 * 
+	 * @param attackerStrength
+	 *            The attacker strength.
+	 * @param opponentDefense
+	 *            The opponent defense.
+	 * @param opponentSpecialMoves
+	 *            The opponent special moves.
+	 */
+	public FightOutcome(int attackerStrength, int opponentDefense, List<ISpecialMove> opponentSpecialMoves)
+	{
+		final int nbSpecialMoves = opponentSpecialMoves.size();
+		final int nbOutcomes = 1 << nbSpecialMoves;
+
+		this.attackerStrength = attackerStrength;
+		this.opponentDefense = opponentDefense;
+		this.probabilitiesOfSuccess = new double[nbSpecialMoves];
+		this.specialMoveTypes = new SpecialMoveType[nbSpecialMoves];
+		this.effects = new Effect[nbSpecialMoves];
+		this.cumulativeProbabilities = new double[nbOutcomes];
+		this.damages = new int[nbOutcomes];
+		this.healMasks = new int[nbOutcomes];
+
+		for (int i = 0; i < nbSpecialMoves; i++)
+		{
+			final ISpecialMove currentSpecialMove = opponentSpecialMoves.get(i);
+			this.probabilitiesOfSuccess[i] = currentSpecialMove.getProbabilityOfSuccess();
+			this.specialMoveTypes[i] = currentSpecialMove.getSpecialMoveType();
+			this.effects[i] = currentSpecialMove.getEffect();
+		}
+
+		double cumulativeProbability = 0;
+		for (int outcome = 0; outcome < nbOutcomes; outcome++)
+		{
+			double probability = 1;
+			boolean hasOpponentParry = false;
+			boolean hasOpponentRunAway = false;
+			int healMask = 0;
+			int healedDefense = 0;
+
+			for (int i = 0; i < nbSpecialMoves; i++)
+			{
+				if ((outcome & (1 << i)) == 0)
+				{
+					probability *= 1 - this.probabilitiesOfSuccess[i];
+					continue;
+				}
+
+				probability *= this.probabilitiesOfSuccess[i];
+				if (this.specialMoveTypes[i] == SpecialMoveType.PARRY)
+				{
+					hasOpponentParry = true;
+				}
+				else if (this.specialMoveTypes[i] == SpecialMoveType.RUN_AWAY)
+				{
+					hasOpponentRunAway = true;
+				}
+				else if (this.specialMoveTypes[i] == SpecialMoveType.HEAL)
+				{
+					healMask |= 1 << i;
+					if ((this.effects[i] != null) && (this.effects[i].getCharacteristic() == Characteristic.DEFENSE))
+					{
+						// The heals are applied before the fight, so a heal on the defense reduces the damage.
+						healedDefense += this.effects[i].getValue();
+					}
+				}
+			}
+
+			final int defense = opponentDefense + healedDefense;
+			final int damage = (hasOpponentParry ? (attackerStrength - defense) / 2 : attackerStrength - defense);
+
+			cumulativeProbability += probability;
+			this.cumulativeProbabilities[outcome] = cumulativeProbability;
+			this.damages[outcome] = (hasOpponentRunAway || damage < 0 ? 0 : damage);
+			this.healMasks[outcome] = healMask;
+		}
+	}
+
+	/**
+	 * Check if this fight outcome has been computed for the given combat state.
+	 * 
+	 * @param attackerStrength
+	 *            The attacker strength.
+	 * @param opponentDefense
+	 *            The opponent defense.
+	 * @param opponentSpecialMoves
+	 *            The opponent special moves.
+	 * @return True if it matches, else False.
+	 */
+	public boolean matches(int attackerStrength, int opponentDefense, List<ISpecialMove> opponentSpecialMoves)
+	{
+		if (this.attackerStrength != attackerStrength || this.opponentDefense != opponentDefense || this.probabilitiesOfSuccess.length != opponentSpecialMoves.size())
+		{
+			return false;
+		}
+
+		for (int i = 0; i < this.probabilitiesOfSuccess.length; i++)
+		{
+			final ISpecialMove currentSpecialMove = opponentSpecialMoves.get(i);
+			final Effect currentEffect = currentSpecialMove.getEffect();
+
+			if (this.probabilitiesOfSuccess[i] != currentSpecialMove.getProbabilityOfSuccess() || this.specialMoveTypes[i] != currentSpecialMove.getSpecialMoveType())
+			{
+				return false;
+			}
+
+			if (this.effects[i] != currentEffect && (this.effects[i] == null || currentEffect == null || this.effects[i].getCharacteristic() != currentEffect.getCharacteristic()
+					|| this.effects[i].getValue() != currentEffect.getValue()))
+			{
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Draw an outcome.
+	 * 
+	 * @param randomSource
+	 *            The random source.
+	 * @return The drawn outcome.
+	 */
+	public int drawOutcome(IRandomSource randomSource)
+	{
+		final double randomValue = randomSource.nextDouble();
+		final int lastOutcome = this.cumulativeProbabilities.length - 1;
+
+		for (int outcome = 0; outcome < lastOutcome; outcome++)
+		{
+			if (randomValue < this.cumulativeProbabilities[outcome])
+			{
+				return outcome;
+			}
+		}
+
+		// Rounding errors may leave the last cumulative probability slightly under 1.
+		return lastOutcome;
+	}
+
+	/**
+	 * Get the number of outcomes.
+	 * 
+	 * @return The number of outcomes.
+	 */
+	public int getNbOutcomes()
+	{
+		return this.damages.length;
+	}
+
+	/**
+	 * Get the probability of an outcome.
+	 * 
+	 * @param outcome
+	 *            The outcome.
+	 * @return The probability of the outcome.
+	 */
+	public double getProbability(int outcome)
+	{
+		return (outcome == 0 ? this.cumulativeProbabilities[0] : this.cumulativeProbabilities[outcome] - this.cumulativeProbabilities[outcome - 1]);
+	}
+
+	/**
+	 * Get the damage dealt to the opponent for an outcome.
+	 * 
+	 * @param outcome
+	 *            The outcome.
+	 * @return The damage.
+	 */
+	public int getDamage(int outcome)
+	{
+		return this.damages[outcome];
+	}
+
+	/**
+	 * Get the mask of the succeeded heal special moves for an outcome.
+	 * 
+	 * @param outcome
+	 *            The outcome.
+	 * @return The heal mask, the bit i is set when the special move i heals the opponent.
+	 */
+	public int getHealMask(int outcome)
+	{
+		return this.healMasks[outcome];
+	}
+
+	/**
+	 * Get the effect of a special move.
+	 * 
+	 * @param specialMoveIndex
+	 *            The special move index.
+	 * @return The effect.
+	 */
+	public Effect getEffect(int specialMoveIndex)
+	{
+		return this.effects[specialMoveIndex];
+	}
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString()
+	{
+		final StringBuilder stringRepresentation = new StringBuilder();
+		stringRepresentation.append("FightOutcome [attackerStrength=");
+		stringRepresentation.append(this.attackerStrength);
+		stringRepresentation.append(", opponentDefense=");
+		stringRepresentation.append(this.opponentDefense);
+		stringRepresentation.append(", nbOutcomes=");
+		stringRepresentation.append(this.damages.length);
+		stringRepresentation.append("]");
+
+		return stringRepresentation.toString();
+	}
+}
@@ -0,0 +1,400 @@
+package fr.polytech.myrpg.characters;
+
+import java.util.Arrays;
+import java.util.List;
+
+import fr.polytech.myrpg.characters.items.edible.Effect;
+import fr.polytech.myrpg.characters.specialmove.ISpecialMove;
+
+/**
+ * This class represents a bounded cache of fight outcomes with a least recently used eviction.
+ *
+ * The fight outcomes are keyed by a compact hash of the attacker strength, the opponent defense and the opponent special moves. The entries are stored in arrays linked
+ * by their indexes, so that a lookup doesn't allocate anything. A cache is not thread safe, each simulation thread should use its own.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public class FightOutcomeCache
+{
+	/**
+	 * The default capacity.
+	 */
+	public static final int DEFAULT_CAPACITY = 1024;
+
+	/**
+	 * The value of an empty link.
+	 */
+	private static final int NO_ENTRY = -1;
+
+	/**
+	 * The maximum number of entries.
+	 */
+	private final int capacity;
+
+	/**
+	 * The first entry of each bucket.
+	 */
+	private final int[] buckets;
+
+	/**
+	 * The next entry in the same bucket.
+	 */
+	private final int[] nextInBucket;
+
+	/**
+	 * The key of each entry.
+	 */
+	private final long[] keys;
+
+	/**
+	 * The fight outcome of each entry.
+	 */
+	private final FightOutcome[] fightOutcomes;
+
+	/**
+	 * The previous (more recently used) entry.
+	 */
+	private final int[] previousUsed;
+
+	/**
+	 * The next (less recently used) entry.
+	 */
+	private final int[] nextUsed;
+
+	/**
+	 * The most recently used entry.
+	 */
+	private int mostRecentlyUsed;
+
+	/**
+	 * The least recently used entry.
+	 */
+	private int leastRecentlyUsed;
+
+	/**
+	 * The number of entries.
+	 */
+	private int size;
+
+	/**
+	 * The number of hits.
+	 */
+	private long nbHits;
+
+	/**
+	 * The number of misses.
+	 */
+	private long nbMisses;
+
+	/**
+	 * The number of evictions.
+	 */
+	private long nbEvictions;
+
+	/**
+	 * Create a fight outcome cache with the default capacity.
+	 */
+	public FightOutcomeCache()
+	{
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Create a fight outcome cache.
+	 * 
+	 * @param capacity
+	 *            The maximum number of entries.
+	 */
+	public FightOutcomeCache(int capacity)
+	{
+		if (capacity <= 0)
+		{
+			throw new IllegalArgumentException("The capacity must be positive!");
+		}
+
+		this.capacity = capacity;
+		this.buckets = new int[Integer.highestOneBit(capacity * 2 - 1) << 1];
+		this.nextInBucket = new int[capacity];
+		this.keys = new long[capacity];
+		this.fightOutcomes = new FightOutcome[capacity];
+		this.previousUsed = new int[capacity];
+		this.nextUsed = new int[capacity];
+
+		clear();
+	}
+
+	/**
+	 * Get the fight outcome of a combat state, computing it on a miss.
+	 * 
+	 * @param attackerStrength
+	 *            The attacker strength.
+	 * @param opponentDefense
+	 *            The opponent defense.
+	 * @param opponentSpecialMoves
+	 *            The opponent special moves.
+	 * @return The fight outcome.
+	 */
+	public FightOutcome getFightOutcome(int attackerStrength, int opponentDefense, List<ISpecialMove> opponentSpecialMoves)
+	{
+		final long key = computeKey(attackerStrength, opponentDefense, opponentSpecialMoves);
+		final int bucket = (int) (key ^ (key >>> 32)) & (this.buckets.length - 1);
+
+		for (int entry = this.buckets[bucket]; entry != NO_ENTRY; entry = this.nextInBucket[entry])
+		{
+			if (this.keys[entry] == key && this.fightOutcomes[entry].matches(attackerStrength, opponentDefense, opponentSpecialMoves))
+			{
+				this.nbHits++;
+				markAsMostRecentlyUsed(entry);
+
+				return this.fightOutcomes[entry];
+			}
+		}
+
+		this.nbMisses++;
+
+		final int entry;
+		if (this.size < this.capacity)
+		{
+			entry = this.size++;
+		}
+		else
+		{
+			entry = this.leastRecentlyUsed;
+			removeFromBucket(entry);
+			unlink(entry);
+			this.nbEvictions++;
+		}
+
+		this.keys[entry] = key;
+		this.fightOutcomes[entry] = new FightOutcome(attackerStrength, opponentDefense, opponentSpecialMoves);
+		this.nextInBucket[entry] = this.buckets[bucket];
+		this.buckets[bucket] = entry;
+		linkAsMostRecentlyUsed(entry);
+
+		return this.fightOutcomes[entry];
+	}
+
+	/**
+	 * Remove all the entries. The counters are kept.
+	 */
+	public void clear()
+	{
+		Arrays.fill(this.buckets, NO_ENTRY);
+		Arrays.fill(this.fightOutcomes, null);
+		this.mostRecentlyUsed = NO_ENTRY;
+		this.leastRecentlyUsed = NO_ENTRY;
+		this.size = 0;
+	}
+
+	/**
+	 * Compute the key of a combat state.
+	 * 
+	 * @param attackerStrength
+	 *            The attacker strength.
+	 * @param opponentDefense
+	 *            The opponent defense.
+	 * @param opponentSpecialMoves
+	 *            The opponent special moves.
+	 * @return The key, two different states may share the same key.
+	 */
+	private static long computeKey(int attackerStrength, int opponentDefense, List<ISpecialMove> opponentSpecialMoves)
+	{
+		int specialMovesHash = 1;
+		for (int i = 0; i < opponentSpecialMoves.size(); i++)
+		{
+			final ISpecialMove currentSpecialMove = opponentSpecialMoves.get(i);
+			final Effect currentEffect = currentSpecialMove.getEffect();
+			final long probabilityBits = Double.doubleToLongBits(currentSpecialMove.getProbabilityOfSuccess());
+
+			specialMovesHash = 31 * specialMovesHash + (int) (probabilityBits ^ (probabilityBits >>> 32));
+			specialMovesHash = 31 * specialMovesHash + currentSpecialMove.getSpecialMoveType().ordinal();
+			if (currentEffect != null)
+			{
+				specialMovesHash = 31 * specialMovesHash + currentEffect.getCharacteristic().ordinal();
+				specialMovesHash = 31 * specialMovesHash + currentEffect.getValue();
+			}
+		}
+
+		final long fightHash = attackerStrength * 0x9E3779B97F4A7C15L + opponentDefense;
+
+		return (fightHash << 32) ^ (fightHash >>> 32) ^ (specialMovesHash & 0xFFFFFFFFL);
+	}
+
+	/**
+	 * Remove an entry from its bucket.
+	 * 
+	 * @param entry
+	 *            The entry.
+	 */
+	private void removeFromBucket(int entry)
+	{
+		final long key = this.keys[entry];
+		final int bucket = (int) (key ^ (key >>> 32)) & (this.buckets.length - 1);
+
+		if (this.buckets[bucket] == entry)
+		{
+			this.buckets[bucket] = this.nextInBucket[entry];
+			return;
+		}
+
+		int previousEntry = this.buckets[bucket];
+		while (this.nextInBucket[previousEntry] != entry)
+		{
+			previousEntry = this.nextInBucket[previousEntry];
+		}
+
+		this.nextInBucket[previousEntry] = this.nextInBucket[entry];
+	}
+
+	/**
+	 * Mark an entry as the most recently used one.
+	 * 
+	 * @param entry
+	 *            The entry.
+	 */
+	private void markAsMostRecentlyUsed(int entry)
+	{
+		if (this.mostRecentlyUsed != entry)
+		{
+			unlink(entry);
+			linkAsMostRecentlyUsed(entry);
+		}
+	}
+
+	/**
+	 * Unlink an entry from the usage list.
+	 * 
+	 * @param entry
+	 *            The entry.
+	 */
+	private void unlink(int entry)
+	{
+		final int previousEntry = this.previousUsed[entry];
+		final int nextEntry = this.nextUsed[entry];
+
+		if (previousEntry == NO_ENTRY)
+		{
+			this.mostRecentlyUsed = nextEntry;
+		}
+		else
+		{
+			this.nextUsed[previousEntry] = nextEntry;
+		}
+
+		if (nextEntry == NO_ENTRY)
+		{
+			this.leastRecentlyUsed = previousEntry;
+		}
+		else
+		{
+			this.previousUsed[nextEntry] = previousEntry;
+		}
+	}
+
+	/**
+	 * Link an entry at the head of the usage list.
+	 * 
+	 * @param entry
+	 *            The entry.
+	 */
+	private void linkAsMostRecentlyUsed(int entry)
+	{
+		this.previousUsed[entry] = NO_ENTRY;
+		this.nextUsed[entry] = this.mostRecentlyUsed;
+
+		if (this.mostRecentlyUsed == NO_ENTRY)
+		{
+			this.leastRecentlyUsed = entry;
+		}
+		else
+		{
+			this.previousUsed[this.mostRecentlyUsed] = entry;
+		}
+
+		this.mostRecentlyUsed = entry;
+	}
+
+	/**
+	 * Get the maximum number of entries.
+	 * 
+	 * @return The capacity.
+	 */
+	public int getCapacity()
+	{
+		return this.capacity;
+	}
+
+	/**
+	 * Get the number of entries.
+	 * 
+	 * @return The number of entries.
+	 */
+	public int getSize()
+	{
+		return this.size;
+	}
+
+	/**
+	 * Get the number of hits.
+	 * 
+	 * @return The number of hits.
+	 */
+	public long getNbHits()
+	{
+		return this.nbHits;
+	}
+
+	/**
+	 * Get the number of misses.
+	 * 
+	 * @return The number of misses.
+	 */
+	public long getNbMisses()
+	{
+		return this.nbMisses;
+	}
+
+	/**
+	 * Get the number of evictions.
+	 * 
+	 * @return The number of evictions.
+	 */
+	public long getNbEvictions()
+	{
+		return this.nbEvictions;
+	}
+
+	/**
+	 * Get the hit rate.
+	 * 
+	 * @return The hit rate, between 0 and 1.
+	 */
+	public double getHitRate()
+	{
+		final long nbLookups = this.nbHits + this.nbMisses;
+		return (nbLookups == 0 ? 0 : (double) this.nbHits / nbLookups);
+	}
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString()
+	{
+		final StringBuilder stringRepresentation = new StringBuilder();
+		stringRepresentation.append("FightOutcomeCache [capacity=");
+		stringRepresentation.append(this.capacity);
+		stringRepresentation.append(", size=");
+		stringRepresentation.append(this.size);
+		stringRepresentation.append(", nbHits=");
+		stringRepresentation.append(this.nbHits);
+		stringRepresentation.append(", nbMisses=");
+		stringRepresentation.append(this.nbMisses);
+		stringRepresentation.append(", nbEvictions=");
+		stringRepresentation.append(this.nbEvictions);
+		stringRepresentation.append("]");
+
+		return stringRepresentation.toString();
+	}
+}
@@ -1,81 +1,164 @@
-package fr.polytech.myrpg.characters.items;
-
-import fr.polytech.myrpg.characters.Characteristic;
-
-/**
- * This class represents an item.
- *
- * @author DELORME Loïc
- * @since 1.0.0
- */
-public abstract class Item
-{
-	/**
-	 * The name of the item.
-	 */
-	private final String name;
-
-	/**
-	 * The weight of the item.
-	 */
-	private final int weight;
-
-	/**
-	 * Create an item.
-	 * 
-	 * @param name
-	 *            The name of the item.
-	 * @param weight
-	 *            The weight of the item.
-	 */
-	public Item(String name, int weight)
-	{
-		this.name = name;
-		this.weight = weight;
-	}
-
-	/**
-	 * Get the name of the item.
-	 * 
-	 * @return The name of the item.
-	 */
-	public String getName()
-	{
-		return this.name;
-	}
-
-	/**
-	 * Get the weight of the item.
-	 * 
-	 * @return The weight of the item.
-	 */
-	public int getWeight()
-	{
-		return this.weight;
-	}
-
-	/**
-	 * Get the value for a specific characteristic.
-	 * 
-	 * @param characteristic
-	 *            The specific characteristic.
-	 * @return The corresponding value.
-	 */
-	public abstract int getValueByCharacteristic(Characteristic characteristic);
-
-	/**
-	 * @see java.lang.Object#toString()
-	 */
-	@Override
-	public String toString()
-	{
-		final StringBuilder stringRepresentation = new StringBuilder();
-		stringRepresentation.append("Item [name=");
-		stringRepresentation.append(this.name);
-		stringRepresentation.append(", weight=");
-		stringRepresentation.append(this.weight);
-		stringRepresentation.append("]");
-
-		return stringRepresentation.toString();
-	}
-}
+package fr.polytech.myrpg.characters.items;
+
+import java.util.Arrays;
+
+import fr.polytech.myrpg.characters.Characteristic;
+
+/**
+ * This class represents an item.
+ *
+ * The value of the item for each characteristic is computed once at construction, so reading it is an array load whatever the kind of item.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public abstract class Item
+{
+	/**
+	 * The characteristics, by ordinal.
+	 */
+	private static final Characteristic[] CHARACTERISTICS = Characteristic.values();
+
+	/**
+	 * The identifier of an item which is not registered in a catalog.
+	 */
+	public static final int NO_ID = -1;
+
+	/**
+	 * The identifier of the item in its catalog.
+	 */
+	private int id;
+
+	/**
+	 * The name of the item.
+	 */
+	private final String name;
+
+	/**
+	 * The weight of the item.
+	 */
+	private final int weight;
+
+	/**
+	 * The value of the item for each characteristic, indexed by characteristic ordinal.
+	 */
+	private final int[] modifiers;
+
+	/**
+	 * Create an item.
+	 * 
+	 * @param name
+	 *            The name of the item.
+	 * @param weight
+	 *            The weight of the item.
+	 * @param modifiers
+	 *            The value of the item for each characteristic, indexed by characteristic ordinal.
+	 */
+	public Item(String name, int weight, int[] modifiers)
+	{
+		this.id = NO_ID;
+		this.name = name;
+		this.weight = weight;
+		this.modifiers = Arrays.copyOf(modifiers, CHARACTERISTICS.length);
+	}
+
+	/**
+	 * Get the identifier of the item in its catalog.
+	 * 
+	 * @return The identifier, or {@link #NO_ID} if the item is not registered.
+	 */
+	public int getId()
+	{
+		return this.id;
+	}
+
+	/**
+	 * Set the identifier of the item in its catalog.
+	 * 
+	 * @param id
+	 *            The identifier.
+	 */
+	void setId(int id)
+	{
+		this.id = id;
+	}
+
+	/**
+	 * Get the name of the item.
+	 * 
+	 * @return The name of the item.
+	 */
+	public String getName()
+	{
+		return this.name;
+	}
+
+	/**
+	 * Get the weight of the item.
+	 * 
+	 * @return The weight of the item.
+	 */
+	public int getWeight()
+	{
+		return this.weight;
+	}
+
+	/**
+	 * Get the value for a specific characteristic.
+	 * 
+	 * @param characteristic
+	 *            The specific characteristic.
+	 * @return The corresponding value.
+	 */
+	public final int getValueByCharacteristic(Characteristic characteristic)
+	{
+		return this.modifiers[characteristic.ordinal()];
+	}
+
+	/**
+	 * Get the value for a specific characteristic.
+	 * 
+	 * @param characteristicOrdinal
+	 *            The ordinal of the characteristic.
+	 * @return The corresponding value.
+	 */
+	public final int getModifier(int characteristicOrdinal)
+	{
+		return this.modifiers[characteristicOrdinal];
+	}
+
+	/**
+	 * Create the modifiers of an item acting on a single characteristic.
+	 * 
+	 * @param characteristic
+	 *            The characteristic.
+	 * @param value
+	 *            The value for this characteristic.
+	 * @return The modifiers, indexed by characteristic ordinal.
+	 */
+	protected static int[] createModifiers(Characteristic characteristic, int value)
+	{
+		final int[] modifiers = new int[CHARACTERISTICS.length];
+		modifiers[characteristic.ordinal()] = value;
+
+		return modifiers;
+	}
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString()
+	{
+		final StringBuilder stringRepresentation = new StringBuilder();
+		stringRepresentation.append("Item [id=");
+		stringRepresentation.append(this.id);
+		stringRepresentation.append(", name=");
+		stringRepresentation.append(this.name);
+		stringRepresentation.append(", weight=");
+		stringRepresentation.append(this.weight);
+		stringRepresentation.append("]");
+
+		return stringRepresentation.toString();
+	}
+}
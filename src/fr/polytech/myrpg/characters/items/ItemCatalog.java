@@ -0,0 +1,138 @@
+package fr.polytech.myrpg.characters.items;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import fr.polytech.myrpg.characters.Characteristic;
+
+/**
+ * This class represents a catalog of item definitions.
+ *
+ * Each definition is registered once and gets a compact identifier, starting from 0, so that inventories, loot lists and equipment slots can share the same instance
+ * and find it back by identifier. Two items are the same definition when they have the same class, name, weight and characteristic values.
+ *
+ * The catalog can be shared by the quests built concurrently by a simulation.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public class ItemCatalog
+{
+	/**
+	 * The items, indexed by identifier.
+	 */
+	private final List<Item> items;
+
+	/**
+	 * The items, indexed by definition key.
+	 */
+	private final Map<String, Item> itemsByKey;
+
+	/**
+	 * Create an empty item catalog.
+	 */
+	public ItemCatalog()
+	{
+		this.items = new ArrayList<Item>();
+		this.itemsByKey = new HashMap<String, Item>();
+	}
+
+	/**
+	 * Register an item definition.
+	 * 
+	 * @param item
+	 *            The item.
+	 * @return The registered item with the same definition if there is one, else the given item with its new identifier.
+	 * @throws IllegalArgumentException
+	 *             If the item is already registered in another catalog.
+	 */
+	@SuppressWarnings("unchecked")
+	public synchronized <T extends Item> T register(T item)
+	{
+		if ((item.getId() != Item.NO_ID) && (item.getId() < this.items.size()) && (this.items.get(item.getId()) == item))
+		{
+			return item;
+		}
+
+		final String key = getDefinitionKey(item);
+		final Item registeredItem = this.itemsByKey.get(key);
+		if (registeredItem != null)
+		{
+			// Same key, so same class.
+			return (T) registeredItem;
+		}
+
+		if (item.getId() != Item.NO_ID)
+		{
+			throw new IllegalArgumentException("The item " + item.getName() + " is already registered in another catalog.");
+		}
+
+		item.setId(this.items.size());
+		this.items.add(item);
+		this.itemsByKey.put(key, item);
+
+		return item;
+	}
+
+	/**
+	 * Get an item.
+	 * 
+	 * @param id
+	 *            The identifier of the item.
+	 * @return The item.
+	 */
+	public synchronized Item getItem(int id)
+	{
+		return this.items.get(id);
+	}
+
+	/**
+	 * Get the number of registered items.
+	 * 
+	 * @return The number of items.
+	 */
+	public synchronized int size()
+	{
+		return this.items.size();
+	}
+
+	/**
+	 * Get the key of an item definition, which is the same for all items with the same class, name, weight and characteristic values.
+	 * 
+	 * @param item
+	 *            The item.
+	 * @return The key.
+	 */
+	public static String getDefinitionKey(Item item)
+	{
+		final StringBuilder key = new StringBuilder();
+		key.append(item.getClass().getName());
+		key.append('|');
+		key.append(item.getName());
+		key.append('|');
+		key.append(item.getWeight());
+		for (Characteristic currentCharacteristic : Characteristic.values())
+		{
+			key.append('|');
+			key.append(item.getValueByCharacteristic(currentCharacteristic));
+		}
+
+		return key.toString();
+	}
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public synchronized String toString()
+	{
+		final StringBuilder stringRepresentation = new StringBuilder();
+		stringRepresentation.append("ItemCatalog [items=");
+		stringRepresentation.append(this.items);
+		stringRepresentation.append("]");
+
+		return stringRepresentation.toString();
+	}
+}
@@ -1,25 +1,27 @@
-package fr.polytech.myrpg.characters.items.edible;
-
-import fr.polytech.myrpg.characters.items.Item;
-
-/**
- * This class represents an edible item.
- *
- * @author DELORME Loïc
- * @since 1.0.0
- */
-public abstract class EdibleItem extends Item
-{
-	/**
-	 * Create an edible item.
-	 * 
-	 * @param name
-	 *            The name of the edible item.
-	 * @param weight
-	 *            The weight of the edible item.
-	 */
-	public EdibleItem(String name, int weight)
-	{
-		super(name, weight);
-	}
-}
+package fr.polytech.myrpg.characters.items.edible;
+
+import fr.polytech.myrpg.characters.items.Item;
+
+/**
+ * This class represents an edible item.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public abstract class EdibleItem extends Item
+{
+	/**
+	 * Create an edible item.
+	 * 
+	 * @param name
+	 *            The name of the edible item.
+	 * @param weight
+	 *            The weight of the edible item.
+	 * @param modifiers
+	 *            The value of the edible item for each characteristic, indexed by characteristic ordinal.
+	 */
+	public EdibleItem(String name, int weight, int[] modifiers)
+	{
+		super(name, weight, modifiers);
+	}
+}
@@ -0,0 +1,300 @@
+package fr.polytech.myrpg.characters.items.edible;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import fr.polytech.myrpg.characters.items.Item;
+
+/**
+ * This class represents an inventory of edible items, where the copies of the same item are stacked.
+ *
+ * The stacks are found by item in constant time and stored in a dense list where an emptied stack is replaced by the last one, so adding or removing a copy never scans
+ * the inventory. Items are compared by identity, an item instance being its definition. The stacks of the items registered in a catalog are indexed by item identifier,
+ * the other ones are hashed.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public class Inventory
+{
+	/**
+	 * The stack of each registered item, indexed by item identifier.
+	 */
+	private ItemStack[] stacksById;
+
+	/**
+	 * The stack of each other item.
+	 */
+	private final Map<EdibleItem, ItemStack> stacksByItem;
+
+	/**
+	 * The stacks, in no particular order.
+	 */
+	private final List<ItemStack> stacks;
+
+	/**
+	 * The number of items, counting every copy.
+	 */
+	private int nbItems;
+
+	/**
+	 * The weight of all items.
+	 */
+	private int weight;
+
+	/**
+	 * Create an empty inventory.
+	 */
+	public Inventory()
+	{
+		this.stacksById = new ItemStack[0];
+		this.stacksByItem = new IdentityHashMap<EdibleItem, ItemStack>();
+		this.stacks = new ArrayList<ItemStack>();
+		this.nbItems = 0;
+		this.weight = 0;
+	}
+
+	/**
+	 * Add a copy of an item.
+	 * 
+	 * @param item
+	 *            The item to add.
+	 */
+	public void add(EdibleItem item)
+	{
+		ItemStack stack = getStack(item);
+		if (stack == null)
+		{
+			stack = new ItemStack(item, this.stacks.size());
+			putStack(item, stack);
+			this.stacks.add(stack);
+		}
+
+		stack.addCopies(1);
+		this.nbItems++;
+		this.weight += item.getWeight();
+	}
+
+	/**
+	 * Remove a copy of an item.
+	 * 
+	 * @param item
+	 *            The item to remove.
+	 * @return True if a copy was removed, False if the inventory doesn't contain the item.
+	 */
+	public boolean remove(EdibleItem item)
+	{
+		final ItemStack stack = getStack(item);
+		if (stack == null)
+		{
+			return false;
+		}
+
+		stack.addCopies(-1);
+		this.nbItems--;
+		this.weight -= item.getWeight();
+
+		if (stack.getCount() == 0)
+		{
+			// Replace the emptied stack by the last one.
+			final ItemStack lastStack = this.stacks.remove(this.stacks.size() - 1);
+			if (lastStack != stack)
+			{
+				this.stacks.set(stack.getOffset(), lastStack);
+				lastStack.setOffset(stack.getOffset());
+			}
+			removeStack(item);
+		}
+
+		return true;
+	}
+
+	/**
+	 * Remove all items.
+	 */
+	public void clear()
+	{
+		Arrays.fill(this.stacksById, null);
+		this.stacksByItem.clear();
+		this.stacks.clear();
+		this.nbItems = 0;
+		this.weight = 0;
+	}
+
+	/**
+	 * Check if the inventory contains an item.
+	 * 
+	 * @param item
+	 *            The item.
+	 * @return True if it contains at least one copy, else False.
+	 */
+	public boolean contains(EdibleItem item)
+	{
+		return (getStack(item) != null);
+	}
+
+	/**
+	 * Get the number of copies of an item.
+	 * 
+	 * @param item
+	 *            The item.
+	 * @return The number of copies.
+	 */
+	public int getCount(EdibleItem item)
+	{
+		final ItemStack stack = getStack(item);
+		return (stack == null ? 0 : stack.getCount());
+	}
+
+	/**
+	 * Get the number of stacks.
+	 * 
+	 * @return The number of stacks.
+	 */
+	public int getNbStacks()
+	{
+		return this.stacks.size();
+	}
+
+	/**
+	 * Get a stack.
+	 * 
+	 * @param offset
+	 *            The offset of the stack.
+	 * @return The stack.
+	 */
+	public ItemStack getStack(int offset)
+	{
+		return this.stacks.get(offset);
+	}
+
+	/**
+	 * Get the item of a stack.
+	 * 
+	 * @param offset
+	 *            The offset of the stack.
+	 * @return The item.
+	 */
+	public EdibleItem getItem(int offset)
+	{
+		return this.stacks.get(offset).getItem();
+	}
+
+	/**
+	 * Get the number of items, counting every copy.
+	 * 
+	 * @return The number of items.
+	 */
+	public int getNbItems()
+	{
+		return this.nbItems;
+	}
+
+	/**
+	 * Get the weight of all items.
+	 * 
+	 * @return The weight.
+	 */
+	public int getWeight()
+	{
+		return this.weight;
+	}
+
+	/**
+	 * Check if the inventory is empty.
+	 * 
+	 * @return True if it is empty, else False.
+	 */
+	public boolean isEmpty()
+	{
+		return (this.nbItems == 0);
+	}
+
+	/**
+	 * Get the stack of an item.
+	 * 
+	 * @param item
+	 *            The item.
+	 * @return The stack, or null if the inventory doesn't contain the item.
+	 */
+	private ItemStack getStack(EdibleItem item)
+	{
+		final int id = item.getId();
+		if ((id != Item.NO_ID) && (id < this.stacksById.length))
+		{
+			final ItemStack stack = this.stacksById[id];
+			if ((stack != null) && (stack.getItem() == item))
+			{
+				return stack;
+			}
+		}
+
+		// Unregistered item, or item of another catalog whose identifier is already taken.
+		return (this.stacksByItem.isEmpty() ? null : this.stacksByItem.get(item));
+	}
+
+	/**
+	 * Index a new stack.
+	 * 
+	 * @param item
+	 *            The item.
+	 * @param stack
+	 *            The stack.
+	 */
+	private void putStack(EdibleItem item, ItemStack stack)
+	{
+		final int id = item.getId();
+		if (id != Item.NO_ID)
+		{
+			if (id >= this.stacksById.length)
+			{
+				this.stacksById = Arrays.copyOf(this.stacksById, Math.max(id + 1, this.stacksById.length * 2));
+			}
+
+			if (this.stacksById[id] == null)
+			{
+				this.stacksById[id] = stack;
+				return;
+			}
+		}
+
+		this.stacksByItem.put(item, stack);
+	}
+
+	/**
+	 * Unindex the stack of an item.
+	 * 
+	 * @param item
+	 *            The item.
+	 */
+	private void removeStack(EdibleItem item)
+	{
+		final int id = item.getId();
+		if ((id != Item.NO_ID) && (id < this.stacksById.length) && (this.stacksById[id] != null) && (this.stacksById[id].getItem() == item))
+		{
+			this.stacksById[id] = null;
+			return;
+		}
+
+		this.stacksByItem.remove(item);
+	}
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString()
+	{
+		final StringBuilder stringRepresentation = new StringBuilder();
+		stringRepresentation.append("Inventory [stacks=");
+		stringRepresentation.append(this.stacks);
+		stringRepresentation.append(", weight=");
+		stringRepresentation.append(this.weight);
+		stringRepresentation.append("]");
+
+		return stringRepresentation.toString();
+	}
+}
@@ -0,0 +1,118 @@
+package fr.polytech.myrpg.characters.items.edible;
+
+/**
+ * This class represents a stack of copies of the same edible item.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public class ItemStack
+{
+	/**
+	 * The item of the stack.
+	 */
+	private final EdibleItem item;
+
+	/**
+	 * The number of copies.
+	 */
+	private int count;
+
+	/**
+	 * The offset of the stack in its inventory.
+	 */
+	private int offset;
+
+	/**
+	 * Create an empty item stack.
+	 * 
+	 * @param item
+	 *            The item of the stack.
+	 * @param offset
+	 *            The offset of the stack in its inventory.
+	 */
+	ItemStack(EdibleItem item, int offset)
+	{
+		this.item = item;
+		this.count = 0;
+		this.offset = offset;
+	}
+
+	/**
+	 * Get the item.
+	 * 
+	 * @return The item.
+	 */
+	public EdibleItem getItem()
+	{
+		return this.item;
+	}
+
+	/**
+	 * Get the number of copies.
+	 * 
+	 * @return The number of copies.
+	 */
+	public int getCount()
+	{
+		return this.count;
+	}
+
+	/**
+	 * Get the weight of all the copies.
+	 * 
+	 * @return The total weight.
+	 */
+	public int getTotalWeight()
+	{
+		return this.item.getWeight() * this.count;
+	}
+
+	/**
+	 * Get the offset of the stack in its inventory.
+	 * 
+	 * @return The offset.
+	 */
+	int getOffset()
+	{
+		return this.offset;
+	}
+
+	/**
+	 * Set the offset of the stack in its inventory.
+	 * 
+	 * @param offset
+	 *            The offset.
+	 */
+	void setOffset(int offset)
+	{
+		this.offset = offset;
+	}
+
+	/**
+	 * Add copies.
+	 * 
+	 * @param nbCopies
+	 *            The number of copies to add, negative to remove some.
+	 */
+	void addCopies(int nbCopies)
+	{
+		this.count += nbCopies;
+	}
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString()
+	{
+		final StringBuilder stringRepresentation = new StringBuilder();
+		stringRepresentation.append("ItemStack [item=");
+		stringRepresentation.append(this.item);
+		stringRepresentation.append(", count=");
+		stringRepresentation.append(this.count);
+		stringRepresentation.append("]");
+
+		return stringRepresentation.toString();
+	}
+}
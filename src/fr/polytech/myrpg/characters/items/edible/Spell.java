@@ -1,54 +1,47 @@
-package fr.polytech.myrpg.characters.items.edible;
-
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
-
-import fr.polytech.myrpg.characters.Characteristic;
-
-/**
- * This class represents a spell.
- *
- * @author DELORME Loïc
- * @since 1.0.0
- */
-public class Spell extends EdibleItem
-{
-	/**
-	 * The list of available effects.
-	 */
-	private final List<Effect> effects;
-
-	/**
-	 * Create a spell.
-	 * 
-	 * @param name
-	 *            The name of the spell.
-	 * @param weight
-	 *            The weight of the spell.
-	 * @param effects
-	 *            The effects.
-	 */
-	public Spell(String name, int weight, Effect... effects)
-	{
-		super(name, weight);
-		this.effects = new ArrayList<Effect>(Arrays.asList(effects));
-	}
-
-	/**
-	 * @see fr.polytech.myrpg.characters.items.Item#getValueByCharacteristic(fr.polytech.myrpg.characters.Characteristic)
-	 */
-	@Override
-	public int getValueByCharacteristic(Characteristic characteristic)
-	{
-		for (Effect currentEffect : this.effects)
-		{
-			if (characteristic == currentEffect.getCharacteristic())
-			{
-				return currentEffect.getValue();
-			}
-		}
-
-		return 0;
-	}
-}
+package fr.polytech.myrpg.characters.items.edible;
+
+import fr.polytech.myrpg.characters.Characteristic;
+
+/**
+ * This class represents a spell.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public class Spell extends EdibleItem
+{
+	/**
+	 * Create a spell.
+	 * 
+	 * @param name
+	 *            The name of the spell.
+	 * @param weight
+	 *            The weight of the spell.
+	 * @param effects
+	 *            The effects.
+	 */
+	public Spell(String name, int weight, Effect... effects)
+	{
+		super(name, weight, createModifiers(effects));
+	}
+
+	/**
+	 * Create the modifiers of a spell from its effects.
+	 * 
+	 * @param effects
+	 *            The effects.
+	 * @return The modifiers, indexed by characteristic ordinal.
+	 */
+	private static int[] createModifiers(Effect... effects)
+	{
+		final int[] modifiers = new int[Characteristic.values().length];
+
+		// When several effects act on the same characteristic, the first one is kept.
+		for (int i = effects.length - 1; i >= 0; i--)
+		{
+			modifiers[effects[i].getCharacteristic().ordinal()] = effects[i].getValue();
+		}
+
+		return modifiers;
+	}
+}
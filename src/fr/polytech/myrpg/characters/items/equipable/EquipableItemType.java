@@ -1,20 +1,20 @@
-package fr.polytech.myrpg.characters.items.equipable;
-
-/**
- * This enumeration represents all available equipable item type.
- *
- * @author DELORME Loïc
- * @since 1.0.0
- */
-public enum EquipableItemType
-{
-    /**
-     * An armor.
-     */
-	ARMOR,
-
-	/**
-	 * A weapon.
-	 */
-	WEAPON;
-}
+package fr.polytech.myrpg.characters.items.equipable;
+
+/**
+ * This enumeration represents all available equipable item type.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public enum EquipableItemType
+{
+    /**
+     * An armor.
+     */
+	ARMOR,
+
+	/**
+	 * A weapon.
+	 */
+	WEAPON;
+}
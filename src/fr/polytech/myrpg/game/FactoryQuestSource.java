@@ -0,0 +1,84 @@
+package fr.polytech.myrpg.game;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import fr.polytech.myrpg.characters.exceptions.InvalidConstraintsException;
+import fr.polytech.myrpg.characters.exceptions.TooFewSpecialMovesException;
+import fr.polytech.myrpg.characters.exceptions.TooHighCharacteristicsValueException;
+import fr.polytech.myrpg.game.exceptions.QuestCreationException;
+import fr.polytech.myrpg.game.quests.IQuest;
+import fr.polytech.myrpg.game.simulation.IQuestFactory;
+import fr.polytech.myrpg.random.IRandomSource;
+
+/**
+ * This class represents a source creating its quests with quest factories, in order.
+ *
+ * Each quest gets its own split of the random source, so a quest can be created on another thread while the previous one is played.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public class FactoryQuestSource implements IQuestSource
+{
+	/**
+	 * The factories of the quests.
+	 */
+	private final List<IQuestFactory> questFactories;
+
+	/**
+	 * The random source, only used to be split.
+	 */
+	private final IRandomSource randomSource;
+
+	/**
+	 * The offset of the next factory.
+	 */
+	private int nextOffset;
+
+	/**
+	 * Create a factory quest source.
+	 * 
+	 * @param questFactories
+	 *            The factories of the quests, in order.
+	 * @param randomSource
+	 *            The random source, only used to be split.
+	 */
+	public FactoryQuestSource(List<IQuestFactory> questFactories, IRandomSource randomSource)
+	{
+		this.questFactories = new ArrayList<IQuestFactory>(questFactories);
+		this.randomSource = randomSource;
+		this.nextOffset = 0;
+	}
+
+	/**
+	 * @see fr.polytech.myrpg.game.IQuestSource#nextQuest()
+	 */
+	@Override
+	public IQuest nextQuest() throws QuestCreationException
+	{
+		if (this.nextOffset == this.questFactories.size())
+		{
+			return null;
+		}
+
+		final int offset = this.nextOffset++;
+		try
+		{
+			return this.questFactories.get(offset).createQuest(this.randomSource.split());
+		}
+		catch (TooHighCharacteristicsValueException | TooFewSpecialMovesException | InvalidConstraintsException e)
+		{
+			throw new QuestCreationException(String.format("The quest %d can't be created", offset + 1), e);
+		}
+	}
+
+	/**
+	 * @see fr.polytech.myrpg.game.IQuestSource#close()
+	 */
+	@Override
+	public void close()
+	{
+		this.nextOffset = this.questFactories.size();
+	}
+}
@@ -1,28 +1,52 @@
 package fr.polytech.myrpg.game;
 
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
 
+import fr.polytech.myrpg.game.exceptions.QuestCreationException;
+import fr.polytech.myrpg.game.journal.GameJournal;
 import fr.polytech.myrpg.game.observers.IGameObserver;
+import fr.polytech.myrpg.game.quests.BasicQuest;
 import fr.polytech.myrpg.game.quests.IQuest;
+import fr.polytech.myrpg.game.snapshot.GameSnapshotFile;
+import fr.polytech.myrpg.game.snapshot.GameSnapshotter;
+import fr.polytech.myrpg.game.snapshot.exceptions.InvalidSnapshotException;
+import fr.polytech.myrpg.jfr.GamePlayedEvent;
+import fr.polytech.myrpg.metrics.MetricsRegistry;
+import me.grea.antoine.utils.Log;
 
 /**
  * This class represents a game.
  *
+ * The quests are requested from a quest source one at a time, just before being played, and the game doesn't keep any reference to a finished quest.
+ *
  * @author DELORME Loïc
  * @since 1.0.0
  */
 public class Game implements IGame
 {
 	/**
-	 * The list of all quests.
+	 * The source of the quests.
 	 */
-	private final List<IQuest> quests;
+	private final IQuestSource questSource;
 
 	/**
 	 * The game observer.
 	 */
 	private final IGameObserver gameObserver;
 
+	/**
+	 * The journal recording the events of the basic quests, or null to record nothing.
+	 */
+	private GameJournal gameJournal;
+
+	/**
+	 * The registry recording the metrics of the basic quests, or null to record nothing.
+	 */
+	private MetricsRegistry metricsRegistry;
+
 	/**
 	 * Create a game.
 	 * 
@@ -33,8 +57,41 @@ public class Game implements IGame
 	 */
 	public Game(List<IQuest> quests, IGameObserver gameObserver)
 	{
-		this.quests = quests;
+		this(new ListQuestSource(quests), gameObserver);
+	}
+
+	/**
+	 * Create a game.
+	 * 
+	 * @param questSource
+	 *            The source of the quests.
+	 * @param gameObserver
+	 *            The game observer.
+	 */
+	public Game(IQuestSource questSource, IGameObserver gameObserver)
+	{
+		this.questSource = questSource;
 		this.gameObserver = gameObserver;
+		this.gameJournal = null;
+		this.metricsRegistry = null;
+	}
+
+	/**
+	 * @see fr.polytech.myrpg.game.IGame#setGameJournal(fr.polytech.myrpg.game.journal.GameJournal)
+	 */
+	@Override
+	public void setGameJournal(GameJournal gameJournal)
+	{
+		this.gameJournal = gameJournal;
+	}
+
+	/**
+	 * @see fr.polytech.myrpg.game.IGame#setMetricsRegistry(fr.polytech.myrpg.metrics.MetricsRegistry)
+	 */
+	@Override
+	public void setMetricsRegistry(MetricsRegistry metricsRegistry)
+	{
+		this.metricsRegistry = metricsRegistry;
 	}
 
 	/**
@@ -43,11 +100,139 @@ public class Game implements IGame
 	@Override
 	public void startGame()
 	{
-		for (IQuest currentQuest : this.quests)
+		playGame(null, null);
+	}
+
+	/**
+	 * @see fr.polytech.myrpg.game.IGame#resumeGame(fr.polytech.myrpg.game.snapshot.GameSnapshotFile)
+	 */
+	@Override
+	public void resumeGame(GameSnapshotFile snapshotFile)
+	{
+		playGame(snapshotFile.readLatest(), new GameSnapshotter(snapshotFile));
+	}
+
+	/**
+	 * Play the quests, from a snapshot if there is one.
+	 * 
+	 * @param snapshot
+	 *            The snapshot to resume from, or null to play every quest from its start.
+	 * @param gameSnapshotter
+	 *            The snapshotter saving the basic quests before each round, or null to save nothing.
+	 */
+	private void playGame(ByteBuffer snapshot, GameSnapshotter gameSnapshotter)
+	{
+		final GamePlayedEvent gamePlayedEvent = new GamePlayedEvent();
+		gamePlayedEvent.begin();
+		int nbPlayedQuests = 0;
+
+		try
+		{
+			// The quests before the saved one are created but not played, so the sources give the saved quest its own random source again.
+			final int savedQuestIndex = (snapshot == null ? -1 : GameSnapshotter.readQuestIndex(snapshot));
+			int questIndex = 0;
+
+			IQuest currentQuest;
+			while ((currentQuest = this.questSource.nextQuest()) != null)
+			{
+				if (questIndex >= savedQuestIndex)
+				{
+					if (currentQuest instanceof BasicQuest)
+					{
+						final BasicQuest basicQuest = (BasicQuest) currentQuest;
+						if (questIndex == savedQuestIndex)
+						{
+							GameSnapshotter.restoreSnapshot(snapshot, basicQuest);
+						}
+						if (gameSnapshotter != null)
+						{
+							gameSnapshotter.setQuestIndex(questIndex);
+							basicQuest.setGameSnapshotter(gameSnapshotter);
+						}
+						if (this.gameJournal != null)
+						{
+							this.gameJournal.setQuestIndex(questIndex);
+							basicQuest.setGameJournal(this.gameJournal);
+						}
+						basicQuest.setMetricsRegistry(this.metricsRegistry);
+						basicQuest.setQuestIndex(questIndex);
+					}
+
+					Log.d(String.format("Starting quest %d", questIndex + 1));
+					currentQuest.startQuest(this.gameObserver);
+					nbPlayedQuests++;
+					if (gameSnapshotter != null)
+					{
+						gameSnapshotter.force();
+					}
+				}
+
+				questIndex++;
+			}
+
+			this.gameObserver.displayEndGame();
+
+			if (gameSnapshotter != null)
+			{
+				gameSnapshotter.clear();
+			}
+		}
+		catch (QuestCreationException | InvalidSnapshotException e)
+		{
+			Log.e(e);
+		}
+		finally
+		{
+			this.questSource.close();
+
+			if (gamePlayedEvent.shouldCommit())
+			{
+				gamePlayedEvent.setOutcome(snapshot != null, nbPlayedQuests);
+				gamePlayedEvent.commit();
+			}
+		}
+	}
+
+	/**
+	 * This class represents a source of already created quests, which forgets each quest once it is returned.
+	 *
+	 * @author DELORME Loïc
+	 * @since 1.0.0
+	 */
+	private static class ListQuestSource implements IQuestSource
+	{
+		/**
+		 * The quests not returned yet.
+		 */
+		private final Deque<IQuest> quests;
+
+		/**
+		 * Create a list quest source.
+		 * 
+		 * @param quests
+		 *            The quests.
+		 */
+		public ListQuestSource(List<IQuest> quests)
+		{
+			this.quests = new ArrayDeque<IQuest>(quests);
+		}
+
+		/**
+		 * @see fr.polytech.myrpg.game.IQuestSource#nextQuest()
+		 */
+		@Override
+		public IQuest nextQuest()
 		{
-			currentQuest.startQuest(this.gameObserver);
+			return this.quests.poll();
 		}
 
-		this.gameObserver.displayEndGame();
+		/**
+		 * @see fr.polytech.myrpg.game.IQuestSource#close()
+		 */
+		@Override
+		public void close()
+		{
+			this.quests.clear();
+		}
 	}
-}
\ No newline at end of file
+}
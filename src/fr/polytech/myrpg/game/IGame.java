@@ -1,5 +1,9 @@
 package fr.polytech.myrpg.game;
 
+import fr.polytech.myrpg.game.journal.GameJournal;
+import fr.polytech.myrpg.game.snapshot.GameSnapshotFile;
+import fr.polytech.myrpg.metrics.MetricsRegistry;
+
 /**
  * This interface represents a game.
  *
@@ -12,4 +16,29 @@ public interface IGame
 	 * Start the game.
 	 */
 	public void startGame();
+
+	/**
+	 * Resume the game from the last snapshot of a file, or start it if the file holds none. A snapshot is saved in the file before each round, and removed once the
+	 * game is over.
+	 * 
+	 * @param snapshotFile
+	 *            The snapshot file.
+	 */
+	public void resumeGame(GameSnapshotFile snapshotFile);
+
+	/**
+	 * Set the journal recording the events of the quests, which must be set before the game starts.
+	 * 
+	 * @param gameJournal
+	 *            The journal, or null to record nothing.
+	 */
+	public void setGameJournal(GameJournal gameJournal);
+
+	/**
+	 * Set the registry recording the metrics of the quests, which must be set before the game starts.
+	 * 
+	 * @param metricsRegistry
+	 *            The registry, or null to record nothing.
+	 */
+	public void setMetricsRegistry(MetricsRegistry metricsRegistry);
 }
\ No newline at end of file
@@ -1,17 +1,27 @@
-package fr.polytech.myrpg.game;
-
-/**
- * This interface represents a game builder.
- *
- * @author DELORME Loïc
- * @since 1.0.0
- */
-public interface IGameBuilder
-{
-	/**
-	 * Build the game.
-	 * 
-	 * @return A game.
-	 */
-	public IGame buildGame();
-}
+package fr.polytech.myrpg.game;
+
+import fr.polytech.myrpg.game.observers.ConsoleVerbosity;
+
+/**
+ * This interface represents a game builder.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public interface IGameBuilder
+{
+	/**
+	 * Build the game.
+	 * 
+	 * @return A game.
+	 */
+	public IGame buildGame();
+
+	/**
+	 * Set the verbosity of the console of the built games.
+	 * 
+	 * @param consoleVerbosity
+	 *            The verbosity.
+	 */
+	public void setConsoleVerbosity(ConsoleVerbosity consoleVerbosity);
+}
@@ -0,0 +1,27 @@
+package fr.polytech.myrpg.game;
+
+import fr.polytech.myrpg.game.exceptions.QuestCreationException;
+import fr.polytech.myrpg.game.quests.IQuest;
+
+/**
+ * This interface represents a source of quests, each quest being created only when it is requested.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public interface IQuestSource
+{
+	/**
+	 * Create the next quest.
+	 * 
+	 * @return The next quest, or null if there is no more quest.
+	 * @throws QuestCreationException
+	 *             If the quest can't be created.
+	 */
+	public IQuest nextQuest() throws QuestCreationException;
+
+	/**
+	 * Release the resources of the source.
+	 */
+	public void close();
+}
@@ -0,0 +1,152 @@
+package fr.polytech.myrpg.game;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+import fr.polytech.myrpg.game.exceptions.QuestCreationException;
+import fr.polytech.myrpg.game.quests.IQuest;
+
+/**
+ * This class represents a source creating the next quest on a background thread while the current one is played.
+ *
+ * At most one quest is created ahead. The wrapped source is only used by the background thread, one call at a time, so it doesn't need to be thread-safe, but the
+ * quests it creates must not share mutable state, such as a random source, with the quest being played.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public class PrefetchingQuestSource implements IQuestSource
+{
+	/**
+	 * The wrapped source.
+	 */
+	private final IQuestSource questSource;
+
+	/**
+	 * The background thread.
+	 */
+	private final ExecutorService executorService;
+
+	/**
+	 * The creation of the next quest, or null if it isn't started.
+	 */
+	private Future<IQuest> nextQuest;
+
+	/**
+	 * Create a prefetching quest source.
+	 * 
+	 * @param questSource
+	 *            The wrapped source.
+	 */
+	public PrefetchingQuestSource(IQuestSource questSource)
+	{
+		this.questSource = questSource;
+		this.executorService = Executors.newSingleThreadExecutor(new ThreadFactory()
+		{
+			/**
+			 * @see java.util.concurrent.ThreadFactory#newThread(java.lang.Runnable)
+			 */
+			@Override
+			public Thread newThread(Runnable runnable)
+			{
+				final Thread thread = new Thread(runnable, "quest-prefetch");
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+		this.nextQuest = null;
+	}
+
+	/**
+	 * @see fr.polytech.myrpg.game.IQuestSource#nextQuest()
+	 */
+	@Override
+	public IQuest nextQuest() throws QuestCreationException
+	{
+		final Future<IQuest> currentQuest = (this.nextQuest != null ? this.nextQuest : prefetch());
+		this.nextQuest = null;
+
+		final IQuest quest;
+		try
+		{
+			quest = currentQuest.get();
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			throw new QuestCreationException("The creation of the quest was interrupted", e);
+		}
+		catch (ExecutionException e)
+		{
+			if (e.getCause() instanceof QuestCreationException)
+			{
+				throw (QuestCreationException) e.getCause();
+			}
+			throw new QuestCreationException("The quest can't be created", e.getCause());
+		}
+
+		if (quest != null)
+		{
+			this.nextQuest = prefetch();
+		}
+
+		return quest;
+	}
+
+	/**
+	 * Close the wrapped source once the pending creation is done.
+	 * 
+	 * @see fr.polytech.myrpg.game.IQuestSource#close()
+	 */
+	@Override
+	public void close()
+	{
+		if (this.executorService.isShutdown())
+		{
+			return;
+		}
+
+		if (this.nextQuest != null)
+		{
+			this.nextQuest.cancel(false);
+			this.nextQuest = null;
+		}
+
+		this.executorService.execute(new Runnable()
+		{
+			/**
+			 * @see java.lang.Runnable#run()
+			 */
+			@Override
+			public void run()
+			{
+				PrefetchingQuestSource.this.questSource.close();
+			}
+		});
+		this.executorService.shutdown();
+	}
+
+	/**
+	 * Start the creation of the next quest.
+	 * 
+	 * @return The creation of the next quest.
+	 */
+	private Future<IQuest> prefetch()
+	{
+		return this.executorService.submit(new Callable<IQuest>()
+		{
+			/**
+			 * @see java.util.concurrent.Callable#call()
+			 */
+			@Override
+			public IQuest call() throws QuestCreationException
+			{
+				return PrefetchingQuestSource.this.questSource.nextQuest();
+			}
+		});
+	}
+}
@@ -0,0 +1,46 @@
+package fr.polytech.myrpg.game.content;
+
+/**
+ * This class holds the constants of the binary content format.
+ *
+ * A binary content starts with {@link #MAGIC} and {@link #VERSION}, followed by records, each starting with a tag byte. An item record defines an item the first time it
+ * is used and gives it the next local identifier, a quest record refers to its items by local identifier, and an end record closes the content. Strings are written
+ * in modified UTF-8, numbers in big-endian order.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+final class BinaryContentFormat
+{
+	/**
+	 * The first bytes of a binary content, "MRPG".
+	 */
+	public static final int MAGIC = 0x4D525047;
+
+	/**
+	 * The version of the format.
+	 */
+	public static final short VERSION = 1;
+
+	/**
+	 * The tag of the end record.
+	 */
+	public static final byte END_RECORD = 0;
+
+	/**
+	 * The tag of an item record: kind, name, weight and one value per characteristic.
+	 */
+	public static final byte ITEM_RECORD = 1;
+
+	/**
+	 * The tag of a quest record: texts, both teams, then the edible and equipable item identifiers.
+	 */
+	public static final byte QUEST_RECORD = 2;
+
+	/**
+	 * Prevent the instantiation.
+	 */
+	private BinaryContentFormat()
+	{
+	}
+}
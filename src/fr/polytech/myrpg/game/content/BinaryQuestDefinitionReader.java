@@ -0,0 +1,277 @@
+package fr.polytech.myrpg.game.content;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import fr.polytech.myrpg.characters.Characteristic;
+import fr.polytech.myrpg.characters.items.Item;
+import fr.polytech.myrpg.characters.items.ItemCatalog;
+import fr.polytech.myrpg.characters.items.edible.EdibleItem;
+import fr.polytech.myrpg.characters.items.equipable.EquipableItem;
+import fr.polytech.myrpg.game.content.exceptions.InvalidContentException;
+
+/**
+ * This class represents a reader of quest definitions written in the binary format, as produced by {@link BinaryQuestDefinitionWriter}.
+ *
+ * The items are registered in an item catalog, so the quests share their definitions.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public class BinaryQuestDefinitionReader implements IQuestDefinitionReader
+{
+	/**
+	 * The characteristics.
+	 */
+	private static final Characteristic[] CHARACTERISTICS = Characteristic.values();
+
+	/**
+	 * The character classes.
+	 */
+	private static final CharacterType[] CHARACTER_TYPES = CharacterType.values();
+
+	/**
+	 * The item kinds.
+	 */
+	private static final ItemKind[] ITEM_KINDS = ItemKind.values();
+
+	/**
+	 * The input of the content.
+	 */
+	private final DataInputStream input;
+
+	/**
+	 * The catalog in which the items are registered.
+	 */
+	private final ItemCatalog itemCatalog;
+
+	/**
+	 * The items defined so far, indexed by local identifier.
+	 */
+	private final List<Item> items;
+
+	/**
+	 * If the header has been read.
+	 */
+	private boolean hasReadHeader;
+
+	/**
+	 * If the end record has been read.
+	 */
+	private boolean hasReachedEnd;
+
+	/**
+	 * Create a binary quest definition reader.
+	 * 
+	 * @param input
+	 *            The input of the content.
+	 * @param itemCatalog
+	 *            The catalog in which the items are registered.
+	 */
+	public BinaryQuestDefinitionReader(InputStream input, ItemCatalog itemCatalog)
+	{
+		this.input = new DataInputStream(input instanceof BufferedInputStream ? input : new BufferedInputStream(input));
+		this.itemCatalog = itemCatalog;
+		this.items = new ArrayList<Item>();
+		this.hasReadHeader = false;
+		this.hasReachedEnd = false;
+	}
+
+	/**
+	 * @see fr.polytech.myrpg.game.content.IQuestDefinitionReader#readQuestDefinition()
+	 */
+	@Override
+	public QuestDefinition readQuestDefinition() throws IOException, InvalidContentException
+	{
+		if (this.hasReachedEnd)
+		{
+			return null;
+		}
+
+		try
+		{
+			if (!this.hasReadHeader)
+			{
+				readHeader();
+			}
+
+			while (true)
+			{
+				final byte tag = this.input.readByte();
+				switch (tag)
+				{
+					case BinaryContentFormat.END_RECORD:
+						this.hasReachedEnd = true;
+						return null;
+					case BinaryContentFormat.ITEM_RECORD:
+						readItem();
+						break;
+					case BinaryContentFormat.QUEST_RECORD:
+						return readQuest();
+					default:
+						throw new InvalidContentException("Unknown record " + tag);
+				}
+			}
+		}
+		catch (EOFException e)
+		{
+			throw new InvalidContentException("The content is truncated");
+		}
+	}
+
+	/**
+	 * @see java.io.Closeable#close()
+	 */
+	@Override
+	public void close() throws IOException
+	{
+		this.input.close();
+	}
+
+	/**
+	 * Read and check the header.
+	 * 
+	 * @throws IOException
+	 *             If the content can't be read.
+	 * @throws InvalidContentException
+	 *             If the header is invalid.
+	 */
+	private void readHeader() throws IOException, InvalidContentException
+	{
+		if (this.input.readInt() != BinaryContentFormat.MAGIC)
+		{
+			throw new InvalidContentException("The content is not a binary content");
+		}
+
+		final short version = this.input.readShort();
+		if (version != BinaryContentFormat.VERSION)
+		{
+			throw new InvalidContentException("Unsupported content version " + version);
+		}
+
+		this.hasReadHeader = true;
+	}
+
+	/**
+	 * Read an item record and register the item.
+	 * 
+	 * @throws IOException
+	 *             If the content can't be read.
+	 * @throws InvalidContentException
+	 *             If the record is malformed.
+	 */
+	private void readItem() throws IOException, InvalidContentException
+	{
+		final int kind = this.input.readUnsignedByte();
+		if (kind >= ITEM_KINDS.length)
+		{
+			throw new InvalidContentException("Unknown item kind " + kind);
+		}
+
+		final String name = this.input.readUTF();
+		final int weight = this.input.readInt();
+		final int[] modifiers = new int[CHARACTERISTICS.length];
+		for (int i = 0; i < modifiers.length; i++)
+		{
+			modifiers[i] = this.input.readInt();
+		}
+
+		this.items.add(this.itemCatalog.register(ITEM_KINDS[kind].createItem(name, weight, modifiers)));
+	}
+
+	/**
+	 * Read a quest record.
+	 * 
+	 * @return The quest definition.
+	 * @throws IOException
+	 *             If the content can't be read.
+	 * @throws InvalidContentException
+	 *             If the record is malformed.
+	 */
+	private QuestDefinition readQuest() throws IOException, InvalidContentException
+	{
+		final String beginText = this.input.readUTF();
+		final String endText = this.input.readUTF();
+		final TeamDefinition firstTeam = readTeam();
+		final TeamDefinition secondTeam = readTeam();
+
+		final int nbEdibleItems = this.input.readInt();
+		final List<EdibleItem> edibleItems = new ArrayList<EdibleItem>(nbEdibleItems);
+		for (int i = 0; i < nbEdibleItems; i++)
+		{
+			final Item item = readItemReference();
+			if (!(item instanceof EdibleItem))
+			{
+				throw new InvalidContentException("The item " + item.getName() + " is not edible");
+			}
+			edibleItems.add((EdibleItem) item);
+		}
+
+		final int nbEquipableItems = this.input.readInt();
+		final List<EquipableItem> equipableItems = new ArrayList<EquipableItem>(nbEquipableItems);
+		for (int i = 0; i < nbEquipableItems; i++)
+		{
+			final Item item = readItemReference();
+			if (!(item instanceof EquipableItem))
+			{
+				throw new InvalidContentException("The item " + item.getName() + " is not equipable");
+			}
+			equipableItems.add((EquipableItem) item);
+		}
+
+		return new QuestDefinition(beginText, endText, firstTeam, secondTeam, edibleItems, equipableItems);
+	}
+
+	/**
+	 * Read a team.
+	 * 
+	 * @return The team definition.
+	 * @throws IOException
+	 *             If the content can't be read.
+	 * @throws InvalidContentException
+	 *             If the team is malformed.
+	 */
+	private TeamDefinition readTeam() throws IOException, InvalidContentException
+	{
+		final String name = this.input.readUTF();
+		final int nbPlayers = this.input.readInt();
+		final List<PlayerDefinition> players = new ArrayList<PlayerDefinition>(nbPlayers);
+		for (int i = 0; i < nbPlayers; i++)
+		{
+			final String playerName = this.input.readUTF();
+			final int characterType = this.input.readUnsignedByte();
+			if (characterType >= CHARACTER_TYPES.length)
+			{
+				throw new InvalidContentException("Unknown character class " + characterType);
+			}
+			players.add(new PlayerDefinition(playerName, CHARACTER_TYPES[characterType], this.input.readUTF()));
+		}
+
+		return new TeamDefinition(name, players);
+	}
+
+	/**
+	 * Read the local identifier of an item.
+	 * 
+	 * @return The item.
+	 * @throws IOException
+	 *             If the content can't be read.
+	 * @throws InvalidContentException
+	 *             If the item is not defined.
+	 */
+	private Item readItemReference() throws IOException, InvalidContentException
+	{
+		final int id = this.input.readInt();
+		if ((id < 0) || (id >= this.items.size()))
+		{
+			throw new InvalidContentException("Undefined item " + id);
+		}
+
+		return this.items.get(id);
+	}
+}
@@ -0,0 +1,184 @@
+package fr.polytech.myrpg.game.content;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import fr.polytech.myrpg.characters.Characteristic;
+import fr.polytech.myrpg.characters.items.Item;
+
+/**
+ * This class represents a writer of quest definitions in the binary format. Each item is defined once, before the first quest using it.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public class BinaryQuestDefinitionWriter implements Closeable
+{
+	/**
+	 * The characteristics.
+	 */
+	private static final Characteristic[] CHARACTERISTICS = Characteristic.values();
+
+	/**
+	 * The output of the content.
+	 */
+	private final DataOutputStream output;
+
+	/**
+	 * The local identifier of each item already written.
+	 */
+	private final Map<Item, Integer> itemIds;
+
+	/**
+	 * If the header has been written.
+	 */
+	private boolean hasWrittenHeader;
+
+	/**
+	 * Create a binary quest definition writer.
+	 * 
+	 * @param output
+	 *            The output of the content.
+	 */
+	public BinaryQuestDefinitionWriter(OutputStream output)
+	{
+		this.output = new DataOutputStream(output instanceof BufferedOutputStream ? output : new BufferedOutputStream(output));
+		this.itemIds = new IdentityHashMap<Item, Integer>();
+		this.hasWrittenHeader = false;
+	}
+
+	/**
+	 * Write a quest definition.
+	 * 
+	 * @param questDefinition
+	 *            The quest definition.
+	 * @throws IOException
+	 *             If the content can't be written.
+	 */
+	public void writeQuestDefinition(QuestDefinition questDefinition) throws IOException
+	{
+		writeHeader();
+
+		for (Item currentItem : questDefinition.getEdibleItems())
+		{
+			writeItemIfNeeded(currentItem);
+		}
+		for (Item currentItem : questDefinition.getEquipableItems())
+		{
+			writeItemIfNeeded(currentItem);
+		}
+
+		this.output.writeByte(BinaryContentFormat.QUEST_RECORD);
+		this.output.writeUTF(questDefinition.getBeginText());
+		this.output.writeUTF(questDefinition.getEndText());
+		writeTeam(questDefinition.getFirstTeam());
+		writeTeam(questDefinition.getSecondTeam());
+		writeItemReferences(questDefinition.getEdibleItems());
+		writeItemReferences(questDefinition.getEquipableItems());
+	}
+
+	/**
+	 * Write the end record and close the output.
+	 * 
+	 * @see java.io.Closeable#close()
+	 */
+	@Override
+	public void close() throws IOException
+	{
+		try
+		{
+			writeHeader();
+			this.output.writeByte(BinaryContentFormat.END_RECORD);
+		}
+		finally
+		{
+			this.output.close();
+		}
+	}
+
+	/**
+	 * Write the header if it hasn't been written yet.
+	 * 
+	 * @throws IOException
+	 *             If the content can't be written.
+	 */
+	private void writeHeader() throws IOException
+	{
+		if (!this.hasWrittenHeader)
+		{
+			this.output.writeInt(BinaryContentFormat.MAGIC);
+			this.output.writeShort(BinaryContentFormat.VERSION);
+			this.hasWrittenHeader = true;
+		}
+	}
+
+	/**
+	 * Write an item record if the item hasn't been written yet.
+	 * 
+	 * @param item
+	 *            The item.
+	 * @throws IOException
+	 *             If the content can't be written.
+	 */
+	private void writeItemIfNeeded(Item item) throws IOException
+	{
+		if (this.itemIds.containsKey(item))
+		{
+			return;
+		}
+
+		this.output.writeByte(BinaryContentFormat.ITEM_RECORD);
+		this.output.writeByte(ItemKind.of(item).ordinal());
+		this.output.writeUTF(item.getName());
+		this.output.writeInt(item.getWeight());
+		for (int i = 0; i < CHARACTERISTICS.length; i++)
+		{
+			this.output.writeInt(item.getModifier(i));
+		}
+
+		this.itemIds.put(item, this.itemIds.size());
+	}
+
+	/**
+	 * Write a team.
+	 * 
+	 * @param teamDefinition
+	 *            The team definition.
+	 * @throws IOException
+	 *             If the content can't be written.
+	 */
+	private void writeTeam(TeamDefinition teamDefinition) throws IOException
+	{
+		this.output.writeUTF(teamDefinition.getName());
+		this.output.writeInt(teamDefinition.getPlayers().size());
+		for (PlayerDefinition currentPlayer : teamDefinition.getPlayers())
+		{
+			this.output.writeUTF(currentPlayer.getPlayerName());
+			this.output.writeByte(currentPlayer.getCharacterType().ordinal());
+			this.output.writeUTF(currentPlayer.getCharacterName());
+		}
+	}
+
+	/**
+	 * Write the local identifiers of items.
+	 * 
+	 * @param items
+	 *            The items, already written.
+	 * @throws IOException
+	 *             If the content can't be written.
+	 */
+	private void writeItemReferences(List<? extends Item> items) throws IOException
+	{
+		this.output.writeInt(items.size());
+		for (Item currentItem : items)
+		{
+			this.output.writeInt(this.itemIds.get(currentItem));
+		}
+	}
+}
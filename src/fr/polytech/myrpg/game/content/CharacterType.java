@@ -0,0 +1,70 @@
+package fr.polytech.myrpg.game.content;
+
+import fr.polytech.myrpg.characters.Archer;
+import fr.polytech.myrpg.characters.Athlete;
+import fr.polytech.myrpg.characters.Character;
+import fr.polytech.myrpg.characters.Magician;
+import fr.polytech.myrpg.characters.Warrior;
+import fr.polytech.myrpg.characters.exceptions.InvalidConstraintsException;
+import fr.polytech.myrpg.characters.exceptions.TooFewSpecialMovesException;
+import fr.polytech.myrpg.characters.exceptions.TooHighCharacteristicsValueException;
+import fr.polytech.myrpg.random.IRandomSource;
+
+/**
+ * This enumeration represents all available character classes.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public enum CharacterType
+{
+	/**
+	 * An athlete.
+	 */
+	ATHLETE,
+
+	/**
+	 * A warrior.
+	 */
+	WARRIOR,
+
+	/**
+	 * A magician.
+	 */
+	MAGICIAN,
+
+	/**
+	 * An archer.
+	 */
+	ARCHER;
+
+	/**
+	 * Create a character of this class.
+	 * 
+	 * @param name
+	 *            The name of the character.
+	 * @param randomSource
+	 *            The random source used by the character.
+	 * @return The character.
+	 * @throws TooHighCharacteristicsValueException
+	 *             If the characteristics value of the character is too high.
+	 * @throws TooFewSpecialMovesException
+	 *             If the character has too few special moves.
+	 * @throws InvalidConstraintsException
+	 *             If the constraints of the character are invalid.
+	 */
+	public Character createCharacter(String name, IRandomSource randomSource) throws TooHighCharacteristicsValueException, TooFewSpecialMovesException, InvalidConstraintsException
+	{
+		switch (this)
+		{
+			case ATHLETE:
+				return new Athlete(name, randomSource);
+			case WARRIOR:
+				return new Warrior(name, randomSource);
+			case MAGICIAN:
+				return new Magician(name, randomSource);
+			default:
+				return new Archer(name, randomSource);
+		}
+	}
+}
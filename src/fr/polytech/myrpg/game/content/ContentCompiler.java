@@ -0,0 +1,74 @@
+package fr.polytech.myrpg.game.content;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import fr.polytech.myrpg.characters.items.ItemCatalog;
+import fr.polytech.myrpg.game.content.exceptions.InvalidContentException;
+import me.grea.antoine.utils.Log;
+
+/**
+ * This class compiles a content file into the binary format, which is smaller and faster to load.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public class ContentCompiler
+{
+	/**
+	 * Compile a content file.
+	 * 
+	 * @param args
+	 *            The path of the content file and the path of the binary file.
+	 */
+	public static void main(String[] args)
+	{
+		if (args.length != 2)
+		{
+			Log.e("Usage: ContentCompiler <content file> <binary file>");
+			return;
+		}
+
+		try
+		{
+			final int nbQuests = compile(Paths.get(args[0]), Paths.get(args[1]));
+			Log.i(String.format("%d quests were compiled into %s", nbQuests, args[1]));
+		}
+		catch (IOException | InvalidContentException e)
+		{
+			Log.e(e);
+		}
+	}
+
+	/**
+	 * Compile a content file.
+	 * 
+	 * @param contentPath
+	 *            The path of the content file, in any format.
+	 * @param binaryPath
+	 *            The path of the binary file.
+	 * @return The number of compiled quests.
+	 * @throws IOException
+	 *             If a file can't be read or written.
+	 * @throws InvalidContentException
+	 *             If the content is malformed.
+	 */
+	public static int compile(Path contentPath, Path binaryPath) throws IOException, InvalidContentException
+	{
+		try (final IQuestDefinitionReader reader = ContentGameBuilder.openReader(contentPath, new ItemCatalog()); final BinaryQuestDefinitionWriter writer = new BinaryQuestDefinitionWriter(Files.newOutputStream(binaryPath)))
+		{
+			int nbQuests = 0;
+
+			QuestDefinition questDefinition;
+			while ((questDefinition = reader.readQuestDefinition()) != null)
+			{
+				writer.writeQuestDefinition(questDefinition);
+				nbQuests++;
+			}
+
+			return nbQuests;
+		}
+	}
+}
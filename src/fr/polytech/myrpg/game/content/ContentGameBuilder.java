@@ -0,0 +1,145 @@
+package fr.polytech.myrpg.game.content;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import fr.polytech.myrpg.characters.items.ItemCatalog;
+import fr.polytech.myrpg.game.Game;
+import fr.polytech.myrpg.game.IGame;
+import fr.polytech.myrpg.game.IGameBuilder;
+import fr.polytech.myrpg.game.IQuestSource;
+import fr.polytech.myrpg.game.PrefetchingQuestSource;
+import fr.polytech.myrpg.game.observers.AsyncGameObserver;
+import fr.polytech.myrpg.game.observers.ConsoleGameObserver;
+import fr.polytech.myrpg.game.observers.ConsoleVerbosity;
+import fr.polytech.myrpg.random.SplittableRandomSource;
+import me.grea.antoine.utils.Log;
+
+/**
+ * This class represents a game builder reading its quests from a content file, in the text or the binary format. The quests are read one at a time, during the
+ * game.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public class ContentGameBuilder implements IGameBuilder
+{
+	/**
+	 * The path of the content file.
+	 */
+	private final Path contentPath;
+
+	/**
+	 * The catalog of the items, shared by the quests.
+	 */
+	private final ItemCatalog itemCatalog;
+
+	/**
+	 * The verbosity of the console.
+	 */
+	private ConsoleVerbosity consoleVerbosity;
+
+	/**
+	 * Create a content game builder with its own item catalog.
+	 * 
+	 * @param contentPath
+	 *            The path of the content file.
+	 */
+	public ContentGameBuilder(Path contentPath)
+	{
+		this(contentPath, new ItemCatalog());
+	}
+
+	/**
+	 * Create a content game builder.
+	 * 
+	 * @param contentPath
+	 *            The path of the content file.
+	 * @param itemCatalog
+	 *            The catalog of the items, shared by the quests.
+	 */
+	public ContentGameBuilder(Path contentPath, ItemCatalog itemCatalog)
+	{
+		this.contentPath = contentPath;
+		this.itemCatalog = itemCatalog;
+		this.consoleVerbosity = ConsoleVerbosity.FULL;
+	}
+
+	/**
+	 * @see fr.polytech.myrpg.game.IGameBuilder#buildGame()
+	 */
+	@Override
+	public IGame buildGame()
+	{
+		Log.d("------------------------------------------------------------------");
+		Log.d("RESOURCES INITIALIZATION");
+		Log.d("------------------------------------------------------------------");
+
+		try
+		{
+			// Each quest is read and created while the previous one is played.
+			final IQuestSource questSource = new ContentQuestSource(openReader(this.contentPath, this.itemCatalog), new SplittableRandomSource());
+			return new Game(new PrefetchingQuestSource(questSource), new AsyncGameObserver(new ConsoleGameObserver(this.consoleVerbosity)));
+		}
+		catch (IOException e)
+		{
+			Log.e(e);
+			return null;
+		}
+	}
+
+	/**
+	 * @see fr.polytech.myrpg.game.IGameBuilder#setConsoleVerbosity(fr.polytech.myrpg.game.observers.ConsoleVerbosity)
+	 */
+	@Override
+	public void setConsoleVerbosity(ConsoleVerbosity consoleVerbosity)
+	{
+		this.consoleVerbosity = consoleVerbosity;
+	}
+
+	/**
+	 * Get the catalog of the items.
+	 * 
+	 * @return The item catalog.
+	 */
+	public ItemCatalog getItemCatalog()
+	{
+		return this.itemCatalog;
+	}
+
+	/**
+	 * Open a reader of a content file, the format being detected from its first bytes.
+	 * 
+	 * @param contentPath
+	 *            The path of the content file.
+	 * @param itemCatalog
+	 *            The catalog in which the items are registered.
+	 * @return The reader.
+	 * @throws IOException
+	 *             If the file can't be opened.
+	 */
+	public static IQuestDefinitionReader openReader(Path contentPath, ItemCatalog itemCatalog) throws IOException
+	{
+		final InputStream input = new BufferedInputStream(Files.newInputStream(contentPath));
+
+		input.mark(Integer.BYTES);
+		int magic = 0;
+		for (int i = 0; i < Integer.BYTES; i++)
+		{
+			magic = (magic << Byte.SIZE) | (input.read() & 0xFF);
+		}
+		input.reset();
+
+		if (magic == BinaryContentFormat.MAGIC)
+		{
+			return new BinaryQuestDefinitionReader(input, itemCatalog);
+		}
+
+		return new TextQuestDefinitionReader(new InputStreamReader(input, StandardCharsets.UTF_8), itemCatalog);
+	}
+}
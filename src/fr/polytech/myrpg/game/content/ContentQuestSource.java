@@ -0,0 +1,93 @@
+package fr.polytech.myrpg.game.content;
+
+import java.io.IOException;
+
+import fr.polytech.myrpg.characters.exceptions.InvalidConstraintsException;
+import fr.polytech.myrpg.characters.exceptions.TooFewSpecialMovesException;
+import fr.polytech.myrpg.characters.exceptions.TooHighCharacteristicsValueException;
+import fr.polytech.myrpg.game.IQuestSource;
+import fr.polytech.myrpg.game.content.exceptions.InvalidContentException;
+import fr.polytech.myrpg.game.exceptions.QuestCreationException;
+import fr.polytech.myrpg.game.quests.IQuest;
+import fr.polytech.myrpg.random.IRandomSource;
+import me.grea.antoine.utils.Log;
+
+/**
+ * This class represents a source reading each quest from a content file only when it is requested.
+ *
+ * Each quest gets its own split of the random source, so a quest can be created on another thread while the previous one is played.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public class ContentQuestSource implements IQuestSource
+{
+	/**
+	 * The reader of the content.
+	 */
+	private final IQuestDefinitionReader reader;
+
+	/**
+	 * The random source, only used to be split.
+	 */
+	private final IRandomSource randomSource;
+
+	/**
+	 * The number of quests read so far.
+	 */
+	private int nbQuests;
+
+	/**
+	 * Create a content quest source.
+	 * 
+	 * @param reader
+	 *            The reader of the content, closed with the source.
+	 * @param randomSource
+	 *            The random source, only used to be split.
+	 */
+	public ContentQuestSource(IQuestDefinitionReader reader, IRandomSource randomSource)
+	{
+		this.reader = reader;
+		this.randomSource = randomSource;
+		this.nbQuests = 0;
+	}
+
+	/**
+	 * @see fr.polytech.myrpg.game.IQuestSource#nextQuest()
+	 */
+	@Override
+	public IQuest nextQuest() throws QuestCreationException
+	{
+		try
+		{
+			final QuestDefinition questDefinition = this.reader.readQuestDefinition();
+			if (questDefinition == null)
+			{
+				return null;
+			}
+
+			this.nbQuests++;
+			return questDefinition.createQuest(this.randomSource.split());
+		}
+		catch (IOException | InvalidContentException | TooHighCharacteristicsValueException | TooFewSpecialMovesException | InvalidConstraintsException e)
+		{
+			throw new QuestCreationException(String.format("The quest %d can't be created", this.nbQuests + 1), e);
+		}
+	}
+
+	/**
+	 * @see fr.polytech.myrpg.game.IQuestSource#close()
+	 */
+	@Override
+	public void close()
+	{
+		try
+		{
+			this.reader.close();
+		}
+		catch (IOException e)
+		{
+			Log.e(e);
+		}
+	}
+}
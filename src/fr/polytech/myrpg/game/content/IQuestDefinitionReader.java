@@ -0,0 +1,26 @@
+package fr.polytech.myrpg.game.content;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+import fr.polytech.myrpg.game.content.exceptions.InvalidContentException;
+
+/**
+ * This interface represents a streaming reader of quest definitions: each call reads only the next quest of the content.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public interface IQuestDefinitionReader extends Closeable
+{
+	/**
+	 * Read the next quest definition.
+	 * 
+	 * @return The quest definition, or null if there is no more quest.
+	 * @throws IOException
+	 *             If the content can't be read.
+	 * @throws InvalidContentException
+	 *             If the content is malformed.
+	 */
+	public QuestDefinition readQuestDefinition() throws IOException, InvalidContentException;
+}
@@ -0,0 +1,149 @@
+package fr.polytech.myrpg.game.content;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import fr.polytech.myrpg.characters.Characteristic;
+import fr.polytech.myrpg.characters.items.Item;
+import fr.polytech.myrpg.characters.items.edible.Effect;
+import fr.polytech.myrpg.characters.items.edible.Food;
+import fr.polytech.myrpg.characters.items.edible.Potion;
+import fr.polytech.myrpg.characters.items.edible.Spell;
+import fr.polytech.myrpg.characters.items.equipable.Armor;
+import fr.polytech.myrpg.characters.items.equipable.Weapon;
+
+/**
+ * This enumeration represents all kinds of items which can be described in a content file.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+enum ItemKind
+{
+	/**
+	 * A food, which adds dexterity.
+	 */
+	FOOD(Characteristic.DEXTERITY),
+
+	/**
+	 * A potion, which adds health.
+	 */
+	POTION(Characteristic.HEALTH),
+
+	/**
+	 * A spell, which may act on any characteristic.
+	 */
+	SPELL(null),
+
+	/**
+	 * An armor, which adds defense.
+	 */
+	ARMOR(Characteristic.DEFENSE),
+
+	/**
+	 * A weapon, which adds strength.
+	 */
+	WEAPON(Characteristic.STRENGTH);
+
+	/**
+	 * The characteristics.
+	 */
+	private static final Characteristic[] CHARACTERISTICS = Characteristic.values();
+
+	/**
+	 * The only characteristic on which the item acts, or null if it may act on any.
+	 */
+	private final Characteristic characteristic;
+
+	/**
+	 * Create an item kind.
+	 * 
+	 * @param characteristic
+	 *            The only characteristic on which the item acts, or null if it may act on any.
+	 */
+	private ItemKind(Characteristic characteristic)
+	{
+		this.characteristic = characteristic;
+	}
+
+	/**
+	 * Get the only characteristic on which the item acts.
+	 * 
+	 * @return The characteristic, or null if it may act on any.
+	 */
+	public Characteristic getCharacteristic()
+	{
+		return this.characteristic;
+	}
+
+	/**
+	 * Create an item of this kind.
+	 * 
+	 * @param name
+	 *            The name of the item.
+	 * @param weight
+	 *            The weight of the item.
+	 * @param modifiers
+	 *            The value of the item for each characteristic, indexed by characteristic ordinal.
+	 * @return The item.
+	 */
+	public Item createItem(String name, int weight, int[] modifiers)
+	{
+		switch (this)
+		{
+			case FOOD:
+				return new Food(name, weight, modifiers[Characteristic.DEXTERITY.ordinal()]);
+			case POTION:
+				return new Potion(name, weight, modifiers[Characteristic.HEALTH.ordinal()]);
+			case ARMOR:
+				return new Armor(name, weight, modifiers[Characteristic.DEFENSE.ordinal()]);
+			case WEAPON:
+				return new Weapon(name, weight, modifiers[Characteristic.STRENGTH.ordinal()]);
+			default:
+				final List<Effect> effects = new ArrayList<Effect>();
+				for (Characteristic currentCharacteristic : CHARACTERISTICS)
+				{
+					if (modifiers[currentCharacteristic.ordinal()] != 0)
+					{
+						effects.add(new Effect(currentCharacteristic, modifiers[currentCharacteristic.ordinal()]));
+					}
+				}
+				return new Spell(name, weight, effects.toArray(new Effect[effects.size()]));
+		}
+	}
+
+	/**
+	 * Get the kind of an item.
+	 * 
+	 * @param item
+	 *            The item.
+	 * @return The kind of the item.
+	 * @throws IllegalArgumentException
+	 *             If the item can't be described in a content file.
+	 */
+	public static ItemKind of(Item item)
+	{
+		if (item instanceof Food)
+		{
+			return FOOD;
+		}
+		if (item instanceof Potion)
+		{
+			return POTION;
+		}
+		if (item instanceof Spell)
+		{
+			return SPELL;
+		}
+		if (item instanceof Armor)
+		{
+			return ARMOR;
+		}
+		if (item instanceof Weapon)
+		{
+			return WEAPON;
+		}
+
+		throw new IllegalArgumentException("The item " + item.getName() + " can't be described in a content file.");
+	}
+}
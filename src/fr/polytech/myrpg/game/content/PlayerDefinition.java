@@ -0,0 +1,90 @@
+package fr.polytech.myrpg.game.content;
+
+/**
+ * This class represents the definition of a player and of its character.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public class PlayerDefinition
+{
+	/**
+	 * The name of the player.
+	 */
+	private final String playerName;
+
+	/**
+	 * The class of the character.
+	 */
+	private final CharacterType characterType;
+
+	/**
+	 * The name of the character.
+	 */
+	private final String characterName;
+
+	/**
+	 * Create a player definition.
+	 * 
+	 * @param playerName
+	 *            The name of the player.
+	 * @param characterType
+	 *            The class of the character.
+	 * @param characterName
+	 *            The name of the character.
+	 */
+	public PlayerDefinition(String playerName, CharacterType characterType, String characterName)
+	{
+		this.playerName = playerName;
+		this.characterType = characterType;
+		this.characterName = characterName;
+	}
+
+	/**
+	 * Get the name of the player.
+	 * 
+	 * @return The name of the player.
+	 */
+	public String getPlayerName()
+	{
+		return this.playerName;
+	}
+
+	/**
+	 * Get the class of the character.
+	 * 
+	 * @return The class of the character.
+	 */
+	public CharacterType getCharacterType()
+	{
+		return this.characterType;
+	}
+
+	/**
+	 * Get the name of the character.
+	 * 
+	 * @return The name of the character.
+	 */
+	public String getCharacterName()
+	{
+		return this.characterName;
+	}
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString()
+	{
+		final StringBuilder stringRepresentation = new StringBuilder();
+		stringRepresentation.append("PlayerDefinition [playerName=");
+		stringRepresentation.append(this.playerName);
+		stringRepresentation.append(", characterType=");
+		stringRepresentation.append(this.characterType);
+		stringRepresentation.append(", characterName=");
+		stringRepresentation.append(this.characterName);
+		stringRepresentation.append("]");
+
+		return stringRepresentation.toString();
+	}
+}
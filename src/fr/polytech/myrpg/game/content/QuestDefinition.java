@@ -0,0 +1,199 @@
+package fr.polytech.myrpg.game.content;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import fr.polytech.myrpg.characters.exceptions.InvalidConstraintsException;
+import fr.polytech.myrpg.characters.exceptions.TooFewSpecialMovesException;
+import fr.polytech.myrpg.characters.exceptions.TooHighCharacteristicsValueException;
+import fr.polytech.myrpg.characters.items.edible.EdibleItem;
+import fr.polytech.myrpg.characters.items.equipable.EquipableItem;
+import fr.polytech.myrpg.game.players.Player;
+import fr.polytech.myrpg.game.players.Team;
+import fr.polytech.myrpg.game.quests.BasicQuest;
+import fr.polytech.myrpg.game.simulation.IQuestFactory;
+import fr.polytech.myrpg.random.IRandomSource;
+
+/**
+ * This class represents the definition of a quest, as read from a content file.
+ *
+ * A definition only holds names, classes and shared item instances: the teams and their characters are created by {@link #createQuest(IRandomSource)}, so a definition
+ * is cheap to keep and can create as many fresh quests as needed.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public class QuestDefinition implements IQuestFactory
+{
+	/**
+	 * The begin text.
+	 */
+	private final String beginText;
+
+	/**
+	 * The end text.
+	 */
+	private final String endText;
+
+	/**
+	 * The first team.
+	 */
+	private final TeamDefinition firstTeam;
+
+	/**
+	 * The second team.
+	 */
+	private final TeamDefinition secondTeam;
+
+	/**
+	 * The edible items in the quest.
+	 */
+	private final List<EdibleItem> edibleItems;
+
+	/**
+	 * The equipable items in the quest.
+	 */
+	private final List<EquipableItem> equipableItems;
+
+	/**
+	 * Create a quest definition.
+	 * 
+	 * @param beginText
+	 *            The begin text.
+	 * @param endText
+	 *            The end text.
+	 * @param firstTeam
+	 *            The first team.
+	 * @param secondTeam
+	 *            The second team.
+	 * @param edibleItems
+	 *            The edible items in the quest.
+	 * @param equipableItems
+	 *            The equipable items in the quest.
+	 */
+	public QuestDefinition(String beginText, String endText, TeamDefinition firstTeam, TeamDefinition secondTeam, List<EdibleItem> edibleItems, List<EquipableItem> equipableItems)
+	{
+		this.beginText = beginText;
+		this.endText = endText;
+		this.firstTeam = firstTeam;
+		this.secondTeam = secondTeam;
+		this.edibleItems = Collections.unmodifiableList(new ArrayList<EdibleItem>(edibleItems));
+		this.equipableItems = Collections.unmodifiableList(new ArrayList<EquipableItem>(equipableItems));
+	}
+
+	/**
+	 * @see fr.polytech.myrpg.game.simulation.IQuestFactory#createQuest(fr.polytech.myrpg.random.IRandomSource)
+	 */
+	@Override
+	public BasicQuest createQuest(IRandomSource randomSource) throws TooHighCharacteristicsValueException, TooFewSpecialMovesException, InvalidConstraintsException
+	{
+		return new BasicQuest(this.beginText, this.endText, createTeam(this.firstTeam, randomSource), createTeam(this.secondTeam, randomSource), new ArrayList<EdibleItem>(this.edibleItems), new ArrayList<EquipableItem>(this.equipableItems), randomSource);
+	}
+
+	/**
+	 * Create a team from its definition.
+	 * 
+	 * @param teamDefinition
+	 *            The definition of the team.
+	 * @param randomSource
+	 *            The random source used by the characters.
+	 * @return The team.
+	 * @throws TooHighCharacteristicsValueException
+	 *             If the characteristics value of a character is too high.
+	 * @throws TooFewSpecialMovesException
+	 *             If a character has too few special moves.
+	 * @throws InvalidConstraintsException
+	 *             If the constraints of a character are invalid.
+	 */
+	private static Team createTeam(TeamDefinition teamDefinition, IRandomSource randomSource) throws TooHighCharacteristicsValueException, TooFewSpecialMovesException, InvalidConstraintsException
+	{
+		final Team team = new Team(teamDefinition.getName());
+		for (PlayerDefinition currentPlayer : teamDefinition.getPlayers())
+		{
+			team.addPlayer(new Player(currentPlayer.getPlayerName(), currentPlayer.getCharacterType().createCharacter(currentPlayer.getCharacterName(), randomSource)));
+		}
+
+		return team;
+	}
+
+	/**
+	 * Get the begin text.
+	 * 
+	 * @return The begin text.
+	 */
+	public String getBeginText()
+	{
+		return this.beginText;
+	}
+
+	/**
+	 * Get the end text.
+	 * 
+	 * @return The end text.
+	 */
+	public String getEndText()
+	{
+		return this.endText;
+	}
+
+	/**
+	 * Get the first team.
+	 * 
+	 * @return The first team.
+	 */
+	public TeamDefinition getFirstTeam()
+	{
+		return this.firstTeam;
+	}
+
+	/**
+	 * Get the second team.
+	 * 
+	 * @return The second team.
+	 */
+	public TeamDefinition getSecondTeam()
+	{
+		return this.secondTeam;
+	}
+
+	/**
+	 * Get the edible items in the quest.
+	 * 
+	 * @return The edible items.
+	 */
+	public List<EdibleItem> getEdibleItems()
+	{
+		return this.edibleItems;
+	}
+
+	/**
+	 * Get the equipable items in the quest.
+	 * 
+	 * @return The equipable items.
+	 */
+	public List<EquipableItem> getEquipableItems()
+	{
+		return this.equipableItems;
+	}
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString()
+	{
+		final StringBuilder stringRepresentation = new StringBuilder();
+		stringRepresentation.append("QuestDefinition [firstTeam=");
+		stringRepresentation.append(this.firstTeam);
+		stringRepresentation.append(", secondTeam=");
+		stringRepresentation.append(this.secondTeam);
+		stringRepresentation.append(", edibleItems=");
+		stringRepresentation.append(this.edibleItems);
+		stringRepresentation.append(", equipableItems=");
+		stringRepresentation.append(this.equipableItems);
+		stringRepresentation.append("]");
+
+		return stringRepresentation.toString();
+	}
+}
@@ -0,0 +1,74 @@
+package fr.polytech.myrpg.game.content;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * This class represents the definition of a team.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public class TeamDefinition
+{
+	/**
+	 * The name of the team.
+	 */
+	private final String name;
+
+	/**
+	 * The players of the team.
+	 */
+	private final List<PlayerDefinition> players;
+
+	/**
+	 * Create a team definition.
+	 * 
+	 * @param name
+	 *            The name of the team.
+	 * @param players
+	 *            The players of the team.
+	 */
+	public TeamDefinition(String name, List<PlayerDefinition> players)
+	{
+		this.name = name;
+		this.players = Collections.unmodifiableList(new ArrayList<PlayerDefinition>(players));
+	}
+
+	/**
+	 * Get the name of the team.
+	 * 
+	 * @return The name of the team.
+	 */
+	public String getName()
+	{
+		return this.name;
+	}
+
+	/**
+	 * Get the players of the team.
+	 * 
+	 * @return The players of the team.
+	 */
+	public List<PlayerDefinition> getPlayers()
+	{
+		return this.players;
+	}
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString()
+	{
+		final StringBuilder stringRepresentation = new StringBuilder();
+		stringRepresentation.append("TeamDefinition [name=");
+		stringRepresentation.append(this.name);
+		stringRepresentation.append(", players=");
+		stringRepresentation.append(this.players);
+		stringRepresentation.append("]");
+
+		return stringRepresentation.toString();
+	}
+}
@@ -0,0 +1,396 @@
+package fr.polytech.myrpg.game.content;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import fr.polytech.myrpg.characters.Characteristic;
+import fr.polytech.myrpg.characters.items.Item;
+import fr.polytech.myrpg.characters.items.ItemCatalog;
+import fr.polytech.myrpg.characters.items.edible.EdibleItem;
+import fr.polytech.myrpg.characters.items.equipable.EquipableItem;
+import fr.polytech.myrpg.game.content.exceptions.InvalidContentException;
+
+/**
+ * This class represents a reader of quest definitions written in the text format.
+ *
+ * The text format is made of one statement per line, blank lines and lines starting with # being ignored:
+ *
+ * <pre>
+ * quest
+ * begin &lt;text&gt;
+ * end &lt;text&gt;
+ * team &lt;team name&gt;
+ * player &lt;player name&gt; athlete|warrior|magician|archer &lt;character name&gt;
+ * food &lt;name&gt; &lt;weight&gt; &lt;dexterity&gt;
+ * potion &lt;name&gt; &lt;weight&gt; &lt;health&gt;
+ * spell &lt;name&gt; &lt;weight&gt; &lt;characteristic&gt; &lt;value&gt; [&lt;characteristic&gt; &lt;value&gt;]...
+ * armor &lt;name&gt; &lt;weight&gt; &lt;defense&gt;
+ * weapon &lt;name&gt; &lt;weight&gt; &lt;strength&gt;
+ * </pre>
+ *
+ * A quest runs until the next quest statement, and needs both texts and two teams. The players belong to the last declared team. In texts, \n stands for a line break
+ * and \\ for a backslash. The items are registered in an item catalog, so the quests share their definitions.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public class TextQuestDefinitionReader implements IQuestDefinitionReader
+{
+	/**
+	 * The keyword starting a quest.
+	 */
+	private static final String QUEST_KEYWORD = "quest";
+
+	/**
+	 * The prefix of a comment line.
+	 */
+	private static final String COMMENT_PREFIX = "#";
+
+	/**
+	 * The reader of the content.
+	 */
+	private final BufferedReader reader;
+
+	/**
+	 * The catalog in which the items are registered.
+	 */
+	private final ItemCatalog itemCatalog;
+
+	/**
+	 * The number of the last read line.
+	 */
+	private int lineNumber;
+
+	/**
+	 * If the quest statement of the next quest has already been read.
+	 */
+	private boolean hasPendingQuest;
+
+	/**
+	 * Create a text quest definition reader.
+	 * 
+	 * @param reader
+	 *            The reader of the content.
+	 * @param itemCatalog
+	 *            The catalog in which the items are registered.
+	 */
+	public TextQuestDefinitionReader(Reader reader, ItemCatalog itemCatalog)
+	{
+		this.reader = (reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader));
+		this.itemCatalog = itemCatalog;
+		this.lineNumber = 0;
+		this.hasPendingQuest = false;
+	}
+
+	/**
+	 * @see fr.polytech.myrpg.game.content.IQuestDefinitionReader#readQuestDefinition()
+	 */
+	@Override
+	public QuestDefinition readQuestDefinition() throws IOException, InvalidContentException
+	{
+		if (!this.hasPendingQuest)
+		{
+			final String line = readStatement();
+			if (line == null)
+			{
+				return null;
+			}
+			if (!QUEST_KEYWORD.equals(getKeyword(line)))
+			{
+				throw createException("Expected a quest statement");
+			}
+		}
+		this.hasPendingQuest = false;
+
+		final int questLineNumber = this.lineNumber;
+		String beginText = null;
+		String endText = null;
+		final List<TeamDefinition> teams = new ArrayList<TeamDefinition>();
+		String teamName = null;
+		final List<PlayerDefinition> players = new ArrayList<PlayerDefinition>();
+		final List<EdibleItem> edibleItems = new ArrayList<EdibleItem>();
+		final List<EquipableItem> equipableItems = new ArrayList<EquipableItem>();
+
+		String line;
+		while ((line = readStatement()) != null)
+		{
+			final String keyword = getKeyword(line);
+			if (QUEST_KEYWORD.equals(keyword))
+			{
+				this.hasPendingQuest = true;
+				break;
+			}
+
+			final String arguments = line.substring(keyword.length()).trim();
+			switch (keyword)
+			{
+				case "begin":
+					beginText = unescape(arguments);
+					break;
+				case "end":
+					endText = unescape(arguments);
+					break;
+				case "team":
+					if (teamName != null)
+					{
+						teams.add(new TeamDefinition(teamName, players));
+						players.clear();
+					}
+					teamName = arguments;
+					break;
+				case "player":
+					if (teamName == null)
+					{
+						throw createException("A player must follow a team statement");
+					}
+					players.add(parsePlayer(arguments));
+					break;
+				default:
+					final Item item = parseItem(keyword, arguments);
+					if (item instanceof EdibleItem)
+					{
+						edibleItems.add((EdibleItem) item);
+					}
+					else
+					{
+						equipableItems.add((EquipableItem) item);
+					}
+					break;
+			}
+		}
+
+		if (teamName != null)
+		{
+			teams.add(new TeamDefinition(teamName, players));
+		}
+
+		if ((beginText == null) || (endText == null))
+		{
+			throw new InvalidContentException(String.format("The quest at line %d has no begin or end text", questLineNumber));
+		}
+		if (teams.size() != 2)
+		{
+			throw new InvalidContentException(String.format("The quest at line %d has %d teams instead of 2", questLineNumber, teams.size()));
+		}
+
+		return new QuestDefinition(beginText, endText, teams.get(0), teams.get(1), edibleItems, equipableItems);
+	}
+
+	/**
+	 * @see java.io.Closeable#close()
+	 */
+	@Override
+	public void close() throws IOException
+	{
+		this.reader.close();
+	}
+
+	/**
+	 * Read the next statement, skipping blank and comment lines.
+	 * 
+	 * @return The statement, or null at the end of the content.
+	 * @throws IOException
+	 *             If the content can't be read.
+	 */
+	private String readStatement() throws IOException
+	{
+		String line;
+		while ((line = this.reader.readLine()) != null)
+		{
+			this.lineNumber++;
+			line = line.trim();
+			if (!line.isEmpty() && !line.startsWith(COMMENT_PREFIX))
+			{
+				return line;
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Parse a player statement.
+	 * 
+	 * @param arguments
+	 *            The arguments of the statement.
+	 * @return The player definition.
+	 * @throws InvalidContentException
+	 *             If the statement is malformed.
+	 */
+	private PlayerDefinition parsePlayer(String arguments) throws InvalidContentException
+	{
+		final String[] tokens = arguments.split("\\s+");
+		if (tokens.length != 3)
+		{
+			throw createException("A player needs a name, a class and a character name");
+		}
+
+		try
+		{
+			return new PlayerDefinition(tokens[0], CharacterType.valueOf(tokens[1].toUpperCase(Locale.ROOT)), tokens[2]);
+		}
+		catch (IllegalArgumentException e)
+		{
+			throw createException("Unknown character class " + tokens[1]);
+		}
+	}
+
+	/**
+	 * Parse an item statement and register the item.
+	 * 
+	 * @param keyword
+	 *            The keyword of the statement.
+	 * @param arguments
+	 *            The arguments of the statement.
+	 * @return The registered item.
+	 * @throws InvalidContentException
+	 *             If the statement is malformed.
+	 */
+	private Item parseItem(String keyword, String arguments) throws InvalidContentException
+	{
+		final ItemKind itemKind;
+		try
+		{
+			itemKind = ItemKind.valueOf(keyword.toUpperCase(Locale.ROOT));
+		}
+		catch (IllegalArgumentException e)
+		{
+			throw createException("Unknown statement " + keyword);
+		}
+
+		final String[] tokens = arguments.split("\\s+");
+		final int[] modifiers = new int[Characteristic.values().length];
+		if (itemKind.getCharacteristic() != null)
+		{
+			if (tokens.length != 3)
+			{
+				throw createException("A " + keyword + " needs a name, a weight and a value");
+			}
+			modifiers[itemKind.getCharacteristic().ordinal()] = parseInt(tokens[2]);
+		}
+		else
+		{
+			if ((tokens.length < 4) || (tokens.length % 2 != 0))
+			{
+				throw createException("A spell needs a name, a weight and characteristic and value pairs");
+			}
+
+			final boolean[] hasEffect = new boolean[modifiers.length];
+			for (int i = 2; i < tokens.length; i += 2)
+			{
+				final Characteristic characteristic = parseCharacteristic(tokens[i]);
+				if (hasEffect[characteristic.ordinal()])
+				{
+					throw createException("The spell has several effects on " + tokens[i]);
+				}
+				hasEffect[characteristic.ordinal()] = true;
+				modifiers[characteristic.ordinal()] = parseInt(tokens[i + 1]);
+			}
+		}
+
+		return this.itemCatalog.register(itemKind.createItem(tokens[0], parseInt(tokens[1]), modifiers));
+	}
+
+	/**
+	 * Parse a characteristic.
+	 * 
+	 * @param token
+	 *            The token.
+	 * @return The characteristic.
+	 * @throws InvalidContentException
+	 *             If the token is not a characteristic.
+	 */
+	private Characteristic parseCharacteristic(String token) throws InvalidContentException
+	{
+		try
+		{
+			return Characteristic.valueOf(token.toUpperCase(Locale.ROOT));
+		}
+		catch (IllegalArgumentException e)
+		{
+			throw createException("Unknown characteristic " + token);
+		}
+	}
+
+	/**
+	 * Parse an integer.
+	 * 
+	 * @param token
+	 *            The token.
+	 * @return The integer.
+	 * @throws InvalidContentException
+	 *             If the token is not an integer.
+	 */
+	private int parseInt(String token) throws InvalidContentException
+	{
+		try
+		{
+			return Integer.parseInt(token);
+		}
+		catch (NumberFormatException e)
+		{
+			throw createException("Invalid number " + token);
+		}
+	}
+
+	/**
+	 * Create an exception located at the last read line.
+	 * 
+	 * @param message
+	 *            The message.
+	 * @return The exception.
+	 */
+	private InvalidContentException createException(String message)
+	{
+		return new InvalidContentException(String.format("%s at line %d", message, this.lineNumber));
+	}
+
+	/**
+	 * Get the keyword of a statement.
+	 * 
+	 * @param line
+	 *            The statement.
+	 * @return The keyword.
+	 */
+	private static String getKeyword(String line)
+	{
+		final int offset = line.indexOf(' ');
+		return (offset < 0 ? line : line.substring(0, offset));
+	}
+
+	/**
+	 * Replace the escape sequences of a text.
+	 * 
+	 * @param text
+	 *            The escaped text.
+	 * @return The text.
+	 */
+	private static String unescape(String text)
+	{
+		if (text.indexOf('\\') < 0)
+		{
+			return text;
+		}
+
+		final StringBuilder unescapedText = new StringBuilder(text.length());
+		for (int i = 0; i < text.length(); i++)
+		{
+			final char currentChar = text.charAt(i);
+			if ((currentChar == '\\') && (i + 1 < text.length()))
+			{
+				final char nextChar = text.charAt(++i);
+				unescapedText.append(nextChar == 'n' ? '\n' : nextChar);
+			}
+			else
+			{
+				unescapedText.append(currentChar);
+			}
+		}
+
+		return unescapedText.toString();
+	}
+}
@@ -0,0 +1,26 @@
+package fr.polytech.myrpg.game.content.exceptions;
+
+/**
+ * This exception is thrown if a content file is malformed.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public class InvalidContentException extends Exception
+{
+	/**
+	 * The serial UID.
+	 */
+	private static final long serialVersionUID = 4915724417342208313L;
+
+	/**
+	 * Create an invalid content exception.
+	 * 
+	 * @param message
+	 *            The message to display.
+	 */
+	public InvalidContentException(String message)
+	{
+		super(message);
+	}
+}
@@ -0,0 +1,28 @@
+package fr.polytech.myrpg.game.exceptions;
+
+/**
+ * This exception is thrown if a quest can't be created.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public class QuestCreationException extends Exception
+{
+	/**
+	 * The serial UID.
+	 */
+	private static final long serialVersionUID = 7350846287436515208L;
+
+	/**
+	 * Create a quest creation exception.
+	 * 
+	 * @param message
+	 *            The message to display.
+	 * @param cause
+	 *            The cause.
+	 */
+	public QuestCreationException(String message, Throwable cause)
+	{
+		super(message, cause);
+	}
+}
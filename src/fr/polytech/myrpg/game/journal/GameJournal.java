@@ -0,0 +1,377 @@
+package fr.polytech.myrpg.game.journal;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+import fr.polytech.myrpg.characters.Characteristic;
+import fr.polytech.myrpg.characters.items.Item;
+import fr.polytech.myrpg.characters.items.edible.EdibleItem;
+import fr.polytech.myrpg.game.journal.exceptions.InvalidJournalException;
+import fr.polytech.myrpg.game.players.Player;
+import fr.polytech.myrpg.game.quests.BasicQuest;
+import fr.polytech.myrpg.game.snapshot.GameSnapshotter;
+import me.grea.antoine.utils.Log;
+
+/**
+ * This class represents an append-only journal of the events of the quests, in a compact binary format.
+ *
+ * Each quest starts with a snapshot of its state and ends with the CRC32 of its final state, and every round records the decisions of the players and the outcome of
+ * the random draws in between, so that {@link GameJournalReplayer} can play the quest again and check that it gives the same events.
+ *
+ * Each record is a type, a number of values, the int values, then a text and binary data if the type has them. The records are buffered and flushed at the end of
+ * each quest.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public class GameJournal implements Closeable
+{
+	/**
+	 * The magic number, "MRPJ".
+	 */
+	static final int MAGIC = 0x4D52504A;
+
+	/**
+	 * The version of the format.
+	 */
+	static final int VERSION = 1;
+
+	/**
+	 * The output.
+	 */
+	private final DataOutputStream output;
+
+	/**
+	 * The snapshotter encoding the states of the quests.
+	 */
+	private final GameSnapshotter gameSnapshotter;
+
+	/**
+	 * The computer of the checksums of the final states.
+	 */
+	private final CRC32 crc32;
+
+	/**
+	 * The index of the quest being played.
+	 */
+	private int questIndex;
+
+	/**
+	 * Create a journal, writing its header.
+	 * 
+	 * @param outputStream
+	 *            The output stream.
+	 * @throws IOException
+	 *             If the header can't be written.
+	 */
+	public GameJournal(OutputStream outputStream) throws IOException
+	{
+		this(outputStream, true);
+	}
+
+	/**
+	 * Create a journal.
+	 * 
+	 * @param outputStream
+	 *            The output stream.
+	 * @param isNew
+	 *            If the header must be written, else the records are appended to an existing journal.
+	 * @throws IOException
+	 *             If the header can't be written.
+	 */
+	private GameJournal(OutputStream outputStream, boolean isNew) throws IOException
+	{
+		this.output = new DataOutputStream(new BufferedOutputStream(outputStream));
+		this.gameSnapshotter = new GameSnapshotter();
+		this.crc32 = new CRC32();
+		this.questIndex = 0;
+
+		if (isNew)
+		{
+			this.output.writeInt(MAGIC);
+			this.output.writeInt(VERSION);
+		}
+	}
+
+	/**
+	 * Open a journal file to append records, or create it if it doesn't exist. A record torn by the end of a previous process is removed first.
+	 * 
+	 * @param path
+	 *            The path of the journal file.
+	 * @return The journal.
+	 * @throws IOException
+	 *             If the file can't be opened.
+	 * @throws InvalidJournalException
+	 *             If the file isn't a journal.
+	 */
+	public static GameJournal open(Path path) throws IOException, InvalidJournalException
+	{
+		final FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.CREATE);
+		try
+		{
+			final boolean isNew = (fileChannel.size() == 0);
+			if (!isNew)
+			{
+				final GameJournalReader reader = new GameJournalReader(Channels.newInputStream(fileChannel));
+				int nbRecords = 0;
+				while (reader.readRecord() != null)
+				{
+					nbRecords++;
+				}
+				fileChannel.truncate(reader.getPosition());
+				Log.d(String.format("Appending to the journal %s after %d records", path, nbRecords));
+			}
+
+			fileChannel.position(fileChannel.size());
+			return new GameJournal(Channels.newOutputStream(fileChannel), isNew);
+		}
+		catch (IOException | InvalidJournalException e)
+		{
+			fileChannel.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Set the index of the quest being played, written when it starts.
+	 * 
+	 * @param questIndex
+	 *            The index of the quest, starting from 0.
+	 */
+	public void setQuestIndex(int questIndex)
+	{
+		this.questIndex = questIndex;
+		this.gameSnapshotter.setQuestIndex(questIndex);
+	}
+
+	/**
+	 * A quest has started, or has been resumed.
+	 * 
+	 * @param quest
+	 *            The quest.
+	 * @param usesFightOutcomeCache
+	 *            If the attacks use a fight outcome cache.
+	 */
+	public void questStarted(BasicQuest quest, boolean usesFightOutcomeCache)
+	{
+		try
+		{
+			final ByteBuffer snapshot = this.gameSnapshotter.encodeSnapshot(quest);
+			writeRecordHeader(JournalRecordType.QUEST_START, 2);
+			this.output.writeInt(this.questIndex);
+			this.output.writeInt(usesFightOutcomeCache ? 1 : 0);
+			this.output.writeInt(snapshot.remaining());
+			this.output.write(snapshot.array(), snapshot.arrayOffset() + snapshot.position(), snapshot.remaining());
+		}
+		catch (IOException e)
+		{
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * A round has started.
+	 * 
+	 * @param round
+	 *            The number of the round, starting from 1.
+	 * @param isFirstTeam
+	 *            If the player is in the first team.
+	 * @param player
+	 *            The player.
+	 * @param choice
+	 *            The choice of action.
+	 */
+	public void roundStarted(int round, boolean isFirstTeam, Player player, int choice)
+	{
+		try
+		{
+			writeRecordHeader(JournalRecordType.ROUND, 4);
+			this.output.writeInt(round);
+			this.output.writeInt(isFirstTeam ? 0 : 1);
+			this.output.writeInt(player.getTeamId());
+			this.output.writeInt(choice);
+		}
+		catch (IOException e)
+		{
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * An item has dropped.
+	 * 
+	 * @param item
+	 *            The item.
+	 * @param lootOffset
+	 *            The offset of the item in its loot list.
+	 * @param isPickedUp
+	 *            If the item was picked up, else it was too heavy or couldn't be equipped.
+	 */
+	public void itemDropped(Item item, int lootOffset, boolean isPickedUp)
+	{
+		try
+		{
+			writeRecordHeader(JournalRecordType.LOOT, 3);
+			this.output.writeInt(item instanceof EdibleItem ? 0 : 1);
+			this.output.writeInt(lootOffset);
+			this.output.writeInt(isPickedUp ? 1 : 0);
+			this.output.writeUTF(item.getName());
+		}
+		catch (IOException e)
+		{
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * An opponent has been attacked.
+	 * 
+	 * @param choice
+	 *            The choice of opponent.
+	 * @param opponent
+	 *            The opponent.
+	 * @param succeededSpecialMoves
+	 *            The mask of the succeeded special moves of the opponent.
+	 * @param healthBefore
+	 *            The health of the opponent before the fight.
+	 * @param healthAfter
+	 *            The health of the opponent after the fight.
+	 */
+	public void opponentAttacked(int choice, Player opponent, int succeededSpecialMoves, int healthBefore, int healthAfter)
+	{
+		try
+		{
+			writeRecordHeader(JournalRecordType.ATTACK, 5);
+			this.output.writeInt(choice);
+			this.output.writeInt(opponent.getTeamId());
+			this.output.writeInt(succeededSpecialMoves);
+			this.output.writeInt(healthBefore);
+			this.output.writeInt(healthAfter);
+		}
+		catch (IOException e)
+		{
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * An opponent has died.
+	 * 
+	 * @param opponent
+	 *            The opponent.
+	 */
+	public void opponentDied(Player opponent)
+	{
+		try
+		{
+			writeRecordHeader(JournalRecordType.DEATH, 1);
+			this.output.writeInt(opponent.getTeamId());
+		}
+		catch (IOException e)
+		{
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * A characteristic has been upgraded after a level up.
+	 * 
+	 * @param characteristic
+	 *            The characteristic.
+	 */
+	public void characteristicUpgraded(Characteristic characteristic)
+	{
+		try
+		{
+			writeRecordHeader(JournalRecordType.LEVEL_UP, 1);
+			this.output.writeInt(characteristic.ordinal());
+		}
+		catch (IOException e)
+		{
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * An item has been used.
+	 * 
+	 * @param choice
+	 *            The choice of item.
+	 * @param item
+	 *            The item.
+	 */
+	public void itemUsed(int choice, EdibleItem item)
+	{
+		try
+		{
+			writeRecordHeader(JournalRecordType.ITEM_USED, 1);
+			this.output.writeInt(choice);
+			this.output.writeUTF(item.getName());
+		}
+		catch (IOException e)
+		{
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * A quest has ended. The records are flushed.
+	 * 
+	 * @param quest
+	 *            The quest.
+	 */
+	public void questEnded(BasicQuest quest)
+	{
+		try
+		{
+			final ByteBuffer snapshot = this.gameSnapshotter.encodeSnapshot(quest);
+			this.crc32.reset();
+			this.crc32.update(snapshot.array(), snapshot.arrayOffset() + snapshot.position(), snapshot.remaining());
+
+			writeRecordHeader(JournalRecordType.QUEST_END, 3);
+			this.output.writeInt(quest.getNbRounds());
+			this.output.writeInt(snapshot.remaining());
+			this.output.writeInt((int) this.crc32.getValue());
+			this.output.flush();
+		}
+		catch (IOException e)
+		{
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * @see java.io.Closeable#close()
+	 */
+	@Override
+	public void close() throws IOException
+	{
+		this.output.close();
+	}
+
+	/**
+	 * Write the type and the number of values of a record.
+	 * 
+	 * @param type
+	 *            The type.
+	 * @param nbValues
+	 *            The number of values.
+	 * @throws IOException
+	 *             If the output can't be written.
+	 */
+	private void writeRecordHeader(JournalRecordType type, int nbValues) throws IOException
+	{
+		this.output.writeByte(type.ordinal());
+		this.output.writeByte(nbValues);
+	}
+}
@@ -0,0 +1,248 @@
+package fr.polytech.myrpg.game.journal;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import fr.polytech.myrpg.game.journal.exceptions.InvalidJournalException;
+
+/**
+ * This class represents a reader of the records of a journal written by {@link GameJournal}.
+ *
+ * A journal whose last record is torn, because the process ended while writing it, is read up to its last complete record.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public class GameJournalReader implements Closeable
+{
+	/**
+	 * The record types, indexed by code.
+	 */
+	private static final JournalRecordType[] TYPES = JournalRecordType.values();
+
+	/**
+	 * The maximal length of the binary data of a record.
+	 */
+	private static final int MAX_DATA_LENGTH = 1 << 24;
+
+	/**
+	 * The input, counting the bytes read.
+	 */
+	private final CountingInputStream countingInput;
+
+	/**
+	 * The input.
+	 */
+	private final DataInputStream input;
+
+	/**
+	 * The number of bytes of the header and of the complete records read.
+	 */
+	private long position;
+
+	/**
+	 * If the last record is torn.
+	 */
+	private boolean isTruncated;
+
+	/**
+	 * Create a journal reader, reading the header.
+	 * 
+	 * @param inputStream
+	 *            The input stream.
+	 * @throws IOException
+	 *             If the input can't be read.
+	 * @throws InvalidJournalException
+	 *             If the input isn't a journal.
+	 */
+	public GameJournalReader(InputStream inputStream) throws IOException, InvalidJournalException
+	{
+		this.countingInput = new CountingInputStream(new BufferedInputStream(inputStream));
+		this.input = new DataInputStream(this.countingInput);
+		this.isTruncated = false;
+
+		try
+		{
+			if (this.input.readInt() != GameJournal.MAGIC)
+			{
+				throw new InvalidJournalException("The file is not a journal.");
+			}
+			if (this.input.readInt() != GameJournal.VERSION)
+			{
+				throw new InvalidJournalException("Unsupported journal version.");
+			}
+		}
+		catch (EOFException e)
+		{
+			throw new InvalidJournalException("The file is not a journal.");
+		}
+
+		this.position = this.countingInput.getCount();
+	}
+
+	/**
+	 * Read the next record.
+	 * 
+	 * @return The record, or null at the end of the journal.
+	 * @throws IOException
+	 *             If the input can't be read.
+	 * @throws InvalidJournalException
+	 *             If the record is malformed.
+	 */
+	public JournalRecord readRecord() throws IOException, InvalidJournalException
+	{
+		final int code = this.input.read();
+		if (code < 0)
+		{
+			return null;
+		}
+		if (code >= TYPES.length)
+		{
+			throw new InvalidJournalException(String.format("Unknown record type %d at offset %d.", code, this.position));
+		}
+
+		final JournalRecordType type = TYPES[code];
+		try
+		{
+			final int[] values = new int[this.input.readUnsignedByte()];
+			for (int i = 0; i < values.length; i++)
+			{
+				values[i] = this.input.readInt();
+			}
+
+			final String text = (type.hasText() ? this.input.readUTF() : null);
+
+			byte[] data = null;
+			if (type.hasData())
+			{
+				final int length = this.input.readInt();
+				if ((length < 0) || (length > MAX_DATA_LENGTH))
+				{
+					throw new InvalidJournalException(String.format("Invalid data length %d at offset %d.", length, this.position));
+				}
+				data = new byte[length];
+				this.input.readFully(data);
+			}
+
+			this.position = this.countingInput.getCount();
+			return new JournalRecord(type, values, text, data);
+		}
+		catch (EOFException e)
+		{
+			this.isTruncated = true;
+			return null;
+		}
+	}
+
+	/**
+	 * Get the number of bytes of the header and of the complete records read.
+	 * 
+	 * @return The position after the last complete record.
+	 */
+	public long getPosition()
+	{
+		return this.position;
+	}
+
+	/**
+	 * Check if the journal ends with a torn record, which has been ignored.
+	 * 
+	 * @return True if the last record is torn, else False.
+	 */
+	public boolean isTruncated()
+	{
+		return this.isTruncated;
+	}
+
+	/**
+	 * @see java.io.Closeable#close()
+	 */
+	@Override
+	public void close() throws IOException
+	{
+		this.input.close();
+	}
+
+	/**
+	 * This class represents an input stream counting the bytes read.
+	 *
+	 * @author DELORME Loïc
+	 * @since 1.0.0
+	 */
+	private static class CountingInputStream extends FilterInputStream
+	{
+		/**
+		 * The number of bytes read.
+		 */
+		private long count;
+
+		/**
+		 * Create a counting input stream.
+		 * 
+		 * @param inputStream
+		 *            The input stream.
+		 */
+		public CountingInputStream(InputStream inputStream)
+		{
+			super(inputStream);
+			this.count = 0;
+		}
+
+		/**
+		 * Get the number of bytes read.
+		 * 
+		 * @return The number of bytes.
+		 */
+		public long getCount()
+		{
+			return this.count;
+		}
+
+		/**
+		 * @see java.io.FilterInputStream#read()
+		 */
+		@Override
+		public int read() throws IOException
+		{
+			final int value = super.read();
+			if (value >= 0)
+			{
+				this.count++;
+			}
+
+			return value;
+		}
+
+		/**
+		 * @see java.io.FilterInputStream#read(byte[], int, int)
+		 */
+		@Override
+		public int read(byte[] buffer, int offset, int length) throws IOException
+		{
+			final int nbBytes = super.read(buffer, offset, length);
+			if (nbBytes > 0)
+			{
+				this.count += nbBytes;
+			}
+
+			return nbBytes;
+		}
+
+		/**
+		 * @see java.io.FilterInputStream#skip(long)
+		 */
+		@Override
+		public long skip(long nbBytes) throws IOException
+		{
+			final long nbSkippedBytes = super.skip(nbBytes);
+			this.count += nbSkippedBytes;
+
+			return nbSkippedBytes;
+		}
+	}
+}
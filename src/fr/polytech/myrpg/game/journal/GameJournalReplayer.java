@@ -0,0 +1,419 @@
+package fr.polytech.myrpg.game.journal;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import fr.polytech.myrpg.characters.Character;
+import fr.polytech.myrpg.characters.Characteristic;
+import fr.polytech.myrpg.characters.FightOutcomeCache;
+import fr.polytech.myrpg.characters.exceptions.InvalidConstraintsException;
+import fr.polytech.myrpg.characters.exceptions.TooFewSpecialMovesException;
+import fr.polytech.myrpg.characters.exceptions.TooHighCharacteristicsValueException;
+import fr.polytech.myrpg.characters.items.ItemCatalog;
+import fr.polytech.myrpg.characters.items.edible.EdibleItem;
+import fr.polytech.myrpg.characters.items.equipable.EquipableItem;
+import fr.polytech.myrpg.game.GameBuilder;
+import fr.polytech.myrpg.game.content.ContentGameBuilder;
+import fr.polytech.myrpg.game.content.IQuestDefinitionReader;
+import fr.polytech.myrpg.game.content.QuestDefinition;
+import fr.polytech.myrpg.game.content.exceptions.InvalidContentException;
+import fr.polytech.myrpg.game.exceptions.QuestCreationException;
+import fr.polytech.myrpg.game.journal.exceptions.InvalidJournalException;
+import fr.polytech.myrpg.game.observers.IGameObserver;
+import fr.polytech.myrpg.game.players.Player;
+import fr.polytech.myrpg.game.players.Team;
+import fr.polytech.myrpg.game.quests.BasicQuest;
+import fr.polytech.myrpg.game.simulation.IQuestFactory;
+import fr.polytech.myrpg.game.snapshot.GameSnapshotter;
+import fr.polytech.myrpg.game.snapshot.exceptions.InvalidSnapshotException;
+import fr.polytech.myrpg.random.SplittableRandomSource;
+import me.grea.antoine.utils.Log;
+
+/**
+ * This class replays the quests of a journal at full speed and checks that they give the recorded events.
+ *
+ * Each quest is created again by its factory and restored from the snapshot of its start, then played with the recorded decisions instead of an observer. The replay
+ * is journaled in memory and compared record by record with the journal, down to the CRC32 of the final state, so any difference in the rules, the random draws or
+ * the content is reported at the round where it appears.
+ *
+ * A quest interrupted before its end can't be checked and is skipped.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public class GameJournalReplayer
+{
+	/**
+	 * The factories of the quests, indexed by quest index.
+	 */
+	private final List<IQuestFactory> questFactories;
+
+	/**
+	 * Create a journal replayer.
+	 * 
+	 * @param questFactories
+	 *            The factories of the quests of the journaled game, indexed by quest index.
+	 */
+	public GameJournalReplayer(List<IQuestFactory> questFactories)
+	{
+		this.questFactories = new ArrayList<IQuestFactory>(questFactories);
+	}
+
+	/**
+	 * Replay a journal file.
+	 * 
+	 * @param args
+	 *            The path of the journal file, and the path of the content file if the game wasn't built-in.
+	 */
+	public static void main(String[] args)
+	{
+		if ((args.length < 1) || (args.length > 2))
+		{
+			Log.e("Usage: GameJournalReplayer <journal file> [content file]");
+			return;
+		}
+
+		try (final GameJournalReader reader = new GameJournalReader(Files.newInputStream(Paths.get(args[0]))))
+		{
+			final List<IQuestFactory> questFactories = (args.length == 2 ? readQuestFactories(args[1]) : createBuiltInQuestFactories());
+			final long startTime = System.nanoTime();
+			final int nbQuests = new GameJournalReplayer(questFactories).replay(reader);
+			Log.i(String.format("%d quests were replayed and verified in %d ms", nbQuests, (System.nanoTime() - startTime) / 1000000));
+		}
+		catch (IOException | InvalidJournalException | InvalidContentException | QuestCreationException e)
+		{
+			Log.e(e);
+		}
+	}
+
+	/**
+	 * Replay the quests of a journal.
+	 * 
+	 * @param reader
+	 *            The reader of the journal.
+	 * @return The number of quests replayed and verified.
+	 * @throws IOException
+	 *             If the journal can't be read.
+	 * @throws InvalidJournalException
+	 *             If the journal is malformed, or if a replayed quest doesn't give the recorded events.
+	 * @throws QuestCreationException
+	 *             If a quest can't be created.
+	 */
+	public int replay(GameJournalReader reader) throws IOException, InvalidJournalException, QuestCreationException
+	{
+		int nbQuests = 0;
+
+		JournalRecord record = reader.readRecord();
+		while (record != null)
+		{
+			if (record.getType() != JournalRecordType.QUEST_START)
+			{
+				throw new InvalidJournalException("A quest start was expected instead of " + record + ".");
+			}
+
+			final List<JournalRecord> questRecords = new ArrayList<JournalRecord>();
+			do
+			{
+				questRecords.add(record);
+				record = reader.readRecord();
+			}
+			while ((record != null) && (record.getType() != JournalRecordType.QUEST_START) && (questRecords.get(questRecords.size() - 1).getType() != JournalRecordType.QUEST_END));
+
+			if (questRecords.get(questRecords.size() - 1).getType() == JournalRecordType.QUEST_END)
+			{
+				replayQuest(questRecords);
+				nbQuests++;
+			}
+			else
+			{
+				Log.w(String.format("The quest %d was interrupted, it is not verified", questRecords.get(0).getValue(0) + 1));
+			}
+		}
+
+		if (reader.isTruncated())
+		{
+			Log.w("The journal ends with a torn record");
+		}
+
+		return nbQuests;
+	}
+
+	/**
+	 * Replay a quest and compare its events with the recorded ones.
+	 * 
+	 * @param questRecords
+	 *            The records of the quest, from its start to its end.
+	 * @throws IOException
+	 *             If the replay can't be journaled.
+	 * @throws InvalidJournalException
+	 *             If the replayed quest doesn't give the recorded events.
+	 * @throws QuestCreationException
+	 *             If the quest can't be created.
+	 */
+	private void replayQuest(List<JournalRecord> questRecords) throws IOException, InvalidJournalException, QuestCreationException
+	{
+		final JournalRecord startRecord = questRecords.get(0);
+		final int questIndex = startRecord.getValue(0);
+		if ((questIndex < 0) || (questIndex >= this.questFactories.size()))
+		{
+			throw new InvalidJournalException(String.format("The quest %d is unknown.", questIndex + 1));
+		}
+
+		final BasicQuest quest;
+		try
+		{
+			// Any random source will do, its state is restored.
+			quest = this.questFactories.get(questIndex).createQuest(new SplittableRandomSource(0));
+			GameSnapshotter.restoreSnapshot(ByteBuffer.wrap(startRecord.getData()), quest);
+		}
+		catch (TooHighCharacteristicsValueException | TooFewSpecialMovesException | InvalidConstraintsException e)
+		{
+			throw new QuestCreationException(String.format("The quest %d can't be created", questIndex + 1), e);
+		}
+		catch (InvalidSnapshotException e)
+		{
+			throw new InvalidJournalException(String.format("The quest %d can't be restored: %s", questIndex + 1, e.getMessage()));
+		}
+
+		if (startRecord.getValue(1) != 0)
+		{
+			quest.setFightOutcomeCache(new FightOutcomeCache());
+		}
+
+		// The quest may have been stopped by a maximal number of rounds, and a diverging replay must stop too.
+		quest.setMaxNbRounds(questRecords.get(questRecords.size() - 1).getValue(0));
+
+		final ByteArrayOutputStream replayOutput = new ByteArrayOutputStream();
+		try (final GameJournal replayJournal = new GameJournal(replayOutput))
+		{
+			replayJournal.setQuestIndex(questIndex);
+			quest.setGameJournal(replayJournal);
+			quest.startQuest(new ReplayGameObserver(questRecords));
+		}
+
+		try (final GameJournalReader replayReader = new GameJournalReader(new ByteArrayInputStream(replayOutput.toByteArray())))
+		{
+			int round = 0;
+			for (JournalRecord currentRecord : questRecords)
+			{
+				final JournalRecord replayedRecord = replayReader.readRecord();
+				if (!currentRecord.equals(replayedRecord))
+				{
+					throw new InvalidJournalException(String.format("The quest %d diverges at round %d: %s was recorded but %s was replayed.", questIndex + 1, round, currentRecord, replayedRecord));
+				}
+
+				if (currentRecord.getType() == JournalRecordType.ROUND)
+				{
+					round = currentRecord.getValue(0);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Create the factories of the built-in quests.
+	 * 
+	 * @return The quest factories.
+	 */
+	private static List<IQuestFactory> createBuiltInQuestFactories()
+	{
+		final GameBuilder gameBuilder = new GameBuilder();
+		final List<IQuestFactory> questFactories = new ArrayList<IQuestFactory>();
+		for (int i = 1; i <= GameBuilder.NB_QUESTS; i++)
+		{
+			questFactories.add(gameBuilder.createQuestFactory(i));
+		}
+
+		return questFactories;
+	}
+
+	/**
+	 * Read the quests of a content file.
+	 * 
+	 * @param contentPath
+	 *            The path of the content file.
+	 * @return The quest factories.
+	 * @throws IOException
+	 *             If the file can't be read.
+	 * @throws InvalidContentException
+	 *             If the content is malformed.
+	 */
+	private static List<IQuestFactory> readQuestFactories(String contentPath) throws IOException, InvalidContentException
+	{
+		try (final IQuestDefinitionReader reader = ContentGameBuilder.openReader(Paths.get(contentPath), new ItemCatalog()))
+		{
+			final List<IQuestFactory> questFactories = new ArrayList<IQuestFactory>();
+
+			QuestDefinition questDefinition;
+			while ((questDefinition = reader.readQuestDefinition()) != null)
+			{
+				questFactories.add(questDefinition);
+			}
+
+			return questFactories;
+		}
+	}
+
+	/**
+	 * This class represents an observer which takes the decisions recorded in a journal, and displays nothing.
+	 *
+	 * @author DELORME Loïc
+	 * @since 1.0.0
+	 */
+	private static class ReplayGameObserver implements IGameObserver
+	{
+		/**
+		 * The characteristics.
+		 */
+		private static final Characteristic[] CHARACTERISTICS = Characteristic.values();
+
+		/**
+		 * The recorded choices of action.
+		 */
+		private final Deque<Integer> actionChoices;
+
+		/**
+		 * The recorded choices of opponent or item.
+		 */
+		private final Deque<Integer> playerChoices;
+
+		/**
+		 * The recorded upgraded characteristics.
+		 */
+		private final Deque<Characteristic> upgradedCharacteristics;
+
+		/**
+		 * Create a replay game observer.
+		 * 
+		 * @param questRecords
+		 *            The records of the quest.
+		 */
+		public ReplayGameObserver(List<JournalRecord> questRecords)
+		{
+			this.actionChoices = new ArrayDeque<Integer>();
+			this.playerChoices = new ArrayDeque<Integer>();
+			this.upgradedCharacteristics = new ArrayDeque<Characteristic>();
+
+			for (JournalRecord currentRecord : questRecords)
+			{
+				switch (currentRecord.getType())
+				{
+					case ROUND:
+						this.actionChoices.add(currentRecord.getValue(3));
+						break;
+					case ATTACK:
+					case ITEM_USED:
+						this.playerChoices.add(currentRecord.getValue(0));
+						break;
+					case LEVEL_UP:
+						final int ordinal = currentRecord.getValue(0);
+						this.upgradedCharacteristics.add((ordinal >= 0) && (ordinal < CHARACTERISTICS.length) ? CHARACTERISTICS[ordinal] : Characteristic.STRENGTH);
+						break;
+					default:
+						break;
+				}
+			}
+		}
+
+		/**
+		 * @see fr.polytech.myrpg.game.observers.IGameObserver#displayInformationBeforeFight(fr.polytech.myrpg.characters.Character, fr.polytech.myrpg.characters.Character)
+		 */
+		@Override
+		public void displayInformationBeforeFight(Character attacker, Character opponent)
+		{
+		}
+
+		/**
+		 * @see fr.polytech.myrpg.game.observers.IGameObserver#displayInformationAfterFight(fr.polytech.myrpg.characters.Character, fr.polytech.myrpg.characters.Character)
+		 */
+		@Override
+		public void displayInformationAfterFight(Character attacker, Character opponent)
+		{
+		}
+
+		/**
+		 * @see fr.polytech.myrpg.game.observers.IGameObserver#displayDeadCharacter(java.lang.String)
+		 */
+		@Override
+		public void displayDeadCharacter(String name)
+		{
+		}
+
+		/**
+		 * @see fr.polytech.myrpg.game.observers.IGameObserver#displayCharacterCanLevelUpAndGetCharacteristicToUpgrade()
+		 */
+		@Override
+		public Characteristic displayCharacterCanLevelUpAndGetCharacteristicToUpgrade()
+		{
+			// A replay which goes beyond the journal is reported by the comparison.
+			return (this.upgradedCharacteristics.isEmpty() ? Characteristic.STRENGTH : this.upgradedCharacteristics.poll());
+		}
+
+		/**
+		 * @see fr.polytech.myrpg.game.observers.IGameObserver#hasStartedRound(fr.polytech.myrpg.game.players.Player, fr.polytech.myrpg.game.players.Team, fr.polytech.myrpg.game.players.Team)
+		 */
+		@Override
+		public void hasStartedRound(Player currentPlayer, Team currentTeam, Team opponentTeam)
+		{
+		}
+
+		/**
+		 * @see fr.polytech.myrpg.game.observers.IGameObserver#displayChoiceForTheCurrentPlayer(java.lang.String)
+		 */
+		@Override
+		public int displayChoiceForTheCurrentPlayer(String name)
+		{
+			return (this.actionChoices.isEmpty() ? 1 : this.actionChoices.poll());
+		}
+
+		/**
+		 * @see fr.polytech.myrpg.game.observers.IGameObserver#displayMessage(java.lang.String)
+		 */
+		@Override
+		public void displayMessage(String message)
+		{
+		}
+
+		/**
+		 * @see fr.polytech.myrpg.game.observers.IGameObserver#hasDroppedEdibleItems(fr.polytech.myrpg.characters.items.edible.EdibleItem)
+		 */
+		@Override
+		public void hasDroppedEdibleItems(EdibleItem droppedItem)
+		{
+		}
+
+		/**
+		 * @see fr.polytech.myrpg.game.observers.IGameObserver#hasDroppedEquipableItems(fr.polytech.myrpg.characters.items.equipable.EquipableItem)
+		 */
+		@Override
+		public void hasDroppedEquipableItems(EquipableItem droppedItem)
+		{
+		}
+
+		/**
+		 * @see fr.polytech.myrpg.game.observers.IGameObserver#displayAndGetPlayerChoice(java.util.List, java.lang.String)
+		 */
+		@Override
+		public int displayAndGetPlayerChoice(List<String> choices, String title)
+		{
+			final int choice = (this.playerChoices.isEmpty() ? 1 : this.playerChoices.poll());
+			return Math.max(1, Math.min(choice, choices.size()));
+		}
+
+		/**
+		 * @see fr.polytech.myrpg.game.observers.IGameObserver#displayEndGame()
+		 */
+		@Override
+		public void displayEndGame()
+		{
+		}
+	}
+}
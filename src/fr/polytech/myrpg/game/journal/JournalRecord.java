@@ -0,0 +1,164 @@
+package fr.polytech.myrpg.game.journal;
+
+import java.util.Arrays;
+
+/**
+ * This class represents a record read from a journal.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public class JournalRecord
+{
+	/**
+	 * The type.
+	 */
+	private final JournalRecordType type;
+
+	/**
+	 * The values, whose meaning depends on the type.
+	 */
+	private final int[] values;
+
+	/**
+	 * The text, or null if the type has none.
+	 */
+	private final String text;
+
+	/**
+	 * The binary data, or null if the type has none.
+	 */
+	private final byte[] data;
+
+	/**
+	 * Create a journal record.
+	 * 
+	 * @param type
+	 *            The type.
+	 * @param values
+	 *            The values, whose meaning depends on the type.
+	 * @param text
+	 *            The text, or null if the type has none.
+	 * @param data
+	 *            The binary data, or null if the type has none.
+	 */
+	public JournalRecord(JournalRecordType type, int[] values, String text, byte[] data)
+	{
+		this.type = type;
+		this.values = values;
+		this.text = text;
+		this.data = data;
+	}
+
+	/**
+	 * Get the type.
+	 * 
+	 * @return The type.
+	 */
+	public JournalRecordType getType()
+	{
+		return this.type;
+	}
+
+	/**
+	 * Get the number of values.
+	 * 
+	 * @return The number of values.
+	 */
+	public int getNbValues()
+	{
+		return this.values.length;
+	}
+
+	/**
+	 * Get a value.
+	 * 
+	 * @param offset
+	 *            The offset of the value.
+	 * @return The value.
+	 */
+	public int getValue(int offset)
+	{
+		return this.values[offset];
+	}
+
+	/**
+	 * Get the text.
+	 * 
+	 * @return The text, or null if the type has none.
+	 */
+	public String getText()
+	{
+		return this.text;
+	}
+
+	/**
+	 * Get the binary data.
+	 * 
+	 * @return The binary data, or null if the type has none.
+	 */
+	public byte[] getData()
+	{
+		return this.data;
+	}
+
+	/**
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode()
+	{
+		int hashCode = this.type.hashCode();
+		hashCode = 31 * hashCode + Arrays.hashCode(this.values);
+		hashCode = 31 * hashCode + (this.text == null ? 0 : this.text.hashCode());
+		hashCode = 31 * hashCode + Arrays.hashCode(this.data);
+
+		return hashCode;
+	}
+
+	/**
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object object)
+	{
+		if (this == object)
+		{
+			return true;
+		}
+		if (!(object instanceof JournalRecord))
+		{
+			return false;
+		}
+
+		final JournalRecord record = (JournalRecord) object;
+		return (this.type == record.type) && Arrays.equals(this.values, record.values) && (this.text == null ? record.text == null : this.text.equals(record.text)) && Arrays.equals(this.data, record.data);
+	}
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString()
+	{
+		final StringBuilder stringRepresentation = new StringBuilder();
+		stringRepresentation.append("JournalRecord [type=");
+		stringRepresentation.append(this.type);
+		stringRepresentation.append(", values=");
+		stringRepresentation.append(Arrays.toString(this.values));
+		if (this.text != null)
+		{
+			stringRepresentation.append(", text=");
+			stringRepresentation.append(this.text);
+		}
+		if (this.data != null)
+		{
+			stringRepresentation.append(", data=");
+			stringRepresentation.append(this.data.length);
+			stringRepresentation.append(" bytes");
+		}
+		stringRepresentation.append("]");
+
+		return stringRepresentation.toString();
+	}
+}
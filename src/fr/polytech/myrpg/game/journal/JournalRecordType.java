@@ -0,0 +1,94 @@
+package fr.polytech.myrpg.game.journal;
+
+/**
+ * This enumeration represents all types of records of a journal.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public enum JournalRecordType
+{
+	/**
+	 * A quest has started: quest index, 1 if the fight outcome cache is used, and a snapshot of the quest.
+	 */
+	QUEST_START(false, true),
+
+	/**
+	 * A round has started: round number, 0 for the first team or 1 for the second one, identifier of the player and choice of action.
+	 */
+	ROUND(false, false),
+
+	/**
+	 * An item has dropped: 0 for an edible item or 1 for an equipable one, offset in the loot list and 1 if it was picked up, with the name of the item.
+	 */
+	LOOT(true, false),
+
+	/**
+	 * An opponent has been attacked: choice of opponent, identifier of the opponent, mask of its succeeded special moves, and its health before and after the fight.
+	 */
+	ATTACK(false, false),
+
+	/**
+	 * An opponent has died: identifier of the opponent.
+	 */
+	DEATH(false, false),
+
+	/**
+	 * A characteristic has been upgraded after a level up: ordinal of the characteristic.
+	 */
+	LEVEL_UP(false, false),
+
+	/**
+	 * An item has been used: choice of item, with the name of the item.
+	 */
+	ITEM_USED(true, false),
+
+	/**
+	 * A quest has ended: number of rounds, and length and CRC32 of the final snapshot of the quest.
+	 */
+	QUEST_END(false, false);
+
+	/**
+	 * If the records have a text.
+	 */
+	private final boolean hasText;
+
+	/**
+	 * If the records have binary data.
+	 */
+	private final boolean hasData;
+
+	/**
+	 * Create a journal record type.
+	 * 
+	 * @param hasText
+	 *            If the records have a text.
+	 * @param hasData
+	 *            If the records have binary data.
+	 */
+	private JournalRecordType(boolean hasText, boolean hasData)
+	{
+		this.hasText = hasText;
+		this.hasData = hasData;
+	}
+
+	/**
+	 * Check if the records have a text.
+	 * 
+	 * @return True if they have a text, else False.
+	 */
+	public boolean hasText()
+	{
+		return this.hasText;
+	}
+
+	/**
+	 * Check if the records have binary data.
+	 * 
+	 * @return True if they have binary data, else False.
+	 */
+	public boolean hasData()
+	{
+		return this.hasData;
+	}
+}
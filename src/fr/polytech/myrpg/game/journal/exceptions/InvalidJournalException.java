@@ -0,0 +1,26 @@
+package fr.polytech.myrpg.game.journal.exceptions;
+
+/**
+ * This exception is thrown if a journal is malformed, or if its replay doesn't give the recorded events.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public class InvalidJournalException extends Exception
+{
+	/**
+	 * The serial UID.
+	 */
+	private static final long serialVersionUID = 7319286550149073224L;
+
+	/**
+	 * Create an invalid journal exception.
+	 * 
+	 * @param message
+	 *            The message to display.
+	 */
+	public InvalidJournalException(String message)
+	{
+		super(message);
+	}
+}
@@ -0,0 +1,585 @@
+package fr.polytech.myrpg.game.observers;
+
+import java.io.Closeable;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+
+import fr.polytech.myrpg.characters.Character;
+import fr.polytech.myrpg.characters.Characteristic;
+import fr.polytech.myrpg.characters.items.Item;
+import fr.polytech.myrpg.characters.items.edible.EdibleItem;
+import fr.polytech.myrpg.characters.items.equipable.EquipableItem;
+import fr.polytech.myrpg.game.players.Player;
+import fr.polytech.myrpg.game.players.Team;
+import me.grea.antoine.utils.Log;
+
+/**
+ * This class represents a game observer displaying on a rendering thread, so that the console doesn't slow down the quests.
+ *
+ * The display events are published into a preallocated ring buffer by the thread playing the quests, and displayed by the console observer on the rendering thread.
+ * An event keeps the names and the health of the characters when it is published, as the characters change before it is displayed. If the ring buffer is full,
+ * the event is skipped rather than waiting for the rendering thread.
+ *
+ * Only the methods returning a decision wait until every published event is displayed, then call the console observer on the thread playing the quests, so the
+ * prompts always follow the events before them.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public class AsyncGameObserver implements IGameObserver, Closeable
+{
+	/**
+	 * The default number of events of the ring buffer.
+	 */
+	public static final int DEFAULT_CAPACITY = 1024;
+
+	/**
+	 * The console observer, only used by one thread at a time.
+	 */
+	private final ConsoleGameObserver consoleGameObserver;
+
+	/**
+	 * The ring buffer of events.
+	 */
+	private final DisplayEvent[] events;
+
+	/**
+	 * The mask giving the offset of a sequence in the ring buffer.
+	 */
+	private final int mask;
+
+	/**
+	 * The rendering thread.
+	 */
+	private final Thread renderingThread;
+
+	/**
+	 * The sequence of the next published event, only used by the thread playing the quests.
+	 */
+	private long nextSequence;
+
+	/**
+	 * The number of events skipped since the last published one, only used by the thread playing the quests.
+	 */
+	private int nbSkippedEvents;
+
+	/**
+	 * The number of published events.
+	 */
+	private volatile long publishedSequence;
+
+	/**
+	 * The number of displayed events.
+	 */
+	private volatile long renderedSequence;
+
+	/**
+	 * If the rendering thread is waiting for events.
+	 */
+	private volatile boolean isRenderingThreadParked;
+
+	/**
+	 * The thread waiting until every event is displayed, or null if there is none.
+	 */
+	private volatile Thread waitingThread;
+
+	/**
+	 * If the observer is closed.
+	 */
+	private volatile boolean isClosed;
+
+	/**
+	 * Create an asynchronous game observer with the default capacity.
+	 * 
+	 * @param consoleGameObserver
+	 *            The console observer.
+	 */
+	public AsyncGameObserver(ConsoleGameObserver consoleGameObserver)
+	{
+		this(consoleGameObserver, DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Create an asynchronous game observer.
+	 * 
+	 * @param consoleGameObserver
+	 *            The console observer.
+	 * @param capacity
+	 *            The number of events of the ring buffer, a power of two.
+	 */
+	public AsyncGameObserver(ConsoleGameObserver consoleGameObserver, int capacity)
+	{
+		if ((capacity <= 0) || (Integer.bitCount(capacity) != 1))
+		{
+			throw new IllegalArgumentException("The capacity must be a power of two.");
+		}
+
+		this.consoleGameObserver = consoleGameObserver;
+		this.events = new DisplayEvent[capacity];
+		for (int i = 0; i < capacity; i++)
+		{
+			this.events[i] = new DisplayEvent();
+		}
+		this.mask = capacity - 1;
+		this.nextSequence = 0;
+		this.nbSkippedEvents = 0;
+		this.publishedSequence = 0;
+		this.renderedSequence = 0;
+		this.isRenderingThreadParked = false;
+		this.waitingThread = null;
+		this.isClosed = false;
+
+		this.renderingThread = new Thread(new Runnable()
+		{
+			/**
+			 * @see java.lang.Runnable#run()
+			 */
+			@Override
+			public void run()
+			{
+				render();
+			}
+		}, "game-renderer");
+		this.renderingThread.setDaemon(true);
+		this.renderingThread.start();
+	}
+
+	/**
+	 * @see fr.polytech.myrpg.game.observers.IGameObserver#displayInformationBeforeFight(fr.polytech.myrpg.characters.Character, fr.polytech.myrpg.characters.Character)
+	 */
+	@Override
+	public void displayInformationBeforeFight(Character attacker, Character opponent)
+	{
+		final DisplayEvent event = claimEvent();
+		if (event != null)
+		{
+			event.type = DisplayEventType.BEFORE_FIGHT;
+			event.setFighters(attacker, opponent);
+			publishEvent();
+		}
+	}
+
+	/**
+	 * @see fr.polytech.myrpg.game.observers.IGameObserver#displayInformationAfterFight(fr.polytech.myrpg.characters.Character, fr.polytech.myrpg.characters.Character)
+	 */
+	@Override
+	public void displayInformationAfterFight(Character attacker, Character opponent)
+	{
+		final DisplayEvent event = claimEvent();
+		if (event != null)
+		{
+			event.type = DisplayEventType.AFTER_FIGHT;
+			event.setFighters(attacker, opponent);
+			publishEvent();
+		}
+	}
+
+	/**
+	 * @see fr.polytech.myrpg.game.observers.IGameObserver#displayDeadCharacter(java.lang.String)
+	 */
+	@Override
+	public void displayDeadCharacter(String name)
+	{
+		final DisplayEvent event = claimEvent();
+		if (event != null)
+		{
+			event.type = DisplayEventType.DEAD_CHARACTER;
+			event.text = name;
+			publishEvent();
+		}
+	}
+
+	/**
+	 * @see fr.polytech.myrpg.game.observers.IGameObserver#displayCharacterCanLevelUpAndGetCharacteristicToUpgrade()
+	 */
+	@Override
+	public Characteristic displayCharacterCanLevelUpAndGetCharacteristicToUpgrade()
+	{
+		awaitRendering();
+		return this.consoleGameObserver.displayCharacterCanLevelUpAndGetCharacteristicToUpgrade();
+	}
+
+	/**
+	 * @see fr.polytech.myrpg.game.observers.IGameObserver#hasStartedRound(fr.polytech.myrpg.game.players.Player, fr.polytech.myrpg.game.players.Team, fr.polytech.myrpg.game.players.Team)
+	 */
+	@Override
+	public void hasStartedRound(Player currentPlayer, Team currentTeam, Team opponentTeam)
+	{
+		// The console only writes the lines of the previous round, so the live teams are not given to the rendering thread.
+		final DisplayEvent event = claimEvent();
+		if (event != null)
+		{
+			event.type = DisplayEventType.STARTED_ROUND;
+			publishEvent();
+		}
+	}
+
+	/**
+	 * @see fr.polytech.myrpg.game.observers.IGameObserver#displayChoiceForTheCurrentPlayer(java.lang.String)
+	 */
+	@Override
+	public int displayChoiceForTheCurrentPlayer(String name)
+	{
+		awaitRendering();
+		return this.consoleGameObserver.displayChoiceForTheCurrentPlayer(name);
+	}
+
+	/**
+	 * @see fr.polytech.myrpg.game.observers.IGameObserver#displayMessage(java.lang.String)
+	 */
+	@Override
+	public void displayMessage(String message)
+	{
+		final DisplayEvent event = claimEvent();
+		if (event != null)
+		{
+			event.type = DisplayEventType.MESSAGE;
+			event.text = message;
+			publishEvent();
+		}
+	}
+
+	/**
+	 * @see fr.polytech.myrpg.game.observers.IGameObserver#hasDroppedEdibleItems(fr.polytech.myrpg.characters.items.edible.EdibleItem)
+	 */
+	@Override
+	public void hasDroppedEdibleItems(EdibleItem droppedItem)
+	{
+		final DisplayEvent event = claimEvent();
+		if (event != null)
+		{
+			event.type = DisplayEventType.DROPPED_EDIBLE_ITEM;
+			event.item = droppedItem;
+			publishEvent();
+		}
+	}
+
+	/**
+	 * @see fr.polytech.myrpg.game.observers.IGameObserver#hasDroppedEquipableItems(fr.polytech.myrpg.characters.items.equipable.EquipableItem)
+	 */
+	@Override
+	public void hasDroppedEquipableItems(EquipableItem droppedItem)
+	{
+		final DisplayEvent event = claimEvent();
+		if (event != null)
+		{
+			event.type = DisplayEventType.DROPPED_EQUIPABLE_ITEM;
+			event.item = droppedItem;
+			publishEvent();
+		}
+	}
+
+	/**
+	 * @see fr.polytech.myrpg.game.observers.IGameObserver#displayAndGetPlayerChoice(java.util.List, java.lang.String)
+	 */
+	@Override
+	public int displayAndGetPlayerChoice(List<String> choices, String title)
+	{
+		awaitRendering();
+		return this.consoleGameObserver.displayAndGetPlayerChoice(choices, title);
+	}
+
+	/**
+	 * Display end of the game, then wait until every event is displayed.
+	 * 
+	 * @see fr.polytech.myrpg.game.observers.IGameObserver#displayEndGame()
+	 */
+	@Override
+	public void displayEndGame()
+	{
+		final DisplayEvent event = claimEvent();
+		if (event != null)
+		{
+			event.type = DisplayEventType.END_GAME;
+			publishEvent();
+		}
+
+		awaitRendering();
+	}
+
+	/**
+	 * Wait until every event is displayed, then stop the rendering thread.
+	 * 
+	 * @see java.io.Closeable#close()
+	 */
+	@Override
+	public void close()
+	{
+		if (this.isClosed)
+		{
+			return;
+		}
+
+		awaitRendering();
+		this.isClosed = true;
+		LockSupport.unpark(this.renderingThread);
+		try
+		{
+			this.renderingThread.join();
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Get the next free event of the ring buffer.
+	 * 
+	 * @return The event, or null if the ring buffer is full and the event is skipped.
+	 */
+	private DisplayEvent claimEvent()
+	{
+		if (this.nextSequence - this.renderedSequence > this.mask)
+		{
+			this.nbSkippedEvents++;
+			return null;
+		}
+
+		final DisplayEvent event = this.events[(int) this.nextSequence & this.mask];
+		event.nbSkippedEvents = this.nbSkippedEvents;
+		this.nbSkippedEvents = 0;
+
+		return event;
+	}
+
+	/**
+	 * Publish the claimed event to the rendering thread.
+	 */
+	private void publishEvent()
+	{
+		this.publishedSequence = ++this.nextSequence;
+		if (this.isRenderingThreadParked)
+		{
+			LockSupport.unpark(this.renderingThread);
+		}
+	}
+
+	/**
+	 * Wait until every published event is displayed.
+	 */
+	private void awaitRendering()
+	{
+		if (this.renderedSequence == this.nextSequence)
+		{
+			return;
+		}
+
+		this.waitingThread = Thread.currentThread();
+		while ((this.renderedSequence != this.nextSequence) && this.renderingThread.isAlive())
+		{
+			LockSupport.unpark(this.renderingThread);
+			LockSupport.park(this);
+		}
+		this.waitingThread = null;
+	}
+
+	/**
+	 * Display the published events until the observer is closed.
+	 */
+	private void render()
+	{
+		long sequence = this.renderedSequence;
+		while (!this.isClosed || (sequence != this.publishedSequence))
+		{
+			if (sequence == this.publishedSequence)
+			{
+				this.isRenderingThreadParked = true;
+				if ((sequence == this.publishedSequence) && !this.isClosed)
+				{
+					LockSupport.park(this);
+				}
+				this.isRenderingThreadParked = false;
+				continue;
+			}
+
+			final DisplayEvent event = this.events[(int) sequence & this.mask];
+			try
+			{
+				render(event);
+			}
+			catch (RuntimeException e)
+			{
+				Log.e(e);
+			}
+			event.clear();
+
+			this.renderedSequence = ++sequence;
+			final Thread currentWaitingThread = this.waitingThread;
+			if ((currentWaitingThread != null) && (sequence == this.publishedSequence))
+			{
+				LockSupport.unpark(currentWaitingThread);
+			}
+		}
+	}
+
+	/**
+	 * Display an event.
+	 * 
+	 * @param event
+	 *            The event.
+	 */
+	private void render(DisplayEvent event)
+	{
+		if (event.nbSkippedEvents > 0)
+		{
+			Log.w(String.format("%d events were not displayed because the display was too slow", event.nbSkippedEvents));
+		}
+
+		switch (event.type)
+		{
+			case BEFORE_FIGHT:
+				this.consoleGameObserver.displayInformationBeforeFight(event.attackerName, event.attackerHealth, event.opponentName, event.opponentHealth);
+				break;
+			case AFTER_FIGHT:
+				this.consoleGameObserver.displayInformationAfterFight(event.attackerName, event.attackerHealth, event.opponentName, event.opponentHealth);
+				break;
+			case DEAD_CHARACTER:
+				this.consoleGameObserver.displayDeadCharacter(event.text);
+				break;
+			case MESSAGE:
+				this.consoleGameObserver.displayMessage(event.text);
+				break;
+			case DROPPED_EDIBLE_ITEM:
+				this.consoleGameObserver.hasDroppedEdibleItems((EdibleItem) event.item);
+				break;
+			case DROPPED_EQUIPABLE_ITEM:
+				this.consoleGameObserver.hasDroppedEquipableItems((EquipableItem) event.item);
+				break;
+			case STARTED_ROUND:
+				this.consoleGameObserver.flush();
+				break;
+			case END_GAME:
+				this.consoleGameObserver.displayEndGame();
+				break;
+			default:
+				break;
+		}
+	}
+
+	/**
+	 * This enumeration represents all types of display events.
+	 *
+	 * @author DELORME Loïc
+	 * @since 1.0.0
+	 */
+	private enum DisplayEventType
+	{
+		/**
+		 * Information before the fight.
+		 */
+		BEFORE_FIGHT,
+
+		/**
+		 * Information after the fight.
+		 */
+		AFTER_FIGHT,
+
+		/**
+		 * A character is dead.
+		 */
+		DEAD_CHARACTER,
+
+		/**
+		 * A message.
+		 */
+		MESSAGE,
+
+		/**
+		 * An edible item has dropped.
+		 */
+		DROPPED_EDIBLE_ITEM,
+
+		/**
+		 * An equipable item has dropped.
+		 */
+		DROPPED_EQUIPABLE_ITEM,
+
+		/**
+		 * A round has started.
+		 */
+		STARTED_ROUND,
+
+		/**
+		 * End of the game.
+		 */
+		END_GAME;
+	}
+
+	/**
+	 * This class represents a display event of the ring buffer, reused once it is displayed.
+	 *
+	 * @author DELORME Loïc
+	 * @since 1.0.0
+	 */
+	private static class DisplayEvent
+	{
+		/**
+		 * The type.
+		 */
+		private DisplayEventType type;
+
+		/**
+		 * The name of the attacker.
+		 */
+		private String attackerName;
+
+		/**
+		 * The health of the attacker.
+		 */
+		private int attackerHealth;
+
+		/**
+		 * The name of the opponent.
+		 */
+		private String opponentName;
+
+		/**
+		 * The health of the opponent.
+		 */
+		private int opponentHealth;
+
+		/**
+		 * The name of the dead character, or the message.
+		 */
+		private String text;
+
+		/**
+		 * The dropped item.
+		 */
+		private Item item;
+
+		/**
+		 * The number of events skipped before this one.
+		 */
+		private int nbSkippedEvents;
+
+		/**
+		 * Keep the names and the health of the fighters.
+		 * 
+		 * @param attacker
+		 *            The attacker.
+		 * @param opponent
+		 *            The opponent.
+		 */
+		private void setFighters(Character attacker, Character opponent)
+		{
+			this.attackerName = attacker.getName();
+			this.attackerHealth = attacker.getHealth();
+			this.opponentName = opponent.getName();
+			this.opponentHealth = opponent.getHealth();
+		}
+
+		/**
+		 * Forget the references of the event.
+		 */
+		private void clear()
+		{
+			this.type = null;
+			this.attackerName = null;
+			this.opponentName = null;
+			this.text = null;
+			this.item = null;
+		}
+	}
+}
@@ -0,0 +1,357 @@
+package fr.polytech.myrpg.game.observers;
+
+import java.util.List;
+
+import fr.polytech.myrpg.characters.Character;
+import fr.polytech.myrpg.characters.Characteristic;
+import fr.polytech.myrpg.characters.items.edible.EdibleItem;
+import fr.polytech.myrpg.characters.items.edible.Inventory;
+import fr.polytech.myrpg.characters.items.equipable.EquipableItem;
+import fr.polytech.myrpg.game.players.Player;
+import fr.polytech.myrpg.game.players.Team;
+import fr.polytech.myrpg.random.IRandomSource;
+
+/**
+ * This class represents a bot game observer, which takes every decision instantly according to a policy and displays nothing.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public class BotGameObserver implements IGameObserver
+{
+	/**
+	 * The choice to attack an opponent.
+	 */
+	public static final int ATTACK_CHOICE = 1;
+
+	/**
+	 * The choice to use an item.
+	 */
+	public static final int USE_ITEM_CHOICE = 2;
+
+	/**
+	 * The default health ratio under which the health is considered low.
+	 */
+	public static final double DEFAULT_LOW_HEALTH_RATIO = 0.3;
+
+	/**
+	 * The characteristics which can be upgraded.
+	 */
+	private static final Characteristic[] UPGRADABLE_CHARACTERISTICS = new Characteristic[] { Characteristic.STRENGTH, Characteristic.DEXTERITY, Characteristic.DEFENSE };
+
+	/**
+	 * The policy.
+	 */
+	private final BotPolicy policy;
+
+	/**
+	 * The random source used by the random policy.
+	 */
+	private final IRandomSource randomSource;
+
+	/**
+	 * The health ratio under which the health is considered low.
+	 */
+	private final double lowHealthRatio;
+
+	/**
+	 * The player of the current round.
+	 */
+	private Player currentPlayer;
+
+	/**
+	 * The opponent team of the current round.
+	 */
+	private Team opponentTeam;
+
+	/**
+	 * If the next choice is an item to use, else it is an opponent to attack.
+	 */
+	private boolean isChoosingItem;
+
+	/**
+	 * Create a bot game observer.
+	 * 
+	 * @param policy
+	 *            The policy.
+	 * @param randomSource
+	 *            The random source used by the random policy.
+	 */
+	public BotGameObserver(BotPolicy policy, IRandomSource randomSource)
+	{
+		this(policy, randomSource, DEFAULT_LOW_HEALTH_RATIO);
+	}
+
+	/**
+	 * Create a bot game observer.
+	 * 
+	 * @param policy
+	 *            The policy.
+	 * @param randomSource
+	 *            The random source used by the random policy.
+	 * @param lowHealthRatio
+	 *            The health ratio under which the health is considered low.
+	 */
+	public BotGameObserver(BotPolicy policy, IRandomSource randomSource, double lowHealthRatio)
+	{
+		this.policy = policy;
+		this.randomSource = randomSource;
+		this.lowHealthRatio = lowHealthRatio;
+		this.isChoosingItem = false;
+	}
+
+	/**
+	 * @see fr.polytech.myrpg.game.observers.IGameObserver#hasStartedRound(fr.polytech.myrpg.game.players.Player, fr.polytech.myrpg.game.players.Team, fr.polytech.myrpg.game.players.Team)
+	 */
+	@Override
+	public void hasStartedRound(Player currentPlayer, Team currentTeam, Team opponentTeam)
+	{
+		this.currentPlayer = currentPlayer;
+		this.opponentTeam = opponentTeam;
+	}
+
+	/**
+	 * @see fr.polytech.myrpg.game.observers.IGameObserver#displayChoiceForTheCurrentPlayer(java.lang.String)
+	 */
+	@Override
+	public int displayChoiceForTheCurrentPlayer(String name)
+	{
+		final Character character = this.currentPlayer.getCharacter();
+
+		final int choice;
+		switch (this.policy)
+		{
+			case RANDOM:
+				choice = (this.randomSource.nextInt(2) == 0 ? ATTACK_CHOICE : USE_ITEM_CHOICE);
+				break;
+			case HEAL_WHEN_LOW:
+				choice = ((character.getHealth() < character.getMaxHealth() * this.lowHealthRatio) && (findBestItemOffset(character.getInventory(), Characteristic.HEALTH) >= 0) ? USE_ITEM_CHOICE : ATTACK_CHOICE);
+				break;
+			case GREEDY_DAMAGE:
+				choice = (strengthItemIncreasesDamage(character) ? USE_ITEM_CHOICE : ATTACK_CHOICE);
+				break;
+			default:
+				choice = ATTACK_CHOICE;
+				break;
+		}
+
+		this.isChoosingItem = ((choice == USE_ITEM_CHOICE) && !character.getInventory().isEmpty());
+		return choice;
+	}
+
+	/**
+	 * @see fr.polytech.myrpg.game.observers.IGameObserver#displayAndGetPlayerChoice(java.util.List, java.lang.String)
+	 */
+	@Override
+	public int displayAndGetPlayerChoice(List<String> choices, String title)
+	{
+		if (this.policy == BotPolicy.RANDOM)
+		{
+			return this.randomSource.nextInt(choices.size()) + 1;
+		}
+
+		final int offset = (this.isChoosingItem ? chooseItemOffset() : chooseOpponentOffset());
+		return offset + 1;
+	}
+
+	/**
+	 * Choose the item to use.
+	 * 
+	 * @return The offset of the item stack in the inventory.
+	 */
+	private int chooseItemOffset()
+	{
+		final Inventory inventory = this.currentPlayer.getCharacter().getInventory();
+		final int itemOffset = findBestItemOffset(inventory, (this.policy == BotPolicy.GREEDY_DAMAGE ? Characteristic.STRENGTH : Characteristic.HEALTH));
+
+		return (itemOffset >= 0 ? itemOffset : 0);
+	}
+
+	/**
+	 * Find the item which gives the most of a characteristic.
+	 * 
+	 * @param inventory
+	 *            The inventory.
+	 * @param characteristic
+	 *            The characteristic.
+	 * @return The offset of the item stack, or -1 if no item gives this characteristic.
+	 */
+	private int findBestItemOffset(Inventory inventory, Characteristic characteristic)
+	{
+		int bestItemOffset = -1;
+		int bestValue = 0;
+		for (int i = 0; i < inventory.getNbStacks(); i++)
+		{
+			final int value = inventory.getItem(i).getValueByCharacteristic(characteristic);
+			if (value > bestValue)
+			{
+				bestValue = value;
+				bestItemOffset = i;
+			}
+		}
+
+		return bestItemOffset;
+	}
+
+	/**
+	 * Check if using the best strength item of the inventory makes the character deal more damage to the opponent which takes the most.
+	 * 
+	 * @param character
+	 *            The character.
+	 * @return True if the character has a strength item which increases its damage, else False.
+	 */
+	private boolean strengthItemIncreasesDamage(Character character)
+	{
+		final Inventory inventory = character.getInventory();
+		final int itemOffset = findBestItemOffset(inventory, Characteristic.STRENGTH);
+		if (itemOffset < 0)
+		{
+			return false;
+		}
+
+		final int strength = character.computeStrengthValue();
+		final int additionalStrength = inventory.getItem(itemOffset).getValueByCharacteristic(Characteristic.STRENGTH);
+
+		return (computeBestDamage(strength + additionalStrength) > computeBestDamage(strength));
+	}
+
+	/**
+	 * Compute the most damage an attacker deals to one of the opponents, regardless of the special moves.
+	 * 
+	 * @param attackerStrength
+	 *            The strength of the attacker.
+	 * @return The most damage.
+	 */
+	private int computeBestDamage(int attackerStrength)
+	{
+		int bestDamage = 0;
+		for (int i = 0; i < this.opponentTeam.getNbPlayers(); i++)
+		{
+			bestDamage = Math.max(bestDamage, computeDamage(attackerStrength, this.opponentTeam.getPlayer(i).getCharacter()));
+		}
+
+		return bestDamage;
+	}
+
+	/**
+	 * Compute the damage an attacker deals to an opponent, regardless of the special moves.
+	 * 
+	 * @param attackerStrength
+	 *            The strength of the attacker.
+	 * @param opponent
+	 *            The opponent.
+	 * @return The damage, at most the health of the opponent.
+	 */
+	private int computeDamage(int attackerStrength, Character opponent)
+	{
+		return Math.min(Math.max(attackerStrength - opponent.computeDefenseValue(), 0), opponent.getHealth());
+	}
+
+	/**
+	 * Choose the opponent to attack.
+	 * 
+	 * @return The offset of the opponent in the opponent team.
+	 */
+	private int chooseOpponentOffset()
+	{
+		if (this.policy != BotPolicy.GREEDY_DAMAGE)
+		{
+			final Player weakestOpponent = this.opponentTeam.getWeakestPlayer();
+			return (weakestOpponent == null ? 0 : this.opponentTeam.getPlayerOffset(weakestOpponent));
+		}
+
+		final int attackerStrength = this.currentPlayer.getCharacter().computeStrengthValue();
+
+		int bestOpponentOffset = 0;
+		int bestDamage = Integer.MIN_VALUE;
+		int bestHealth = Integer.MAX_VALUE;
+		for (int i = 0; i < this.opponentTeam.getNbPlayers(); i++)
+		{
+			final Character opponent = this.opponentTeam.getPlayer(i).getCharacter();
+			final int health = opponent.getHealth();
+			final int damage = computeDamage(attackerStrength, opponent);
+
+			if ((damage > bestDamage) || ((damage == bestDamage) && (health < bestHealth)))
+			{
+				bestOpponentOffset = i;
+				bestDamage = damage;
+				bestHealth = health;
+			}
+		}
+
+		return bestOpponentOffset;
+	}
+
+	/**
+	 * @see fr.polytech.myrpg.game.observers.IGameObserver#displayCharacterCanLevelUpAndGetCharacteristicToUpgrade()
+	 */
+	@Override
+	public Characteristic displayCharacterCanLevelUpAndGetCharacteristicToUpgrade()
+	{
+		switch (this.policy)
+		{
+			case RANDOM:
+				return UPGRADABLE_CHARACTERISTICS[this.randomSource.nextInt(UPGRADABLE_CHARACTERISTICS.length)];
+			case HEAL_WHEN_LOW:
+				return Characteristic.DEFENSE;
+			default:
+				return Characteristic.STRENGTH;
+		}
+	}
+
+	/**
+	 * @see fr.polytech.myrpg.game.observers.IGameObserver#displayInformationBeforeFight(fr.polytech.myrpg.characters.Character, fr.polytech.myrpg.characters.Character)
+	 */
+	@Override
+	public void displayInformationBeforeFight(Character attacker, Character opponent)
+	{
+	}
+
+	/**
+	 * @see fr.polytech.myrpg.game.observers.IGameObserver#displayInformationAfterFight(fr.polytech.myrpg.characters.Character, fr.polytech.myrpg.characters.Character)
+	 */
+	@Override
+	public void displayInformationAfterFight(Character attacker, Character opponent)
+	{
+	}
+
+	/**
+	 * @see fr.polytech.myrpg.game.observers.IGameObserver#displayDeadCharacter(java.lang.String)
+	 */
+	@Override
+	public void displayDeadCharacter(String name)
+	{
+	}
+
+	/**
+	 * @see fr.polytech.myrpg.game.observers.IGameObserver#displayMessage(java.lang.String)
+	 */
+	@Override
+	public void displayMessage(String message)
+	{
+	}
+
+	/**
+	 * @see fr.polytech.myrpg.game.observers.IGameObserver#hasDroppedEdibleItems(fr.polytech.myrpg.characters.items.edible.EdibleItem)
+	 */
+	@Override
+	public void hasDroppedEdibleItems(EdibleItem droppedItem)
+	{
+	}
+
+	/**
+	 * @see fr.polytech.myrpg.game.observers.IGameObserver#hasDroppedEquipableItems(fr.polytech.myrpg.characters.items.equipable.EquipableItem)
+	 */
+	@Override
+	public void hasDroppedEquipableItems(EquipableItem droppedItem)
+	{
+	}
+
+	/**
+	 * @see fr.polytech.myrpg.game.observers.IGameObserver#displayEndGame()
+	 */
+	@Override
+	public void displayEndGame()
+	{
+	}
+}
@@ -0,0 +1,30 @@
+package fr.polytech.myrpg.game.observers;
+
+/**
+ * This enumeration represents all available bot policies.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public enum BotPolicy
+{
+	/**
+	 * The bot takes every decision at random.
+	 */
+	RANDOM,
+
+	/**
+	 * The bot always attacks the opponent with the lowest health.
+	 */
+	FOCUS_LOWEST_HEALTH,
+
+	/**
+	 * The bot attacks the opponent to which it deals the most damage, after using its best strength item if it makes it deal more damage.
+	 */
+	GREEDY_DAMAGE,
+
+	/**
+	 * The bot uses its best healing item when its health is low, else it attacks the opponent with the lowest health.
+	 */
+	HEAL_WHEN_LOW;
+}
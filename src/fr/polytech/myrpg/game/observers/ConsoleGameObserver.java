@@ -1,5 +1,15 @@
 package fr.polytech.myrpg.game.observers;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Scanner;
@@ -8,14 +18,19 @@ import fr.polytech.myrpg.characters.Character;
 import fr.polytech.myrpg.characters.Characteristic;
 import fr.polytech.myrpg.characters.items.edible.EdibleItem;
 import fr.polytech.myrpg.characters.items.equipable.EquipableItem;
+import fr.polytech.myrpg.game.players.Player;
+import fr.polytech.myrpg.game.players.Team;
 
 /**
  * This class represents a console game observer.
  *
+ * The lines are formatted into a reusable buffer, written at once when a round starts, before reading a choice of the player and at the end of the game, so a
+ * redirected output receives one write per round instead of one per line.
+ *
  * @author DELORME Loïc
  * @since 1.0.0
  */
-public class ConsoleGameObserver implements IGameObserver
+public class ConsoleGameObserver implements IGameObserver, IGameSubscriber
 {
 	/**
 	 * The available choices on a new round.
@@ -32,19 +47,133 @@ public class ConsoleGameObserver implements IGameObserver
 	 */
 	private static final Scanner SCANNER = new Scanner(System.in);
 
+	/**
+	 * The separator of the blocks.
+	 */
+	private static final String SEPARATOR = "------------------------------------------------------------------";
+
+	/**
+	 * The separator of the lines.
+	 */
+	private static final String LINE_SEPARATOR = System.lineSeparator();
+
+	/**
+	 * The size of the buffer of encoded bytes.
+	 */
+	private static final int BYTE_BUFFER_SIZE = 8192;
+
+	/**
+	 * The verbosity.
+	 */
+	private final ConsoleVerbosity verbosity;
+
+	/**
+	 * The output.
+	 */
+	private final OutputStream outputStream;
+
+	/**
+	 * The channel writing into the output.
+	 */
+	private final WritableByteChannel outputChannel;
+
+	/**
+	 * The encoder of the characters.
+	 */
+	private final CharsetEncoder encoder;
+
+	/**
+	 * The lines not written yet.
+	 */
+	private final StringBuilder lines;
+
+	/**
+	 * The buffer of encoded bytes.
+	 */
+	private final ByteBuffer bytes;
+
+	/**
+	 * Create a console game observer displaying everything on the standard output.
+	 */
+	public ConsoleGameObserver()
+	{
+		this(ConsoleVerbosity.FULL);
+	}
+
+	/**
+	 * Create a console game observer displaying on the standard output.
+	 * 
+	 * @param verbosity
+	 *            The verbosity.
+	 */
+	public ConsoleGameObserver(ConsoleVerbosity verbosity)
+	{
+		this(verbosity, System.out);
+	}
+
+	/**
+	 * Create a console game observer.
+	 * 
+	 * @param verbosity
+	 *            The verbosity.
+	 * @param outputStream
+	 *            The output.
+	 */
+	public ConsoleGameObserver(ConsoleVerbosity verbosity, OutputStream outputStream)
+	{
+		this.verbosity = verbosity;
+		this.outputStream = outputStream;
+		this.outputChannel = Channels.newChannel(outputStream);
+		this.encoder = Charset.defaultCharset().newEncoder().onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(CodingErrorAction.REPLACE);
+		this.lines = new StringBuilder(BYTE_BUFFER_SIZE);
+		this.bytes = ByteBuffer.allocate(BYTE_BUFFER_SIZE);
+	}
+
+	/**
+	 * Get the verbosity.
+	 * 
+	 * @return The verbosity.
+	 */
+	public ConsoleVerbosity getVerbosity()
+	{
+		return this.verbosity;
+	}
+
 	/**
 	 * @see fr.polytech.myrpg.game.observers.IGameObserver#displayInformationBeforeFight(fr.polytech.myrpg.characters.Character, fr.polytech.myrpg.characters.Character)
 	 */
 	@Override
 	public void displayInformationBeforeFight(Character attacker, Character opponnent)
 	{
-		System.out.println("------------------------------------------------------------------");
-		System.out.println(AsciiArtHelper.SWORDS);
-		System.out.println("------------------------------------------------------------------");
-		System.out.println("Fight between " + attacker.getName() + " and " + opponnent.getName());
+		displayInformationBeforeFight(attacker.getName(), attacker.getHealth(), opponnent.getName(), opponnent.getHealth());
+	}
 
-		System.out.println(attacker.getName() + " (health : " + attacker.getHealth() + ")");
-		System.out.println(opponnent.getName() + " (health : " + opponnent.getHealth() + ")");
+	/**
+	 * Display information before the fight, from the values read when it was announced.
+	 * 
+	 * @param attackerName
+	 *            The name of the attacker.
+	 * @param attackerHealth
+	 *            The health of the attacker.
+	 * @param opponentName
+	 *            The name of the opponent.
+	 * @param opponentHealth
+	 *            The health of the opponent.
+	 */
+	public void displayInformationBeforeFight(String attackerName, int attackerHealth, String opponentName, int opponentHealth)
+	{
+		if (this.verbosity != ConsoleVerbosity.FULL)
+		{
+			return;
+		}
+
+		appendLine(SEPARATOR);
+		appendLine(AsciiArtHelper.SWORDS);
+		appendLine(SEPARATOR);
+		this.lines.append("Fight between ").append(attackerName).append(" and ").append(opponentName).append(LINE_SEPARATOR);
+
+		appendHealthLine(attackerName, attackerHealth);
+		appendHealthLine(opponentName, opponentHealth);
 	}
 
 	/**
@@ -53,9 +182,37 @@ public class ConsoleGameObserver implements IGameObserver
 	@Override
 	public void displayInformationAfterFight(Character attacker, Character opponnent)
 	{
-		System.out.println("------------------------------------------------------------------");
-		System.out.println(attacker.getName() + " (health : " + attacker.getHealth() + ")");
-		System.out.println(opponnent.getName() + " (health : " + opponnent.getHealth() + ")");
+		displayInformationAfterFight(attacker.getName(), attacker.getHealth(), opponnent.getName(), opponnent.getHealth());
+	}
+
+	/**
+	 * Display information after the fight, from the values read when it was announced.
+	 * 
+	 * @param attackerName
+	 *            The name of the attacker.
+	 * @param attackerHealth
+	 *            The health of the attacker.
+	 * @param opponentName
+	 *            The name of the opponent.
+	 * @param opponentHealth
+	 *            The health of the opponent.
+	 */
+	public void displayInformationAfterFight(String attackerName, int attackerHealth, String opponentName, int opponentHealth)
+	{
+		switch (this.verbosity)
+		{
+			case FULL:
+				appendLine(SEPARATOR);
+				appendHealthLine(attackerName, attackerHealth);
+				appendHealthLine(opponentName, opponentHealth);
+				break;
+			case SUMMARY:
+				this.lines.append("Fight between ").append(attackerName).append(" (health : ").append(attackerHealth).append(") and ").append(opponentName);
+				this.lines.append(" (health : ").append(opponentHealth).append(")").append(LINE_SEPARATOR);
+				break;
+			default:
+				break;
+		}
 	}
 
 	/**
@@ -64,8 +221,16 @@ public class ConsoleGameObserver implements IGameObserver
 	@Override
 	public void displayDeadCharacter(String name)
 	{
-		System.out.println(AsciiArtHelper.DEATH);
-		System.out.println("RIP " + name);
+		if (this.verbosity == ConsoleVerbosity.SILENT)
+		{
+			return;
+		}
+
+		if (this.verbosity == ConsoleVerbosity.FULL)
+		{
+			appendLine(AsciiArtHelper.DEATH);
+		}
+		this.lines.append("RIP ").append(name).append(LINE_SEPARATOR);
 	}
 
 	/**
@@ -74,7 +239,7 @@ public class ConsoleGameObserver implements IGameObserver
 	@Override
 	public Characteristic displayCharacterCanLevelUpAndGetCharacteristicToUpgrade()
 	{
-		System.out.println("The attacker character can level up");
+		appendLine("The attacker character can level up");
 		return Characteristic.valueOf(AVAILABLE_CHARACTERISTICS[displayAndGetPlayerChoice(Arrays.asList(AVAILABLE_CHARACTERISTICS), "Which characteristic(s) do you want to upgrade?") - 1]);
 	}
 
@@ -88,6 +253,7 @@ public class ConsoleGameObserver implements IGameObserver
 		while ((playerChoice < 1) || (playerChoice > choices.size()))
 		{
 			displayChoices(choices, title);
+			flush();
 			playerChoice = parsePlayerChoiceInput(SCANNER.nextLine());
 		}
 
@@ -104,12 +270,12 @@ public class ConsoleGameObserver implements IGameObserver
 	 */
 	private void displayChoices(List<String> choices, String title)
 	{
-		System.out.println(title);
+		appendLine(title);
 
 		int currentIndex = 1;
 		for (String choice : choices)
 		{
-			System.out.println((currentIndex++) + "- " + choice);
+			this.lines.append(currentIndex++).append("- ").append(choice).append(LINE_SEPARATOR);
 		}
 	}
 
@@ -132,16 +298,52 @@ public class ConsoleGameObserver implements IGameObserver
 		}
 	}
 
+	/**
+	 * Write the lines of the previous round.
+	 * 
+	 * @see fr.polytech.myrpg.game.observers.IGameObserver#hasStartedRound(fr.polytech.myrpg.game.players.Player, fr.polytech.myrpg.game.players.Team, fr.polytech.myrpg.game.players.Team)
+	 */
+	@Override
+	public void hasStartedRound(Player currentPlayer, Team currentTeam, Team opponentTeam)
+	{
+		// The round banner is displayed with the choices of the current player.
+		flush();
+	}
+
+	/**
+	 * Display the round banner of a game followed as a subscriber, and write the lines of the previous round.
+	 * 
+	 * @see fr.polytech.myrpg.game.observers.IGameSubscriber#hasStartedRound(java.lang.String)
+	 */
+	@Override
+	public void hasStartedRound(String currentPlayerName)
+	{
+		flush();
+		if (this.verbosity == ConsoleVerbosity.FULL)
+		{
+			appendLine(SEPARATOR);
+			appendLine("NEW ROUND");
+			appendLine(SEPARATOR);
+		}
+		if (this.verbosity != ConsoleVerbosity.SILENT)
+		{
+			this.lines.append("Current player: ").append(currentPlayerName).append(LINE_SEPARATOR);
+		}
+	}
+
 	/**
 	 * @see fr.polytech.myrpg.game.observers.IGameObserver#displayChoiceForTheCurrentPlayer(String)
 	 */
 	@Override
 	public int displayChoiceForTheCurrentPlayer(String name)
 	{
-		System.out.println("------------------------------------------------------------------");
-		System.out.println("NEW ROUND");
-		System.out.println("------------------------------------------------------------------");
-		System.out.println("Current player: " + name);
+		if (this.verbosity == ConsoleVerbosity.FULL)
+		{
+			appendLine(SEPARATOR);
+			appendLine("NEW ROUND");
+			appendLine(SEPARATOR);
+		}
+		this.lines.append("Current player: ").append(name).append(LINE_SEPARATOR);
 
 		return displayAndGetPlayerChoice(Arrays.asList(AVAILABLE_CHOICES), "What do you want to do?");
 	}
@@ -152,7 +354,10 @@ public class ConsoleGameObserver implements IGameObserver
 	@Override
 	public void displayMessage(String message)
 	{
-		System.out.println(message);
+		if (this.verbosity != ConsoleVerbosity.SILENT)
+		{
+			appendLine(message);
+		}
 	}
 
 	/**
@@ -161,13 +366,7 @@ public class ConsoleGameObserver implements IGameObserver
 	@Override
 	public void hasDroppedEdibleItems(EdibleItem droppedItem)
 	{
-		System.out.println("------------------------------------------------------------------");
-		System.out.println("DROPPED ITEM");
-		System.out.println("------------------------------------------------------------------");
-		System.out.println("Congratulations, you have found an edible item and it was stored in your inventory!");
-		System.out.println("Name: " + droppedItem.getName());
-		System.out.println("Weight: " + droppedItem.getWeight());
-		System.out.println("------------------------------------------------------------------");
+		displayDroppedItem("edible", "Congratulations, you have found an edible item and it was stored in your inventory!", droppedItem.getName(), droppedItem.getWeight());
 	}
 
 	/**
@@ -176,23 +375,140 @@ public class ConsoleGameObserver implements IGameObserver
 	@Override
 	public void hasDroppedEquipableItems(EquipableItem droppedItem)
 	{
-		System.out.println("------------------------------------------------------------------");
-		System.out.println("DROPPED ITEM");
-		System.out.println("------------------------------------------------------------------");
-		System.out.println("Congratulations, you have found an equipable item and it was equipped on your character before the fight!");
-		System.out.println("Name: " + droppedItem.getName());
-		System.out.println("Weight: " + droppedItem.getWeight());
-		System.out.println("------------------------------------------------------------------");
+		displayDroppedItem("equipable", "Congratulations, you have found an equipable item and it was equipped on your character before the fight!", droppedItem.getName(),
+				droppedItem.getWeight());
+	}
+
+	/**
+	 * Display a dropped item.
+	 * 
+	 * @param kind
+	 *            The kind of item, displayed in the summary.
+	 * @param congratulations
+	 *            The congratulations, displayed in full.
+	 * @param name
+	 *            The name of the item.
+	 * @param weight
+	 *            The weight of the item.
+	 */
+	private void displayDroppedItem(String kind, String congratulations, String name, int weight)
+	{
+		switch (this.verbosity)
+		{
+			case FULL:
+				appendLine(SEPARATOR);
+				appendLine("DROPPED ITEM");
+				appendLine(SEPARATOR);
+				appendLine(congratulations);
+				this.lines.append("Name: ").append(name).append(LINE_SEPARATOR);
+				this.lines.append("Weight: ").append(weight).append(LINE_SEPARATOR);
+				appendLine(SEPARATOR);
+				break;
+			case SUMMARY:
+				this.lines.append("Dropped ").append(kind).append(" item: ").append(name).append(" (weight : ").append(weight).append(")").append(LINE_SEPARATOR);
+				break;
+			default:
+				break;
+		}
 	}
 
 	/**
+	 * Display end of the game, and write the remaining lines.
+	 * 
 	 * @see fr.polytech.myrpg.game.observers.IGameObserver#displayEndGame()
 	 */
 	@Override
 	public void displayEndGame()
 	{
-		System.out.println("------------------------------------------------------------------");
-		System.out.println("END OF THE GAME");
-		System.out.println("------------------------------------------------------------------");
+		switch (this.verbosity)
+		{
+			case FULL:
+				appendLine(SEPARATOR);
+				appendLine("END OF THE GAME");
+				appendLine(SEPARATOR);
+				break;
+			case SUMMARY:
+				appendLine("END OF THE GAME");
+				break;
+			default:
+				break;
+		}
+
+		flush();
+	}
+
+	/**
+	 * Write the lines not written yet, at once.
+	 */
+	public void flush()
+	{
+		if (this.lines.length() == 0)
+		{
+			return;
+		}
+
+		try
+		{
+			final CharBuffer characters = CharBuffer.wrap(this.lines);
+			this.encoder.reset();
+			while (this.encoder.encode(characters, this.bytes, true).isOverflow())
+			{
+				writeBytes();
+			}
+			while (this.encoder.flush(this.bytes).isOverflow())
+			{
+				writeBytes();
+			}
+			writeBytes();
+			this.outputStream.flush();
+		}
+		catch (IOException e)
+		{
+			throw new UncheckedIOException(e);
+		}
+		finally
+		{
+			this.lines.setLength(0);
+		}
+	}
+
+	/**
+	 * Write the encoded bytes into the output.
+	 * 
+	 * @throws IOException
+	 *             If the output can't be written.
+	 */
+	private void writeBytes() throws IOException
+	{
+		this.bytes.flip();
+		while (this.bytes.hasRemaining())
+		{
+			this.outputChannel.write(this.bytes);
+		}
+		this.bytes.clear();
+	}
+
+	/**
+	 * Add a line.
+	 * 
+	 * @param line
+	 *            The line.
+	 */
+	private void appendLine(String line)
+	{
+		this.lines.append(line).append(LINE_SEPARATOR);
+	}
+
+	/**
+	 * Add the line giving the health of a character.
+	 * 
+	 * @param name
+	 *            The name of the character.
+	 * @param health
+	 *            The health of the character.
+	 */
+	private void appendHealthLine(String name, int health)
+	{
+		this.lines.append(name).append(" (health : ").append(health).append(")").append(LINE_SEPARATOR);
 	}
 }
\ No newline at end of file
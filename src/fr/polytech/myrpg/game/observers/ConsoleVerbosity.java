@@ -0,0 +1,25 @@
+package fr.polytech.myrpg.game.observers;
+
+/**
+ * This enumeration represents all available verbosity levels of the console.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public enum ConsoleVerbosity
+{
+	/**
+	 * Everything is displayed, with the banners and the ASCII arts.
+	 */
+	FULL,
+
+	/**
+	 * One line is displayed for each fight, death, dropped item and message.
+	 */
+	SUMMARY,
+
+	/**
+	 * Only the choices asked to the players are displayed.
+	 */
+	SILENT;
+}
@@ -6,6 +6,8 @@ import fr.polytech.myrpg.characters.Character;
 import fr.polytech.myrpg.characters.Characteristic;
 import fr.polytech.myrpg.characters.items.edible.EdibleItem;
 import fr.polytech.myrpg.characters.items.equipable.EquipableItem;
+import fr.polytech.myrpg.game.players.Player;
+import fr.polytech.myrpg.game.players.Team;
 
 /**
  * This interface represents a game observer.
@@ -50,6 +52,18 @@ public interface IGameObserver
 	 */
 	public Characteristic displayCharacterCanLevelUpAndGetCharacteristicToUpgrade();
 
+	/**
+	 * A new round has started.
+	 * 
+	 * @param currentPlayer
+	 *            The player who plays the round.
+	 * @param currentTeam
+	 *            The team of the current player.
+	 * @param opponentTeam
+	 *            The opponent team.
+	 */
+	public void hasStartedRound(Player currentPlayer, Team currentTeam, Team opponentTeam);
+
 	/**
 	 * Display all possible choices for the current player.
 	 * 
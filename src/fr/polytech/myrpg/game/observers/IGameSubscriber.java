@@ -0,0 +1,88 @@
+package fr.polytech.myrpg.game.observers;
+
+import fr.polytech.myrpg.characters.items.edible.EdibleItem;
+import fr.polytech.myrpg.characters.items.equipable.EquipableItem;
+
+/**
+ * This interface represents a subscriber to the events of a game, notified on its own thread by {@link MulticastGameObserver}.
+ *
+ * The events give the values read when they happened rather than the characters, which keep changing while the events wait to be notified.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public interface IGameSubscriber
+{
+	/**
+	 * Display information before the fight.
+	 * 
+	 * @param attackerName
+	 *            The name of the attacker.
+	 * @param attackerHealth
+	 *            The health of the attacker.
+	 * @param opponentName
+	 *            The name of the opponent.
+	 * @param opponentHealth
+	 *            The health of the opponent.
+	 */
+	public void displayInformationBeforeFight(String attackerName, int attackerHealth, String opponentName, int opponentHealth);
+
+	/**
+	 * Display information after the fight.
+	 * 
+	 * @param attackerName
+	 *            The name of the attacker.
+	 * @param attackerHealth
+	 *            The health of the attacker.
+	 * @param opponentName
+	 *            The name of the opponent.
+	 * @param opponentHealth
+	 *            The health of the opponent.
+	 */
+	public void displayInformationAfterFight(String attackerName, int attackerHealth, String opponentName, int opponentHealth);
+
+	/**
+	 * Display that the character is dead.
+	 * 
+	 * @param name
+	 *            The name.
+	 */
+	public void displayDeadCharacter(String name);
+
+	/**
+	 * A new round has started.
+	 * 
+	 * @param currentPlayerName
+	 *            The name of the player who plays the round.
+	 */
+	public void hasStartedRound(String currentPlayerName);
+
+	/**
+	 * Display a message.
+	 * 
+	 * @param message
+	 *            The message.
+	 */
+	public void displayMessage(String message);
+
+	/**
+	 * The player has dropped an edible items.
+	 * 
+	 * @param droppedItem
+	 *            The item.
+	 */
+	public void hasDroppedEdibleItems(EdibleItem droppedItem);
+
+	/**
+	 * The player has dropped an equipable items.
+	 * 
+	 * @param droppedItem
+	 *            The item.
+	 */
+	public void hasDroppedEquipableItems(EquipableItem droppedItem);
+
+	/**
+	 * Display end of the game.
+	 */
+	public void displayEndGame();
+}
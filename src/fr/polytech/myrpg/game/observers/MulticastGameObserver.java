@@ -0,0 +1,572 @@
+package fr.polytech.myrpg.game.observers;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import fr.polytech.myrpg.characters.Character;
+import fr.polytech.myrpg.characters.Characteristic;
+import fr.polytech.myrpg.characters.items.Item;
+import fr.polytech.myrpg.characters.items.edible.EdibleItem;
+import fr.polytech.myrpg.characters.items.equipable.EquipableItem;
+import fr.polytech.myrpg.game.players.Player;
+import fr.polytech.myrpg.game.players.Team;
+import me.grea.antoine.utils.Log;
+
+/**
+ * This class represents a game observer sending the events of the game to many subscribers.
+ *
+ * The deciding observer is called directly for every event and answers the choices of the players. Each subscriber has its own thread and a bounded queue of
+ * events, and its overflow policy tells what happens when it doesn't keep up, so a slow subscriber only slows down the game if it asks to get every event.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public class MulticastGameObserver implements IGameObserver, Closeable
+{
+	/**
+	 * The number of events among which one is kept by the {@link OverflowPolicy#SAMPLE} policy.
+	 */
+	public static final int SAMPLING_PERIOD = 8;
+
+	/**
+	 * The event stopping the threads of the subscribers.
+	 */
+	private static final GameEvent STOP_EVENT = new GameEvent(null, null, 0, null, 0, null, null);
+
+	/**
+	 * The observer answering the choices of the players.
+	 */
+	private final IGameObserver decidingObserver;
+
+	/**
+	 * The subscriptions.
+	 */
+	private final List<Subscription> subscriptions;
+
+	/**
+	 * If the observer is closed.
+	 */
+	private boolean isClosed;
+
+	/**
+	 * Create a multicast game observer.
+	 * 
+	 * @param decidingObserver
+	 *            The observer answering the choices of the players.
+	 */
+	public MulticastGameObserver(IGameObserver decidingObserver)
+	{
+		this.decidingObserver = decidingObserver;
+		this.subscriptions = new ArrayList<Subscription>();
+		this.isClosed = false;
+	}
+
+	/**
+	 * Add a subscriber, notified on its own thread. The subscribers must be added before the game starts.
+	 * 
+	 * @param subscriber
+	 *            The subscriber.
+	 * @param capacity
+	 *            The number of events its queue can hold.
+	 * @param overflowPolicy
+	 *            The policy when its queue is full.
+	 */
+	public void addSubscriber(IGameSubscriber subscriber, int capacity, OverflowPolicy overflowPolicy)
+	{
+		if (this.isClosed)
+		{
+			throw new IllegalStateException("The observer is closed.");
+		}
+
+		final Subscription subscription = new Subscription(subscriber, capacity, overflowPolicy, "game-subscriber-" + this.subscriptions.size());
+		this.subscriptions.add(subscription);
+		subscription.start();
+	}
+
+	/**
+	 * @see fr.polytech.myrpg.game.observers.IGameObserver#displayInformationBeforeFight(fr.polytech.myrpg.characters.Character, fr.polytech.myrpg.characters.Character)
+	 */
+	@Override
+	public void displayInformationBeforeFight(Character attacker, Character opponent)
+	{
+		publish(new GameEvent(GameEventType.BEFORE_FIGHT, attacker.getName(), attacker.getHealth(), opponent.getName(), opponent.getHealth(), null, null));
+		this.decidingObserver.displayInformationBeforeFight(attacker, opponent);
+	}
+
+	/**
+	 * @see fr.polytech.myrpg.game.observers.IGameObserver#displayInformationAfterFight(fr.polytech.myrpg.characters.Character, fr.polytech.myrpg.characters.Character)
+	 */
+	@Override
+	public void displayInformationAfterFight(Character attacker, Character opponent)
+	{
+		publish(new GameEvent(GameEventType.AFTER_FIGHT, attacker.getName(), attacker.getHealth(), opponent.getName(), opponent.getHealth(), null, null));
+		this.decidingObserver.displayInformationAfterFight(attacker, opponent);
+	}
+
+	/**
+	 * @see fr.polytech.myrpg.game.observers.IGameObserver#displayDeadCharacter(java.lang.String)
+	 */
+	@Override
+	public void displayDeadCharacter(String name)
+	{
+		publish(new GameEvent(GameEventType.DEAD_CHARACTER, null, 0, null, 0, name, null));
+		this.decidingObserver.displayDeadCharacter(name);
+	}
+
+	/**
+	 * @see fr.polytech.myrpg.game.observers.IGameObserver#displayCharacterCanLevelUpAndGetCharacteristicToUpgrade()
+	 */
+	@Override
+	public Characteristic displayCharacterCanLevelUpAndGetCharacteristicToUpgrade()
+	{
+		return this.decidingObserver.displayCharacterCanLevelUpAndGetCharacteristicToUpgrade();
+	}
+
+	/**
+	 * @see fr.polytech.myrpg.game.observers.IGameObserver#hasStartedRound(fr.polytech.myrpg.game.players.Player, fr.polytech.myrpg.game.players.Team, fr.polytech.myrpg.game.players.Team)
+	 */
+	@Override
+	public void hasStartedRound(Player currentPlayer, Team currentTeam, Team opponentTeam)
+	{
+		publish(new GameEvent(GameEventType.STARTED_ROUND, null, 0, null, 0, currentPlayer.getName(), null));
+		this.decidingObserver.hasStartedRound(currentPlayer, currentTeam, opponentTeam);
+	}
+
+	/**
+	 * @see fr.polytech.myrpg.game.observers.IGameObserver#displayChoiceForTheCurrentPlayer(java.lang.String)
+	 */
+	@Override
+	public int displayChoiceForTheCurrentPlayer(String name)
+	{
+		return this.decidingObserver.displayChoiceForTheCurrentPlayer(name);
+	}
+
+	/**
+	 * @see fr.polytech.myrpg.game.observers.IGameObserver#displayMessage(java.lang.String)
+	 */
+	@Override
+	public void displayMessage(String message)
+	{
+		publish(new GameEvent(GameEventType.MESSAGE, null, 0, null, 0, message, null));
+		this.decidingObserver.displayMessage(message);
+	}
+
+	/**
+	 * @see fr.polytech.myrpg.game.observers.IGameObserver#hasDroppedEdibleItems(fr.polytech.myrpg.characters.items.edible.EdibleItem)
+	 */
+	@Override
+	public void hasDroppedEdibleItems(EdibleItem droppedItem)
+	{
+		publish(new GameEvent(GameEventType.DROPPED_EDIBLE_ITEM, null, 0, null, 0, null, droppedItem));
+		this.decidingObserver.hasDroppedEdibleItems(droppedItem);
+	}
+
+	/**
+	 * @see fr.polytech.myrpg.game.observers.IGameObserver#hasDroppedEquipableItems(fr.polytech.myrpg.characters.items.equipable.EquipableItem)
+	 */
+	@Override
+	public void hasDroppedEquipableItems(EquipableItem droppedItem)
+	{
+		publish(new GameEvent(GameEventType.DROPPED_EQUIPABLE_ITEM, null, 0, null, 0, null, droppedItem));
+		this.decidingObserver.hasDroppedEquipableItems(droppedItem);
+	}
+
+	/**
+	 * @see fr.polytech.myrpg.game.observers.IGameObserver#displayAndGetPlayerChoice(java.util.List, java.lang.String)
+	 */
+	@Override
+	public int displayAndGetPlayerChoice(List<String> choices, String title)
+	{
+		return this.decidingObserver.displayAndGetPlayerChoice(choices, title);
+	}
+
+	/**
+	 * @see fr.polytech.myrpg.game.observers.IGameObserver#displayEndGame()
+	 */
+	@Override
+	public void displayEndGame()
+	{
+		publish(new GameEvent(GameEventType.END_GAME, null, 0, null, 0, null, null));
+		this.decidingObserver.displayEndGame();
+	}
+
+	/**
+	 * Wait until the subscribers have handled their waiting events, then stop their threads.
+	 * 
+	 * @see java.io.Closeable#close()
+	 */
+	@Override
+	public void close()
+	{
+		if (this.isClosed)
+		{
+			return;
+		}
+
+		this.isClosed = true;
+		for (Subscription subscription : this.subscriptions)
+		{
+			subscription.stop();
+		}
+	}
+
+	/**
+	 * Send an event to the subscribers.
+	 * 
+	 * @param event
+	 *            The event.
+	 */
+	private void publish(GameEvent event)
+	{
+		for (int i = 0; i < this.subscriptions.size(); i++)
+		{
+			this.subscriptions.get(i).offer(event);
+		}
+	}
+
+	/**
+	 * This enumeration represents all types of game events.
+	 *
+	 * @author DELORME Loïc
+	 * @since 1.0.0
+	 */
+	private enum GameEventType
+	{
+		/**
+		 * Information before the fight.
+		 */
+		BEFORE_FIGHT,
+
+		/**
+		 * Information after the fight.
+		 */
+		AFTER_FIGHT,
+
+		/**
+		 * A character is dead.
+		 */
+		DEAD_CHARACTER,
+
+		/**
+		 * A round has started.
+		 */
+		STARTED_ROUND,
+
+		/**
+		 * A message.
+		 */
+		MESSAGE,
+
+		/**
+		 * An edible item has dropped.
+		 */
+		DROPPED_EDIBLE_ITEM,
+
+		/**
+		 * An equipable item has dropped.
+		 */
+		DROPPED_EQUIPABLE_ITEM,
+
+		/**
+		 * End of the game.
+		 */
+		END_GAME;
+	}
+
+	/**
+	 * This class represents a game event, shared by the subscribers.
+	 *
+	 * @author DELORME Loïc
+	 * @since 1.0.0
+	 */
+	private static class GameEvent
+	{
+		/**
+		 * The type.
+		 */
+		private final GameEventType type;
+
+		/**
+		 * The name of the attacker.
+		 */
+		private final String attackerName;
+
+		/**
+		 * The health of the attacker.
+		 */
+		private final int attackerHealth;
+
+		/**
+		 * The name of the opponent.
+		 */
+		private final String opponentName;
+
+		/**
+		 * The health of the opponent.
+		 */
+		private final int opponentHealth;
+
+		/**
+		 * The name of the dead character or of the current player, or the message.
+		 */
+		private final String text;
+
+		/**
+		 * The dropped item.
+		 */
+		private final Item item;
+
+		/**
+		 * Create a game event.
+		 * 
+		 * @param type
+		 *            The type.
+		 * @param attackerName
+		 *            The name of the attacker.
+		 * @param attackerHealth
+		 *            The health of the attacker.
+		 * @param opponentName
+		 *            The name of the opponent.
+		 * @param opponentHealth
+		 *            The health of the opponent.
+		 * @param text
+		 *            The name of the dead character or of the current player, or the message.
+		 * @param item
+		 *            The dropped item.
+		 */
+		public GameEvent(GameEventType type, String attackerName, int attackerHealth, String opponentName, int opponentHealth, String text, Item item)
+		{
+			this.type = type;
+			this.attackerName = attackerName;
+			this.attackerHealth = attackerHealth;
+			this.opponentName = opponentName;
+			this.opponentHealth = opponentHealth;
+			this.text = text;
+			this.item = item;
+		}
+
+		/**
+		 * Notify a subscriber of the event.
+		 * 
+		 * @param subscriber
+		 *            The subscriber.
+		 */
+		public void notifySubscriber(IGameSubscriber subscriber)
+		{
+			switch (this.type)
+			{
+				case BEFORE_FIGHT:
+					subscriber.displayInformationBeforeFight(this.attackerName, this.attackerHealth, this.opponentName, this.opponentHealth);
+					break;
+				case AFTER_FIGHT:
+					subscriber.displayInformationAfterFight(this.attackerName, this.attackerHealth, this.opponentName, this.opponentHealth);
+					break;
+				case DEAD_CHARACTER:
+					subscriber.displayDeadCharacter(this.text);
+					break;
+				case STARTED_ROUND:
+					subscriber.hasStartedRound(this.text);
+					break;
+				case MESSAGE:
+					subscriber.displayMessage(this.text);
+					break;
+				case DROPPED_EDIBLE_ITEM:
+					subscriber.hasDroppedEdibleItems((EdibleItem) this.item);
+					break;
+				case DROPPED_EQUIPABLE_ITEM:
+					subscriber.hasDroppedEquipableItems((EquipableItem) this.item);
+					break;
+				case END_GAME:
+					subscriber.displayEndGame();
+					break;
+				default:
+					break;
+			}
+		}
+	}
+
+	/**
+	 * This class represents a subscriber with its thread and its queue of events.
+	 *
+	 * @author DELORME Loïc
+	 * @since 1.0.0
+	 */
+	private static class Subscription implements Runnable
+	{
+		/**
+		 * The subscriber.
+		 */
+		private final IGameSubscriber subscriber;
+
+		/**
+		 * The number of events the queue can hold.
+		 */
+		private final int capacity;
+
+		/**
+		 * The policy when the queue is full.
+		 */
+		private final OverflowPolicy overflowPolicy;
+
+		/**
+		 * The waiting events.
+		 */
+		private final BlockingQueue<GameEvent> events;
+
+		/**
+		 * The thread notifying the subscriber.
+		 */
+		private final Thread thread;
+
+		/**
+		 * The number of events offered while sampling, only used by the thread playing the game.
+		 */
+		private int nbSampledEvents;
+
+		/**
+		 * The number of dropped events, only used by the thread playing the game.
+		 */
+		private long nbDroppedEvents;
+
+		/**
+		 * Create a subscription.
+		 * 
+		 * @param subscriber
+		 *            The subscriber.
+		 * @param capacity
+		 *            The number of events the queue can hold.
+		 * @param overflowPolicy
+		 *            The policy when the queue is full.
+		 * @param threadName
+		 *            The name of the thread.
+		 */
+		public Subscription(IGameSubscriber subscriber, int capacity, OverflowPolicy overflowPolicy, String threadName)
+		{
+			this.subscriber = subscriber;
+			this.capacity = capacity;
+			this.overflowPolicy = overflowPolicy;
+			this.events = new ArrayBlockingQueue<GameEvent>(capacity);
+			this.thread = new Thread(this, threadName);
+			this.thread.setDaemon(true);
+			this.nbSampledEvents = 0;
+			this.nbDroppedEvents = 0;
+		}
+
+		/**
+		 * Start the thread notifying the subscriber.
+		 */
+		public void start()
+		{
+			this.thread.start();
+		}
+
+		/**
+		 * Add an event to the queue, following the overflow policy.
+		 * 
+		 * @param event
+		 *            The event.
+		 */
+		public void offer(GameEvent event)
+		{
+			switch (this.overflowPolicy)
+			{
+				case BLOCK:
+					put(event);
+					break;
+				case DROP_OLDEST:
+					while (!this.events.offer(event))
+					{
+						if (this.events.poll() != null)
+						{
+							this.nbDroppedEvents++;
+						}
+					}
+					break;
+				case SAMPLE:
+					if (this.events.size() < this.capacity / 2)
+					{
+						this.nbSampledEvents = 0;
+					}
+					if ((this.nbSampledEvents++ % SAMPLING_PERIOD != 0) || !this.events.offer(event))
+					{
+						this.nbDroppedEvents++;
+					}
+					break;
+				default:
+					break;
+			}
+		}
+
+		/**
+		 * Wait until the subscriber has handled its waiting events, then stop its thread.
+		 */
+		public void stop()
+		{
+			put(STOP_EVENT);
+			try
+			{
+				this.thread.join();
+			}
+			catch (InterruptedException e)
+			{
+				Thread.currentThread().interrupt();
+			}
+
+			if (this.nbDroppedEvents > 0)
+			{
+				Log.w(String.format("%d events were dropped for the subscriber %s", this.nbDroppedEvents, this.thread.getName()));
+			}
+		}
+
+		/**
+		 * Add an event to the queue, waiting for room.
+		 * 
+		 * @param event
+		 *            The event.
+		 */
+		private void put(GameEvent event)
+		{
+			try
+			{
+				this.events.put(event);
+			}
+			catch (InterruptedException e)
+			{
+				Thread.currentThread().interrupt();
+				this.nbDroppedEvents++;
+			}
+		}
+
+		/**
+		 * Notify the subscriber of the events until it is stopped.
+		 * 
+		 * @see java.lang.Runnable#run()
+		 */
+		@Override
+		public void run()
+		{
+			try
+			{
+				GameEvent event;
+				while ((event = this.events.take()) != STOP_EVENT)
+				{
+					try
+					{
+						event.notifySubscriber(this.subscriber);
+					}
+					catch (RuntimeException e)
+					{
+						Log.e(e);
+					}
+				}
+			}
+			catch (InterruptedException e)
+			{
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+}
@@ -0,0 +1,26 @@
+package fr.polytech.myrpg.game.observers;
+
+/**
+ * This enumeration represents all available policies when the queue of a subscriber is full.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public enum OverflowPolicy
+{
+	/**
+	 * The game waits until the subscriber makes room, so the subscriber gets every event.
+	 */
+	BLOCK,
+
+	/**
+	 * The oldest waiting event is dropped, so the subscriber gets the latest events.
+	 */
+	DROP_OLDEST,
+
+	/**
+	 * Once the queue is half full, only one event in {@link MulticastGameObserver#SAMPLING_PERIOD} is kept, and the events are dropped while it is full, so the
+	 * subscriber gets a thinned stream of events spread over time.
+	 */
+	SAMPLE;
+}
@@ -0,0 +1,381 @@
+package fr.polytech.myrpg.game.players;
+
+import java.util.Arrays;
+
+/**
+ * This class represents a binary heap of player identifiers ordered by an int key, which also knows the position of each identifier so that any entry can be updated
+ * or removed in logarithmic time.
+ *
+ * Equal keys are ordered by identifier, so the order never depends on the update history.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+class IndexedPlayerHeap
+{
+	/**
+	 * The position of an identifier which is not in the heap.
+	 */
+	private static final int NOT_IN_HEAP = -1;
+
+	/**
+	 * If the greatest key is at the top, else the lowest one.
+	 */
+	private final boolean isMaxHeap;
+
+	/**
+	 * The identifiers, in heap order.
+	 */
+	private int[] playerIds;
+
+	/**
+	 * The key of each identifier, indexed by identifier.
+	 */
+	private int[] keys;
+
+	/**
+	 * The position of each identifier in the heap, indexed by identifier.
+	 */
+	private int[] positions;
+
+	/**
+	 * The number of identifiers in the heap.
+	 */
+	private int size;
+
+	/**
+	 * Create an indexed player heap.
+	 * 
+	 * @param isMaxHeap
+	 *            If the greatest key is at the top, else the lowest one.
+	 */
+	public IndexedPlayerHeap(boolean isMaxHeap)
+	{
+		this.isMaxHeap = isMaxHeap;
+		this.playerIds = new int[0];
+		this.keys = new int[0];
+		this.positions = new int[0];
+		this.size = 0;
+	}
+
+	/**
+	 * Add an identifier.
+	 * 
+	 * @param playerId
+	 *            The identifier, not already in the heap.
+	 * @param key
+	 *            The key.
+	 */
+	public void add(int playerId, int key)
+	{
+		ensureCapacity(Math.max(playerId, this.size) + 1);
+
+		this.keys[playerId] = key;
+		this.playerIds[this.size] = playerId;
+		this.positions[playerId] = this.size;
+		this.size++;
+
+		siftUp(this.size - 1);
+	}
+
+	/**
+	 * Update the key of an identifier.
+	 * 
+	 * @param playerId
+	 *            The identifier, in the heap.
+	 * @param key
+	 *            The new key.
+	 */
+	public void update(int playerId, int key)
+	{
+		final int position = this.positions[playerId];
+		this.keys[playerId] = key;
+
+		siftUp(position);
+		siftDown(this.positions[playerId]);
+	}
+
+	/**
+	 * Remove an identifier.
+	 * 
+	 * @param playerId
+	 *            The identifier, in the heap.
+	 */
+	public void remove(int playerId)
+	{
+		final int position = this.positions[playerId];
+		final int lastPlayerId = this.playerIds[this.size - 1];
+
+		this.size--;
+		this.positions[playerId] = NOT_IN_HEAP;
+
+		if (lastPlayerId != playerId)
+		{
+			this.playerIds[position] = lastPlayerId;
+			this.positions[lastPlayerId] = position;
+			siftUp(position);
+			siftDown(this.positions[lastPlayerId]);
+		}
+	}
+
+	/**
+	 * Get the identifier at the top of the heap.
+	 * 
+	 * @return The identifier, or -1 if the heap is empty.
+	 */
+	public int peek()
+	{
+		return (this.size == 0 ? NOT_IN_HEAP : this.playerIds[0]);
+	}
+
+	/**
+	 * Get the first identifiers in heap order, without modifying the heap, in O(k log k) for k identifiers.
+	 * 
+	 * @param nbPlayers
+	 *            The maximal number of identifiers.
+	 * @return The identifiers, sorted from the top of the heap.
+	 */
+	public int[] peek(int nbPlayers)
+	{
+		final int length = Math.max(Math.min(nbPlayers, this.size), 0);
+		final int[] firstPlayerIds = new int[length];
+
+		// Best-first walk of the heap, the candidates are the heap positions whose parent has already been taken, kept in a secondary heap of at most k + 1 positions.
+		final int[] candidates = new int[length + 1];
+		int nbCandidates = 0;
+		if (length > 0)
+		{
+			candidates[nbCandidates++] = 0;
+		}
+
+		for (int i = 0; i < length; i++)
+		{
+			final int position = candidates[0];
+			firstPlayerIds[i] = this.playerIds[position];
+
+			// The first child replaces the taken position at the top, the second one is added at the bottom.
+			final int firstChild = position * 2 + 1;
+			if (firstChild < this.size)
+			{
+				candidates[0] = firstChild;
+			}
+			else
+			{
+				candidates[0] = candidates[--nbCandidates];
+			}
+			if (nbCandidates > 0)
+			{
+				siftDownCandidate(candidates, nbCandidates, 0);
+			}
+
+			final int secondChild = firstChild + 1;
+			if (secondChild < this.size)
+			{
+				candidates[nbCandidates++] = secondChild;
+				siftUpCandidate(candidates, nbCandidates - 1);
+			}
+		}
+
+		return firstPlayerIds;
+	}
+
+	/**
+	 * Check if an identifier is in the heap.
+	 * 
+	 * @param playerId
+	 *            The identifier.
+	 * @return True if it is in the heap, else False.
+	 */
+	public boolean contains(int playerId)
+	{
+		return ((playerId < this.positions.length) && (this.positions[playerId] != NOT_IN_HEAP));
+	}
+
+	/**
+	 * Get the number of identifiers in the heap.
+	 * 
+	 * @return The size.
+	 */
+	public int size()
+	{
+		return this.size;
+	}
+
+	/**
+	 * Check if an identifier must be above another one.
+	 * 
+	 * @param firstPlayerId
+	 *            The first identifier.
+	 * @param secondPlayerId
+	 *            The second identifier.
+	 * @return True if the first identifier must be above, else False.
+	 */
+	private boolean isBefore(int firstPlayerId, int secondPlayerId)
+	{
+		final int firstKey = this.keys[firstPlayerId];
+		final int secondKey = this.keys[secondPlayerId];
+		if (firstKey != secondKey)
+		{
+			return (this.isMaxHeap ? firstKey > secondKey : firstKey < secondKey);
+		}
+
+		return (firstPlayerId < secondPlayerId);
+	}
+
+	/**
+	 * Move an entry up until its parent is before it.
+	 * 
+	 * @param position
+	 *            The position of the entry.
+	 */
+	private void siftUp(int position)
+	{
+		final int playerId = this.playerIds[position];
+
+		int currentPosition = position;
+		while (currentPosition > 0)
+		{
+			final int parentPosition = (currentPosition - 1) / 2;
+			final int parentPlayerId = this.playerIds[parentPosition];
+			if (!isBefore(playerId, parentPlayerId))
+			{
+				break;
+			}
+
+			this.playerIds[currentPosition] = parentPlayerId;
+			this.positions[parentPlayerId] = currentPosition;
+			currentPosition = parentPosition;
+		}
+
+		this.playerIds[currentPosition] = playerId;
+		this.positions[playerId] = currentPosition;
+	}
+
+	/**
+	 * Move an entry down until it is before its children.
+	 * 
+	 * @param position
+	 *            The position of the entry.
+	 */
+	private void siftDown(int position)
+	{
+		final int playerId = this.playerIds[position];
+
+		int currentPosition = position;
+		while (true)
+		{
+			int childPosition = currentPosition * 2 + 1;
+			if (childPosition >= this.size)
+			{
+				break;
+			}
+
+			if ((childPosition + 1 < this.size) && isBefore(this.playerIds[childPosition + 1], this.playerIds[childPosition]))
+			{
+				childPosition++;
+			}
+
+			final int childPlayerId = this.playerIds[childPosition];
+			if (!isBefore(childPlayerId, playerId))
+			{
+				break;
+			}
+
+			this.playerIds[currentPosition] = childPlayerId;
+			this.positions[childPlayerId] = currentPosition;
+			currentPosition = childPosition;
+		}
+
+		this.playerIds[currentPosition] = playerId;
+		this.positions[playerId] = currentPosition;
+	}
+
+	/**
+	 * Move a candidate position up in the secondary heap of {@link #peek(int)} until its parent is before it.
+	 * 
+	 * @param candidates
+	 *            The candidate positions, in heap order.
+	 * @param index
+	 *            The index of the candidate.
+	 */
+	private void siftUpCandidate(int[] candidates, int index)
+	{
+		final int position = candidates[index];
+
+		int currentIndex = index;
+		while (currentIndex > 0)
+		{
+			final int parentIndex = (currentIndex - 1) / 2;
+			if (!isBefore(this.playerIds[position], this.playerIds[candidates[parentIndex]]))
+			{
+				break;
+			}
+
+			candidates[currentIndex] = candidates[parentIndex];
+			currentIndex = parentIndex;
+		}
+
+		candidates[currentIndex] = position;
+	}
+
+	/**
+	 * Move a candidate position down in the secondary heap of {@link #peek(int)} until it is before its children.
+	 * 
+	 * @param candidates
+	 *            The candidate positions, in heap order.
+	 * @param nbCandidates
+	 *            The number of candidates.
+	 * @param index
+	 *            The index of the candidate.
+	 */
+	private void siftDownCandidate(int[] candidates, int nbCandidates, int index)
+	{
+		final int position = candidates[index];
+
+		int currentIndex = index;
+		while (true)
+		{
+			int childIndex = currentIndex * 2 + 1;
+			if (childIndex >= nbCandidates)
+			{
+				break;
+			}
+
+			if ((childIndex + 1 < nbCandidates) && isBefore(this.playerIds[candidates[childIndex + 1]], this.playerIds[candidates[childIndex]]))
+			{
+				childIndex++;
+			}
+
+			if (!isBefore(this.playerIds[candidates[childIndex]], this.playerIds[position]))
+			{
+				break;
+			}
+
+			candidates[currentIndex] = candidates[childIndex];
+			currentIndex = childIndex;
+		}
+
+		candidates[currentIndex] = position;
+	}
+
+	/**
+	 * Ensure that the arrays can hold the given number of identifiers.
+	 * 
+	 * @param capacity
+	 *            The required capacity.
+	 */
+	private void ensureCapacity(int capacity)
+	{
+		if (capacity <= this.positions.length)
+		{
+			return;
+		}
+
+		final int oldCapacity = this.positions.length;
+		final int newCapacity = Math.max(capacity, oldCapacity * 2);
+		this.playerIds = Arrays.copyOf(this.playerIds, newCapacity);
+		this.keys = Arrays.copyOf(this.keys, newCapacity);
+		this.positions = Arrays.copyOf(this.positions, newCapacity);
+		Arrays.fill(this.positions, oldCapacity, newCapacity, NOT_IN_HEAP);
+	}
+}
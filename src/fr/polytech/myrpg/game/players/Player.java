@@ -1,72 +1,99 @@
-package fr.polytech.myrpg.game.players;
-
-import fr.polytech.myrpg.characters.Character;
-
-/**
- * This class represents a player.
- *
- * @author DELORME Loïc
- * @since 1.0.0
- */
-public class Player
-{
-	/**
-	 * The name of the player.
-	 */
-	private final String name;
-
-	/**
-	 * The character which is controlled by the character.
-	 */
-	private final Character character;
-
-	/**
-	 * Create a player.
-	 * 
-	 * @param name
-	 *            The name of the player.
-	 * @param character
-	 *            The character which is controlled by the character.
-	 */
-	public Player(String name, Character character)
-	{
-		this.name = name;
-		this.character = character;
-	}
-
-	/**
-	 * Get the name.
-	 * 
-	 * @return The name.
-	 */
-	public String getName()
-	{
-		return this.name;
-	}
-
-	/**
-	 * Get the character.
-	 * 
-	 * @return The character.
-	 */
-	public Character getCharacter()
-	{
-		return this.character;
-	}
-
-	/**
-	 * @see java.lang.Object#toString()
-	 */
-	@Override
-	public String toString()
-	{
-		final StringBuilder stringRepresentation = new StringBuilder();
-		stringRepresentation.append("Player [name=");
-		stringRepresentation.append(this.name);
-		stringRepresentation.append(", character=");
-		stringRepresentation.append(this.character);
-		stringRepresentation.append("]");
-
-		return stringRepresentation.toString();
-	}
-}
+package fr.polytech.myrpg.game.players;
+
+import fr.polytech.myrpg.characters.Character;
+
+/**
+ * This class represents a player.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public class Player
+{
+	/**
+	 * The name of the player.
+	 */
+	private final String name;
+
+	/**
+	 * The character which is controlled by the character.
+	 */
+	private final Character character;
+
+	/**
+	 * The stable identifier of the player in its team, or -1 if it is in no team.
+	 */
+	private int teamId;
+
+	/**
+	 * Create a player.
+	 * 
+	 * @param name
+	 *            The name of the player.
+	 * @param character
+	 *            The character which is controlled by the character.
+	 */
+	public Player(String name, Character character)
+	{
+		this.name = name;
+		this.character = character;
+		this.teamId = -1;
+	}
+
+	/**
+	 * Get the name.
+	 * 
+	 * @return The name.
+	 */
+	public String getName()
+	{
+		return this.name;
+	}
+
+	/**
+	 * Get the character.
+	 * 
+	 * @return The character.
+	 */
+	public Character getCharacter()
+	{
+		return this.character;
+	}
+
+	/**
+	 * Get the stable identifier of the player in its team.
+	 * 
+	 * @return The identifier, or -1 if it is in no team.
+	 */
+	public int getTeamId()
+	{
+		return this.teamId;
+	}
+
+	/**
+	 * Set the stable identifier of the player in its team.
+	 * 
+	 * @param teamId
+	 *            The identifier.
+	 */
+	void setTeamId(int teamId)
+	{
+		this.teamId = teamId;
+	}
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString()
+	{
+		final StringBuilder stringRepresentation = new StringBuilder();
+		stringRepresentation.append("Player [name=");
+		stringRepresentation.append(this.name);
+		stringRepresentation.append(", character=");
+		stringRepresentation.append(this.character);
+		stringRepresentation.append("]");
+
+		return stringRepresentation.toString();
+	}
+}
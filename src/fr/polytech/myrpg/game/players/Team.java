@@ -1,30 +1,109 @@
 package fr.polytech.myrpg.game.players;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
 
+import fr.polytech.myrpg.characters.Character;
+import fr.polytech.myrpg.characters.CharacterTable;
+
 /**
  * This class represents a team.
  *
+ * Each player keeps a stable identifier, its insertion order. The living players are stored in a dense array where a dead player is replaced by the last one, and they
+ * are linked in a circular list by identifier, so that removing a player and rotating to the next one are done in constant time. The alive count, the total health and
+ * the total strength of the living players are updated incrementally.
+ *
+ * The team isn't told when a character changes: whoever changes the health or the strength of a character must call {@link #hasBeenUpdated(Player)}, or
+ * {@link #hasBeenUpdated()} after a batch of changes such as {@link CharacterTable#writeBack()}, before the aggregates or the target indexes are read. When
+ * assertions are enabled, reading them checks that they are up to date.
+ *
  * @author DELORME Loïc
  * @since 1.0.0
  */
 public class Team
 {
+	/**
+	 * The value of an empty link.
+	 */
+	private static final int NO_PLAYER = -1;
+
 	/**
 	 * The name of the team.
 	 */
 	private final String name;
 
 	/**
-	 * The list of all players.
+	 * The list of all players, indexed by identifier.
 	 */
 	private final List<Player> players;
 
 	/**
-	 * The current player offset.
+	 * The living players.
+	 */
+	private final BitSet alivePlayers;
+
+	/**
+	 * The identifiers of the living players, the first {@link #nbAlivePlayers} ones are used.
+	 */
+	private int[] alivePlayerIds;
+
+	/**
+	 * The offset of each player in {@link #alivePlayerIds}, indexed by identifier.
+	 */
+	private int[] aliveOffsets;
+
+	/**
+	 * The next living player in the rotation, indexed by identifier.
+	 */
+	private int[] nextPlayerIds;
+
+	/**
+	 * The previous living player in the rotation, indexed by identifier.
+	 */
+	private int[] previousPlayerIds;
+
+	/**
+	 * The health of each player when the aggregates were last updated, indexed by identifier.
+	 */
+	private int[] healths;
+
+	/**
+	 * The strength of each player when the aggregates were last updated, indexed by identifier.
+	 */
+	private int[] strengths;
+
+	/**
+	 * The living players ordered by lowest health first.
 	 */
-	private int currentPlayerOffset;
+	private final IndexedPlayerHeap healthHeap;
+
+	/**
+	 * The living players ordered by greatest strength first.
+	 */
+	private final IndexedPlayerHeap strengthHeap;
+
+	/**
+	 * The number of living players.
+	 */
+	private int nbAlivePlayers;
+
+	/**
+	 * The total health of the living players.
+	 */
+	private long totalHealth;
+
+	/**
+	 * The total strength of the living players.
+	 */
+	private long totalStrength;
+
+	/**
+	 * The identifier of the current player.
+	 */
+	private int currentPlayerId;
 
 	/**
 	 * Create a team.
@@ -36,7 +115,19 @@ public class Team
 	{
 		this.name = name;
 		this.players = new ArrayList<Player>();
-		this.currentPlayerOffset = 0;
+		this.alivePlayers = new BitSet();
+		this.alivePlayerIds = new int[0];
+		this.aliveOffsets = new int[0];
+		this.nextPlayerIds = new int[0];
+		this.previousPlayerIds = new int[0];
+		this.healths = new int[0];
+		this.strengths = new int[0];
+		this.healthHeap = new IndexedPlayerHeap(false);
+		this.strengthHeap = new IndexedPlayerHeap(true);
+		this.nbAlivePlayers = 0;
+		this.totalHealth = 0;
+		this.totalStrength = 0;
+		this.currentPlayerId = NO_PLAYER;
 	}
 
 	/**
@@ -47,7 +138,41 @@ public class Team
 	 */
 	public void addPlayer(Player player)
 	{
+		final int playerId = this.players.size();
+		ensureCapacity(playerId + 1);
+
 		this.players.add(player);
+		player.setTeamId(playerId);
+
+		// The rotation follows the identifiers, so the new player is linked before the living player with the lowest one.
+		if (this.currentPlayerId == NO_PLAYER)
+		{
+			this.nextPlayerIds[playerId] = playerId;
+			this.previousPlayerIds[playerId] = playerId;
+			this.currentPlayerId = playerId;
+		}
+		else
+		{
+			final int firstPlayerId = this.alivePlayers.nextSetBit(0);
+			final int lastPlayerId = this.previousPlayerIds[firstPlayerId];
+			this.nextPlayerIds[lastPlayerId] = playerId;
+			this.previousPlayerIds[playerId] = lastPlayerId;
+			this.nextPlayerIds[playerId] = firstPlayerId;
+			this.previousPlayerIds[firstPlayerId] = playerId;
+		}
+
+		this.alivePlayers.set(playerId);
+		this.alivePlayerIds[this.nbAlivePlayers] = playerId;
+		this.aliveOffsets[playerId] = this.nbAlivePlayers;
+		this.nbAlivePlayers++;
+
+		final Character character = player.getCharacter();
+		this.healths[playerId] = character.getHealth();
+		this.strengths[playerId] = character.computeStrengthValue();
+		this.totalHealth += this.healths[playerId];
+		this.totalStrength += this.strengths[playerId];
+		this.healthHeap.add(playerId, this.healths[playerId]);
+		this.strengthHeap.add(playerId, this.strengths[playerId]);
 	}
 
 	/**
@@ -67,18 +192,23 @@ public class Team
 	 */
 	public boolean allPlayersAreDead()
 	{
-		return this.players.isEmpty();
+		return (this.nbAlivePlayers == 0);
 	}
 
 	/**
-	 * Get the current player.
+	 * Get the current player, and rotate to the next living one.
 	 * 
 	 * @return The current player.
 	 */
 	public Player getCurrentPlayer()
 	{
-		final Player player = this.players.get(this.currentPlayerOffset);
-		this.currentPlayerOffset = ((this.currentPlayerOffset + 1) >= (this.players.size() - 1) ? 0 : this.currentPlayerOffset + 1);
+		if (this.currentPlayerId == NO_PLAYER)
+		{
+			throw new IllegalStateException("All players of the team " + this.name + " are dead!");
+		}
+
+		final Player player = this.players.get(this.currentPlayerId);
+		this.currentPlayerId = this.nextPlayerIds[this.currentPlayerId];
 
 		return player;
 	}
@@ -87,12 +217,279 @@ public class Team
 	 * Get the player.
 	 * 
 	 * @param offset
-	 *            The offset.
+	 *            The offset among the living players.
 	 * @return The corresponding player.
 	 */
 	public Player getPlayer(int offset)
 	{
-		return this.players.get(offset);
+		if ((offset < 0) || (offset >= this.nbAlivePlayers))
+		{
+			throw new IndexOutOfBoundsException("Offset: " + offset + ", Size: " + this.nbAlivePlayers);
+		}
+
+		return this.players.get(this.alivePlayerIds[offset]);
+	}
+
+	/**
+	 * Get the player by its stable identifier.
+	 * 
+	 * @param playerId
+	 *            The identifier.
+	 * @return The corresponding player, dead or alive.
+	 */
+	public Player getPlayerById(int playerId)
+	{
+		return this.players.get(playerId);
+	}
+
+	/**
+	 * Check if a player is alive.
+	 * 
+	 * @param playerId
+	 *            The identifier of the player.
+	 * @return True if the player is alive, else False.
+	 */
+	public boolean isAlive(int playerId)
+	{
+		return this.alivePlayers.get(playerId);
+	}
+
+	/**
+	 * Get the number of living players.
+	 * 
+	 * @return The number of living players.
+	 */
+	public int getNbPlayers()
+	{
+		return this.nbAlivePlayers;
+	}
+
+	/**
+	 * Get the number of players, dead or alive.
+	 * 
+	 * @return The number of players.
+	 */
+	public int getNbAllPlayers()
+	{
+		return this.players.size();
+	}
+
+	/**
+	 * Get the total health of the living players.
+	 * 
+	 * @return The total health.
+	 */
+	public long getTotalHealth()
+	{
+		assert hasConsistentAggregates() : "Aggregates are outdated, hasBeenUpdated() was not called after a change";
+		return this.totalHealth;
+	}
+
+	/**
+	 * Get the total strength of the living players.
+	 * 
+	 * @return The total strength.
+	 */
+	public long getTotalStrength()
+	{
+		assert hasConsistentAggregates() : "Aggregates are outdated, hasBeenUpdated() was not called after a change";
+		return this.totalStrength;
+	}
+
+	/**
+	 * Get the offset of a player among the living players.
+	 * 
+	 * @param player
+	 *            The player.
+	 * @return The offset, or -1 if the player is dead or not in the team.
+	 */
+	public int getPlayerOffset(Player player)
+	{
+		final int playerId = player.getTeamId();
+		return (belongsToTeam(player) && this.alivePlayers.get(playerId) ? this.aliveOffsets[playerId] : -1);
+	}
+
+	/**
+	 * Get the living player with the lowest health.
+	 * 
+	 * @return The weakest player, or null if all players are dead.
+	 */
+	public Player getWeakestPlayer()
+	{
+		assert hasConsistentAggregates() : "Aggregates are outdated, hasBeenUpdated() was not called after a change";
+		final int playerId = this.healthHeap.peek();
+		return (playerId < 0 ? null : this.players.get(playerId));
+	}
+
+	/**
+	 * Get the living players with the lowest health.
+	 * 
+	 * @param nbPlayers
+	 *            The maximal number of players.
+	 * @return The weakest players, from the lowest health.
+	 */
+	public List<Player> getWeakestPlayers(int nbPlayers)
+	{
+		assert hasConsistentAggregates() : "Aggregates are outdated, hasBeenUpdated() was not called after a change";
+		final int[] playerIds = this.healthHeap.peek(nbPlayers);
+		final List<Player> weakestPlayers = new ArrayList<Player>(playerIds.length);
+		for (int currentPlayerId : playerIds)
+		{
+			weakestPlayers.add(this.players.get(currentPlayerId));
+		}
+
+		return weakestPlayers;
+	}
+
+	/**
+	 * Get the living player with the greatest strength.
+	 * 
+	 * @return The strongest player, or null if all players are dead.
+	 */
+	public Player getStrongestPlayer()
+	{
+		assert hasConsistentAggregates() : "Aggregates are outdated, hasBeenUpdated() was not called after a change";
+		final int playerId = this.strengthHeap.peek();
+		return (playerId < 0 ? null : this.players.get(playerId));
+	}
+
+	/**
+	 * Add the characters of the living players to a character table.
+	 * 
+	 * @param characterTable
+	 *            The character table.
+	 * @return The rows of the characters, indexed by player offset.
+	 */
+	public int[] addToCharacterTable(CharacterTable characterTable)
+	{
+		final int[] rows = new int[this.nbAlivePlayers];
+		for (int i = 0; i < rows.length; i++)
+		{
+			rows[i] = characterTable.addCharacter(getPlayer(i).getCharacter());
+		}
+
+		return rows;
+	}
+
+	/**
+	 * Get the identifier of the next player to play.
+	 * 
+	 * @return The identifier, or -1 if all players are dead.
+	 */
+	public int getCurrentPlayerId()
+	{
+		return this.currentPlayerId;
+	}
+
+	/**
+	 * Restore the living players and the turn, as saved in a snapshot. The characters must already be restored, the aggregates and the target indexes are recomputed from
+	 * them.
+	 * 
+	 * @param savedAlivePlayerIds
+	 *            The identifiers of the living players, in the order of {@link #getPlayer(int)}.
+	 * @param savedCurrentPlayerId
+	 *            The identifier of the next player to play, or -1 if all players are dead.
+	 * @throws IllegalArgumentException
+	 *             If an identifier is unknown or repeated, or if the next player is not alive.
+	 */
+	public void restoreState(int[] savedAlivePlayerIds, int savedCurrentPlayerId)
+	{
+		final BitSet savedAlivePlayers = new BitSet();
+		for (int currentPlayerId : savedAlivePlayerIds)
+		{
+			if ((currentPlayerId < 0) || (currentPlayerId >= this.players.size()) || savedAlivePlayers.get(currentPlayerId))
+			{
+				throw new IllegalArgumentException("Invalid living player " + currentPlayerId + " in the team " + this.name);
+			}
+			savedAlivePlayers.set(currentPlayerId);
+		}
+		final boolean isValidCurrentPlayer = (savedAlivePlayerIds.length == 0 ? savedCurrentPlayerId == NO_PLAYER : (savedCurrentPlayerId >= 0) && savedAlivePlayers.get(savedCurrentPlayerId));
+		if (!isValidCurrentPlayer)
+		{
+			throw new IllegalArgumentException("Invalid current player " + savedCurrentPlayerId + " in the team " + this.name);
+		}
+
+		for (int playerId = this.alivePlayers.nextSetBit(0); playerId >= 0; playerId = this.alivePlayers.nextSetBit(playerId + 1))
+		{
+			this.healthHeap.remove(playerId);
+			this.strengthHeap.remove(playerId);
+		}
+
+		this.alivePlayers.clear();
+		this.alivePlayers.or(savedAlivePlayers);
+		this.nbAlivePlayers = savedAlivePlayerIds.length;
+		this.totalHealth = 0;
+		this.totalStrength = 0;
+		for (int offset = 0; offset < savedAlivePlayerIds.length; offset++)
+		{
+			final int playerId = savedAlivePlayerIds[offset];
+			final Character character = this.players.get(playerId).getCharacter();
+			this.alivePlayerIds[offset] = playerId;
+			this.aliveOffsets[playerId] = offset;
+			this.healths[playerId] = character.getHealth();
+			this.strengths[playerId] = character.computeStrengthValue();
+			this.totalHealth += this.healths[playerId];
+			this.totalStrength += this.strengths[playerId];
+			this.healthHeap.add(playerId, this.healths[playerId]);
+			this.strengthHeap.add(playerId, this.strengths[playerId]);
+		}
+
+		// The rotation follows the identifiers of the living players.
+		int previousPlayerId = this.alivePlayers.previousSetBit(this.players.size() - 1);
+		for (int playerId = this.alivePlayers.nextSetBit(0); playerId >= 0; playerId = this.alivePlayers.nextSetBit(playerId + 1))
+		{
+			this.nextPlayerIds[previousPlayerId] = playerId;
+			this.previousPlayerIds[playerId] = previousPlayerId;
+			previousPlayerId = playerId;
+		}
+
+		this.currentPlayerId = savedCurrentPlayerId;
+	}
+
+	/**
+	 * The character of the player has been updated, so the aggregates and the target indexes must take its new health and strength into account. It must be called
+	 * after every change of health or strength, else they are outdated.
+	 * 
+	 * @param player
+	 *            The player.
+	 */
+	public void hasBeenUpdated(Player player)
+	{
+		final int playerId = player.getTeamId();
+		if (!belongsToTeam(player) || !this.alivePlayers.get(playerId))
+		{
+			return;
+		}
+
+		final Character character = player.getCharacter();
+		final int health = character.getHealth();
+		final int strength = character.computeStrengthValue();
+
+		if (health != this.healths[playerId])
+		{
+			this.totalHealth += health - this.healths[playerId];
+			this.healths[playerId] = health;
+			this.healthHeap.update(playerId, health);
+		}
+
+		if (strength != this.strengths[playerId])
+		{
+			this.totalStrength += strength - this.strengths[playerId];
+			this.strengths[playerId] = strength;
+			this.strengthHeap.update(playerId, strength);
+		}
+	}
+
+	/**
+	 * The characters of the living players may all have been updated, for instance by {@link CharacterTable#writeBack()}, so the aggregates and the target indexes
+	 * must take their new health and strength into account.
+	 */
+	public void hasBeenUpdated()
+	{
+		for (int i = 0; i < this.nbAlivePlayers; i++)
+		{
+			hasBeenUpdated(this.players.get(this.alivePlayerIds[i]));
+		}
 	}
 
 	/**
@@ -103,22 +500,130 @@ public class Team
 	 */
 	public void hasDied(Player player)
 	{
-		this.players.remove(player);
+		final int playerId = player.getTeamId();
+		if (!belongsToTeam(player) || !this.alivePlayers.get(playerId))
+		{
+			return;
+		}
+
+		this.alivePlayers.clear(playerId);
+		this.totalHealth -= this.healths[playerId];
+		this.totalStrength -= this.strengths[playerId];
+		this.healthHeap.remove(playerId);
+		this.strengthHeap.remove(playerId);
+
+		// Replace the dead player by the last living one.
+		final int offset = this.aliveOffsets[playerId];
+		final int lastPlayerId = this.alivePlayerIds[this.nbAlivePlayers - 1];
+		this.alivePlayerIds[offset] = lastPlayerId;
+		this.aliveOffsets[lastPlayerId] = offset;
+		this.nbAlivePlayers--;
+
+		// Unlink the dead player from the rotation.
+		if (this.nbAlivePlayers == 0)
+		{
+			this.currentPlayerId = NO_PLAYER;
+		}
+		else
+		{
+			final int previousPlayerId = this.previousPlayerIds[playerId];
+			final int nextPlayerId = this.nextPlayerIds[playerId];
+			this.nextPlayerIds[previousPlayerId] = nextPlayerId;
+			this.previousPlayerIds[nextPlayerId] = previousPlayerId;
+
+			if (this.currentPlayerId == playerId)
+			{
+				this.currentPlayerId = nextPlayerId;
+			}
+		}
 	}
 
 	/**
-	 * Convert players into string.
+	 * Convert players into string. The strings are built when they are read, so a caller which only needs the number of choices doesn't pay for them.
 	 * 
-	 * @return The converted players.
+	 * @return The converted players, a view of the living players.
 	 */
 	public List<String> convertPlayersIntoString()
 	{
-		final List<String> convertedPlayers = new ArrayList<String>();
-		for (Player currentPlayer : this.players)
+		return new AbstractList<String>()
+		{
+			/**
+			 * @see java.util.AbstractList#get(int)
+			 */
+			@Override
+			public String get(int offset)
+			{
+				final Character character = getPlayer(offset).getCharacter();
+				return character.getName() + " / health: " + character.getHealth();
+			}
+
+			/**
+			 * @see java.util.AbstractCollection#size()
+			 */
+			@Override
+			public int size()
+			{
+				return Team.this.nbAlivePlayers;
+			}
+		};
+	}
+
+	/**
+	 * Check if a player belongs to the team.
+	 * 
+	 * @param player
+	 *            The player.
+	 * @return True if it belongs to the team, else False.
+	 */
+	private boolean belongsToTeam(Player player)
+	{
+		final int playerId = player.getTeamId();
+		return ((playerId >= 0) && (playerId < this.players.size()) && (this.players.get(playerId) == player));
+	}
+
+	/**
+	 * Ensure that the arrays indexed by identifier can hold the given number of players.
+	 * 
+	 * @param capacity
+	 *            The required number of players.
+	 */
+	private void ensureCapacity(int capacity)
+	{
+		if (capacity <= this.aliveOffsets.length)
+		{
+			return;
+		}
+
+		final int newCapacity = Math.max(capacity, this.aliveOffsets.length * 2);
+		this.alivePlayerIds = Arrays.copyOf(this.alivePlayerIds, newCapacity);
+		this.aliveOffsets = Arrays.copyOf(this.aliveOffsets, newCapacity);
+		this.nextPlayerIds = Arrays.copyOf(this.nextPlayerIds, newCapacity);
+		this.previousPlayerIds = Arrays.copyOf(this.previousPlayerIds, newCapacity);
+		this.healths = Arrays.copyOf(this.healths, newCapacity);
+		this.strengths = Arrays.copyOf(this.strengths, newCapacity);
+	}
+
+	/**
+	 * Check that the aggregates match the characters of the living players. It is only called when assertions are enabled.
+	 * 
+	 * @return True if the aggregates are consistent, else False.
+	 */
+	private boolean hasConsistentAggregates()
+	{
+		long computedTotalHealth = 0;
+		long computedTotalStrength = 0;
+		for (int i = 0; i < this.nbAlivePlayers; i++)
 		{
-			convertedPlayers.add(currentPlayer.getCharacter().getName() + " / health: " + currentPlayer.getCharacter().getHealth());
+			final int playerId = this.alivePlayerIds[i];
+			final Character character = this.players.get(playerId).getCharacter();
+			if ((this.healths[playerId] != character.getHealth()) || (this.strengths[playerId] != character.computeStrengthValue()))
+			{
+				return false;
+			}
+			computedTotalHealth += this.healths[playerId];
+			computedTotalStrength += this.strengths[playerId];
 		}
 
-		return convertedPlayers;
+		return (this.totalHealth == computedTotalHealth) && (this.totalStrength == computedTotalStrength);
 	}
 }
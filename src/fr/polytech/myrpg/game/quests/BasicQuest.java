@@ -1,19 +1,32 @@
 package fr.polytech.myrpg.game.quests;
 
-import java.security.SecureRandom;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import fr.polytech.myrpg.characters.Character;
+import fr.polytech.myrpg.characters.Characteristic;
+import fr.polytech.myrpg.characters.FightOutcomeCache;
 import fr.polytech.myrpg.characters.exceptions.TooHeavyCharacterException;
 import fr.polytech.myrpg.characters.exceptions.TooManyArmorsException;
 import fr.polytech.myrpg.characters.exceptions.TooManyWeaponsException;
-import fr.polytech.myrpg.characters.items.Item;
 import fr.polytech.myrpg.characters.items.edible.EdibleItem;
+import fr.polytech.myrpg.characters.items.edible.Inventory;
+import fr.polytech.myrpg.characters.items.edible.ItemStack;
 import fr.polytech.myrpg.characters.items.equipable.EquipableItem;
+import fr.polytech.myrpg.characters.specialmove.SpecialMoveType;
+import fr.polytech.myrpg.game.journal.GameJournal;
 import fr.polytech.myrpg.game.observers.IGameObserver;
 import fr.polytech.myrpg.game.players.Player;
 import fr.polytech.myrpg.game.players.Team;
+import fr.polytech.myrpg.game.snapshot.GameSnapshotter;
+import fr.polytech.myrpg.jfr.OpponentAttackedEvent;
+import fr.polytech.myrpg.jfr.QuestPlayedEvent;
+import fr.polytech.myrpg.metrics.GameCounter;
+import fr.polytech.myrpg.metrics.GameHistogram;
+import fr.polytech.myrpg.metrics.MetricsRegistry;
+import fr.polytech.myrpg.random.IRandomSource;
+import fr.polytech.myrpg.random.SecureRandomSource;
 
 /**
  * This class represents a basic quest.
@@ -24,9 +37,19 @@ import fr.polytech.myrpg.game.players.Team;
 public class BasicQuest implements IQuest
 {
 	/**
-	 * The secure random generator.
+	 * The random source shared by quests created without one.
 	 */
-	private static final SecureRandom SECURE_RANDOM_GENERATOR = new SecureRandom();
+	private static final IRandomSource DEFAULT_RANDOM_SOURCE = new SecureRandomSource();
+
+	/**
+	 * The random source used to drop items.
+	 */
+	private final IRandomSource randomSource;
+
+	/**
+	 * The default maximal number of rounds, which means that the quest lasts until a team is dead.
+	 */
+	public static final int DEFAULT_MAX_NB_ROUNDS = Integer.MAX_VALUE;
 
 	/**
 	 * The edible items in the quest.
@@ -63,6 +86,41 @@ public class BasicQuest implements IQuest
 	 */
 	private final Team secondTeam;
 
+	/**
+	 * The number of rounds played.
+	 */
+	private int nbRounds;
+
+	/**
+	 * The maximal number of rounds.
+	 */
+	private int maxNbRounds;
+
+	/**
+	 * The fight outcome cache, or null to roll every special move at each attack.
+	 */
+	private FightOutcomeCache fightOutcomeCache;
+
+	/**
+	 * The snapshotter saving the quest before each round, or null to save nothing.
+	 */
+	private GameSnapshotter gameSnapshotter;
+
+	/**
+	 * The journal recording the events of the quest, or null to record nothing.
+	 */
+	private GameJournal gameJournal;
+
+	/**
+	 * The registry recording the metrics of the quest, or null to record nothing.
+	 */
+	private MetricsRegistry metricsRegistry;
+
+	/**
+	 * The index of the quest in the game, given to the flight recorder events.
+	 */
+	private int questIndex;
+
 	/**
 	 * Create a basic quest.
 	 * 
@@ -81,6 +139,30 @@ public class BasicQuest implements IQuest
 	 */
 	public BasicQuest(String beginText, String endText, Team firstTeam, Team secondTeam, List<EdibleItem> edibleItems, List<EquipableItem> equipableItems)
 	{
+		this(beginText, endText, firstTeam, secondTeam, edibleItems, equipableItems, DEFAULT_RANDOM_SOURCE);
+	}
+
+	/**
+	 * Create a basic quest.
+	 * 
+	 * @param beginText
+	 *            The begin text.
+	 * @param endText
+	 *            The end text.
+	 * @param firstTeam
+	 *            The first team.
+	 * @param secondTeam
+	 *            The second team.
+	 * @param edibleItems
+	 *            The edible items in the quest.
+	 * @param equipableItems
+	 *            The equipable items in the quest.
+	 * @param randomSource
+	 *            The random source used to drop items.
+	 */
+	public BasicQuest(String beginText, String endText, Team firstTeam, Team secondTeam, List<EdibleItem> edibleItems, List<EquipableItem> equipableItems, IRandomSource randomSource)
+	{
+		this.randomSource = randomSource;
 		this.beginText = beginText;
 		this.endText = endText;
 		this.firstTeam = firstTeam;
@@ -88,6 +170,175 @@ public class BasicQuest implements IQuest
 		this.isToFirstTeamToPlay = true;
 		this.edibleItems = edibleItems;
 		this.equipableItems = equipableItems;
+		this.nbRounds = 0;
+		this.maxNbRounds = DEFAULT_MAX_NB_ROUNDS;
+		this.fightOutcomeCache = null;
+		this.gameSnapshotter = null;
+		this.metricsRegistry = null;
+		this.gameJournal = null;
+		this.questIndex = 0;
+	}
+
+	/**
+	 * Set the maximal number of rounds, after which the quest stops even if both teams are still alive.
+	 * 
+	 * @param maxNbRounds
+	 *            The maximal number of rounds.
+	 */
+	public void setMaxNbRounds(int maxNbRounds)
+	{
+		this.maxNbRounds = maxNbRounds;
+	}
+
+	/**
+	 * Set the fight outcome cache used by the attacks.
+	 * 
+	 * @param fightOutcomeCache
+	 *            The fight outcome cache, or null to roll every special move at each attack.
+	 */
+	public void setFightOutcomeCache(FightOutcomeCache fightOutcomeCache)
+	{
+		this.fightOutcomeCache = fightOutcomeCache;
+	}
+
+	/**
+	 * Set the snapshotter saving the quest before each round.
+	 * 
+	 * @param gameSnapshotter
+	 *            The snapshotter, or null to save nothing.
+	 */
+	public void setGameSnapshotter(GameSnapshotter gameSnapshotter)
+	{
+		this.gameSnapshotter = gameSnapshotter;
+	}
+
+	/**
+	 * Set the journal recording the events of the quest.
+	 * 
+	 * @param gameJournal
+	 *            The journal, or null to record nothing.
+	 */
+	public void setGameJournal(GameJournal gameJournal)
+	{
+		this.gameJournal = gameJournal;
+	}
+
+	/**
+	 * Set the registry recording the metrics of the quest.
+	 * 
+	 * @param metricsRegistry
+	 *            The registry, or null to record nothing.
+	 */
+	public void setMetricsRegistry(MetricsRegistry metricsRegistry)
+	{
+		this.metricsRegistry = metricsRegistry;
+	}
+
+	/**
+	 * Set the index of the quest in the game, given to the flight recorder events.
+	 * 
+	 * @param questIndex
+	 *            The index of the quest.
+	 */
+	public void setQuestIndex(int questIndex)
+	{
+		this.questIndex = questIndex;
+	}
+
+	/**
+	 * Restore the state of the quest, as saved in a snapshot. The teams must be restored separately.
+	 * 
+	 * @param savedNbRounds
+	 *            The number of rounds played.
+	 * @param savedIsToFirstTeamToPlay
+	 *            If it is to first team to play.
+	 * @param savedEdibleItems
+	 *            The edible items still in the quest.
+	 * @param savedEquipableItems
+	 *            The equipable items still in the quest.
+	 */
+	public void restoreState(int savedNbRounds, boolean savedIsToFirstTeamToPlay, List<EdibleItem> savedEdibleItems, List<EquipableItem> savedEquipableItems)
+	{
+		this.nbRounds = savedNbRounds;
+		this.isToFirstTeamToPlay = savedIsToFirstTeamToPlay;
+
+		final List<EdibleItem> restoredEdibleItems = new ArrayList<EdibleItem>(savedEdibleItems);
+		this.edibleItems.clear();
+		this.edibleItems.addAll(restoredEdibleItems);
+
+		final List<EquipableItem> restoredEquipableItems = new ArrayList<EquipableItem>(savedEquipableItems);
+		this.equipableItems.clear();
+		this.equipableItems.addAll(restoredEquipableItems);
+	}
+
+	/**
+	 * Get the random source used to drop items, which is also the one of the characters of the built-in and content quests.
+	 * 
+	 * @return The random source.
+	 */
+	public IRandomSource getRandomSource()
+	{
+		return this.randomSource;
+	}
+
+	/**
+	 * Get the edible items still in the quest.
+	 * 
+	 * @return The edible items, in drop order.
+	 */
+	public List<EdibleItem> getEdibleItems()
+	{
+		return Collections.unmodifiableList(this.edibleItems);
+	}
+
+	/**
+	 * Get the equipable items still in the quest.
+	 * 
+	 * @return The equipable items, in drop order.
+	 */
+	public List<EquipableItem> getEquipableItems()
+	{
+		return Collections.unmodifiableList(this.equipableItems);
+	}
+
+	/**
+	 * Check if it is to first team to play.
+	 * 
+	 * @return True if it is to first team to play, else False.
+	 */
+	public boolean isToFirstTeamToPlay()
+	{
+		return this.isToFirstTeamToPlay;
+	}
+
+	/**
+	 * Get the number of rounds played.
+	 * 
+	 * @return The number of rounds played.
+	 */
+	public int getNbRounds()
+	{
+		return this.nbRounds;
+	}
+
+	/**
+	 * Get the first team.
+	 * 
+	 * @return The first team.
+	 */
+	public Team getFirstTeam()
+	{
+		return this.firstTeam;
+	}
+
+	/**
+	 * Get the second team.
+	 * 
+	 * @return The second team.
+	 */
+	public Team getSecondTeam()
+	{
+		return this.secondTeam;
 	}
 
 	/**
@@ -96,12 +347,34 @@ public class BasicQuest implements IQuest
 	@Override
 	public void startQuest(IGameObserver gameObserver)
 	{
+		final QuestPlayedEvent questPlayedEvent = new QuestPlayedEvent();
+		questPlayedEvent.begin();
+
 		gameObserver.displayMessage(this.beginText);
+		if (this.gameJournal != null)
+		{
+			this.gameJournal.questStarted(this, this.fightOutcomeCache != null);
+		}
 
-		while ((!this.firstTeam.allPlayersAreDead()) && (!this.secondTeam.allPlayersAreDead()))
+		while ((!this.firstTeam.allPlayersAreDead()) && (!this.secondTeam.allPlayersAreDead()) && (this.nbRounds < this.maxNbRounds))
 		{
+			if (this.gameSnapshotter != null)
+			{
+				this.gameSnapshotter.takeSnapshot(this);
+			}
+
+			this.nbRounds++;
+			final long roundStartTime = startTimer();
+
 			final Player currentPlayer = (this.isToFirstTeamToPlay ? this.firstTeam.getCurrentPlayer() : this.secondTeam.getCurrentPlayer());
+			gameObserver.hasStartedRound(currentPlayer, (this.isToFirstTeamToPlay ? this.firstTeam : this.secondTeam), (this.isToFirstTeamToPlay ? this.secondTeam : this.firstTeam));
+			final long decisionStartTime = startTimer();
 			final int choice = gameObserver.displayChoiceForTheCurrentPlayer(currentPlayer.getName());
+			recordTime(GameHistogram.DECISION_WAIT_NANOS, decisionStartTime);
+			if (this.gameJournal != null)
+			{
+				this.gameJournal.roundStarted(this.nbRounds, this.isToFirstTeamToPlay, currentPlayer, choice);
+			}
 
 			switch (choice)
 			{
@@ -125,9 +398,24 @@ public class BasicQuest implements IQuest
 			}
 
 			this.isToFirstTeamToPlay = !this.isToFirstTeamToPlay;
+			recordTime(GameHistogram.ROUND_TIME_NANOS, roundStartTime);
 		}
 
+		if (this.gameJournal != null)
+		{
+			this.gameJournal.questEnded(this);
+		}
+		if (this.metricsRegistry != null)
+		{
+			this.metricsRegistry.record(GameHistogram.ROUNDS_PER_QUEST, this.nbRounds);
+		}
 		gameObserver.displayMessage(this.endText);
+
+		if (questPlayedEvent.shouldCommit())
+		{
+			questPlayedEvent.setOutcome(this.questIndex, this.nbRounds, this.secondTeam.allPlayersAreDead(), this.firstTeam.allPlayersAreDead());
+			questPlayedEvent.commit();
+		}
 	}
 
 	/**
@@ -142,41 +430,85 @@ public class BasicQuest implements IQuest
 	{
 		if (!this.edibleItems.isEmpty())
 		{
-			if (SECURE_RANDOM_GENERATOR.nextDouble() < 0.4)
+			if (this.randomSource.nextDouble() < 0.4)
 			{
+				final int droppedItemOffset = this.randomSource.nextInt(this.edibleItems.size());
+				final EdibleItem droppedItem = this.edibleItems.get(droppedItemOffset);
 				try
 				{
-					final EdibleItem droppedItem = this.edibleItems.get(SECURE_RANDOM_GENERATOR.nextInt(this.edibleItems.size()));
 					currentPlayer.getCharacter().pickUp(droppedItem);
 					gameObserver.hasDroppedEdibleItems(droppedItem);
 					this.edibleItems.remove(droppedItem);
+					if (this.gameJournal != null)
+					{
+						this.gameJournal.itemDropped(droppedItem, droppedItemOffset, true);
+					}
+					incrementCounter(GameCounter.LOOT_DROPS);
 				}
 				catch (TooHeavyCharacterException e)
 				{
 					gameObserver.displayMessage(e.getMessage());
+					if (this.gameJournal != null)
+					{
+						this.gameJournal.itemDropped(droppedItem, droppedItemOffset, false);
+					}
+					incrementCounter(GameCounter.TOO_HEAVY_FAILURES);
 				}
 			}
 		}
 
 		if (!this.equipableItems.isEmpty())
 		{
-			if (SECURE_RANDOM_GENERATOR.nextDouble() < 0.25)
+			if (this.randomSource.nextDouble() < 0.25)
 			{
+				final int droppedItemOffset = this.randomSource.nextInt(this.equipableItems.size());
+				final EquipableItem droppedItem = this.equipableItems.get(droppedItemOffset);
 				try
 				{
-					final EquipableItem droppedItem = this.equipableItems.get(SECURE_RANDOM_GENERATOR.nextInt(this.equipableItems.size()));
 					currentPlayer.getCharacter().equipWith(droppedItem);
+					getCurrentTeam().hasBeenUpdated(currentPlayer);
 					gameObserver.hasDroppedEquipableItems(droppedItem);
 					this.equipableItems.remove(droppedItem);
+					if (this.gameJournal != null)
+					{
+						this.gameJournal.itemDropped(droppedItem, droppedItemOffset, true);
+					}
+					incrementCounter(GameCounter.LOOT_DROPS);
 				}
 				catch (TooHeavyCharacterException | TooManyArmorsException | TooManyWeaponsException e)
 				{
 					gameObserver.displayMessage(e.getMessage());
+					if (this.gameJournal != null)
+					{
+						this.gameJournal.itemDropped(droppedItem, droppedItemOffset, false);
+					}
+					incrementCounter(getFailureCounter(e));
 				}
 			}
 		}
 	}
 
+	/**
+	 * Get the counter of the failures to pick up an equipable item.
+	 * 
+	 * @param e
+	 *            The exception thrown by the character.
+	 * @return The counter of the failure.
+	 */
+	private GameCounter getFailureCounter(Exception e)
+	{
+		if (e instanceof TooManyArmorsException)
+		{
+			return GameCounter.TOO_MANY_ARMORS_FAILURES;
+		}
+		if (e instanceof TooManyWeaponsException)
+		{
+			return GameCounter.TOO_MANY_WEAPONS_FAILURES;
+		}
+
+		return GameCounter.TOO_HEAVY_FAILURES;
+	}
+
 	/**
 	 * Display and attack an opponent.
 	 * 
@@ -187,25 +519,70 @@ public class BasicQuest implements IQuest
 	 */
 	private void displayAndAttackOpponent(Player player, IGameObserver gameObserver)
 	{
+		final OpponentAttackedEvent opponentAttackedEvent = new OpponentAttackedEvent();
+		opponentAttackedEvent.begin();
+
 		final Team opponentTeam = (this.isToFirstTeamToPlay ? this.secondTeam : this.firstTeam);
-		final Player opponent = opponentTeam.getPlayer(gameObserver.displayAndGetPlayerChoice(opponentTeam.convertPlayersIntoString(), "Which player(s) do you want to attack?") - 1);
+		final long decisionStartTime = startTimer();
+		final int opponentChoice = gameObserver.displayAndGetPlayerChoice(opponentTeam.convertPlayersIntoString(), "Which player(s) do you want to attack?");
+		recordTime(GameHistogram.DECISION_WAIT_NANOS, decisionStartTime);
+		final Player opponent = opponentTeam.getPlayer(opponentChoice - 1);
 
 		final Character attackerCharacter = player.getCharacter();
 		final Character opponentCharacter = opponent.getCharacter();
+		final int opponentHealth = opponentCharacter.getHealth();
 
 		gameObserver.displayInformationBeforeFight(attackerCharacter, opponentCharacter);
-		attackerCharacter.attack(opponentCharacter);
+		final int succeededSpecialMoves;
+		if (this.fightOutcomeCache == null)
+		{
+			succeededSpecialMoves = attackerCharacter.attack(opponentCharacter);
+		}
+		else
+		{
+			succeededSpecialMoves = attackerCharacter.attack(opponentCharacter, this.fightOutcomeCache);
+		}
 		gameObserver.displayInformationAfterFight(attackerCharacter, opponentCharacter);
+		opponentTeam.hasBeenUpdated(opponent);
+		if (this.gameJournal != null)
+		{
+			this.gameJournal.opponentAttacked(opponentChoice, opponent, succeededSpecialMoves, opponentHealth, opponentCharacter.getHealth());
+		}
+		if (this.metricsRegistry != null)
+		{
+			recordFight(opponentCharacter, succeededSpecialMoves, opponentHealth - opponentCharacter.getHealth());
+		}
 
 		if (opponentCharacter.isDead())
 		{
 			gameObserver.displayDeadCharacter(opponentCharacter.getName());
 			opponentTeam.hasDied(opponent);
+			if (this.gameJournal != null)
+			{
+				this.gameJournal.opponentDied(opponent);
+			}
+			incrementCounter(GameCounter.KILLS);
 		}
 
-		if (attackerCharacter.canLevelUp())
+		final boolean hasLeveledUp = attackerCharacter.canLevelUp();
+		if (hasLeveledUp)
 		{
-			attackerCharacter.upgradeCharacteristic(gameObserver.displayCharacterCanLevelUpAndGetCharacteristicToUpgrade());
+			final long levelUpStartTime = startTimer();
+			final Characteristic characteristic = gameObserver.displayCharacterCanLevelUpAndGetCharacteristicToUpgrade();
+			recordTime(GameHistogram.DECISION_WAIT_NANOS, levelUpStartTime);
+			attackerCharacter.upgradeCharacteristic(characteristic);
+			getCurrentTeam().hasBeenUpdated(player);
+			if (this.gameJournal != null)
+			{
+				this.gameJournal.characteristicUpgraded(characteristic);
+			}
+			incrementCounter(GameCounter.LEVEL_UPS);
+		}
+
+		if (opponentAttackedEvent.shouldCommit())
+		{
+			opponentAttackedEvent.setOutcome(this.questIndex, this.nbRounds, attackerCharacter.getName(), opponentCharacter.getName(), opponentHealth, opponentCharacter.getHealth(), opponentCharacter.isDead(), hasLeveledUp);
+			opponentAttackedEvent.commit();
 		}
 	}
 
@@ -220,9 +597,103 @@ public class BasicQuest implements IQuest
 	private void displayAndUseItem(Player player, IGameObserver gameObserver)
 	{
 		final Character character = player.getCharacter();
-		final List<EdibleItem> inventory = character.getInventory();
+		final Inventory inventory = character.getInventory();
+		final long decisionStartTime = startTimer();
 		final int choosenItemOffset = gameObserver.displayAndGetPlayerChoice(convertInventoryIntoString(inventory), "Which items to you want to use?");
-		character.consumeItem(inventory.get(choosenItemOffset - 1));
+		recordTime(GameHistogram.DECISION_WAIT_NANOS, decisionStartTime);
+		final EdibleItem choosenItem = inventory.getItem(choosenItemOffset - 1);
+		character.consumeItem(choosenItem);
+		getCurrentTeam().hasBeenUpdated(player);
+		if (this.gameJournal != null)
+		{
+			this.gameJournal.itemUsed(choosenItemOffset, choosenItem);
+		}
+		incrementCounter(GameCounter.ITEMS_USED);
+	}
+
+	/**
+	 * Record the metrics of a fight.
+	 * 
+	 * @param opponentCharacter
+	 *            The character of the opponent.
+	 * @param succeededSpecialMoves
+	 *            The mask of the succeeded special moves of the opponent.
+	 * @param damage
+	 *            The health lost by the opponent.
+	 */
+	private void recordFight(Character opponentCharacter, int succeededSpecialMoves, int damage)
+	{
+		this.metricsRegistry.increment(GameCounter.FIGHTS);
+		this.metricsRegistry.record(GameHistogram.DAMAGE_PER_HIT, damage);
+
+		int remainingSpecialMoves = succeededSpecialMoves;
+		while (remainingSpecialMoves != 0)
+		{
+			final SpecialMoveType specialMoveType = opponentCharacter.getSpecialMoveType(Integer.numberOfTrailingZeros(remainingSpecialMoves));
+			if (specialMoveType == SpecialMoveType.PARRY)
+			{
+				this.metricsRegistry.increment(GameCounter.PARRIES);
+			}
+			else if (specialMoveType == SpecialMoveType.RUN_AWAY)
+			{
+				this.metricsRegistry.increment(GameCounter.RUN_AWAYS);
+			}
+			else if (specialMoveType == SpecialMoveType.HEAL)
+			{
+				this.metricsRegistry.increment(GameCounter.HEALS);
+			}
+			remainingSpecialMoves &= remainingSpecialMoves - 1;
+		}
+	}
+
+	/**
+	 * Increment a counter, if the metrics are recorded.
+	 * 
+	 * @param counter
+	 *            The counter.
+	 */
+	private void incrementCounter(GameCounter counter)
+	{
+		if (this.metricsRegistry != null)
+		{
+			this.metricsRegistry.increment(counter);
+		}
+	}
+
+	/**
+	 * Start measuring a wall time, if the metrics are recorded.
+	 * 
+	 * @return The current time in nanoseconds, or 0 if the metrics are not recorded.
+	 */
+	private long startTimer()
+	{
+		return (this.metricsRegistry != null ? System.nanoTime() : 0);
+	}
+
+	/**
+	 * Record the wall time elapsed since a start time, if the metrics are recorded.
+	 * 
+	 * @param histogram
+	 *            The histogram.
+	 * @param startTime
+	 *            The start time, given by {@link #startTimer()}.
+	 */
+	private void recordTime(GameHistogram histogram, long startTime)
+	{
+		if (this.metricsRegistry != null)
+		{
+			this.metricsRegistry.record(histogram, System.nanoTime() - startTime);
+		}
+	}
+
+	/**
+	 * Get the team of the current player.
+	 * 
+	 * @return The current team.
+	 */
+	private Team getCurrentTeam()
+	{
+		return (this.isToFirstTeamToPlay ? this.firstTeam : this.secondTeam);
 	}
 
 	/**
@@ -232,12 +703,13 @@ public class BasicQuest implements IQuest
 	 *            The inventory to convert.
 	 * @return The converted inventory.
 	 */
-	private List<String> convertInventoryIntoString(List<EdibleItem> inventory)
+	private List<String> convertInventoryIntoString(Inventory inventory)
 	{
-		final List<String> convertedItems = new ArrayList<String>();
-		for (Item currentItem : inventory)
+		final List<String> convertedItems = new ArrayList<String>(inventory.getNbStacks());
+		for (int i = 0; i < inventory.getNbStacks(); i++)
 		{
-			convertedItems.add(currentItem.getName());
+			final ItemStack currentStack = inventory.getStack(i);
+			convertedItems.add(currentStack.getCount() > 1 ? currentStack.getItem().getName() + " x" + currentStack.getCount() : currentStack.getItem().getName());
 		}
 
 		return convertedItems;
@@ -0,0 +1,191 @@
+package fr.polytech.myrpg.game.simulation;
+
+/**
+ * This class represents the statistics of a character over many simulated battles.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public class CharacterStatistics
+{
+	/**
+	 * The name of the character, prefixed by its team name.
+	 */
+	private final String name;
+
+	/**
+	 * The number of attacks.
+	 */
+	private long nbAttacks;
+
+	/**
+	 * The damage dealt.
+	 */
+	private long damageDealt;
+
+	/**
+	 * The number of kills.
+	 */
+	private long nbKills;
+
+	/**
+	 * The number of deaths.
+	 */
+	private long nbDeaths;
+
+	/**
+	 * The number of level ups.
+	 */
+	private long nbLevelUps;
+
+	/**
+	 * Create character statistics.
+	 * 
+	 * @param name
+	 *            The name of the character, prefixed by its team name.
+	 */
+	public CharacterStatistics(String name)
+	{
+		this.name = name;
+		this.nbAttacks = 0;
+		this.damageDealt = 0;
+		this.nbKills = 0;
+		this.nbDeaths = 0;
+		this.nbLevelUps = 0;
+	}
+
+	/**
+	 * Record an attack.
+	 * 
+	 * @param damage
+	 *            The damage dealt.
+	 */
+	void recordAttack(int damage)
+	{
+		this.nbAttacks++;
+		this.damageDealt += damage;
+	}
+
+	/**
+	 * Record a kill.
+	 */
+	void recordKill()
+	{
+		this.nbKills++;
+	}
+
+	/**
+	 * Record a death.
+	 */
+	void recordDeath()
+	{
+		this.nbDeaths++;
+	}
+
+	/**
+	 * Record a level up.
+	 */
+	void recordLevelUp()
+	{
+		this.nbLevelUps++;
+	}
+
+	/**
+	 * Merge other statistics of the same character into these ones.
+	 * 
+	 * @param other
+	 *            The other statistics.
+	 */
+	void merge(CharacterStatistics other)
+	{
+		this.nbAttacks += other.nbAttacks;
+		this.damageDealt += other.damageDealt;
+		this.nbKills += other.nbKills;
+		this.nbDeaths += other.nbDeaths;
+		this.nbLevelUps += other.nbLevelUps;
+	}
+
+	/**
+	 * Get the name.
+	 * 
+	 * @return The name.
+	 */
+	public String getName()
+	{
+		return this.name;
+	}
+
+	/**
+	 * Get the number of attacks.
+	 * 
+	 * @return The number of attacks.
+	 */
+	public long getNbAttacks()
+	{
+		return this.nbAttacks;
+	}
+
+	/**
+	 * Get the damage dealt.
+	 * 
+	 * @return The damage dealt.
+	 */
+	public long getDamageDealt()
+	{
+		return this.damageDealt;
+	}
+
+	/**
+	 * Get the number of kills.
+	 * 
+	 * @return The number of kills.
+	 */
+	public long getNbKills()
+	{
+		return this.nbKills;
+	}
+
+	/**
+	 * Get the number of deaths.
+	 * 
+	 * @return The number of deaths.
+	 */
+	public long getNbDeaths()
+	{
+		return this.nbDeaths;
+	}
+
+	/**
+	 * Get the number of level ups.
+	 * 
+	 * @return The number of level ups.
+	 */
+	public long getNbLevelUps()
+	{
+		return this.nbLevelUps;
+	}
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString()
+	{
+		final StringBuilder stringRepresentation = new StringBuilder();
+		stringRepresentation.append("CharacterStatistics [name=");
+		stringRepresentation.append(this.name);
+		stringRepresentation.append(", nbAttacks=");
+		stringRepresentation.append(this.nbAttacks);
+		stringRepresentation.append(", damageDealt=");
+		stringRepresentation.append(this.damageDealt);
+		stringRepresentation.append(", nbKills=");
+		stringRepresentation.append(this.nbKills);
+		stringRepresentation.append(", nbDeaths=");
+		stringRepresentation.append(this.nbDeaths);
+		stringRepresentation.append(", nbLevelUps=");
+		stringRepresentation.append(this.nbLevelUps);
+		stringRepresentation.append("]");
+
+		return stringRepresentation.toString();
+	}
+}
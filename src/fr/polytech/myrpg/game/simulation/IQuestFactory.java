@@ -0,0 +1,31 @@
+package fr.polytech.myrpg.game.simulation;
+
+import fr.polytech.myrpg.characters.exceptions.InvalidConstraintsException;
+import fr.polytech.myrpg.characters.exceptions.TooFewSpecialMovesException;
+import fr.polytech.myrpg.characters.exceptions.TooHighCharacteristicsValueException;
+import fr.polytech.myrpg.game.quests.BasicQuest;
+import fr.polytech.myrpg.random.IRandomSource;
+
+/**
+ * This interface represents a quest factory, which creates a new quest (teams, characters and items) on each call.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public interface IQuestFactory
+{
+	/**
+	 * Create a new quest.
+	 * 
+	 * @param randomSource
+	 *            The random source used by the quest and its characters.
+	 * @return The new quest.
+	 * @throws TooHighCharacteristicsValueException
+	 *             If the characteristics value of a character is too high.
+	 * @throws TooFewSpecialMovesException
+	 *             If a character has too few special moves.
+	 * @throws InvalidConstraintsException
+	 *             If the constraints of a character are invalid.
+	 */
+	public BasicQuest createQuest(IRandomSource randomSource) throws TooHighCharacteristicsValueException, TooFewSpecialMovesException, InvalidConstraintsException;
+}
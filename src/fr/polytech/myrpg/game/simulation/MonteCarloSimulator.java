@@ -0,0 +1,243 @@
+package fr.polytech.myrpg.game.simulation;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import fr.polytech.myrpg.characters.FightOutcomeCache;
+import fr.polytech.myrpg.characters.exceptions.InvalidConstraintsException;
+import fr.polytech.myrpg.characters.exceptions.TooFewSpecialMovesException;
+import fr.polytech.myrpg.characters.exceptions.TooHighCharacteristicsValueException;
+import fr.polytech.myrpg.game.observers.BotPolicy;
+import fr.polytech.myrpg.game.quests.BasicQuest;
+import fr.polytech.myrpg.random.IRandomSource;
+import fr.polytech.myrpg.random.SplittableRandomSource;
+
+/**
+ * This class represents a headless Monte Carlo battle simulator.
+ *
+ * Battles are grouped into fixed-size chunks, each with its own random stream split from the seed, and the chunks are run on a fork/join pool. Every battle builds its own quest from the factory, so no character is ever shared between tasks, and the results only depend on the seed, never on the number of cores.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public class MonteCarloSimulator
+{
+	/**
+	 * The number of battles run sequentially by a task.
+	 */
+	public static final int NB_BATTLES_PER_CHUNK = 64;
+
+	/**
+	 * The default maximal number of rounds of a battle, after which it is counted as a draw.
+	 */
+	public static final int DEFAULT_MAX_NB_ROUNDS = 10000;
+
+	/**
+	 * The quest factory.
+	 */
+	private final IQuestFactory questFactory;
+
+	/**
+	 * The policy of the bots which take the decisions.
+	 */
+	private final BotPolicy botPolicy;
+
+	/**
+	 * The maximal number of rounds of a battle.
+	 */
+	private final int maxNbRounds;
+
+	/**
+	 * The fork/join pool.
+	 */
+	private final ForkJoinPool forkJoinPool;
+
+	/**
+	 * The capacity of the fight outcome cache of each chunk, or 0 to disable it.
+	 */
+	private int fightOutcomeCacheCapacity;
+
+	/**
+	 * Create a Monte Carlo simulator, using the common fork/join pool.
+	 * 
+	 * @param questFactory
+	 *            The quest factory.
+	 */
+	public MonteCarloSimulator(IQuestFactory questFactory)
+	{
+		this(questFactory, BotPolicy.RANDOM, DEFAULT_MAX_NB_ROUNDS, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Create a Monte Carlo simulator.
+	 * 
+	 * @param questFactory
+	 *            The quest factory.
+	 * @param botPolicy
+	 *            The policy of the bots which take the decisions.
+	 * @param maxNbRounds
+	 *            The maximal number of rounds of a battle.
+	 * @param forkJoinPool
+	 *            The fork/join pool.
+	 */
+	public MonteCarloSimulator(IQuestFactory questFactory, BotPolicy botPolicy, int maxNbRounds, ForkJoinPool forkJoinPool)
+	{
+		this.questFactory = questFactory;
+		this.botPolicy = botPolicy;
+		this.maxNbRounds = maxNbRounds;
+		this.forkJoinPool = forkJoinPool;
+		this.fightOutcomeCacheCapacity = 0;
+	}
+
+	/**
+	 * Set the capacity of the fight outcome cache of each chunk. The cache changes how the special moves are drawn, so the results differ from an uncached run with the
+	 * same seed, but they still only depend on the seed.
+	 * 
+	 * @param fightOutcomeCacheCapacity
+	 *            The capacity, or 0 to disable the cache.
+	 */
+	public void setFightOutcomeCacheCapacity(int fightOutcomeCacheCapacity)
+	{
+		this.fightOutcomeCacheCapacity = fightOutcomeCacheCapacity;
+	}
+
+	/**
+	 * Simulate battles.
+	 * 
+	 * @param nbBattles
+	 *            The number of battles.
+	 * @param seed
+	 *            The seed.
+	 * @return The statistics of all battles.
+	 */
+	public SimulationStatistics simulate(int nbBattles, long seed)
+	{
+		final int nbChunks = (nbBattles + NB_BATTLES_PER_CHUNK - 1) / NB_BATTLES_PER_CHUNK;
+		final IRandomSource rootRandomSource = new SplittableRandomSource(seed);
+		final IRandomSource[] chunkRandomSources = new IRandomSource[nbChunks];
+		for (int i = 0; i < nbChunks; i++)
+		{
+			chunkRandomSources[i] = rootRandomSource.split();
+		}
+
+		return this.forkJoinPool.invoke(new SimulationTask(chunkRandomSources, 0, nbChunks, nbBattles));
+	}
+
+	/**
+	 * Simulate one chunk of battles.
+	 * 
+	 * @param randomSource
+	 *            The random source of the chunk.
+	 * @param nbBattles
+	 *            The number of battles of the chunk.
+	 * @return The statistics of the chunk.
+	 */
+	private SimulationStatistics simulateChunk(IRandomSource randomSource, int nbBattles)
+	{
+		final SimulationStatistics statistics = new SimulationStatistics();
+		final SimulationObserver observer = new SimulationObserver(this.botPolicy, randomSource, statistics);
+		final FightOutcomeCache fightOutcomeCache = (this.fightOutcomeCacheCapacity > 0 ? new FightOutcomeCache(this.fightOutcomeCacheCapacity) : null);
+
+		for (int i = 0; i < nbBattles; i++)
+		{
+			final BasicQuest quest;
+			try
+			{
+				quest = this.questFactory.createQuest(randomSource);
+			}
+			catch (TooHighCharacteristicsValueException | TooFewSpecialMovesException | InvalidConstraintsException e)
+			{
+				throw new IllegalStateException("The quest factory can't create the quest", e);
+			}
+
+			quest.setMaxNbRounds(this.maxNbRounds);
+			quest.setFightOutcomeCache(fightOutcomeCache);
+			observer.prepareBattle(quest.getFirstTeam(), quest.getSecondTeam());
+			quest.startQuest(observer);
+			statistics.recordBattle(quest.getFirstTeam().allPlayersAreDead(), quest.getSecondTeam().allPlayersAreDead(), quest.getNbRounds());
+		}
+
+		return statistics;
+	}
+
+	/**
+	 * This class represents a fork/join task simulating a range of chunks.
+	 *
+	 * @author DELORME Loïc
+	 * @since 1.0.0
+	 */
+	private class SimulationTask extends RecursiveTask<SimulationStatistics>
+	{
+		/**
+		 * The serial UID.
+		 */
+		private static final long serialVersionUID = -1874560931728046213L;
+
+		/**
+		 * The random source of every chunk.
+		 */
+		private final IRandomSource[] chunkRandomSources;
+
+		/**
+		 * The first chunk (inclusive).
+		 */
+		private final int fromChunk;
+
+		/**
+		 * The last chunk (exclusive).
+		 */
+		private final int toChunk;
+
+		/**
+		 * The total number of battles.
+		 */
+		private final int nbBattles;
+
+		/**
+		 * Create a simulation task.
+		 * 
+		 * @param chunkRandomSources
+		 *            The random source of every chunk.
+		 * @param fromChunk
+		 *            The first chunk (inclusive).
+		 * @param toChunk
+		 *            The last chunk (exclusive).
+		 * @param nbBattles
+		 *            The total number of battles.
+		 */
+		public SimulationTask(IRandomSource[] chunkRandomSources, int fromChunk, int toChunk, int nbBattles)
+		{
+			this.chunkRandomSources = chunkRandomSources;
+			this.fromChunk = fromChunk;
+			this.toChunk = toChunk;
+			this.nbBattles = nbBattles;
+		}
+
+		/**
+		 * @see java.util.concurrent.RecursiveTask#compute()
+		 */
+		@Override
+		protected SimulationStatistics compute()
+		{
+			if (this.toChunk - this.fromChunk <= 1)
+			{
+				final SimulationStatistics statistics = new SimulationStatistics();
+				for (int chunk = this.fromChunk; chunk < this.toChunk; chunk++)
+				{
+					final int nbChunkBattles = Math.min(NB_BATTLES_PER_CHUNK, this.nbBattles - (chunk * NB_BATTLES_PER_CHUNK));
+					statistics.merge(simulateChunk(this.chunkRandomSources[chunk], nbChunkBattles));
+				}
+
+				return statistics;
+			}
+
+			final int middleChunk = (this.fromChunk + this.toChunk) >>> 1;
+			final SimulationTask leftTask = new SimulationTask(this.chunkRandomSources, this.fromChunk, middleChunk, this.nbBattles);
+			final SimulationTask rightTask = new SimulationTask(this.chunkRandomSources, middleChunk, this.toChunk, this.nbBattles);
+			leftTask.fork();
+
+			final SimulationStatistics rightStatistics = rightTask.compute();
+			return leftTask.join().merge(rightStatistics);
+		}
+	}
+}
@@ -0,0 +1,218 @@
+package fr.polytech.myrpg.game.simulation;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import fr.polytech.myrpg.characters.Character;
+import fr.polytech.myrpg.characters.Characteristic;
+import fr.polytech.myrpg.characters.items.edible.EdibleItem;
+import fr.polytech.myrpg.characters.items.equipable.EquipableItem;
+import fr.polytech.myrpg.game.observers.BotGameObserver;
+import fr.polytech.myrpg.game.observers.BotPolicy;
+import fr.polytech.myrpg.game.observers.IGameObserver;
+import fr.polytech.myrpg.game.players.Player;
+import fr.polytech.myrpg.game.players.Team;
+import fr.polytech.myrpg.random.IRandomSource;
+
+/**
+ * This class represents a headless game observer, which takes its decisions with a bot and records the statistics of the battles.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public class SimulationObserver implements IGameObserver
+{
+	/**
+	 * The bot which takes the decisions.
+	 */
+	private final BotGameObserver bot;
+
+	/**
+	 * The statistics.
+	 */
+	private final SimulationStatistics statistics;
+
+	/**
+	 * The statistics of each character of the current battle.
+	 */
+	private final Map<Character, CharacterStatistics> currentCharacterStatistics;
+
+	/**
+	 * The attacker of the current fight.
+	 */
+	private Character currentAttacker;
+
+	/**
+	 * The opponent of the current fight.
+	 */
+	private Character currentOpponent;
+
+	/**
+	 * The experience of the attacker before the current fight.
+	 */
+	private int attackerExperienceBeforeFight;
+
+	/**
+	 * Create a simulation observer, which takes random decisions.
+	 * 
+	 * @param randomSource
+	 *            The random source used to take decisions.
+	 * @param statistics
+	 *            The statistics.
+	 */
+	public SimulationObserver(IRandomSource randomSource, SimulationStatistics statistics)
+	{
+		this(BotPolicy.RANDOM, randomSource, statistics);
+	}
+
+	/**
+	 * Create a simulation observer.
+	 * 
+	 * @param botPolicy
+	 *            The policy of the bot which takes the decisions.
+	 * @param randomSource
+	 *            The random source used to take decisions.
+	 * @param statistics
+	 *            The statistics.
+	 */
+	public SimulationObserver(BotPolicy botPolicy, IRandomSource randomSource, SimulationStatistics statistics)
+	{
+		this.bot = new BotGameObserver(botPolicy, randomSource);
+		this.statistics = statistics;
+		this.currentCharacterStatistics = new IdentityHashMap<Character, CharacterStatistics>();
+	}
+
+	/**
+	 * Prepare the observer for a new battle.
+	 * 
+	 * @param firstTeam
+	 *            The first team.
+	 * @param secondTeam
+	 *            The second team.
+	 */
+	public void prepareBattle(Team firstTeam, Team secondTeam)
+	{
+		this.currentCharacterStatistics.clear();
+		registerTeam(firstTeam);
+		registerTeam(secondTeam);
+	}
+
+	/**
+	 * Register all characters of a team.
+	 * 
+	 * @param team
+	 *            The team.
+	 */
+	private void registerTeam(Team team)
+	{
+		for (int i = 0; i < team.getNbPlayers(); i++)
+		{
+			final Character character = team.getPlayer(i).getCharacter();
+			this.currentCharacterStatistics.put(character, this.statistics.getOrCreateCharacterStatistics(team.getName() + "/" + team.getPlayer(i).getName()));
+		}
+	}
+
+	/**
+	 * @see fr.polytech.myrpg.game.observers.IGameObserver#displayInformationBeforeFight(fr.polytech.myrpg.characters.Character, fr.polytech.myrpg.characters.Character)
+	 */
+	@Override
+	public void displayInformationBeforeFight(Character attacker, Character opponent)
+	{
+		this.currentAttacker = attacker;
+		this.currentOpponent = opponent;
+		this.attackerExperienceBeforeFight = attacker.getCurrentExperience();
+	}
+
+	/**
+	 * @see fr.polytech.myrpg.game.observers.IGameObserver#displayInformationAfterFight(fr.polytech.myrpg.characters.Character, fr.polytech.myrpg.characters.Character)
+	 */
+	@Override
+	public void displayInformationAfterFight(Character attacker, Character opponent)
+	{
+		// The attacker earns exactly three experience points per damage point.
+		final int damage = (attacker.getCurrentExperience() - this.attackerExperienceBeforeFight) / 3;
+
+		this.statistics.recordDamage(damage);
+		this.currentCharacterStatistics.get(attacker).recordAttack(damage);
+	}
+
+	/**
+	 * @see fr.polytech.myrpg.game.observers.IGameObserver#displayDeadCharacter(java.lang.String)
+	 */
+	@Override
+	public void displayDeadCharacter(String name)
+	{
+		this.currentCharacterStatistics.get(this.currentAttacker).recordKill();
+		this.currentCharacterStatistics.get(this.currentOpponent).recordDeath();
+	}
+
+	/**
+	 * @see fr.polytech.myrpg.game.observers.IGameObserver#displayCharacterCanLevelUpAndGetCharacteristicToUpgrade()
+	 */
+	@Override
+	public Characteristic displayCharacterCanLevelUpAndGetCharacteristicToUpgrade()
+	{
+		this.currentCharacterStatistics.get(this.currentAttacker).recordLevelUp();
+		return this.bot.displayCharacterCanLevelUpAndGetCharacteristicToUpgrade();
+	}
+
+	/**
+	 * @see fr.polytech.myrpg.game.observers.IGameObserver#hasStartedRound(fr.polytech.myrpg.game.players.Player, fr.polytech.myrpg.game.players.Team, fr.polytech.myrpg.game.players.Team)
+	 */
+	@Override
+	public void hasStartedRound(Player currentPlayer, Team currentTeam, Team opponentTeam)
+	{
+		this.bot.hasStartedRound(currentPlayer, currentTeam, opponentTeam);
+	}
+
+	/**
+	 * @see fr.polytech.myrpg.game.observers.IGameObserver#displayChoiceForTheCurrentPlayer(java.lang.String)
+	 */
+	@Override
+	public int displayChoiceForTheCurrentPlayer(String name)
+	{
+		return this.bot.displayChoiceForTheCurrentPlayer(name);
+	}
+
+	/**
+	 * @see fr.polytech.myrpg.game.observers.IGameObserver#displayMessage(java.lang.String)
+	 */
+	@Override
+	public void displayMessage(String message)
+	{
+	}
+
+	/**
+	 * @see fr.polytech.myrpg.game.observers.IGameObserver#hasDroppedEdibleItems(fr.polytech.myrpg.characters.items.edible.EdibleItem)
+	 */
+	@Override
+	public void hasDroppedEdibleItems(EdibleItem droppedItem)
+	{
+	}
+
+	/**
+	 * @see fr.polytech.myrpg.game.observers.IGameObserver#hasDroppedEquipableItems(fr.polytech.myrpg.characters.items.equipable.EquipableItem)
+	 */
+	@Override
+	public void hasDroppedEquipableItems(EquipableItem droppedItem)
+	{
+	}
+
+	/**
+	 * @see fr.polytech.myrpg.game.observers.IGameObserver#displayAndGetPlayerChoice(java.util.List, java.lang.String)
+	 */
+	@Override
+	public int displayAndGetPlayerChoice(List<String> choices, String title)
+	{
+		return this.bot.displayAndGetPlayerChoice(choices, title);
+	}
+
+	/**
+	 * @see fr.polytech.myrpg.game.observers.IGameObserver#displayEndGame()
+	 */
+	@Override
+	public void displayEndGame()
+	{
+	}
+}
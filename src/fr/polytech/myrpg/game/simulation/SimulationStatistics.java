@@ -0,0 +1,282 @@
+package fr.polytech.myrpg.game.simulation;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class represents the statistics of many simulated battles.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public class SimulationStatistics
+{
+	/**
+	 * The number of buckets of the damage distribution. The last bucket counts every damage greater or equal to it.
+	 */
+	public static final int NB_DAMAGE_BUCKETS = 256;
+
+	/**
+	 * The number of battles.
+	 */
+	private long nbBattles;
+
+	/**
+	 * The number of battles won by the first team.
+	 */
+	private long nbFirstTeamWins;
+
+	/**
+	 * The number of battles won by the second team.
+	 */
+	private long nbSecondTeamWins;
+
+	/**
+	 * The number of battles stopped before a team was dead.
+	 */
+	private long nbDraws;
+
+	/**
+	 * The total number of rounds.
+	 */
+	private long totalNbRounds;
+
+	/**
+	 * The number of hits by damage dealt.
+	 */
+	private final long[] damageDistribution;
+
+	/**
+	 * The statistics of each character, by name.
+	 */
+	private final Map<String, CharacterStatistics> characterStatistics;
+
+	/**
+	 * Create simulation statistics.
+	 */
+	public SimulationStatistics()
+	{
+		this.nbBattles = 0;
+		this.nbFirstTeamWins = 0;
+		this.nbSecondTeamWins = 0;
+		this.nbDraws = 0;
+		this.totalNbRounds = 0;
+		this.damageDistribution = new long[NB_DAMAGE_BUCKETS];
+		this.characterStatistics = new LinkedHashMap<String, CharacterStatistics>();
+	}
+
+	/**
+	 * Record the end of a battle.
+	 * 
+	 * @param firstTeamIsDead
+	 *            If the first team is dead.
+	 * @param secondTeamIsDead
+	 *            If the second team is dead.
+	 * @param nbRounds
+	 *            The number of rounds played.
+	 */
+	void recordBattle(boolean firstTeamIsDead, boolean secondTeamIsDead, int nbRounds)
+	{
+		this.nbBattles++;
+		this.totalNbRounds += nbRounds;
+
+		if (secondTeamIsDead)
+		{
+			this.nbFirstTeamWins++;
+		}
+		else if (firstTeamIsDead)
+		{
+			this.nbSecondTeamWins++;
+		}
+		else
+		{
+			this.nbDraws++;
+		}
+	}
+
+	/**
+	 * Record a hit.
+	 * 
+	 * @param damage
+	 *            The damage dealt.
+	 */
+	void recordDamage(int damage)
+	{
+		this.damageDistribution[Math.min(damage, NB_DAMAGE_BUCKETS - 1)]++;
+	}
+
+	/**
+	 * Get the statistics of a character, creating them if needed.
+	 * 
+	 * @param name
+	 *            The name of the character, prefixed by its team name.
+	 * @return The statistics of the character.
+	 */
+	CharacterStatistics getOrCreateCharacterStatistics(String name)
+	{
+		CharacterStatistics statistics = this.characterStatistics.get(name);
+		if (statistics == null)
+		{
+			statistics = new CharacterStatistics(name);
+			this.characterStatistics.put(name, statistics);
+		}
+
+		return statistics;
+	}
+
+	/**
+	 * Merge other statistics into these ones.
+	 * 
+	 * @param other
+	 *            The other statistics.
+	 * @return These statistics.
+	 */
+	SimulationStatistics merge(SimulationStatistics other)
+	{
+		this.nbBattles += other.nbBattles;
+		this.nbFirstTeamWins += other.nbFirstTeamWins;
+		this.nbSecondTeamWins += other.nbSecondTeamWins;
+		this.nbDraws += other.nbDraws;
+		this.totalNbRounds += other.totalNbRounds;
+
+		for (int i = 0; i < NB_DAMAGE_BUCKETS; i++)
+		{
+			this.damageDistribution[i] += other.damageDistribution[i];
+		}
+
+		for (CharacterStatistics currentStatistics : other.characterStatistics.values())
+		{
+			getOrCreateCharacterStatistics(currentStatistics.getName()).merge(currentStatistics);
+		}
+
+		return this;
+	}
+
+	/**
+	 * Get the number of battles.
+	 * 
+	 * @return The number of battles.
+	 */
+	public long getNbBattles()
+	{
+		return this.nbBattles;
+	}
+
+	/**
+	 * Get the win rate of the first team.
+	 * 
+	 * @return The win rate of the first team.
+	 */
+	public double getFirstTeamWinRate()
+	{
+		return rate(this.nbFirstTeamWins);
+	}
+
+	/**
+	 * Get the win rate of the second team.
+	 * 
+	 * @return The win rate of the second team.
+	 */
+	public double getSecondTeamWinRate()
+	{
+		return rate(this.nbSecondTeamWins);
+	}
+
+	/**
+	 * Get the rate of battles stopped before a team was dead.
+	 * 
+	 * @return The draw rate.
+	 */
+	public double getDrawRate()
+	{
+		return rate(this.nbDraws);
+	}
+
+	/**
+	 * Get the average number of rounds.
+	 * 
+	 * @return The average number of rounds.
+	 */
+	public double getAverageNbRounds()
+	{
+		return rate(this.totalNbRounds);
+	}
+
+	/**
+	 * Get the number of hits by damage dealt.
+	 * 
+	 * @return A copy of the damage distribution.
+	 */
+	public long[] getDamageDistribution()
+	{
+		return this.damageDistribution.clone();
+	}
+
+	/**
+	 * Get the average damage per hit.
+	 * 
+	 * @return The average damage per hit.
+	 */
+	public double getAverageDamage()
+	{
+		long nbHits = 0;
+		long totalDamage = 0;
+		for (int i = 0; i < NB_DAMAGE_BUCKETS; i++)
+		{
+			nbHits += this.damageDistribution[i];
+			totalDamage += i * this.damageDistribution[i];
+		}
+
+		return (nbHits == 0 ? 0 : (double) totalDamage / nbHits);
+	}
+
+	/**
+	 * Get the statistics of every character.
+	 * 
+	 * @return The statistics of every character.
+	 */
+	public List<CharacterStatistics> getCharacterStatistics()
+	{
+		return new ArrayList<CharacterStatistics>(this.characterStatistics.values());
+	}
+
+	/**
+	 * Divide a value by the number of battles.
+	 * 
+	 * @param value
+	 *            The value.
+	 * @return The value per battle.
+	 */
+	private double rate(long value)
+	{
+		return (this.nbBattles == 0 ? 0 : (double) value / this.nbBattles);
+	}
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString()
+	{
+		final StringBuilder stringRepresentation = new StringBuilder();
+		stringRepresentation.append("SimulationStatistics [nbBattles=");
+		stringRepresentation.append(this.nbBattles);
+		stringRepresentation.append(", firstTeamWinRate=");
+		stringRepresentation.append(getFirstTeamWinRate());
+		stringRepresentation.append(", secondTeamWinRate=");
+		stringRepresentation.append(getSecondTeamWinRate());
+		stringRepresentation.append(", drawRate=");
+		stringRepresentation.append(getDrawRate());
+		stringRepresentation.append(", averageNbRounds=");
+		stringRepresentation.append(getAverageNbRounds());
+		stringRepresentation.append(", averageDamage=");
+		stringRepresentation.append(getAverageDamage());
+		stringRepresentation.append(", characterStatistics=");
+		stringRepresentation.append(this.characterStatistics.values());
+		stringRepresentation.append("]");
+
+		return stringRepresentation.toString();
+	}
+}
@@ -0,0 +1,306 @@
+package fr.polytech.myrpg.game.snapshot;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+import fr.polytech.myrpg.game.snapshot.exceptions.InvalidSnapshotException;
+
+/**
+ * This class represents a file holding the last snapshot of a game, written through a memory mapping.
+ *
+ * The file has two slots which are written alternately, so the previous snapshot stays readable while the next one is written. Each slot starts with a sequence number,
+ * the length and the CRC32 of its snapshot, the sequence number being written last. The most recent slot whose CRC32 matches is the last snapshot.
+ *
+ * The mapped pages are written back by the operating system, so a snapshot survives the death of the process without any system call. {@link #force()} must be called
+ * to also survive a crash of the system. The slots grow when a snapshot doesn't fit, a crash while the file grows may lose the last snapshot.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public class GameSnapshotFile implements Closeable
+{
+	/**
+	 * The magic number, "MRPS".
+	 */
+	private static final int MAGIC = 0x4D525053;
+
+	/**
+	 * The version of the format.
+	 */
+	private static final int VERSION = 1;
+
+	/**
+	 * The size of the file header: magic number, version and capacity of a slot.
+	 */
+	private static final int HEADER_SIZE = 16;
+
+	/**
+	 * The size of a slot header: sequence number, length and CRC32.
+	 */
+	private static final int SLOT_HEADER_SIZE = 16;
+
+	/**
+	 * The offset of the capacity of a slot in the file header.
+	 */
+	private static final int SLOT_CAPACITY_OFFSET = 8;
+
+	/**
+	 * The default capacity of a slot.
+	 */
+	private static final int DEFAULT_SLOT_CAPACITY = 4096;
+
+	/**
+	 * The channel of the file.
+	 */
+	private final FileChannel fileChannel;
+
+	/**
+	 * The computer of the checksums.
+	 */
+	private final CRC32 crc32;
+
+	/**
+	 * The mapping of the whole file.
+	 */
+	private MappedByteBuffer mappedBuffer;
+
+	/**
+	 * The capacity of a slot.
+	 */
+	private int slotCapacity;
+
+	/**
+	 * The sequence number of the last snapshot, 0 if there is none.
+	 */
+	private long sequence;
+
+	/**
+	 * Open a snapshot file, or create it if it doesn't exist.
+	 * 
+	 * @param path
+	 *            The path of the file.
+	 * @throws IOException
+	 *             If the file can't be opened or mapped.
+	 * @throws InvalidSnapshotException
+	 *             If the file isn't a snapshot file.
+	 */
+	public GameSnapshotFile(Path path) throws IOException, InvalidSnapshotException
+	{
+		this.fileChannel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.CREATE);
+		this.crc32 = new CRC32();
+
+		try
+		{
+			if (this.fileChannel.size() == 0)
+			{
+				map(DEFAULT_SLOT_CAPACITY);
+				this.sequence = 0;
+			}
+			else
+			{
+				openExistingFile();
+			}
+		}
+		catch (IOException | InvalidSnapshotException e)
+		{
+			this.fileChannel.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Write a snapshot in the slot which doesn't hold the last one.
+	 * 
+	 * @param snapshot
+	 *            The snapshot, from its position to its limit. The position is left unchanged.
+	 * @throws IOException
+	 *             If the file can't grow.
+	 */
+	public void write(ByteBuffer snapshot) throws IOException
+	{
+		final int length = snapshot.remaining();
+		if (length > this.slotCapacity)
+		{
+			map(Math.max(length, this.slotCapacity * 2));
+		}
+
+		final long nextSequence = this.sequence + 1;
+		final int slotOffset = getSlotOffset(nextSequence);
+
+		final ByteBuffer payload = snapshot.duplicate();
+		this.crc32.reset();
+		this.crc32.update(payload);
+		payload.position(snapshot.position());
+
+		this.mappedBuffer.position(slotOffset + SLOT_HEADER_SIZE);
+		this.mappedBuffer.put(payload);
+		this.mappedBuffer.putInt(slotOffset + 8, length);
+		this.mappedBuffer.putInt(slotOffset + 12, (int) this.crc32.getValue());
+		this.mappedBuffer.putLong(slotOffset, nextSequence);
+
+		this.sequence = nextSequence;
+	}
+
+	/**
+	 * Read the last snapshot.
+	 * 
+	 * @return A copy of the last snapshot, or null if there is none.
+	 */
+	public ByteBuffer readLatest()
+	{
+		for (long currentSequence = this.sequence; (currentSequence > 0) && (currentSequence > this.sequence - 2); currentSequence--)
+		{
+			final ByteBuffer snapshot = readSlot(getSlotOffset(currentSequence), currentSequence);
+			if (snapshot != null)
+			{
+				return snapshot;
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Remove the snapshots, once the game is over.
+	 */
+	public void clear()
+	{
+		this.mappedBuffer.putLong(getSlotOffset(0), 0);
+		this.mappedBuffer.putLong(getSlotOffset(1), 0);
+	}
+
+	/**
+	 * Write the mapped pages to the storage device.
+	 */
+	public void force()
+	{
+		this.mappedBuffer.force();
+	}
+
+	/**
+	 * @see java.io.Closeable#close()
+	 */
+	@Override
+	public void close() throws IOException
+	{
+		this.fileChannel.close();
+	}
+
+	/**
+	 * Read the header of an existing file and find its last snapshot.
+	 * 
+	 * @throws IOException
+	 *             If the file can't be read or mapped.
+	 * @throws InvalidSnapshotException
+	 *             If the file isn't a snapshot file.
+	 */
+	private void openExistingFile() throws IOException, InvalidSnapshotException
+	{
+		if (this.fileChannel.size() < HEADER_SIZE)
+		{
+			throw new InvalidSnapshotException("The file is not a snapshot file.");
+		}
+
+		final ByteBuffer header = this.fileChannel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+		if (header.getInt(0) != MAGIC)
+		{
+			throw new InvalidSnapshotException("The file is not a snapshot file.");
+		}
+		if (header.getInt(4) != VERSION)
+		{
+			throw new InvalidSnapshotException("Unsupported snapshot version " + header.getInt(4) + ".");
+		}
+
+		final int savedSlotCapacity = header.getInt(SLOT_CAPACITY_OFFSET);
+		if ((savedSlotCapacity <= 0) || (this.fileChannel.size() < HEADER_SIZE + 2L * (SLOT_HEADER_SIZE + savedSlotCapacity)))
+		{
+			throw new InvalidSnapshotException("The snapshot file is truncated.");
+		}
+
+		this.slotCapacity = savedSlotCapacity;
+		this.mappedBuffer = this.fileChannel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + 2L * (SLOT_HEADER_SIZE + savedSlotCapacity));
+
+		this.sequence = 0;
+		for (int slot = 0; slot < 2; slot++)
+		{
+			final long slotSequence = this.mappedBuffer.getLong(getSlotOffset(slot));
+			if ((slotSequence > this.sequence) && (readSlot(getSlotOffset(slot), slotSequence) != null))
+			{
+				this.sequence = slotSequence;
+			}
+		}
+	}
+
+	/**
+	 * Read a slot.
+	 * 
+	 * @param slotOffset
+	 *            The offset of the slot.
+	 * @param expectedSequence
+	 *            The expected sequence number.
+	 * @return A copy of the snapshot of the slot, or null if the slot doesn't hold a valid snapshot with this sequence number.
+	 */
+	private ByteBuffer readSlot(int slotOffset, long expectedSequence)
+	{
+		final int length = this.mappedBuffer.getInt(slotOffset + 8);
+		if ((this.mappedBuffer.getLong(slotOffset) != expectedSequence) || (length < 0) || (length > this.slotCapacity))
+		{
+			return null;
+		}
+
+		final ByteBuffer payload = this.mappedBuffer.duplicate();
+		payload.limit(slotOffset + SLOT_HEADER_SIZE + length);
+		payload.position(slotOffset + SLOT_HEADER_SIZE);
+
+		final ByteBuffer snapshot = ByteBuffer.allocate(length);
+		snapshot.put(payload);
+		snapshot.flip();
+
+		this.crc32.reset();
+		this.crc32.update(snapshot.array(), 0, length);
+		if ((int) this.crc32.getValue() != this.mappedBuffer.getInt(slotOffset + 12))
+		{
+			return null;
+		}
+
+		return snapshot;
+	}
+
+	/**
+	 * Map the file with a new slot capacity, keeping the first slot where it is.
+	 * 
+	 * @param newSlotCapacity
+	 *            The new capacity of a slot.
+	 * @throws IOException
+	 *             If the file can't be mapped.
+	 */
+	private void map(int newSlotCapacity) throws IOException
+	{
+		this.mappedBuffer = this.fileChannel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + 2L * (SLOT_HEADER_SIZE + newSlotCapacity));
+		this.mappedBuffer.putInt(0, MAGIC);
+		this.mappedBuffer.putInt(4, VERSION);
+		this.mappedBuffer.putInt(SLOT_CAPACITY_OFFSET, newSlotCapacity);
+		this.slotCapacity = newSlotCapacity;
+
+		// The second slot moves, so whatever is at its new place is not a snapshot.
+		this.mappedBuffer.putLong(getSlotOffset(1), 0);
+	}
+
+	/**
+	 * Get the offset of the slot of a sequence number.
+	 * 
+	 * @param slotSequence
+	 *            The sequence number.
+	 * @return The offset of the slot.
+	 */
+	private int getSlotOffset(long slotSequence)
+	{
+		return HEADER_SIZE + (int) (slotSequence & 1) * (SLOT_HEADER_SIZE + this.slotCapacity);
+	}
+}
@@ -0,0 +1,630 @@
+package fr.polytech.myrpg.game.snapshot;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import fr.polytech.myrpg.characters.Character;
+import fr.polytech.myrpg.characters.Characteristic;
+import fr.polytech.myrpg.characters.items.Item;
+import fr.polytech.myrpg.characters.items.ItemCatalog;
+import fr.polytech.myrpg.characters.items.edible.EdibleItem;
+import fr.polytech.myrpg.characters.items.edible.Inventory;
+import fr.polytech.myrpg.characters.items.edible.ItemStack;
+import fr.polytech.myrpg.characters.items.equipable.EquipableItem;
+import fr.polytech.myrpg.game.players.Team;
+import fr.polytech.myrpg.game.quests.BasicQuest;
+import fr.polytech.myrpg.game.snapshot.exceptions.InvalidSnapshotException;
+import fr.polytech.myrpg.random.IRandomSource;
+import fr.polytech.myrpg.random.SplittableRandomSource;
+
+/**
+ * This class represents a snapshotter, which saves the state of the quest being played in a snapshot file and restores it in a new instance of the same quest.
+ *
+ * A snapshot holds the index of the quest, the number of rounds, the team to play, the state of the random source, the loot lists and, for each team, the
+ * characteristics, experience, equipment and inventory of every character, the living players and the next player. The characters are not saved: the quest is created
+ * again by its factory, which gives the same characters with the same names and special moves, then their state is restored.
+ *
+ * The items are saved as offsets in a table of item definitions, written at the start of the snapshot, so a snapshot can be restored in a quest whose items are other
+ * instances of the same definitions. The table is encoded once per quest and the snapshot buffer is reused, so taking a snapshot only copies a few hundred bytes.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public class GameSnapshotter
+{
+	/**
+	 * The characteristics.
+	 */
+	private static final Characteristic[] CHARACTERISTICS = Characteristic.values();
+
+	/**
+	 * The initial capacity of the snapshot buffer.
+	 */
+	private static final int INITIAL_CAPACITY = 1024;
+
+	/**
+	 * The size of the state of a random source: a flag, then the seed and the gamma.
+	 */
+	private static final int RANDOM_SOURCE_SIZE = Byte.BYTES + Long.BYTES + Long.BYTES;
+
+	/**
+	 * The size of the header written before the item table: the index of the quest, the number of rounds, the team to play, the state of the random source and the
+	 * number of items.
+	 */
+	private static final int HEADER_SIZE = Integer.BYTES + Integer.BYTES + Byte.BYTES + RANDOM_SOURCE_SIZE + Integer.BYTES;
+
+	/**
+	 * The snapshot file.
+	 */
+	private final GameSnapshotFile snapshotFile;
+
+	/**
+	 * The offset of each item in the table, indexed by instance.
+	 */
+	private final Map<Item, Integer> itemOffsets;
+
+	/**
+	 * The quest whose items are in the table.
+	 */
+	private BasicQuest tableQuest;
+
+	/**
+	 * The encoded table of item definitions.
+	 */
+	private ByteBuffer itemTable;
+
+	/**
+	 * The buffer of the snapshot, reused by every snapshot.
+	 */
+	private ByteBuffer buffer;
+
+	/**
+	 * The index of the quest being played.
+	 */
+	private int questIndex;
+
+	/**
+	 * Create a snapshotter which only encodes snapshots, without a snapshot file.
+	 */
+	public GameSnapshotter()
+	{
+		this(null);
+	}
+
+	/**
+	 * Create a snapshotter.
+	 * 
+	 * @param snapshotFile
+	 *            The snapshot file.
+	 */
+	public GameSnapshotter(GameSnapshotFile snapshotFile)
+	{
+		this.snapshotFile = snapshotFile;
+		this.itemOffsets = new IdentityHashMap<Item, Integer>();
+		this.tableQuest = null;
+		this.itemTable = ByteBuffer.allocate(INITIAL_CAPACITY);
+		this.buffer = ByteBuffer.allocate(INITIAL_CAPACITY);
+		this.questIndex = 0;
+	}
+
+	/**
+	 * Set the index of the quest being played, saved in the next snapshots.
+	 * 
+	 * @param questIndex
+	 *            The index of the quest, starting from 0.
+	 */
+	public void setQuestIndex(int questIndex)
+	{
+		this.questIndex = questIndex;
+	}
+
+	/**
+	 * Save the state of a quest in the snapshot file, replacing the previous snapshot.
+	 * 
+	 * @param quest
+	 *            The quest.
+	 * @throws UncheckedIOException
+	 *             If the snapshot file can't grow.
+	 */
+	public void takeSnapshot(BasicQuest quest)
+	{
+		try
+		{
+			this.snapshotFile.write(encodeSnapshot(quest));
+		}
+		catch (IOException e)
+		{
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Encode the state of a quest, without writing it.
+	 * 
+	 * @param quest
+	 *            The quest.
+	 * @return The snapshot, which is overwritten by the next one.
+	 */
+	public ByteBuffer encodeSnapshot(BasicQuest quest)
+	{
+		if (quest != this.tableQuest)
+		{
+			this.itemOffsets.clear();
+			this.itemTable.clear();
+			this.tableQuest = quest;
+		}
+
+		// The table is completed first, since it is written before the items which refer to it.
+		addItems(quest.getEdibleItems());
+		addItems(quest.getEquipableItems());
+		addTeamItems(quest.getFirstTeam());
+		addTeamItems(quest.getSecondTeam());
+
+		this.buffer.clear();
+		ensureRemaining(HEADER_SIZE + this.itemTable.position());
+		this.buffer.putInt(this.questIndex);
+		this.buffer.putInt(quest.getNbRounds());
+		this.buffer.put((byte) (quest.isToFirstTeamToPlay() ? 1 : 0));
+		writeRandomSource(quest.getRandomSource());
+		this.buffer.putInt(this.itemOffsets.size());
+		this.buffer.put((ByteBuffer) this.itemTable.duplicate().flip());
+		writeItems(quest.getEdibleItems());
+		writeItems(quest.getEquipableItems());
+		writeTeam(quest.getFirstTeam());
+		writeTeam(quest.getSecondTeam());
+		this.buffer.flip();
+
+		return this.buffer;
+	}
+
+	/**
+	 * Write the mapped snapshot to the storage device.
+	 */
+	public void force()
+	{
+		this.snapshotFile.force();
+	}
+
+	/**
+	 * Remove the snapshots, once the game is over.
+	 */
+	public void clear()
+	{
+		this.snapshotFile.clear();
+	}
+
+	/**
+	 * Read the index of the quest of a snapshot.
+	 * 
+	 * @param snapshot
+	 *            The snapshot.
+	 * @return The index of the quest, starting from 0.
+	 * @throws InvalidSnapshotException
+	 *             If the snapshot is too short.
+	 */
+	public static int readQuestIndex(ByteBuffer snapshot) throws InvalidSnapshotException
+	{
+		if (snapshot.remaining() < 4)
+		{
+			throw new InvalidSnapshotException("The snapshot is truncated.");
+		}
+
+		return snapshot.getInt(snapshot.position());
+	}
+
+	/**
+	 * Restore a snapshot in a new instance of its quest, which must not be started.
+	 * 
+	 * @param snapshot
+	 *            The snapshot. Its position is left unchanged.
+	 * @param quest
+	 *            The quest.
+	 * @throws InvalidSnapshotException
+	 *             If the snapshot is malformed or doesn't match the quest.
+	 */
+	public static void restoreSnapshot(ByteBuffer snapshot, BasicQuest quest) throws InvalidSnapshotException
+	{
+		final ByteBuffer input = snapshot.duplicate();
+		try
+		{
+			input.getInt();
+			final int nbRounds = input.getInt();
+			final boolean isToFirstTeamToPlay = (input.get() != 0);
+			restoreRandomSource(input, quest.getRandomSource());
+
+			final Item[] items = readItemTable(input, quest);
+			final List<EdibleItem> edibleItems = readItems(input, items, EdibleItem.class);
+			final List<EquipableItem> equipableItems = readItems(input, items, EquipableItem.class);
+			restoreTeam(input, items, quest.getFirstTeam());
+			restoreTeam(input, items, quest.getSecondTeam());
+			quest.restoreState(nbRounds, isToFirstTeamToPlay, edibleItems, equipableItems);
+		}
+		catch (BufferUnderflowException e)
+		{
+			throw new InvalidSnapshotException("The snapshot is truncated.");
+		}
+		catch (IllegalArgumentException e)
+		{
+			throw new InvalidSnapshotException("The snapshot doesn't match the quest: " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Add the items of the players of a team to the table.
+	 * 
+	 * @param team
+	 *            The team.
+	 */
+	private void addTeamItems(Team team)
+	{
+		for (int playerId = 0; playerId < team.getNbAllPlayers(); playerId++)
+		{
+			final Character character = team.getPlayerById(playerId).getCharacter();
+			addItems(character.getEquippedItems());
+
+			final Inventory inventory = character.getInventory();
+			for (int i = 0; i < inventory.getNbStacks(); i++)
+			{
+				addItem(inventory.getItem(i));
+			}
+		}
+	}
+
+	/**
+	 * Add items to the table.
+	 * 
+	 * @param items
+	 *            The items.
+	 */
+	private void addItems(List<? extends Item> items)
+	{
+		for (int i = 0; i < items.size(); i++)
+		{
+			addItem(items.get(i));
+		}
+	}
+
+	/**
+	 * Add an item to the table, if it isn't already in it.
+	 * 
+	 * @param item
+	 *            The item.
+	 */
+	private void addItem(Item item)
+	{
+		if (this.itemOffsets.containsKey(item))
+		{
+			return;
+		}
+
+		final byte[] key = ItemCatalog.getDefinitionKey(item).getBytes(StandardCharsets.UTF_8);
+		if (this.itemTable.remaining() < 4 + key.length)
+		{
+			final ByteBuffer newItemTable = ByteBuffer.allocate(Math.max(this.itemTable.capacity() * 2, this.itemTable.position() + 4 + key.length));
+			this.itemTable.flip();
+			newItemTable.put(this.itemTable);
+			this.itemTable = newItemTable;
+		}
+
+		this.itemTable.putInt(key.length);
+		this.itemTable.put(key);
+		this.itemOffsets.put(item, this.itemOffsets.size());
+	}
+
+	/**
+	 * Write the state of a random source.
+	 * 
+	 * @param randomSource
+	 *            The random source.
+	 */
+	private void writeRandomSource(IRandomSource randomSource)
+	{
+		if (randomSource instanceof SplittableRandomSource)
+		{
+			final SplittableRandomSource splittableRandomSource = (SplittableRandomSource) randomSource;
+			this.buffer.put((byte) 1);
+			this.buffer.putLong(splittableRandomSource.getSeed());
+			this.buffer.putLong(splittableRandomSource.getGamma());
+		}
+		else
+		{
+			// The other sources can't be saved, the resumed quest draws other numbers.
+			this.buffer.put((byte) 0);
+		}
+	}
+
+	/**
+	 * Write the offsets of items in the table.
+	 * 
+	 * @param items
+	 *            The items.
+	 */
+	private void writeItems(List<? extends Item> items)
+	{
+		ensureRemaining(4 + 4 * items.size());
+		this.buffer.putInt(items.size());
+		for (int i = 0; i < items.size(); i++)
+		{
+			this.buffer.putInt(this.itemOffsets.get(items.get(i)));
+		}
+	}
+
+	/**
+	 * Write the state of a team.
+	 * 
+	 * @param team
+	 *            The team.
+	 */
+	private void writeTeam(Team team)
+	{
+		ensureRemaining(4);
+		this.buffer.putInt(team.getNbAllPlayers());
+		for (int playerId = 0; playerId < team.getNbAllPlayers(); playerId++)
+		{
+			final Character character = team.getPlayerById(playerId).getCharacter();
+			ensureRemaining(4 * (CHARACTERISTICS.length + 3));
+			for (Characteristic currentCharacteristic : CHARACTERISTICS)
+			{
+				this.buffer.putInt(character.getCharacteristic(currentCharacteristic));
+			}
+			this.buffer.putInt(character.getMaxHealth());
+			this.buffer.putInt(character.getExperienceLevel());
+			this.buffer.putInt(character.getCurrentExperience());
+
+			writeItems(character.getEquippedItems());
+
+			final Inventory inventory = character.getInventory();
+			ensureRemaining(4 + 8 * inventory.getNbStacks());
+			this.buffer.putInt(inventory.getNbStacks());
+			for (int i = 0; i < inventory.getNbStacks(); i++)
+			{
+				final ItemStack currentStack = inventory.getStack(i);
+				this.buffer.putInt(this.itemOffsets.get(currentStack.getItem()));
+				this.buffer.putInt(currentStack.getCount());
+			}
+		}
+
+		ensureRemaining(8 + 4 * team.getNbPlayers());
+		this.buffer.putInt(team.getNbPlayers());
+		for (int offset = 0; offset < team.getNbPlayers(); offset++)
+		{
+			this.buffer.putInt(team.getPlayer(offset).getTeamId());
+		}
+		this.buffer.putInt(team.getCurrentPlayerId());
+	}
+
+	/**
+	 * Ensure that the snapshot buffer has enough remaining bytes, keeping what is already written.
+	 * 
+	 * @param nbBytes
+	 *            The number of bytes.
+	 */
+	private void ensureRemaining(int nbBytes)
+	{
+		if (this.buffer.remaining() < nbBytes)
+		{
+			final ByteBuffer newBuffer = ByteBuffer.allocate(Math.max(this.buffer.capacity() * 2, this.buffer.position() + nbBytes));
+			this.buffer.flip();
+			newBuffer.put(this.buffer);
+			this.buffer = newBuffer;
+		}
+	}
+
+	/**
+	 * Restore the state of a random source.
+	 * 
+	 * @param input
+	 *            The snapshot.
+	 * @param randomSource
+	 *            The random source.
+	 * @throws InvalidSnapshotException
+	 *             If the state was saved but can't be restored in this source.
+	 */
+	private static void restoreRandomSource(ByteBuffer input, IRandomSource randomSource) throws InvalidSnapshotException
+	{
+		if (input.get() == 0)
+		{
+			return;
+		}
+
+		final long seed = input.getLong();
+		final long gamma = input.getLong();
+		if (!(randomSource instanceof SplittableRandomSource))
+		{
+			throw new InvalidSnapshotException("The random source of the quest can't be restored.");
+		}
+
+		((SplittableRandomSource) randomSource).restoreState(seed, gamma);
+	}
+
+	/**
+	 * Read the table of item definitions, and find each definition among the items of a new quest.
+	 * 
+	 * @param input
+	 *            The snapshot.
+	 * @param quest
+	 *            The new quest, whose loot lists hold all its items.
+	 * @return The items, indexed by offset in the table.
+	 * @throws InvalidSnapshotException
+	 *             If an item of the table isn't in the quest.
+	 */
+	private static Item[] readItemTable(ByteBuffer input, BasicQuest quest) throws InvalidSnapshotException
+	{
+		final Map<String, Item> itemsByKey = new HashMap<String, Item>();
+		for (Item currentItem : quest.getEdibleItems())
+		{
+			putIfAbsent(itemsByKey, currentItem);
+		}
+		for (Item currentItem : quest.getEquipableItems())
+		{
+			putIfAbsent(itemsByKey, currentItem);
+		}
+
+		final Item[] items = new Item[readLength(input)];
+		for (int i = 0; i < items.length; i++)
+		{
+			final byte[] key = new byte[readLength(input)];
+			input.get(key);
+
+			final String definitionKey = new String(key, StandardCharsets.UTF_8);
+			items[i] = itemsByKey.get(definitionKey);
+			if (items[i] == null)
+			{
+				throw new InvalidSnapshotException("The item " + definitionKey + " is not in the quest.");
+			}
+		}
+
+		return items;
+	}
+
+	/**
+	 * Index an item by definition key, if no item with the same definition is already indexed.
+	 * 
+	 * @param itemsByKey
+	 *            The items, indexed by definition key.
+	 * @param item
+	 *            The item.
+	 */
+	private static void putIfAbsent(Map<String, Item> itemsByKey, Item item)
+	{
+		final String key = ItemCatalog.getDefinitionKey(item);
+		if (!itemsByKey.containsKey(key))
+		{
+			itemsByKey.put(key, item);
+		}
+	}
+
+	/**
+	 * Read items saved as offsets in the table.
+	 * 
+	 * @param input
+	 *            The snapshot.
+	 * @param items
+	 *            The items, indexed by offset in the table.
+	 * @param itemClass
+	 *            The expected class of the items.
+	 * @return The items.
+	 * @throws InvalidSnapshotException
+	 *             If an offset is out of the table, or an item isn't of the expected class.
+	 */
+	private static <T extends Item> List<T> readItems(ByteBuffer input, Item[] items, Class<T> itemClass) throws InvalidSnapshotException
+	{
+		final int nbItems = readLength(input);
+		final List<T> readItems = new ArrayList<T>(nbItems);
+		for (int i = 0; i < nbItems; i++)
+		{
+			readItems.add(readItem(input, items, itemClass));
+		}
+
+		return readItems;
+	}
+
+	/**
+	 * Read an item saved as an offset in the table.
+	 * 
+	 * @param input
+	 *            The snapshot.
+	 * @param items
+	 *            The items, indexed by offset in the table.
+	 * @param itemClass
+	 *            The expected class of the item.
+	 * @return The item.
+	 * @throws InvalidSnapshotException
+	 *             If the offset is out of the table, or the item isn't of the expected class.
+	 */
+	private static <T extends Item> T readItem(ByteBuffer input, Item[] items, Class<T> itemClass) throws InvalidSnapshotException
+	{
+		final int offset = input.getInt();
+		if ((offset < 0) || (offset >= items.length) || !itemClass.isInstance(items[offset]))
+		{
+			throw new InvalidSnapshotException("Invalid item offset " + offset + ".");
+		}
+
+		return itemClass.cast(items[offset]);
+	}
+
+	/**
+	 * Restore the state of a team, and of the characters of its players.
+	 * 
+	 * @param input
+	 *            The snapshot.
+	 * @param items
+	 *            The items, indexed by offset in the table.
+	 * @param team
+	 *            The team.
+	 * @throws InvalidSnapshotException
+	 *             If the saved team doesn't match the team.
+	 */
+	private static void restoreTeam(ByteBuffer input, Item[] items, Team team) throws InvalidSnapshotException
+	{
+		final int nbAllPlayers = input.getInt();
+		if (nbAllPlayers != team.getNbAllPlayers())
+		{
+			throw new InvalidSnapshotException("The team " + team.getName() + " has " + team.getNbAllPlayers() + " players instead of " + nbAllPlayers + ".");
+		}
+
+		final int[] characteristics = new int[CHARACTERISTICS.length];
+		for (int playerId = 0; playerId < nbAllPlayers; playerId++)
+		{
+			final Character character = team.getPlayerById(playerId).getCharacter();
+			for (int i = 0; i < characteristics.length; i++)
+			{
+				characteristics[i] = input.getInt();
+			}
+			final int maxHealth = input.getInt();
+			final int experienceLevel = input.getInt();
+			final int experience = input.getInt();
+			final List<EquipableItem> equippedItems = readItems(input, items, EquipableItem.class);
+
+			final Inventory inventory = character.getInventory();
+			inventory.clear();
+			final int nbStacks = readLength(input);
+			for (int i = 0; i < nbStacks; i++)
+			{
+				final EdibleItem item = readItem(input, items, EdibleItem.class);
+				final int count = input.getInt();
+				for (int j = 0; j < count; j++)
+				{
+					inventory.add(item);
+				}
+			}
+
+			character.restoreState(characteristics, maxHealth, experienceLevel, experience, equippedItems);
+		}
+
+		final int[] alivePlayerIds = new int[readLength(input)];
+		for (int offset = 0; offset < alivePlayerIds.length; offset++)
+		{
+			alivePlayerIds[offset] = input.getInt();
+		}
+		team.restoreState(alivePlayerIds, input.getInt());
+	}
+
+	/**
+	 * Read a length, which can't be more than the remaining bytes.
+	 * 
+	 * @param input
+	 *            The snapshot.
+	 * @return The length.
+	 * @throws InvalidSnapshotException
+	 *             If the length is negative or too large.
+	 */
+	private static int readLength(ByteBuffer input) throws InvalidSnapshotException
+	{
+		final int length = input.getInt();
+		if ((length < 0) || (length > input.remaining()))
+		{
+			throw new InvalidSnapshotException("Invalid length " + length + ".");
+		}
+
+		return length;
+	}
+}
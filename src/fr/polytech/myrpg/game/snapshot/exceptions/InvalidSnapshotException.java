@@ -0,0 +1,26 @@
+package fr.polytech.myrpg.game.snapshot.exceptions;
+
+/**
+ * This exception is thrown if a snapshot is malformed or doesn't match the quest to restore.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public class InvalidSnapshotException extends Exception
+{
+	/**
+	 * The serial UID.
+	 */
+	private static final long serialVersionUID = -2630472915840117356L;
+
+	/**
+	 * Create an invalid snapshot exception.
+	 * 
+	 * @param message
+	 *            The message to display.
+	 */
+	public InvalidSnapshotException(String message)
+	{
+		super(message);
+	}
+}
@@ -0,0 +1,102 @@
+package fr.polytech.myrpg.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * This class represents the flight recorder event of a character attacking another one. It is emitted at each attack, so it has no stack trace.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+@Name("fr.polytech.myrpg.Attack")
+@Label("Attack")
+@Category("My RPG")
+@Description("A character attacks another one: the special moves of the defender are drawn and the damage is dealt.")
+@StackTrace(false)
+public class AttackEvent extends Event
+{
+	/**
+	 * The name of the attacker.
+	 */
+	@Label("Attacker")
+	private String attacker;
+
+	/**
+	 * The name of the defender.
+	 */
+	@Label("Defender")
+	private String defender;
+
+	/**
+	 * The damage dealt to the defender.
+	 */
+	@Label("Damage")
+	private int damage;
+
+	/**
+	 * The mask of the succeeded special moves of the defender.
+	 */
+	@Label("Succeeded Special Moves")
+	private int succeededSpecialMoves;
+
+	/**
+	 * If the defender has parried.
+	 */
+	@Label("Parried")
+	private boolean hasParried;
+
+	/**
+	 * If the defender has run away.
+	 */
+	@Label("Run Away")
+	private boolean hasRunAway;
+
+	/**
+	 * If the defender has healed itself.
+	 */
+	@Label("Healed")
+	private boolean hasHealed;
+
+	/**
+	 * If the outcome has been drawn from a fight outcome cache.
+	 */
+	@Label("Cached")
+	private boolean isCached;
+
+	/**
+	 * Set the outcome of the attack.
+	 * 
+	 * @param attacker
+	 *            The name of the attacker.
+	 * @param defender
+	 *            The name of the defender.
+	 * @param damage
+	 *            The damage dealt to the defender.
+	 * @param succeededSpecialMoves
+	 *            The mask of the succeeded special moves of the defender.
+	 * @param hasParried
+	 *            If the defender has parried.
+	 * @param hasRunAway
+	 *            If the defender has run away.
+	 * @param hasHealed
+	 *            If the defender has healed itself.
+	 * @param isCached
+	 *            If the outcome has been drawn from a fight outcome cache.
+	 */
+	public void setOutcome(String attacker, String defender, int damage, int succeededSpecialMoves, boolean hasParried, boolean hasRunAway, boolean hasHealed, boolean isCached)
+	{
+		this.attacker = attacker;
+		this.defender = defender;
+		this.damage = damage;
+		this.succeededSpecialMoves = succeededSpecialMoves;
+		this.hasParried = hasParried;
+		this.hasRunAway = hasRunAway;
+		this.hasHealed = hasHealed;
+		this.isCached = isCached;
+	}
+}
@@ -0,0 +1,46 @@
+package fr.polytech.myrpg.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * This class represents the flight recorder event of a game, from its start to its end.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+@Name("fr.polytech.myrpg.GamePlayed")
+@Label("Game Played")
+@Category("My RPG")
+@Description("A game, from its start or its resumption to its end.")
+public class GamePlayedEvent extends Event
+{
+	/**
+	 * If the game has been resumed from a snapshot.
+	 */
+	@Label("Resumed")
+	private boolean isResumed;
+
+	/**
+	 * The number of quests played.
+	 */
+	@Label("Played Quests")
+	private int nbPlayedQuests;
+
+	/**
+	 * Set the outcome of the game.
+	 * 
+	 * @param isResumed
+	 *            If the game has been resumed from a snapshot.
+	 * @param nbPlayedQuests
+	 *            The number of quests played.
+	 */
+	public void setOutcome(boolean isResumed, int nbPlayedQuests)
+	{
+		this.isResumed = isResumed;
+		this.nbPlayedQuests = nbPlayedQuests;
+	}
+}
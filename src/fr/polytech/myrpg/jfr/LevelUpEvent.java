@@ -0,0 +1,55 @@
+package fr.polytech.myrpg.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * This class represents the flight recorder event of a character leveling up.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+@Name("fr.polytech.myrpg.LevelUp")
+@Label("Level Up")
+@Category("My RPG")
+@Description("A character levels up and upgrades a characteristic.")
+public class LevelUpEvent extends Event
+{
+	/**
+	 * The name of the character.
+	 */
+	@Label("Character")
+	private String character;
+
+	/**
+	 * The upgraded characteristic.
+	 */
+	@Label("Characteristic")
+	private String characteristic;
+
+	/**
+	 * The new experience level.
+	 */
+	@Label("Experience Level")
+	private int experienceLevel;
+
+	/**
+	 * Set the outcome of the level up.
+	 * 
+	 * @param character
+	 *            The name of the character.
+	 * @param characteristic
+	 *            The upgraded characteristic.
+	 * @param experienceLevel
+	 *            The new experience level.
+	 */
+	public void setOutcome(String character, String characteristic, int experienceLevel)
+	{
+		this.character = character;
+		this.characteristic = characteristic;
+		this.experienceLevel = experienceLevel;
+	}
+}
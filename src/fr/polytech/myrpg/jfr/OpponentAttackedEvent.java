@@ -0,0 +1,100 @@
+package fr.polytech.myrpg.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * This class represents the flight recorder event of a player attacking an opponent, from the choice of the opponent to the level up.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+@Name("fr.polytech.myrpg.OpponentAttacked")
+@Label("Opponent Attacked")
+@Category("My RPG")
+@Description("A player chooses an opponent, attacks it and may level up.")
+public class OpponentAttackedEvent extends Event
+{
+	/**
+	 * The index of the quest in the game.
+	 */
+	@Label("Quest Index")
+	private int questIndex;
+
+	/**
+	 * The number of the round.
+	 */
+	@Label("Round")
+	private int round;
+
+	/**
+	 * The name of the attacker.
+	 */
+	@Label("Attacker")
+	private String attacker;
+
+	/**
+	 * The name of the defender.
+	 */
+	@Label("Defender")
+	private String defender;
+
+	/**
+	 * The health of the defender before the fight.
+	 */
+	@Label("Defender Health Before")
+	private int defenderHealthBefore;
+
+	/**
+	 * The health of the defender after the fight.
+	 */
+	@Label("Defender Health After")
+	private int defenderHealthAfter;
+
+	/**
+	 * If the defender has been killed.
+	 */
+	@Label("Killed")
+	private boolean isKilled;
+
+	/**
+	 * If the attacker has leveled up.
+	 */
+	@Label("Level Up")
+	private boolean hasLeveledUp;
+
+	/**
+	 * Set the outcome of the attack.
+	 * 
+	 * @param questIndex
+	 *            The index of the quest in the game.
+	 * @param round
+	 *            The number of the round.
+	 * @param attacker
+	 *            The name of the attacker.
+	 * @param defender
+	 *            The name of the defender.
+	 * @param defenderHealthBefore
+	 *            The health of the defender before the fight.
+	 * @param defenderHealthAfter
+	 *            The health of the defender after the fight.
+	 * @param isKilled
+	 *            If the defender has been killed.
+	 * @param hasLeveledUp
+	 *            If the attacker has leveled up.
+	 */
+	public void setOutcome(int questIndex, int round, String attacker, String defender, int defenderHealthBefore, int defenderHealthAfter, boolean isKilled, boolean hasLeveledUp)
+	{
+		this.questIndex = questIndex;
+		this.round = round;
+		this.attacker = attacker;
+		this.defender = defender;
+		this.defenderHealthBefore = defenderHealthBefore;
+		this.defenderHealthAfter = defenderHealthAfter;
+		this.isKilled = isKilled;
+		this.hasLeveledUp = hasLeveledUp;
+	}
+}
@@ -0,0 +1,64 @@
+package fr.polytech.myrpg.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * This class represents the flight recorder event of a quest, from its start to its end.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+@Name("fr.polytech.myrpg.QuestPlayed")
+@Label("Quest Played")
+@Category("My RPG")
+@Description("A basic quest, from its start or its resumption to its end.")
+public class QuestPlayedEvent extends Event
+{
+	/**
+	 * The index of the quest in the game.
+	 */
+	@Label("Quest Index")
+	private int questIndex;
+
+	/**
+	 * The number of rounds played.
+	 */
+	@Label("Rounds")
+	private int nbRounds;
+
+	/**
+	 * If the first team has won.
+	 */
+	@Label("First Team Won")
+	private boolean hasFirstTeamWon;
+
+	/**
+	 * If the second team has won.
+	 */
+	@Label("Second Team Won")
+	private boolean hasSecondTeamWon;
+
+	/**
+	 * Set the outcome of the quest.
+	 * 
+	 * @param questIndex
+	 *            The index of the quest in the game.
+	 * @param nbRounds
+	 *            The number of rounds played.
+	 * @param hasFirstTeamWon
+	 *            If the first team has won.
+	 * @param hasSecondTeamWon
+	 *            If the second team has won.
+	 */
+	public void setOutcome(int questIndex, int nbRounds, boolean hasFirstTeamWon, boolean hasSecondTeamWon)
+	{
+		this.questIndex = questIndex;
+		this.nbRounds = nbRounds;
+		this.hasFirstTeamWon = hasFirstTeamWon;
+		this.hasSecondTeamWon = hasSecondTeamWon;
+	}
+}
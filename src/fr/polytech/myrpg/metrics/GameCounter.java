@@ -0,0 +1,65 @@
+package fr.polytech.myrpg.metrics;
+
+/**
+ * This enumeration represents all counters of the game.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public enum GameCounter
+{
+	/**
+	 * The fights.
+	 */
+	FIGHTS,
+
+	/**
+	 * The characters killed.
+	 */
+	KILLS,
+
+	/**
+	 * The opponents which have run away.
+	 */
+	RUN_AWAYS,
+
+	/**
+	 * The opponents which have parried.
+	 */
+	PARRIES,
+
+	/**
+	 * The opponents which have healed themselves during a fight.
+	 */
+	HEALS,
+
+	/**
+	 * The level ups.
+	 */
+	LEVEL_UPS,
+
+	/**
+	 * The items used.
+	 */
+	ITEMS_USED,
+
+	/**
+	 * The dropped items picked up.
+	 */
+	LOOT_DROPS,
+
+	/**
+	 * The dropped items which were too heavy for the character.
+	 */
+	TOO_HEAVY_FAILURES,
+
+	/**
+	 * The dropped armors which couldn't be equipped because the character has too many armors.
+	 */
+	TOO_MANY_ARMORS_FAILURES,
+
+	/**
+	 * The dropped weapons which couldn't be equipped because the character has too many weapons.
+	 */
+	TOO_MANY_WEAPONS_FAILURES;
+}
@@ -0,0 +1,30 @@
+package fr.polytech.myrpg.metrics;
+
+/**
+ * This enumeration represents all histograms of the game.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public enum GameHistogram
+{
+	/**
+	 * The health lost by the opponent at each attack.
+	 */
+	DAMAGE_PER_HIT,
+
+	/**
+	 * The number of rounds of each quest.
+	 */
+	ROUNDS_PER_QUEST,
+
+	/**
+	 * The wall time of each round, in nanoseconds, including the decisions.
+	 */
+	ROUND_TIME_NANOS,
+
+	/**
+	 * The wall time waiting for each decision of the observer, in nanoseconds.
+	 */
+	DECISION_WAIT_NANOS;
+}
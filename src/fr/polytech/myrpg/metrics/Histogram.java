@@ -0,0 +1,184 @@
+package fr.polytech.myrpg.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * This class represents a lock-free histogram of non-negative values, recorded without allocating.
+ *
+ * The values are counted in buckets whose bounds are powers of two: the bucket i holds the values which need i bits, so a percentile is known within a factor of
+ * two, which is enough to spot a slow round or a huge hit.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public class Histogram
+{
+	/**
+	 * The number of buckets, one for zero and one for each bit length of a positive long.
+	 */
+	public static final int NB_BUCKETS = 64;
+
+	/**
+	 * The number of values in each bucket.
+	 */
+	private final AtomicLongArray buckets;
+
+	/**
+	 * The number of values.
+	 */
+	private final AtomicLong count;
+
+	/**
+	 * The sum of the values.
+	 */
+	private final AtomicLong sum;
+
+	/**
+	 * The maximal value.
+	 */
+	private final AtomicLong max;
+
+	/**
+	 * Create an empty histogram.
+	 */
+	public Histogram()
+	{
+		this.buckets = new AtomicLongArray(NB_BUCKETS);
+		this.count = new AtomicLong();
+		this.sum = new AtomicLong();
+		this.max = new AtomicLong();
+	}
+
+	/**
+	 * Record a value. A negative value is recorded as zero.
+	 * 
+	 * @param value
+	 *            The value.
+	 */
+	public void record(long value)
+	{
+		final long recordedValue = Math.max(value, 0);
+		this.buckets.incrementAndGet(getBucket(recordedValue));
+		this.count.incrementAndGet();
+		this.sum.addAndGet(recordedValue);
+
+		long currentMax = this.max.get();
+		while ((recordedValue > currentMax) && !this.max.compareAndSet(currentMax, recordedValue))
+		{
+			currentMax = this.max.get();
+		}
+	}
+
+	/**
+	 * Get the number of values.
+	 * 
+	 * @return The number of values.
+	 */
+	public long getCount()
+	{
+		return this.count.get();
+	}
+
+	/**
+	 * Get the sum of the values.
+	 * 
+	 * @return The sum.
+	 */
+	public long getSum()
+	{
+		return this.sum.get();
+	}
+
+	/**
+	 * Get the maximal value.
+	 * 
+	 * @return The maximal value, or 0 if there is none.
+	 */
+	public long getMax()
+	{
+		return this.max.get();
+	}
+
+	/**
+	 * Get the mean of the values.
+	 * 
+	 * @return The mean, or 0 if there is none.
+	 */
+	public double getMean()
+	{
+		final long currentCount = this.count.get();
+		return (currentCount == 0 ? 0 : (double) this.sum.get() / currentCount);
+	}
+
+	/**
+	 * Get an upper bound of a percentile, the upper bound of the bucket holding it.
+	 * 
+	 * @param percentile
+	 *            The percentile, between 0 and 100.
+	 * @return The upper bound, never above the maximal value, or 0 if there is none.
+	 */
+	public long getPercentile(double percentile)
+	{
+		long total = 0;
+		for (int i = 0; i < NB_BUCKETS; i++)
+		{
+			total += this.buckets.get(i);
+		}
+		if (total == 0)
+		{
+			return 0;
+		}
+
+		final long rank = Math.max(1, (long) Math.ceil(total * percentile / 100));
+		long cumulatedCount = 0;
+		for (int i = 0; i < NB_BUCKETS; i++)
+		{
+			cumulatedCount += this.buckets.get(i);
+			if (cumulatedCount >= rank)
+			{
+				return Math.min(getBucketUpperBound(i), this.max.get());
+			}
+		}
+
+		return this.max.get();
+	}
+
+	/**
+	 * Forget every value. Values recorded meanwhile may be partially forgotten.
+	 */
+	public void reset()
+	{
+		for (int i = 0; i < NB_BUCKETS; i++)
+		{
+			this.buckets.set(i, 0);
+		}
+		this.count.set(0);
+		this.sum.set(0);
+		this.max.set(0);
+	}
+
+	/**
+	 * Get the bucket of a value.
+	 * 
+	 * @param value
+	 *            The non-negative value.
+	 * @return The bucket, the number of bits of the value.
+	 */
+	private static int getBucket(long value)
+	{
+		return Math.min(64 - Long.numberOfLeadingZeros(value), NB_BUCKETS - 1);
+	}
+
+	/**
+	 * Get the upper bound of a bucket.
+	 * 
+	 * @param bucket
+	 *            The bucket.
+	 * @return The greatest value of the bucket.
+	 */
+	private static long getBucketUpperBound(int bucket)
+	{
+		return (bucket == NB_BUCKETS - 1 ? Long.MAX_VALUE : (1L << bucket) - 1);
+	}
+}
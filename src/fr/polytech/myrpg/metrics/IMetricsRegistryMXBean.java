@@ -0,0 +1,38 @@
+package fr.polytech.myrpg.metrics;
+
+import java.util.Map;
+
+/**
+ * This interface represents the management interface of a metrics registry, exposed through JMX.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public interface IMetricsRegistryMXBean
+{
+	/**
+	 * Get the values of the counters.
+	 * 
+	 * @return The values, by counter name.
+	 */
+	public Map<String, Long> getCounters();
+
+	/**
+	 * Get the statistics of the histograms: the count, the mean, the maximum and the 50th, 90th and 99th percentiles.
+	 * 
+	 * @return The statistics, by histogram name followed by the statistic name.
+	 */
+	public Map<String, Long> getHistogramStatistics();
+
+	/**
+	 * Get the text dump of the metrics.
+	 * 
+	 * @return The text dump.
+	 */
+	public String getTextDump();
+
+	/**
+	 * Reset every metric.
+	 */
+	public void reset();
+}
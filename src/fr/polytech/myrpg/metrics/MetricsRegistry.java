@@ -0,0 +1,290 @@
+package fr.polytech.myrpg.metrics;
+
+import java.io.Closeable;
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+import me.grea.antoine.utils.Log;
+
+/**
+ * This class represents a registry of the counters and the histograms of the game.
+ *
+ * The metrics are recorded without lock nor allocation, so the quests can record them at each round, and read from other threads through JMX or a periodic text
+ * dump.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public class MetricsRegistry implements IMetricsRegistryMXBean, Closeable
+{
+	/**
+	 * The JMX name of the registry.
+	 */
+	public static final String OBJECT_NAME = "fr.polytech.myrpg:type=MetricsRegistry";
+
+	/**
+	 * The counters, indexed by ordinal.
+	 */
+	private static final GameCounter[] COUNTERS = GameCounter.values();
+
+	/**
+	 * The histograms, indexed by ordinal.
+	 */
+	private static final GameHistogram[] HISTOGRAMS = GameHistogram.values();
+
+	/**
+	 * The percentiles given by the statistics of the histograms.
+	 */
+	private static final int[] PERCENTILES = new int[] { 50, 90, 99 };
+
+	/**
+	 * The values of the counters.
+	 */
+	private final AtomicLongArray counters;
+
+	/**
+	 * The histograms.
+	 */
+	private final Histogram[] histograms;
+
+	/**
+	 * The thread dumping the metrics, or null if they are not dumped.
+	 */
+	private ScheduledExecutorService dumpService;
+
+	/**
+	 * The JMX name under which the registry is registered, or null if it is not.
+	 */
+	private ObjectName objectName;
+
+	/**
+	 * Create an empty metrics registry.
+	 */
+	public MetricsRegistry()
+	{
+		this.counters = new AtomicLongArray(COUNTERS.length);
+		this.histograms = new Histogram[HISTOGRAMS.length];
+		for (int i = 0; i < this.histograms.length; i++)
+		{
+			this.histograms[i] = new Histogram();
+		}
+		this.dumpService = null;
+		this.objectName = null;
+	}
+
+	/**
+	 * Increment a counter.
+	 * 
+	 * @param counter
+	 *            The counter.
+	 */
+	public void increment(GameCounter counter)
+	{
+		this.counters.incrementAndGet(counter.ordinal());
+	}
+
+	/**
+	 * Record a value into a histogram.
+	 * 
+	 * @param histogram
+	 *            The histogram.
+	 * @param value
+	 *            The value.
+	 */
+	public void record(GameHistogram histogram, long value)
+	{
+		this.histograms[histogram.ordinal()].record(value);
+	}
+
+	/**
+	 * Get the value of a counter.
+	 * 
+	 * @param counter
+	 *            The counter.
+	 * @return The value.
+	 */
+	public long getCounter(GameCounter counter)
+	{
+		return this.counters.get(counter.ordinal());
+	}
+
+	/**
+	 * Get a histogram.
+	 * 
+	 * @param histogram
+	 *            The histogram.
+	 * @return The histogram.
+	 */
+	public Histogram getHistogram(GameHistogram histogram)
+	{
+		return this.histograms[histogram.ordinal()];
+	}
+
+	/**
+	 * @see fr.polytech.myrpg.metrics.IMetricsRegistryMXBean#getCounters()
+	 */
+	@Override
+	public Map<String, Long> getCounters()
+	{
+		final Map<String, Long> counterValues = new LinkedHashMap<String, Long>();
+		for (GameCounter counter : COUNTERS)
+		{
+			counterValues.put(counter.name(), getCounter(counter));
+		}
+
+		return counterValues;
+	}
+
+	/**
+	 * @see fr.polytech.myrpg.metrics.IMetricsRegistryMXBean#getHistogramStatistics()
+	 */
+	@Override
+	public Map<String, Long> getHistogramStatistics()
+	{
+		final Map<String, Long> statistics = new LinkedHashMap<String, Long>();
+		for (GameHistogram gameHistogram : HISTOGRAMS)
+		{
+			final Histogram histogram = getHistogram(gameHistogram);
+			statistics.put(gameHistogram.name() + ".count", histogram.getCount());
+			statistics.put(gameHistogram.name() + ".mean", Math.round(histogram.getMean()));
+			statistics.put(gameHistogram.name() + ".max", histogram.getMax());
+			for (int percentile : PERCENTILES)
+			{
+				statistics.put(gameHistogram.name() + ".p" + percentile, histogram.getPercentile(percentile));
+			}
+		}
+
+		return statistics;
+	}
+
+	/**
+	 * @see fr.polytech.myrpg.metrics.IMetricsRegistryMXBean#getTextDump()
+	 */
+	@Override
+	public String getTextDump()
+	{
+		final StringBuilder textDump = new StringBuilder();
+		textDump.append("METRICS");
+		for (GameCounter counter : COUNTERS)
+		{
+			textDump.append(System.lineSeparator()).append(counter.name()).append(": ").append(getCounter(counter));
+		}
+		for (GameHistogram gameHistogram : HISTOGRAMS)
+		{
+			final Histogram histogram = getHistogram(gameHistogram);
+			textDump.append(System.lineSeparator()).append(gameHistogram.name());
+			textDump.append(String.format(": count=%d, mean=%.1f, max=%d", histogram.getCount(), histogram.getMean(), histogram.getMax()));
+			for (int percentile : PERCENTILES)
+			{
+				textDump.append(", p").append(percentile).append("<=").append(histogram.getPercentile(percentile));
+			}
+		}
+
+		return textDump.toString();
+	}
+
+	/**
+	 * @see fr.polytech.myrpg.metrics.IMetricsRegistryMXBean#reset()
+	 */
+	@Override
+	public void reset()
+	{
+		for (int i = 0; i < COUNTERS.length; i++)
+		{
+			this.counters.set(i, 0);
+		}
+		for (Histogram histogram : this.histograms)
+		{
+			histogram.reset();
+		}
+	}
+
+	/**
+	 * Register the registry into the platform MBean server, under {@link #OBJECT_NAME}.
+	 * 
+	 * @throws JMException
+	 *             If the registry can't be registered.
+	 */
+	public void registerMBean() throws JMException
+	{
+		final ObjectName name = new ObjectName(OBJECT_NAME);
+		ManagementFactory.getPlatformMBeanServer().registerMBean(this, name);
+		this.objectName = name;
+	}
+
+	/**
+	 * Log the text dump of the metrics periodically, on a background thread.
+	 * 
+	 * @param period
+	 *            The period, in seconds.
+	 */
+	public void startPeriodicDump(long period)
+	{
+		if (this.dumpService != null)
+		{
+			return;
+		}
+
+		this.dumpService = Executors.newSingleThreadScheduledExecutor(new ThreadFactory()
+		{
+			/**
+			 * @see java.util.concurrent.ThreadFactory#newThread(java.lang.Runnable)
+			 */
+			@Override
+			public Thread newThread(Runnable runnable)
+			{
+				final Thread thread = new Thread(runnable, "metrics-dump");
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+		this.dumpService.scheduleAtFixedRate(new Runnable()
+		{
+			/**
+			 * @see java.lang.Runnable#run()
+			 */
+			@Override
+			public void run()
+			{
+				Log.i(getTextDump());
+			}
+		}, period, period, TimeUnit.SECONDS);
+	}
+
+	/**
+	 * Stop the periodic dump and unregister the registry from the platform MBean server.
+	 * 
+	 * @see java.io.Closeable#close()
+	 */
+	@Override
+	public void close()
+	{
+		if (this.dumpService != null)
+		{
+			this.dumpService.shutdown();
+			this.dumpService = null;
+		}
+
+		if (this.objectName != null)
+		{
+			try
+			{
+				ManagementFactory.getPlatformMBeanServer().unregisterMBean(this.objectName);
+			}
+			catch (JMException e)
+			{
+				Log.e(e);
+			}
+			this.objectName = null;
+		}
+	}
+}
@@ -0,0 +1,33 @@
+package fr.polytech.myrpg.random;
+
+/**
+ * This interface represents a source of random numbers.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public interface IRandomSource
+{
+	/**
+	 * Get the next random double, uniformly distributed between 0 (inclusive) and 1 (exclusive).
+	 * 
+	 * @return The next random double.
+	 */
+	public double nextDouble();
+
+	/**
+	 * Get the next random integer, uniformly distributed between 0 (inclusive) and the bound (exclusive).
+	 * 
+	 * @param bound
+	 *            The bound, which must be positive.
+	 * @return The next random integer.
+	 */
+	public int nextInt(int bound);
+
+	/**
+	 * Split this source into a new independent source, which can be used by another game or thread.
+	 * 
+	 * @return The new random source.
+	 */
+	public IRandomSource split();
+}
@@ -0,0 +1,66 @@
+package fr.polytech.myrpg.random;
+
+import java.security.SecureRandom;
+
+/**
+ * This class represents a random source backed by a secure random generator, meant for interactive play.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public class SecureRandomSource implements IRandomSource
+{
+	/**
+	 * The secure random generator.
+	 */
+	private final SecureRandom secureRandomGenerator;
+
+	/**
+	 * Create a secure random source.
+	 */
+	public SecureRandomSource()
+	{
+		this.secureRandomGenerator = new SecureRandom();
+	}
+
+	/**
+	 * @see fr.polytech.myrpg.random.IRandomSource#nextDouble()
+	 */
+	@Override
+	public double nextDouble()
+	{
+		return this.secureRandomGenerator.nextDouble();
+	}
+
+	/**
+	 * @see fr.polytech.myrpg.random.IRandomSource#nextInt(int)
+	 */
+	@Override
+	public int nextInt(int bound)
+	{
+		return this.secureRandomGenerator.nextInt(bound);
+	}
+
+	/**
+	 * @see fr.polytech.myrpg.random.IRandomSource#split()
+	 */
+	@Override
+	public IRandomSource split()
+	{
+		return new SecureRandomSource();
+	}
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString()
+	{
+		final StringBuilder stringRepresentation = new StringBuilder();
+		stringRepresentation.append("SecureRandomSource [secureRandomGenerator=");
+		stringRepresentation.append(this.secureRandomGenerator);
+		stringRepresentation.append("]");
+
+		return stringRepresentation.toString();
+	}
+}
@@ -0,0 +1,204 @@
+package fr.polytech.myrpg.random;
+
+import java.security.SecureRandom;
+
+/**
+ * This class represents a fast, seedable and splittable random source (SplitMix64).
+ *
+ * It is not thread-safe: each game or thread must use its own source, obtained with {@link #split()}. Two sources created with the same seed produce the same sequence.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public class SplittableRandomSource implements IRandomSource
+{
+	/**
+	 * The default gamma, derived from the golden ratio.
+	 */
+	private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+	/**
+	 * The scale used to convert 53 random bits into a double.
+	 */
+	private static final double DOUBLE_UNIT = 0x1.0p-53;
+
+	/**
+	 * The current seed.
+	 */
+	private long seed;
+
+	/**
+	 * The value added to the seed on each step.
+	 */
+	private long gamma;
+
+	/**
+	 * Create a splittable random source with an unpredictable seed, drawn from a secure random generator.
+	 */
+	public SplittableRandomSource()
+	{
+		this(new SecureRandom().nextLong());
+	}
+
+	/**
+	 * Create a splittable random source.
+	 * 
+	 * @param seed
+	 *            The seed.
+	 */
+	public SplittableRandomSource(long seed)
+	{
+		this(seed, GOLDEN_GAMMA);
+	}
+
+	/**
+	 * Create a splittable random source.
+	 * 
+	 * @param seed
+	 *            The seed.
+	 * @param gamma
+	 *            The value added to the seed on each step, which must be odd.
+	 */
+	public SplittableRandomSource(long seed, long gamma)
+	{
+		this.seed = seed;
+		this.gamma = gamma;
+	}
+
+	/**
+	 * Get the current seed.
+	 * 
+	 * @return The current seed.
+	 */
+	public long getSeed()
+	{
+		return this.seed;
+	}
+
+	/**
+	 * Get the gamma.
+	 * 
+	 * @return The gamma.
+	 */
+	public long getGamma()
+	{
+		return this.gamma;
+	}
+
+	/**
+	 * Restore a state saved with {@link #getSeed()} and {@link #getGamma()}, so that the source produces the same numbers again.
+	 * 
+	 * @param seed
+	 *            The seed.
+	 * @param gamma
+	 *            The gamma, which must be odd.
+	 */
+	public void restoreState(long seed, long gamma)
+	{
+		this.seed = seed;
+		this.gamma = gamma;
+	}
+
+	/**
+	 * @see fr.polytech.myrpg.random.IRandomSource#nextDouble()
+	 */
+	@Override
+	public double nextDouble()
+	{
+		return (mix64(nextSeed()) >>> 11) * DOUBLE_UNIT;
+	}
+
+	/**
+	 * @see fr.polytech.myrpg.random.IRandomSource#nextInt(int)
+	 */
+	@Override
+	public int nextInt(int bound)
+	{
+		if (bound <= 0)
+		{
+			throw new IllegalArgumentException(String.format("The bound must be positive : %d", bound));
+		}
+
+		int randomBits = (int) (mix64(nextSeed()) >>> 33);
+		final int mask = bound - 1;
+		if ((bound & mask) == 0)
+		{
+			return (int) ((bound * (long) randomBits) >>> 31);
+		}
+
+		int value = randomBits % bound;
+		while (randomBits - value + mask < 0)
+		{
+			randomBits = (int) (mix64(nextSeed()) >>> 33);
+			value = randomBits % bound;
+		}
+
+		return value;
+	}
+
+	/**
+	 * @see fr.polytech.myrpg.random.IRandomSource#split()
+	 */
+	@Override
+	public IRandomSource split()
+	{
+		return new SplittableRandomSource(mix64(nextSeed()), mixGamma(nextSeed()));
+	}
+
+	/**
+	 * Move to the next seed.
+	 * 
+	 * @return The next seed.
+	 */
+	private long nextSeed()
+	{
+		return (this.seed += this.gamma);
+	}
+
+	/**
+	 * Mix the bits of a seed.
+	 * 
+	 * @param value
+	 *            The seed.
+	 * @return The mixed value.
+	 */
+	private static long mix64(long value)
+	{
+		long mixedValue = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+		mixedValue = (mixedValue ^ (mixedValue >>> 27)) * 0x94d049bb133111ebL;
+
+		return mixedValue ^ (mixedValue >>> 31);
+	}
+
+	/**
+	 * Compute a new gamma from a seed.
+	 * 
+	 * @param value
+	 *            The seed.
+	 * @return The new gamma, which is always odd.
+	 */
+	private static long mixGamma(long value)
+	{
+		long mixedValue = (value ^ (value >>> 33)) * 0xff51afd7ed558ccdL;
+		mixedValue = (mixedValue ^ (mixedValue >>> 33)) * 0xc4ceb9fe1a85ec53L;
+		mixedValue = (mixedValue ^ (mixedValue >>> 33)) | 1L;
+
+		return (Long.bitCount(mixedValue ^ (mixedValue >>> 1)) < 24 ? mixedValue ^ 0xaaaaaaaaaaaaaaaaL : mixedValue);
+	}
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString()
+	{
+		final StringBuilder stringRepresentation = new StringBuilder();
+		stringRepresentation.append("SplittableRandomSource [seed=");
+		stringRepresentation.append(this.seed);
+		stringRepresentation.append(", gamma=");
+		stringRepresentation.append(this.gamma);
+		stringRepresentation.append("]");
+
+		return stringRepresentation.toString();
+	}
+}
@@ -0,0 +1,147 @@
+package fr.polytech.myrpg.characters;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assume.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import fr.polytech.myrpg.random.SplittableRandomSource;
+
+/**
+ * This class checks that an attack doesn't allocate once the JIT compiler has warmed it up, with or without a fight outcome cache.
+ *
+ * The allocated bytes are measured with the thread allocation counters of the HotSpot virtual machines. The attacks are measured in several runs, because a
+ * run may still be interpreted or be deoptimized, and the test fails only if no run is allocation-free.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public class CharacterAttackAllocationTest
+{
+	/**
+	 * The number of runs warming up the attacks.
+	 */
+	private static final int NB_WARM_UP_RUNS = 20;
+
+	/**
+	 * The number of measured runs.
+	 */
+	private static final int NB_MEASURED_RUNS = 10;
+
+	/**
+	 * The number of attacks of a run.
+	 */
+	private static final int NB_ATTACKS_PER_RUN = 100000;
+
+	/**
+	 * The thread allocation counters.
+	 */
+	private com.sun.management.ThreadMXBean threadMXBean;
+
+	/**
+	 * The attacker.
+	 */
+	private Character attacker;
+
+	/**
+	 * The opponent, which parries, runs away and heals itself.
+	 */
+	private Character opponent;
+
+	/**
+	 * The initial characteristics of the opponent, indexed by characteristic ordinal.
+	 */
+	private int[] opponentCharacteristics;
+
+	/**
+	 * Create the characters, or skip the tests if the virtual machine can't count the allocated bytes.
+	 * 
+	 * @throws Exception
+	 *             If a character can't be created.
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+		this.threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		assumeTrue(this.threadMXBean.isThreadAllocatedMemorySupported());
+		this.threadMXBean.setThreadAllocatedMemoryEnabled(true);
+
+		this.attacker = new Warrior("Warrior", new SplittableRandomSource(1));
+		this.opponent = new Magician("Magician", new SplittableRandomSource(2));
+		this.opponentCharacteristics = new int[Characteristic.values().length];
+		for (Characteristic characteristic : Characteristic.values())
+		{
+			this.opponentCharacteristics[characteristic.ordinal()] = this.opponent.getCharacteristic(characteristic);
+		}
+	}
+
+	/**
+	 * Check that an attack rolling each special move doesn't allocate.
+	 */
+	@Test
+	public void attackDoesNotAllocate()
+	{
+		assertEquals(0, measureMinAllocatedBytes(null));
+	}
+
+	/**
+	 * Check that an attack drawing its outcome from a fight outcome cache doesn't allocate.
+	 */
+	@Test
+	public void attackWithFightOutcomeCacheDoesNotAllocate()
+	{
+		assertEquals(0, measureMinAllocatedBytes(new FightOutcomeCache(16)));
+	}
+
+	/**
+	 * Warm up the attacks, then measure the bytes allocated by the runs of attacks.
+	 * 
+	 * @param fightOutcomeCache
+	 *            The fight outcome cache, or null to roll every special move.
+	 * @return The fewest bytes allocated by a measured run.
+	 */
+	private long measureMinAllocatedBytes(FightOutcomeCache fightOutcomeCache)
+	{
+		for (int i = 0; i < NB_WARM_UP_RUNS; i++)
+		{
+			attack(fightOutcomeCache);
+		}
+
+		final long threadId = Thread.currentThread().getId();
+		long minAllocatedBytes = Long.MAX_VALUE;
+		for (int i = 0; (i < NB_MEASURED_RUNS) && (minAllocatedBytes > 0); i++)
+		{
+			final long allocatedBytesBefore = this.threadMXBean.getThreadAllocatedBytes(threadId);
+			attack(fightOutcomeCache);
+			minAllocatedBytes = Math.min(minAllocatedBytes, this.threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBytesBefore);
+		}
+
+		return minAllocatedBytes;
+	}
+
+	/**
+	 * Run the attacks of a run, restoring the opponent before each one so its health stays bounded.
+	 * 
+	 * @param fightOutcomeCache
+	 *            The fight outcome cache, or null to roll every special move.
+	 */
+	private void attack(FightOutcomeCache fightOutcomeCache)
+	{
+		for (int i = 0; i < NB_ATTACKS_PER_RUN; i++)
+		{
+			this.opponent.restoreCombatState(this.opponentCharacteristics, 0);
+			if (fightOutcomeCache == null)
+			{
+				this.attacker.attack(this.opponent);
+			}
+			else
+			{
+				this.attacker.attack(this.opponent, fightOutcomeCache);
+			}
+		}
+	}
+}
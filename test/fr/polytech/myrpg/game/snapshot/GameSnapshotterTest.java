@@ -0,0 +1,124 @@
+package fr.polytech.myrpg.game.snapshot;
+
+import static org.junit.Assert.assertEquals;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import fr.polytech.myrpg.characters.Warrior;
+import fr.polytech.myrpg.characters.items.ItemCatalog;
+import fr.polytech.myrpg.characters.items.edible.EdibleItem;
+import fr.polytech.myrpg.characters.items.edible.Potion;
+import fr.polytech.myrpg.characters.items.equipable.EquipableItem;
+import fr.polytech.myrpg.game.players.Player;
+import fr.polytech.myrpg.game.players.Team;
+import fr.polytech.myrpg.game.quests.BasicQuest;
+import fr.polytech.myrpg.random.SplittableRandomSource;
+
+/**
+ * This class checks that a snapshot is encoded whatever the size of its item table, in particular when the table nearly fills the initial snapshot buffer, so that
+ * the header written before it doesn't fit in what is left.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public class GameSnapshotterTest
+{
+	/**
+	 * The initial capacity of the snapshot buffer.
+	 */
+	private static final int INITIAL_CAPACITY = 1024;
+
+	/**
+	 * The seed of the random sources.
+	 */
+	private static final long SEED = 42;
+
+	/**
+	 * Encode and restore quests whose item table holds from 64 bytes less than the initial capacity of the buffer to the whole capacity.
+	 * 
+	 * @throws Exception
+	 *             If the quest can't be created or the snapshot can't be restored.
+	 */
+	@Test
+	public void encodeSnapshotWithItemTableNearTheBufferCapacity() throws Exception
+	{
+		for (int tableSize = INITIAL_CAPACITY - 64; tableSize <= INITIAL_CAPACITY; tableSize++)
+		{
+			final String name = createPotionName(tableSize);
+			final BasicQuest quest = createQuest(name);
+			final ByteBuffer snapshot = new GameSnapshotter().encodeSnapshot(quest);
+			assertEquals(tableSize, getItemTableSize(snapshot));
+
+			final BasicQuest restoredQuest = createQuest(name);
+			GameSnapshotter.restoreSnapshot(snapshot, restoredQuest);
+			assertEquals(quest.getNbRounds(), restoredQuest.getNbRounds());
+			assertEquals(1, restoredQuest.getEdibleItems().size());
+			assertEquals(name, restoredQuest.getEdibleItems().get(0).getName());
+		}
+	}
+
+	/**
+	 * Create the name of a potion whose definition fills an item table of the given size, the table holding its length and its definition.
+	 * 
+	 * @param tableSize
+	 *            The size of the table.
+	 * @return The name of the potion.
+	 */
+	private static String createPotionName(int tableSize)
+	{
+		final int nbDefinitionBytes = ItemCatalog.getDefinitionKey(new Potion("", 1, 10)).getBytes(StandardCharsets.UTF_8).length;
+		final StringBuilder name = new StringBuilder();
+		while (Integer.BYTES + nbDefinitionBytes + name.length() < tableSize)
+		{
+			name.append('x');
+		}
+
+		return name.toString();
+	}
+
+	/**
+	 * Create a quest between two warriors, whose only loot is a potion.
+	 * 
+	 * @param potionName
+	 *            The name of the potion.
+	 * @return The quest.
+	 * @throws Exception
+	 *             If the characters can't be created.
+	 */
+	private static BasicQuest createQuest(String potionName) throws Exception
+	{
+		final SplittableRandomSource randomSource = new SplittableRandomSource(SEED);
+
+		final Team firstTeam = new Team("First Team");
+		firstTeam.addPlayer(new Player("FrodonPlayer", new Warrior("Frodon", randomSource)));
+
+		final Team secondTeam = new Team("Second Team");
+		secondTeam.addPlayer(new Player("OrcPlayer", new Warrior("Orc", randomSource)));
+
+		final List<EdibleItem> edibleItems = new ArrayList<EdibleItem>();
+		edibleItems.add(new Potion(potionName, 1, 10));
+
+		return new BasicQuest("", "", firstTeam, secondTeam, edibleItems, new ArrayList<EquipableItem>(), randomSource);
+	}
+
+	/**
+	 * Read the size of the item table of a snapshot, which holds one item, from the length of its definition.
+	 * 
+	 * @param snapshot
+	 *            The snapshot.
+	 * @return The size of the item table.
+	 */
+	private static int getItemTableSize(ByteBuffer snapshot)
+	{
+		// The table follows the index of the quest, the number of rounds, the team to play, the random source and the number of items.
+		final int tableOffset = Integer.BYTES + Integer.BYTES + Byte.BYTES + Byte.BYTES + Long.BYTES + Long.BYTES;
+		assertEquals(1, snapshot.getInt(tableOffset));
+
+		return Integer.BYTES + snapshot.getInt(tableOffset + Integer.BYTES);
+	}
+}